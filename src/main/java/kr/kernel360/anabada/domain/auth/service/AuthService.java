@@ -13,9 +13,12 @@ import kr.kernel360.anabada.domain.auth.dto.SignUpRequest;
 import kr.kernel360.anabada.domain.auth.dto.TokenDto;
 import kr.kernel360.anabada.domain.member.entity.Member;
 import kr.kernel360.anabada.domain.member.repository.MemberRepository;
+import kr.kernel360.anabada.global.commons.domain.PrincipalDetails;
 import kr.kernel360.anabada.global.commons.domain.SocialProvider;
 import kr.kernel360.anabada.global.error.code.AuthErrorCode;
+import kr.kernel360.anabada.global.error.code.MemberErrorCode;
 import kr.kernel360.anabada.global.error.exception.BusinessException;
+import kr.kernel360.anabada.global.jwt.MemberPrincipal;
 import kr.kernel360.anabada.global.jwt.TokenProvider;
 import kr.kernel360.anabada.global.utils.AgeGroupParser;
 import lombok.RequiredArgsConstructor;
@@ -51,8 +54,18 @@ public class AuthService {
 		return savedMember.getId();
 	}
 
+	/** 토큰의 닉네임/계정 상태가 바뀌었을 수 있으므로 회원을 다시 조회해 발급한다. **/
 	public TokenDto reissueAccessToken(TokenDto requestTokenDto) {
-		return tokenProvider.reissueToken(requestTokenDto);
+		String email = tokenProvider.validateReissueToken(requestTokenDto);
+		Member findMember = memberRepository.findByEmail(email)
+			.orElseThrow(() -> new BusinessException(MemberErrorCode.NOT_FOUND_MEMBER));
+		if (!Boolean.TRUE.equals(findMember.getAccountStatus())) {
+			throw new BusinessException(MemberErrorCode.DEACTIVATE_MEMBER);
+		}
+		MemberPrincipal memberPrincipal = MemberPrincipal.of(findMember,
+			new PrincipalDetails(findMember).getAuthorities());
+
+		return tokenProvider.reissueToken(requestTokenDto, memberPrincipal);
 	}
 
 	public void logout(String refreshToken) {
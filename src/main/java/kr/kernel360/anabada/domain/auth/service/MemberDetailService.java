@@ -3,7 +3,6 @@ package kr.kernel360.anabada.domain.auth.service;
 import java.util.List;
 
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,6 +13,7 @@ import kr.kernel360.anabada.domain.member.repository.MemberRepository;
 import kr.kernel360.anabada.global.commons.domain.PrincipalDetails;
 import kr.kernel360.anabada.global.error.code.MemberErrorCode;
 import kr.kernel360.anabada.global.error.exception.BusinessException;
+import kr.kernel360.anabada.global.jwt.MemberPrincipal;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -33,7 +33,7 @@ public class MemberDetailService implements UserDetailsService {
 		PrincipalDetails principalDetails = new PrincipalDetails(member);
 		List<SimpleGrantedAuthority> grantedAuthorities = (List<SimpleGrantedAuthority>)principalDetails.getAuthorities();
 
-		return new User(username, member.getPassword(), grantedAuthorities);
+		return MemberPrincipal.of(member, grantedAuthorities);
 	}
 
 	private static void isDeactivate(Member member) {
@@ -0,0 +1,41 @@
+package kr.kernel360.anabada.domain.autocomplete.api;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import kr.kernel360.anabada.domain.autocomplete.dto.FindAllSuggestionResponse;
+import kr.kernel360.anabada.domain.autocomplete.service.AutocompleteService;
+import lombok.RequiredArgsConstructor;
+
+@Api(tags = "자동완성 API", description = "/api/v1/autocomplete")
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class AutocompleteController {
+	private final AutocompleteService autocompleteService;
+
+	@ApiOperation(value = "검색어 자동완성")
+	@ApiImplicitParams({
+		@ApiImplicitParam(name = "query", value = "입력 중인 검색어 (자음/모음 단위까지 매칭)", example = "아잎"),
+		@ApiImplicitParam(name = "size", value = "최대 개수 (10 이하)", example = "10")})
+	@ApiResponses({@ApiResponse(code = 200, message = "자동완성 조회 성공"),
+		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
+		@ApiResponse(code = 403, message = "잘못된 접근입니다."),
+		@ApiResponse(code = 500, message = "서버 오류")})
+	@GetMapping("/v1/autocomplete")
+	public ResponseEntity<FindAllSuggestionResponse> suggest(@RequestParam(required = false) String query,
+		@RequestParam(defaultValue = "10") int size) {
+		FindAllSuggestionResponse findAllSuggestionResponse = autocompleteService.suggest(query, size);
+
+		return ResponseEntity.ok(findAllSuggestionResponse);
+	}
+}
@@ -0,0 +1,24 @@
+package kr.kernel360.anabada.domain.autocomplete.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FindAllSuggestionResponse {
+	@ApiModelProperty(value = "추천 검색어 목록")
+	private List<SuggestionDto> suggestions;
+
+	public static FindAllSuggestionResponse of(List<SuggestionDto> suggestions) {
+		return FindAllSuggestionResponse.builder()
+			.suggestions(suggestions)
+			.build();
+	}
+}
@@ -0,0 +1,27 @@
+package kr.kernel360.anabada.domain.autocomplete.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import kr.kernel360.anabada.global.search.PrefixTrie;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDto {
+	@ApiModelProperty(value = "추천 검색어", example = "[아이폰]드려요. [갤럭시]받아요.")
+	private String text;
+
+	@ApiModelProperty(value = "추천 종류", example = "TRADE_TITLE")
+	private SuggestionType type;
+
+	public static SuggestionDto of(PrefixTrie.Entry entry) {
+		return SuggestionDto.builder()
+			.text(entry.getText())
+			.type(SuggestionType.valueOf(entry.getType()))
+			.build();
+	}
+}
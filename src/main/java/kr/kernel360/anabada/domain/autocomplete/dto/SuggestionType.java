@@ -0,0 +1,5 @@
+package kr.kernel360.anabada.domain.autocomplete.dto;
+
+public enum SuggestionType {
+	TRADE_TITLE, CATEGORY, QUERY
+}
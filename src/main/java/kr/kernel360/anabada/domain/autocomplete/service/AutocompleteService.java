@@ -0,0 +1,179 @@
+package kr.kernel360.anabada.domain.autocomplete.service;
+
+import static org.springframework.util.StringUtils.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import kr.kernel360.anabada.domain.autocomplete.dto.FindAllSuggestionResponse;
+import kr.kernel360.anabada.domain.autocomplete.dto.SuggestionDto;
+import kr.kernel360.anabada.domain.autocomplete.dto.SuggestionType;
+import kr.kernel360.anabada.domain.category.event.CategoryCreatedEvent;
+import kr.kernel360.anabada.domain.category.event.CategoryRemovedEvent;
+import kr.kernel360.anabada.domain.category.repository.CategoryRepository;
+import kr.kernel360.anabada.domain.trade.event.TradeCreatedEvent;
+import kr.kernel360.anabada.domain.trade.event.TradesImportedEvent;
+import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
+import kr.kernel360.anabada.domain.trade.service.TradeSearchService;
+import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
+import kr.kernel360.anabada.global.search.PrefixTrie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 교환 제목, 카테고리 이름, 자주 찾는 검색어 자동완성
+ * 기동 시 한 번 색인하고 이후에는 생성/삭제 이벤트로만 고치므로, 조회는 DB 를 거치지 않는다.
+ * 다른 노드에서 만든 교환 제목은 교환 검색 색인 채널(TradeSearchService.CHANNEL)로 받는다.
+ * 카테고리는 교환 제목보다, 자주 찾는 검색어는 검색될수록 앞에 나온다.
+ * 검색어는 요청 스레드에서 세기만 하고 주기적으로 트라이에 반영하며, MAX_QUERY_ENTRIES 개를 넘으면 적게 찾은 것부터 버린다.
+ * 교환 제목, 카테고리, 검색어는 트라이를 따로 두어 카테고리 삭제나 검색어 정리가 교환 제목을 다시 색인하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService implements MessageListener {
+	public static final int MAX_SIZE = PrefixTrie.TOP_K;
+	private static final long TRADE_TITLE_WEIGHT = 1L;
+	private static final long CATEGORY_WEIGHT = 100L;
+	private static final long QUERY_WEIGHT = 1L;
+	private static final int MIN_QUERY_LENGTH = 2;
+	private static final int MAX_QUERY_LENGTH = 50;
+	private static final int MAX_QUERY_ENTRIES = 20_000;
+	private static final int MAX_PENDING_QUERIES = 10_000;
+
+	private final TradeRepository tradeRepository;
+	private final CategoryRepository categoryRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final PrefixTrie titleTrie = new PrefixTrie();
+	private final PrefixTrie categoryTrie = new PrefixTrie();
+	private final PrefixTrie queryTrie = new PrefixTrie();
+	private final Map<String, LongAdder> pendingQueries = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(TradeSearchService.CHANNEL));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		tradeRepository.findTradeTitles()
+			.forEach(document -> addTradeTitle(document.getText()));
+		categoryRepository.findAll().stream()
+			.filter(category -> category.getDeletedStatus() == DeletedStatus.FALSE)
+			.forEach(category -> addCategory(category.getName()));
+		log.info("autocomplete index ready. titles={}, categories={}", titleTrie.size(), categoryTrie.size());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onTradeCreated(TradeCreatedEvent event) {
+		addTradeTitle(event.getTitle());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onTradesImported(TradesImportedEvent event) {
+		event.getTrades().forEach(this::onTradeCreated);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCategoryCreated(CategoryCreatedEvent event) {
+		addCategory(event.getName());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCategoryRemoved(CategoryRemovedEvent event) {
+		categoryTrie.remove(SuggestionType.CATEGORY.name(), event.getName());
+	}
+
+	/**
+	 * 메시지는 노드아이디|필드|아이디|본문 이다. 자기 노드가 보낸 제목은 이미 있으므로 없는 제목만 넣는다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		// redisTemplate 의 value serializer 로 보냈으므로 같은 serializer 로 읽는다.
+		Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+		if (body == null) {
+			return;
+		}
+		String[] parts = body.toString().split("\\" + TradeSearchService.DELIMITER, 4);
+		if (parts.length == 4 && TradeSearchService.TITLE.equals(parts[1])) {
+			titleTrie.addIfAbsent(SuggestionType.TRADE_TITLE.name(), parts[3], TRADE_TITLE_WEIGHT);
+		}
+	}
+
+	/**
+	 * 결과가 있었던 검색어만 센다. 트라이에는 flushQueries 가 반영한다.
+	 * 반영 전에 모인 서로 다른 검색어가 MAX_PENDING_QUERIES 개를 넘으면 새 검색어는 세지 않는다.
+	 */
+	public void recordQuery(String query) {
+		if (!hasText(query)) {
+			return;
+		}
+		String trimmed = query.trim();
+		if (trimmed.length() < MIN_QUERY_LENGTH || trimmed.length() > MAX_QUERY_LENGTH) {
+			return;
+		}
+		LongAdder count = pendingQueries.get(trimmed);
+		if (count == null) {
+			if (pendingQueries.size() >= MAX_PENDING_QUERIES) {
+				return;
+			}
+			count = pendingQueries.computeIfAbsent(trimmed, key -> new LongAdder());
+		}
+		count.increment();
+	}
+
+	/**
+	 * 꺼낸 뒤에 더해진 횟수는 잃을 수 있다. (자동완성 순위에만 쓰이므로 맞추지 않는다)
+	 */
+	@Scheduled(fixedDelayString = "${anabada.autocomplete.query-flush-interval-ms:10000}")
+	public void flushQueries() {
+		for (String query : pendingQueries.keySet()) {
+			LongAdder count = pendingQueries.remove(query);
+			if (count != null) {
+				queryTrie.add(SuggestionType.QUERY.name(), query, count.sum() * QUERY_WEIGHT);
+			}
+		}
+		queryTrie.prune(SuggestionType.QUERY.name(), MAX_QUERY_ENTRIES);
+	}
+
+	public FindAllSuggestionResponse suggest(String query, int size) {
+		if (!hasText(query)) {
+			return FindAllSuggestionResponse.of(List.of());
+		}
+		int limit = Math.max(1, Math.min(size, MAX_SIZE));
+		List<SuggestionDto> suggestions = PrefixTrie.merge(List.of(
+				titleTrie.search(query, limit),
+				categoryTrie.search(query, limit),
+				queryTrie.search(query, limit)), limit).stream()
+			.map(SuggestionDto::of)
+			.toList();
+
+		return FindAllSuggestionResponse.of(suggestions);
+	}
+
+	private void addTradeTitle(String title) {
+		titleTrie.add(SuggestionType.TRADE_TITLE.name(), title, TRADE_TITLE_WEIGHT);
+	}
+
+	private void addCategory(String name) {
+		categoryTrie.add(SuggestionType.CATEGORY.name(), name, CATEGORY_WEIGHT);
+	}
+}
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
@@ -21,6 +22,7 @@ import kr.kernel360.anabada.domain.category.dto.CreateCategoryRequest;
 import kr.kernel360.anabada.domain.category.dto.CreateCategoryResponse;
 import kr.kernel360.anabada.domain.category.dto.FindAllCategoryResponse;
 import kr.kernel360.anabada.domain.category.service.CategoryService;
+import kr.kernel360.anabada.global.cache.AggregateVersionStore;
 import lombok.RequiredArgsConstructor;
 
 @Api(tags = "카테고리 API", description = "/api/v1/categories")
@@ -29,6 +31,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CategoryController {
 	private final CategoryService categoryService;
+	private final AggregateVersionStore aggregateVersionStore;
 
 	@ApiOperation(value = "카테고리 생성")
 	@ApiResponses({@ApiResponse(code = 201, message = "카테고리 추가 성공"),
@@ -48,12 +51,18 @@ public class CategoryController {
 
 	@ApiOperation(value = "모든 카테고리 조회")
 	@ApiResponses({@ApiResponse(code = 200, message = "모든 카테고리 조회 성공"),
+		@ApiResponse(code = 304, message = "변경되지 않았습니다. (If-None-Match)"),
 		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
 		@ApiResponse(code = 403, message = "잘못된 접근입니다."),
 		@ApiResponse(code = 404, message = "페이지를 찾을 수 없습니다."),
 		@ApiResponse(code = 500, message = "서버 오류")})
 	@GetMapping("/v1/categories")
-	public ResponseEntity<FindAllCategoryResponse> findAll(){
+	public ResponseEntity<FindAllCategoryResponse> findAll(WebRequest webRequest){
+		String eTag = aggregateVersionStore.eTag("all",
+			AggregateVersionStore.keyOf(AggregateVersionStore.CATEGORY, null));
+		if (eTag != null && webRequest.checkNotModified(eTag)) {
+			return null;
+		}
 		FindAllCategoryResponse findAllCategoryResponse = categoryService.findAll();
 
 		return ResponseEntity.ok(findAllCategoryResponse);
@@ -61,12 +70,18 @@ public class CategoryController {
 
 	@ApiOperation(value = "모든 활성화 카테고리 조회")
 	@ApiResponses({@ApiResponse(code = 200, message = "모든 활성화 카테고리 조회 성공"),
+		@ApiResponse(code = 304, message = "변경되지 않았습니다. (If-None-Match)"),
 		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
 		@ApiResponse(code = 403, message = "잘못된 접근입니다."),
 		@ApiResponse(code = 404, message = "페이지를 찾을 수 없습니다."),
 		@ApiResponse(code = 500, message = "서버 오류")})
 	@GetMapping("/v1/categories/active")
-	public ResponseEntity<FindAllCategoryResponse> findAllByDeletedStatusFalse(){
+	public ResponseEntity<FindAllCategoryResponse> findAllByDeletedStatusFalse(WebRequest webRequest){
+		String eTag = aggregateVersionStore.eTag("active",
+			AggregateVersionStore.keyOf(AggregateVersionStore.CATEGORY, null));
+		if (eTag != null && webRequest.checkNotModified(eTag)) {
+			return null;
+		}
 		FindAllCategoryResponse findAllCategoryResponse = categoryService.findByDeletedStatusFalse();
 
 		return ResponseEntity.ok(findAllCategoryResponse);
@@ -0,0 +1,11 @@
+package kr.kernel360.anabada.domain.category.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategoryRemovedEvent {
+	private final Long categoryId;
+	private final String name;
+}
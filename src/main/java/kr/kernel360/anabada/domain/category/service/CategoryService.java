@@ -2,6 +2,7 @@ package kr.kernel360.anabada.domain.category.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,7 +11,10 @@ import kr.kernel360.anabada.domain.category.dto.CreateCategoryResponse;
 import kr.kernel360.anabada.domain.category.dto.FindAllCategoryResponse;
 import kr.kernel360.anabada.domain.category.dto.FindCategoryResponse;
 import kr.kernel360.anabada.domain.category.entity.Category;
+import kr.kernel360.anabada.domain.category.event.CategoryCreatedEvent;
+import kr.kernel360.anabada.domain.category.event.CategoryRemovedEvent;
 import kr.kernel360.anabada.domain.category.repository.CategoryRepository;
+import kr.kernel360.anabada.global.cache.AggregateVersionStore;
 import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
 import kr.kernel360.anabada.global.error.code.CategoryErrorCode;
 import kr.kernel360.anabada.global.error.exception.BusinessException;
@@ -21,11 +25,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CategoryService {
 	private final CategoryRepository categoryRepository;
+	private final AggregateVersionStore aggregateVersionStore;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public CreateCategoryResponse create(CreateCategoryRequest createCategoryRequest) {
 		 validateNameUnique(createCategoryRequest.getName());
 		 Category savedCategory = categoryRepository.save(CreateCategoryRequest.toEntity(createCategoryRequest));
+		 aggregateVersionStore.bump(AggregateVersionStore.keyOf(AggregateVersionStore.CATEGORY, null));
+		 eventPublisher.publishEvent(new CategoryCreatedEvent(savedCategory.getId(), savedCategory.getName()));
 
 		 return CreateCategoryResponse.of(savedCategory);
 	}
@@ -53,11 +61,14 @@ public class CategoryService {
 	public Long remove(Long categoryId) {
 		Category findCategory = categoryRepository.findById(categoryId)
 			.orElseThrow(() -> new BusinessException(CategoryErrorCode.NOT_FOUND_CATEGORY));
+		aggregateVersionStore.bump(AggregateVersionStore.keyOf(AggregateVersionStore.CATEGORY, null));
 		if (findCategory.getDeletedStatus() == DeletedStatus.TRUE) {
 			findCategory.activate();
+			eventPublisher.publishEvent(new CategoryCreatedEvent(findCategory.getId(), findCategory.getName()));
 			return categoryId;
 		}
 		categoryRepository.delete(findCategory);
+		eventPublisher.publishEvent(new CategoryRemovedEvent(findCategory.getId(), findCategory.getName()));
 
 		return categoryId;
 	}
@@ -5,17 +5,20 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import kr.kernel360.anabada.domain.comment.dto.CreateCommentRequest;
 import kr.kernel360.anabada.domain.comment.dto.FindAllCommentResponse;
 import kr.kernel360.anabada.domain.comment.service.CommentService;
+import kr.kernel360.anabada.global.idempotency.IdempotencyStore;
 import lombok.RequiredArgsConstructor;
 
 @Api(tags = "댓글 API", description = "/api/v1/comments")
@@ -24,18 +27,27 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CommentController {
 	private final CommentService commentService;
+	private final IdempotencyStore idempotencyStore;
 
 	@ApiOperation(value = "댓글 생성")
 	@ApiResponses({@ApiResponse(code = 200, message = "댓글 추가 성공"),
 		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
 		@ApiResponse(code = 403, message = "잘못된 접근입니다."),
 		@ApiResponse(code = 404, message = "존재하지 않는 회원입니다. \t\n 교환 정보를 찾을 수 없습니다."),
+		@ApiResponse(code = 409, message = "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요."),
+		@ApiResponse(code = 422, message = "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
 		@ApiResponse(code = 500, message = "서버 오류")})
-	@ApiImplicitParam(name = "tradeId", required = true
-		, dataType = "int", paramType = "path", defaultValue = "1")
+	@ApiImplicitParams({
+		@ApiImplicitParam(name = "tradeId", required = true
+			, dataType = "int", paramType = "path", defaultValue = "1"),
+		@ApiImplicitParam(name = IdempotencyStore.HEADER, value = "재시도해도 한 번만 추가되도록 요청마다 만드는 키 (예: UUID)"
+			, dataType = "string", paramType = "header")})
 	@PostMapping("v1/trades/{tradeId}/comments")
-	public ResponseEntity<Long> create(@PathVariable Long tradeId, @RequestBody CreateCommentRequest createCommentRequest) {
-		Long savedCommentId = commentService.create(createCommentRequest, tradeId);
+	public ResponseEntity<Long> create(@PathVariable Long tradeId, @RequestBody CreateCommentRequest createCommentRequest,
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+		Long savedCommentId = idempotencyStore.execute(IdempotencyStore.COMMENT, idempotencyKey,
+			idempotencyStore.fingerprint(tradeId, createCommentRequest),
+			() -> commentService.create(createCommentRequest, tradeId));
 
 		return ResponseEntity.ok(savedCommentId);
 	}
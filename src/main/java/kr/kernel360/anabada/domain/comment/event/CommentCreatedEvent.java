@@ -0,0 +1,11 @@
+package kr.kernel360.anabada.domain.comment.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentCreatedEvent {
+	private final Long tradeId;
+	private final Long commentId;
+}
@@ -2,7 +2,7 @@ package kr.kernel360.anabada.domain.comment.service;
 
 import java.util.List;
 
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,9 +10,10 @@ import kr.kernel360.anabada.domain.comment.dto.CreateCommentRequest;
 import kr.kernel360.anabada.domain.comment.dto.FindCommentDto;
 import kr.kernel360.anabada.domain.comment.dto.FindAllCommentResponse;
 import kr.kernel360.anabada.domain.comment.entity.Comment;
+import kr.kernel360.anabada.domain.comment.event.CommentCreatedEvent;
 import kr.kernel360.anabada.domain.comment.repository.CommentRepository;
 import kr.kernel360.anabada.domain.member.entity.Member;
-import kr.kernel360.anabada.domain.member.repository.MemberRepository;
+import kr.kernel360.anabada.domain.member.service.LoginMemberService;
 import kr.kernel360.anabada.domain.trade.entity.Trade;
 import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
 import kr.kernel360.anabada.global.error.code.CommentErrorCode;
@@ -24,16 +25,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CommentService {
 	private final CommentRepository commentRepository;
-	private final MemberRepository memberRepository;
+	private final LoginMemberService loginMemberService;
 	private final TradeRepository tradeRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public Long create(CreateCommentRequest createCommentRequest, Long tradeId) {
-		String findEmailByJwt = SecurityContextHolder.getContext().getAuthentication().getName();
-		Member findMember = memberRepository.findByEmail(findEmailByJwt)
-			.orElseThrow(()-> new BusinessException(CommentErrorCode.NOT_FOUND_MEMBER));
+		Member findMember = loginMemberService.getReference(CommentErrorCode.NOT_FOUND_MEMBER);
 		Trade findTrade = findTrade(tradeId);
 		Comment savedComment = commentRepository.save(CreateCommentRequest.toEntity(createCommentRequest, findMember, findTrade));
+		eventPublisher.publishEvent(new CommentCreatedEvent(tradeId, savedComment.getId()));
 
 		return savedComment.getId();
 	}
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
@@ -28,6 +29,7 @@ import kr.kernel360.anabada.domain.faq.dto.FindFaqResponse;
 import kr.kernel360.anabada.domain.faq.dto.UpdateFaqRequest;
 import kr.kernel360.anabada.domain.faq.dto.UpdateFaqResponse;
 import kr.kernel360.anabada.domain.faq.service.FaqService;
+import kr.kernel360.anabada.global.cache.AggregateVersionStore;
 import lombok.RequiredArgsConstructor;
 
 @Api(tags = "FAQ API", description = "/api/v1/faqs")
@@ -36,6 +38,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class FaqController {
 	private final FaqService faqService;
+	private final AggregateVersionStore aggregateVersionStore;
 
 	@ApiOperation(value = "FAQ 생성")
 	@ApiResponses({@ApiResponse(code = 201, message = "FAQ 조회 성공"),
@@ -70,6 +73,7 @@ public class FaqController {
 
 	@ApiOperation(value = "단일 FAQ 조회")
 	@ApiResponses({@ApiResponse(code = 200, message = "단일 FAQ 조회 성공"),
+		@ApiResponse(code = 304, message = "변경되지 않았습니다. (If-None-Match)"),
 		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
 		@ApiResponse(code = 403, message = "잘못된 접근입니다."),
 		@ApiResponse(code = 404, message = "존재하지 않는 FAQ 입니다."),
@@ -77,7 +81,13 @@ public class FaqController {
 	@ApiImplicitParam(name = "faqId", required = true
 		, dataType = "int", paramType = "path", defaultValue = "1")
 	@GetMapping("/v1/faqs/{faqId}")
-	public ResponseEntity<FindFaqResponse> find(@PathVariable Long faqId) {
+	public ResponseEntity<FindFaqResponse> find(@PathVariable Long faqId, WebRequest webRequest) {
+		String eTag = aggregateVersionStore.eTag("",
+			AggregateVersionStore.keyOf(AggregateVersionStore.FAQ, faqId),
+			AggregateVersionStore.keyOf(AggregateVersionStore.MEMBER, null));
+		if (eTag != null && webRequest.checkNotModified(eTag)) {
+			return null;
+		}
 		FindFaqResponse findFaqResponse = faqService.find(faqId);
 
 		return ResponseEntity.ok(findFaqResponse);
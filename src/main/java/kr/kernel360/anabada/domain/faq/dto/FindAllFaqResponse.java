@@ -14,9 +14,13 @@ import lombok.Getter;
 public class FindAllFaqResponse {
 	private Page<FindFaqDto> faqs;
 
-	public static FindAllFaqResponse of(Page<FindFaqDto> faqs) {
+	// 전체 개수가 상한(10,000)을 넘어 근사값이면 true ("10,000+" 로 표시)
+	private boolean totalApproximate;
+
+	public static FindAllFaqResponse of(Page<FindFaqDto> faqs, boolean totalApproximate) {
 		return FindAllFaqResponse.builder()
 			.faqs(faqs)
+			.totalApproximate(totalApproximate)
 			.build();
 	}
 }
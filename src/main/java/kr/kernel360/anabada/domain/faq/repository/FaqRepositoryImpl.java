@@ -4,11 +4,9 @@ import static kr.kernel360.anabada.domain.faq.entity.QFaq.*;
 import static kr.kernel360.anabada.domain.member.entity.QMember.*;
 import static org.springframework.util.StringUtils.*;
 
-import java.util.List;
-
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -16,43 +14,59 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import kr.kernel360.anabada.domain.faq.dto.FaqSearchCondition;
 import kr.kernel360.anabada.domain.faq.dto.FindFaqDto;
 import kr.kernel360.anabada.domain.faq.dto.QFindFaqDto;
+import kr.kernel360.anabada.global.cache.CountCache;
+import kr.kernel360.anabada.global.query.CappedCountQuery;
+import kr.kernel360.anabada.global.query.PageQueryExecutor;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class FaqRepositoryImpl implements FaqRepositoryCustom {
 
 	public final JPAQueryFactory queryFactory;
+	private final CountCache countCache;
+	private final PageQueryExecutor pageQueryExecutor;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Override
 	public Page<FindFaqDto> findFaqs(FaqSearchCondition faqSearchCondition, Pageable pageable) {
-		List<FindFaqDto> content = queryFactory
-			.select(new QFindFaqDto(
-				faq.id,
-				faq.title,
-				member.nickname,
-				faq.createdDate
-			))
-			.from(faq)
-			.leftJoin(faq.member, member)
-			.where(
-				faqCreatedByEq(faqSearchCondition.getCreatedBy()),
-				faqTitleContain(faqSearchCondition.getTitle())
-			)
-			.orderBy(faq.id.desc())
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.fetch();
-
-		Long total = queryFactory
-			.select(faq.count())
-			.from(faq)
-			.where(
-				faqCreatedByEq(faqSearchCondition.getCreatedBy()),
-				faqTitleContain(faqSearchCondition.getTitle())
-			)
-			.fetchOne();
-
-		return new PageImpl<>(content, pageable, total);
+		String countKey = CountCache.keyOf(
+			faqSearchCondition.getCreatedBy(),
+			faqSearchCondition.getTitle()
+		);
+		return pageQueryExecutor.page(CountCache.FAQ, pageable,
+			() -> queryFactory
+				.select(new QFindFaqDto(
+					faq.id,
+					faq.title,
+					member.nickname,
+					faq.createdDate
+				))
+				.from(faq)
+				.leftJoin(faq.member, member)
+				.where(
+					faqCreatedByEq(faqSearchCondition.getCreatedBy()),
+					faqTitleContain(faqSearchCondition.getTitle())
+				)
+				.orderBy(faq.id.desc())
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize())
+				.fetch(),
+			() -> countCache.count(CountCache.FAQ, countKey,
+				() -> queryFactory
+					.select(faq.count())
+					.from(faq)
+					.leftJoin(faq.member, member)
+					.where(
+						faqCreatedByEq(faqSearchCondition.getCreatedBy()),
+						faqTitleContain(faqSearchCondition.getTitle())
+					)
+					.fetchOne(),
+				() -> CappedCountQuery.from("faq f LEFT JOIN member m ON m.id = f.created_by")
+					.eq("m.nickname",
+						hasText(faqSearchCondition.getCreatedBy()) ? faqSearchCondition.getCreatedBy() : null)
+					.contains("f.title", faqSearchCondition.getTitle())
+					.count(jdbcTemplate, CountCache.APPROXIMATE_LIMIT + 1)
+			));
 	}
 
 	@Override
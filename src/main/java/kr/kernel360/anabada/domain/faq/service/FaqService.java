@@ -4,7 +4,6 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,7 +18,9 @@ import kr.kernel360.anabada.domain.faq.dto.UpdateFaqResponse;
 import kr.kernel360.anabada.domain.faq.entity.Faq;
 import kr.kernel360.anabada.domain.faq.repository.FaqRepository;
 import kr.kernel360.anabada.domain.member.entity.Member;
-import kr.kernel360.anabada.domain.member.repository.MemberRepository;
+import kr.kernel360.anabada.domain.member.service.LoginMemberService;
+import kr.kernel360.anabada.global.cache.AggregateVersionStore;
+import kr.kernel360.anabada.global.cache.CountCache;
 import kr.kernel360.anabada.global.error.code.FaqErrorCode;
 import kr.kernel360.anabada.global.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
@@ -31,14 +32,15 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class FaqService {
 	private final FaqRepository faqRepository;
-	private final MemberRepository memberRepository;
+	private final LoginMemberService loginMemberService;
+	private final CountCache countCache;
+	private final AggregateVersionStore aggregateVersionStore;
 
 	@Transactional
 	public CreateFaqResponse create(CreateFaqRequest createFaqRequest) {
-		String findEmailByJwt = SecurityContextHolder.getContext().getAuthentication().getName();
-		Member findMember = memberRepository.findByEmail(findEmailByJwt)
-			.orElseThrow(()-> new BusinessException(FaqErrorCode.NOT_FOUND_MEMBER));
+		Member findMember = loginMemberService.getReference(FaqErrorCode.NOT_FOUND_MEMBER);
 		Faq savedFaq = faqRepository.save(CreateFaqRequest.toEntity(createFaqRequest, findMember));
+		countCache.evict(CountCache.FAQ);
 
 		return CreateFaqResponse.of(savedFaq);
 	}
@@ -46,7 +48,7 @@ public class FaqService {
 	public FindAllFaqResponse findAll(FaqSearchCondition faqSearchCondition, Pageable pageable){
 		Page<FindFaqDto> findFaqs = faqRepository.findFaqs(faqSearchCondition, pageable);
 
-		return FindAllFaqResponse.of(findFaqs);
+		return FindAllFaqResponse.of(findFaqs, countCache.isApproximate(findFaqs.getTotalElements()));
 	}
 
 	public FindFaqResponse find(Long faqId){
@@ -61,6 +63,8 @@ public class FaqService {
 		Faq findFaq = faqRepository.findById(updateFaqRequest.getFaqId())
 			.orElseThrow(()-> new BusinessException(FaqErrorCode.NOT_FOUND_FAQ));
 		findFaq.update(updateFaqRequest.getTitle(),updateFaqRequest.getContent());
+		countCache.evict(CountCache.FAQ);
+		aggregateVersionStore.bump(AggregateVersionStore.keyOf(AggregateVersionStore.FAQ, findFaq.getId()));
 
 		return UpdateFaqResponse.of(findFaq);
 	}
@@ -68,6 +72,8 @@ public class FaqService {
 	@Transactional
 	public Long delete(Long faqId){
 		faqRepository.deleteById(faqId);
+		countCache.evict(CountCache.FAQ);
+		aggregateVersionStore.bump(AggregateVersionStore.keyOf(AggregateVersionStore.FAQ, faqId));
 
 		return faqId;
 	}
@@ -0,0 +1,35 @@
+package kr.kernel360.anabada.domain.image.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드 이미지 한 파일과 그 파일을 쓰는 교환/교환 요청 수
+ * 참조 수는 StoredImageRepository 의 upsert / UPDATE 로만 바꾼다. (동시에 같은 파일을 올려도 한 행)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stored_image")
+public class StoredImage {
+	@Id
+	@Column(name = "path", columnDefinition = "varchar(255)")
+	private String path;
+
+	@Column(nullable = false, name = "reference_count")
+	private int referenceCount;
+
+	@Column(nullable = false, name = "created_date", columnDefinition = "datetime")
+	private LocalDateTime createdDate;
+
+	@Column(name = "released_date", columnDefinition = "datetime")
+	private LocalDateTime releasedDate;
+}
@@ -0,0 +1,8 @@
+package kr.kernel360.anabada.domain.image.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import kr.kernel360.anabada.domain.image.entity.StoredImage;
+
+public interface StoredImageRepository extends JpaRepository<StoredImage, String>, StoredImageRepositoryCustom {
+}
@@ -0,0 +1,15 @@
+package kr.kernel360.anabada.domain.image.repository;
+
+import java.util.List;
+
+public interface StoredImageRepositoryCustom {
+	void registerUpload(String path);
+
+	void increaseReferenceCount(String path);
+
+	void decreaseReferenceCount(String path);
+
+	List<String> findReleasedPaths(long graceSeconds, int limit);
+
+	int deleteReleased(String path, long graceSeconds);
+}
@@ -0,0 +1,75 @@
+package kr.kernel360.anabada.domain.image.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class StoredImageRepositoryImpl implements StoredImageRepositoryCustom {
+	// 이미 참조 중인 이미지는 그대로 두고, 참조가 없는 이미지는 유예 시간을 다시 센다.
+	private static final String REGISTER_UPLOAD = """
+		INSERT INTO stored_image (path, reference_count, created_date, released_date) VALUES (?, 0, NOW(), NOW())
+		ON DUPLICATE KEY UPDATE released_date = IF(reference_count = 0, NOW(), released_date)
+		""";
+	private static final String INCREASE_REFERENCE_COUNT = """
+		INSERT INTO stored_image (path, reference_count, created_date) VALUES (?, 1, NOW())
+		ON DUPLICATE KEY UPDATE reference_count = reference_count + 1, released_date = NULL
+		""";
+	// MySQL 은 SET 을 왼쪽부터 적용하므로 released_date 를 줄이기 전의 reference_count 로 정한다.
+	private static final String DECREASE_REFERENCE_COUNT = """
+		UPDATE stored_image
+		SET released_date = IF(reference_count = 1, NOW(), released_date), reference_count = reference_count - 1
+		WHERE path = ? AND reference_count > 0
+		""";
+	private static final String FIND_RELEASED_PATHS = """
+		SELECT path FROM stored_image
+		WHERE reference_count = 0 AND released_date < NOW() - INTERVAL ? SECOND
+		ORDER BY released_date
+		LIMIT ?
+		""";
+	private static final String DELETE_RELEASED = """
+		DELETE FROM stored_image
+		WHERE path = ? AND reference_count = 0 AND released_date < NOW() - INTERVAL ? SECOND
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 저장한 파일을 참조 수 0 으로 남긴다. 교환/교환 요청 저장이 실패해 참조되지 않은 파일도 sweep 이 지운다.
+	 */
+	@Override
+	public void registerUpload(String path) {
+		jdbcTemplate.update(REGISTER_UPLOAD, path);
+	}
+
+	/**
+	 * 행이 없으면 참조 수 1로 만든다. 같은 파일을 동시에 올려도 기본 키 덕분에 한 행만 생긴다.
+	 */
+	@Override
+	public void increaseReferenceCount(String path) {
+		jdbcTemplate.update(INCREASE_REFERENCE_COUNT, path);
+	}
+
+	@Override
+	public void decreaseReferenceCount(String path) {
+		jdbcTemplate.update(DECREASE_REFERENCE_COUNT, path);
+	}
+
+	/**
+	 * 참조 수가 0 이 된 지 graceSeconds 가 지난 이미지. 오래된 것부터
+	 */
+	@Override
+	public List<String> findReleasedPaths(long graceSeconds, int limit) {
+		return jdbcTemplate.queryForList(FIND_RELEASED_PATHS, String.class, graceSeconds, limit);
+	}
+
+	/**
+	 * 그 사이 다시 참조되지 않았을 때만 행을 지운다. 여러 노드가 함께 돌아도 한 노드만 1 을 받는다.
+	 */
+	@Override
+	public int deleteReleased(String path, long graceSeconds) {
+		return jdbcTemplate.update(DELETE_RELEASED, path, graceSeconds);
+	}
+}
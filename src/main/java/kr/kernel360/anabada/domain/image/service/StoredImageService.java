@@ -0,0 +1,68 @@
+package kr.kernel360.anabada.domain.image.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import kr.kernel360.anabada.domain.image.repository.StoredImageRepository;
+import kr.kernel360.anabada.global.FileHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내용 주소로 저장한 업로드 이미지의 참조 수 관리
+ * 같은 사진을 여러 교환에 올리면 파일은 하나만 두고 참조 수만 늘린다.
+ * 파일 저장(FileHandler)은 참조 수를 늘리는 트랜잭션보다 먼저 끝나므로, 참조가 0 이 되어도 바로 지우지 않고
+ * 유예 시간 동안 다시 참조되거나 다시 저장되지 않은 이미지만 주기적으로 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoredImageService {
+	private static final int SWEEP_BATCH_SIZE = 500;
+
+	private final StoredImageRepository storedImageRepository;
+	private final FileHandler fileHandler;
+
+	@Value("${anabada.stored-image.grace-seconds:3600}")
+	private long graceSeconds;
+
+	/**
+	 * 이미지를 쓰는 교환/교환 요청을 저장하는 트랜잭션 안에서 호출한다.
+	 */
+	public void retain(String imagePath) {
+		if (imagePath == null) {
+			return;
+		}
+		storedImageRepository.increaseReferenceCount(imagePath);
+	}
+
+	/**
+	 * 참조 수만 줄인다. 0 이 된 이미지는 sweep 이 지운다.
+	 */
+	public void release(String imagePath) {
+		if (imagePath == null) {
+			return;
+		}
+		storedImageRepository.decreaseReferenceCount(imagePath);
+	}
+
+	@Scheduled(fixedDelayString = "${anabada.stored-image.sweep-interval-ms:600000}")
+	public void sweep() {
+		Instant modifiedBefore = Instant.now().minusSeconds(graceSeconds);
+		List<String> releasedPaths = storedImageRepository.findReleasedPaths(graceSeconds, SWEEP_BATCH_SIZE);
+		for (String imagePath : releasedPaths) {
+			// 그 사이 다시 참조되었거나 다른 노드가 먼저 지웠으면 건너뛴다.
+			if (storedImageRepository.deleteReleased(imagePath, graceSeconds) == 0) {
+				continue;
+			}
+			fileHandler.deleteSavedFile(imagePath, modifiedBefore);
+		}
+		if (!releasedPaths.isEmpty()) {
+			log.info("released images swept. count={}", releasedPaths.size());
+		}
+	}
+}
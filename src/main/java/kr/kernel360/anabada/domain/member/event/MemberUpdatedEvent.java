@@ -0,0 +1,11 @@
+package kr.kernel360.anabada.domain.member.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberUpdatedEvent {
+	private final Long memberId;
+	private final String nickname;
+}
@@ -4,9 +4,12 @@ import java.util.List;
 
 import kr.kernel360.anabada.domain.member.dto.AgeGroupDto;
 import kr.kernel360.anabada.domain.member.dto.GenderDto;
+import kr.kernel360.anabada.global.search.SearchDocument;
 
 public interface MemberRepositoryCustom {
 	List<AgeGroupDto> countMembersByAgeGroup();
 
 	List<GenderDto> countMembersByGender();
+
+	List<SearchDocument> findMemberNicknames();
 }
@@ -11,6 +11,8 @@ import kr.kernel360.anabada.domain.member.dto.GenderDto;
 import kr.kernel360.anabada.domain.member.dto.QAgeGroupDto;
 import kr.kernel360.anabada.domain.member.dto.QGenderDto;
 import kr.kernel360.anabada.global.commons.domain.SocialProvider;
+import kr.kernel360.anabada.global.search.QSearchDocument;
+import kr.kernel360.anabada.global.search.SearchDocument;
 import kr.kernel360.anabada.global.utils.OrderByNull;
 import lombok.RequiredArgsConstructor;
 
@@ -42,4 +44,14 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
 			.orderBy(OrderByNull.DEFAULT)
 			.fetch();
 	}
+
+	@Override
+	public List<SearchDocument> findMemberNicknames() {
+		return queryFactory.select(new QSearchDocument(
+			member.id,
+			member.nickname
+		))
+			.from(member)
+			.fetch();
+	}
 }
@@ -0,0 +1,85 @@
+package kr.kernel360.anabada.domain.member.service;
+
+import java.util.Optional;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.kernel360.anabada.domain.member.entity.Member;
+import kr.kernel360.anabada.domain.member.repository.MemberRepository;
+import kr.kernel360.anabada.global.error.code.ErrorCode;
+import kr.kernel360.anabada.global.error.code.MemberErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+import kr.kernel360.anabada.global.jwt.MemberPrincipal;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그인 회원 조회
+ * 토큰에 회원 아이디가 있으면 이메일 조회 없이 아이디를 사용하고,
+ * 아이디가 없는 이전 토큰이면 기존처럼 이메일로 조회한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class LoginMemberService {
+	private final MemberRepository memberRepository;
+
+	public String getEmail() {
+		return SecurityContextHolder.getContext().getAuthentication().getName();
+	}
+
+	public Optional<MemberPrincipal> findPrincipal() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal memberPrincipal) {
+			validateAccountStatus(memberPrincipal);
+			return Optional.of(memberPrincipal);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * 연관관계 저장용 회원. 토큰에 아이디가 있으면 엔티티를 읽지 않고 존재 여부만 확인한 뒤 프록시를 반환한다.
+	 * (탈퇴한 회원의 토큰이면 flush 때 FK 오류 대신 notFoundMember 를 던진다)
+	 */
+	public Member getReference(ErrorCode notFoundMember) {
+		Optional<MemberPrincipal> memberPrincipal = findPrincipal();
+		if (memberPrincipal.isEmpty()) {
+			return findByEmail(notFoundMember);
+		}
+		Long memberId = memberPrincipal.get().getMemberId();
+		if (!memberRepository.existsById(memberId)) {
+			throw new BusinessException(notFoundMember);
+		}
+		return memberRepository.getReferenceById(memberId);
+	}
+
+	/** 로그인 회원 아이디. 토큰에 아이디가 있으면 조회하지 않는다. **/
+	public Long getMemberId(ErrorCode notFoundMember) {
+		return findPrincipal()
+			.map(MemberPrincipal::getMemberId)
+			.orElseGet(() -> findByEmail(notFoundMember).getId());
+	}
+
+	/** 회원 정보가 필요한 경우. 토큰에 아이디가 있으면 기본키로 조회한다. **/
+	public Member getMember(ErrorCode notFoundMember) {
+		Optional<MemberPrincipal> memberPrincipal = findPrincipal();
+		if (memberPrincipal.isEmpty()) {
+			return findByEmail(notFoundMember);
+		}
+		return memberRepository.findById(memberPrincipal.get().getMemberId())
+			.orElseThrow(() -> new BusinessException(notFoundMember));
+	}
+
+	private Member findByEmail(ErrorCode notFoundMember) {
+		return memberRepository.findByEmail(getEmail())
+			.orElseThrow(() -> new BusinessException(notFoundMember));
+	}
+
+	private void validateAccountStatus(MemberPrincipal memberPrincipal) {
+		if (!memberPrincipal.isAccountStatus()) {
+			throw new BusinessException(MemberErrorCode.DEACTIVATE_MEMBER);
+		}
+	}
+}
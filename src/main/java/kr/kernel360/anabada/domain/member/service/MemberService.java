@@ -2,7 +2,7 @@ package kr.kernel360.anabada.domain.member.service;
 
 import java.util.List;
 
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,9 +15,11 @@ import kr.kernel360.anabada.domain.member.dto.FindMemberResponse;
 import kr.kernel360.anabada.domain.member.dto.GenderDto;
 import kr.kernel360.anabada.domain.member.dto.UpdateMemberRequest;
 import kr.kernel360.anabada.domain.member.entity.Member;
+import kr.kernel360.anabada.domain.member.event.MemberUpdatedEvent;
 import kr.kernel360.anabada.domain.member.repository.MemberRepository;
+import kr.kernel360.anabada.domain.trade.service.TradeSearchService;
+import kr.kernel360.anabada.global.cache.AggregateVersionStore;
 import kr.kernel360.anabada.global.error.code.MemberErrorCode;
-import kr.kernel360.anabada.global.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -26,30 +28,38 @@ import lombok.RequiredArgsConstructor;
 public class MemberService {
 	private final MemberRepository memberRepository;
 
+	private final LoginMemberService loginMemberService;
+
 	private final PasswordEncoder passwordEncoder;
 
+	private final TradeSearchService tradeSearchService;
+
+	private final AggregateVersionStore aggregateVersionStore;
+
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Transactional
 	public Long update(UpdateMemberRequest updateMemberRequest) {
-		String findEmailByJwt = SecurityContextHolder.getContext().getAuthentication().getName();
-		Member findMember = findByEmail(findEmailByJwt);
+		Member findMember = loginMemberService.getMember(MemberErrorCode.NOT_FOUND_MEMBER);
 		findMember.update(updateMemberRequest.getNickname(), updateMemberRequest.getGender(),
 			updateMemberRequest.getBirth());
+		tradeSearchService.indexMember(findMember);
+		eventPublisher.publishEvent(new MemberUpdatedEvent(findMember.getId(), findMember.getNickname()));
+		aggregateVersionStore.bump(AggregateVersionStore.keyOf(AggregateVersionStore.MEMBER, null));
 
 		return findMember.getId();
 	}
 
 	@Transactional
 	public Long updatePassword(String password) {
-		String findEmailByJwt = SecurityContextHolder.getContext().getAuthentication().getName();
-		Member findMember = findByEmail(findEmailByJwt);
+		Member findMember = loginMemberService.getMember(MemberErrorCode.NOT_FOUND_MEMBER);
 		findMember.updatePassword(passwordEncoder.encode(password));
 
 		return findMember.getId();
 	}
 
 	public FindMemberResponse find() {
-		String findEmailByJwt = SecurityContextHolder.getContext().getAuthentication().getName();
-		Member findMember = findByEmail(findEmailByJwt);
+		Member findMember = loginMemberService.getMember(MemberErrorCode.NOT_FOUND_MEMBER);
 
 		return FindMemberResponse.of(findMember);
 	}
@@ -77,18 +87,12 @@ public class MemberService {
 
 	@Transactional
 	public Long remove(Long id) {
-		String findEmailByJwt = SecurityContextHolder.getContext().getAuthentication().getName();
-		Member findMember = findByEmail(findEmailByJwt);
+		Member findMember = loginMemberService.getMember(MemberErrorCode.NOT_FOUND_MEMBER);
 		memberRepository.delete(findMember);
 
 		return id;
 	}
 
-	private Member findByEmail(String findEmailByJwt) {
-		return memberRepository.findByEmail(findEmailByJwt)
-			.orElseThrow(() -> new BusinessException(MemberErrorCode.NOT_FOUND_MEMBER));
-	}
-
 	@Transactional
 	public Member save(Member member) {
 		return memberRepository.save(member);
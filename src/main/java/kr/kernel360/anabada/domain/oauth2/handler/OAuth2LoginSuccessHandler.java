@@ -2,6 +2,7 @@ package kr.kernel360.anabada.domain.oauth2.handler;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -19,6 +20,7 @@ import kr.kernel360.anabada.domain.auth.dto.TokenDto;
 import kr.kernel360.anabada.domain.member.entity.Member;
 import kr.kernel360.anabada.domain.member.repository.MemberRepository;
 import kr.kernel360.anabada.domain.oauth2.CustomOAuth2User;
+import kr.kernel360.anabada.global.jwt.MemberPrincipal;
 import kr.kernel360.anabada.global.jwt.TokenProvider;
 import lombok.RequiredArgsConstructor;
 
@@ -41,8 +43,9 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 
 		GrantedAuthority authority = new SimpleGrantedAuthority(member.getAuthorities());
 
-		Authentication serviceAuthentication = new UsernamePasswordAuthenticationToken(member.getEmail(),
-			member.getPassword(), Collections.singletonList(authority));
+		List<GrantedAuthority> authorities = Collections.singletonList(authority);
+		Authentication serviceAuthentication = new UsernamePasswordAuthenticationToken(
+			MemberPrincipal.of(member, authorities), member.getPassword(), authorities);
 
 		TokenDto tokenDto = tokenProvider.createToken(serviceAuthentication);
 
@@ -0,0 +1,141 @@
+package kr.kernel360.anabada.domain.place.cache;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import kr.kernel360.anabada.domain.place.dto.PlaceDto;
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.place.repository.PlaceRepository;
+import kr.kernel360.anabada.domain.place.service.PlaceGeoService;
+import kr.kernel360.anabada.global.cache.SecondLevelCacheSynchronizer;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * (state, city, address1) -> 지역 사전
+ * 지역은 지워지지 않으므로 한 번 찾은 지역은 메모리에 두고, 사전에 없을 때만 insert-or-select 쿼리 한 번으로 아이디를 얻는다.
+ * 사전의 Place 는 영속성 컨텍스트 밖의 읽기 전용 인스턴스로, 교환의 place 연관관계와 조회 조건에만 쓴다.
+ */
+@Slf4j
+@Component
+public class PlaceDictionary {
+	private final PlaceRepository placeRepository;
+	private final PlaceGeoService placeGeoService;
+	private final SecondLevelCacheSynchronizer secondLevelCacheSynchronizer;
+	private final TransactionTemplate transactionTemplate;
+
+	private final Map<PlaceKey, Place> places = new ConcurrentHashMap<>();
+
+	public PlaceDictionary(PlaceRepository placeRepository, PlaceGeoService placeGeoService,
+		SecondLevelCacheSynchronizer secondLevelCacheSynchronizer, PlatformTransactionManager transactionManager) {
+		this.placeRepository = placeRepository;
+		this.placeGeoService = placeGeoService;
+		this.secondLevelCacheSynchronizer = secondLevelCacheSynchronizer;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		placeRepository.findAll().forEach(this::put);
+		log.info("place dictionary ready. places={}", places.size());
+	}
+
+	/**
+	 * 없으면 만든다. 좌표가 비어 있던 지역에 좌표가 들어오면 좌표도 채운다.
+	 * 커넥션을 하나 더 잡지 않도록 호출한 트랜잭션에 참여하고, 사전과 2차 캐시('place' region)는 커밋된 뒤에 맞춘다.
+	 * (호출한 트랜잭션이 롤백되면 사전에 남지 않으므로 다음 호출에서 다시 만든다)
+	 */
+	public Place intern(PlaceDto placeDto) {
+		Place newPlace = PlaceDto.toEntity(placeDto);
+		PlaceKey key = PlaceKey.of(newPlace);
+		Place cachedPlace = places.get(key);
+		boolean locating = placeDto.getX() != null && placeDto.getY() != null;
+		if (cachedPlace != null && (cachedPlace.hasCoordinates() || !locating)) {
+			return cachedPlace;
+		}
+
+		Long placeId = transactionTemplate.execute(status -> placeRepository.upsert(newPlace));
+		Place place = Place.builder()
+			.id(placeId)
+			.state(newPlace.getState())
+			.city(newPlace.getCity())
+			.address1(newPlace.getAddress1())
+			.x(cachedPlace != null && cachedPlace.hasCoordinates() ? cachedPlace.getX() : placeDto.getX())
+			.y(cachedPlace != null && cachedPlace.hasCoordinates() ? cachedPlace.getY() : placeDto.getY())
+			.build();
+		afterCommit(() -> {
+			places.put(key, place);
+			placeGeoService.index(place);
+			// JDBC 로 좌표를 채웠으므로 Hibernate 가 알지 못한다. 이 노드와 다른 노드의 캐시를 직접 지운다.
+			secondLevelCacheSynchronizer.evict(Place.class, placeId);
+		});
+		return place;
+	}
+
+	/**
+	 * 만들지 않고 찾기만 한다.
+	 */
+	public Optional<Place> find(PlaceDto placeDto) {
+		Place place = PlaceDto.toEntity(placeDto);
+		Place cachedPlace = places.get(PlaceKey.of(place));
+		if (cachedPlace != null) {
+			return Optional.of(cachedPlace);
+		}
+		Optional<Place> findPlace = placeRepository.findByStateAndCityAndAddress1(place.getState(),
+			place.getCity(), place.getAddress1());
+		findPlace.ifPresent(this::put);
+		return findPlace;
+	}
+
+	public int size() {
+		return places.size();
+	}
+
+	private void put(Place place) {
+		places.put(PlaceKey.of(place), Place.builder()
+			.id(place.getId())
+			.state(place.getState())
+			.city(place.getCity())
+			.address1(place.getAddress1())
+			.x(place.getX())
+			.y(place.getY())
+			.build());
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	private static final class PlaceKey {
+		private final String state;
+		private final String city;
+		private final String address1;
+
+		private static PlaceKey of(Place place) {
+			return new PlaceKey(place.getState(), place.getCity(), place.getAddress1());
+		}
+	}
+}
@@ -24,11 +24,22 @@ public class PlaceDto {
 	@ApiModelProperty(value = "동", example = "삼성동")
 	private String address1;
 
+	@ApiModelProperty(value = "경도", example = "127.0557")
+	private Double x;
+
+	@ApiModelProperty(value = "위도", example = "37.5088")
+	private Double y;
+
+	/**
+	 * 비어 있는 주소는 '' 로 맞춘다. (NULL 은 유니크 인덱스에서 서로 다른 값이라 같은 지역이 여러 행으로 늘어난다)
+	 */
 	public static Place toEntity(PlaceDto placeDto) {
 		return Place.builder()
-			.state(placeDto.state)
-			.city(placeDto.city)
-			.address1(placeDto.address1)
+			.state(nullToEmpty(placeDto.state))
+			.city(nullToEmpty(placeDto.city))
+			.address1(nullToEmpty(placeDto.address1))
+			.x(placeDto.x)
+			.y(placeDto.y)
 			.build();
 	}
 
@@ -37,6 +48,12 @@ public class PlaceDto {
 			.state(placeResponse.getRegion1depthName())
 			.city(placeResponse.getRegion2depthName())
 			.address1(placeResponse.getRegion3depthName())
+			.x(placeResponse.getX())
+			.y(placeResponse.getY())
 			.build();
 	}
+
+	private static String nullToEmpty(String value) {
+		return value != null ? value : "";
+	}
 }
@@ -1,11 +1,16 @@
 package kr.kernel360.anabada.domain.place.entity;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -15,25 +20,46 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "place")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "place")
+@Table(name = "place", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_place_state_city_address1", columnNames = {"state", "city", "address1"})})
 public class Place {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
-	@Column(name = "state", columnDefinition = "varchar(40)")
+	@Column(name = "state", nullable = false, columnDefinition = "varchar(40) default ''")
 	private String state;
 
-	@Column(name = "city", columnDefinition = "varchar(40)") // todo : notnull 임시 제거 -> 추후 붙여야함
+	@Column(name = "city", nullable = false, columnDefinition = "varchar(40) default ''")
 	private String city;
 
-	@Column(name = "address1", columnDefinition = "varchar(40)") // todo : notnull 임시 제거 -> 추후 붙여야함
+	@Column(name = "address1", nullable = false, columnDefinition = "varchar(40) default ''")
 	private String address1;
 
+	@Column(name = "x", columnDefinition = "double")
+	private Double x;
+
+	@Column(name = "y", columnDefinition = "double")
+	private Double y;
+
 	@Builder
-	public Place(String state, String city, String address1) {
+	public Place(Long id, String state, String city, String address1, Double x, Double y) {
+		this.id = id;
 		this.state = state;
 		this.city = city;
 		this.address1 = address1;
+		this.x = x;
+		this.y = y;
+	}
+
+	public boolean hasCoordinates() {
+		return x != null && y != null;
+	}
+
+	public void locate(Double x, Double y) {
+		this.x = x;
+		this.y = y;
 	}
 }
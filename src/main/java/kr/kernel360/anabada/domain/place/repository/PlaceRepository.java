@@ -1,13 +1,21 @@
 package kr.kernel360.anabada.domain.place.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import kr.kernel360.anabada.domain.place.entity.Place;
 
-public interface PlaceRepository extends JpaRepository<Place,Long> {
+public interface PlaceRepository extends JpaRepository<Place,Long>, PlaceRepositoryCustom {
+	String QUERY_CACHE_REGION = "placeQuery";
+
+	@QueryHints({@QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"),
+		@QueryHint(name = org.hibernate.annotations.QueryHints.CACHE_REGION, value = QUERY_CACHE_REGION)})
 	Optional<Place> findByStateAndCityAndAddress1(String state, String city, String address1);
 
-	Boolean existsByStateAndCityAndAddress1(String state, String city, String address1);
+	List<Place> findAllByXIsNotNullAndYIsNotNull();
 }
@@ -0,0 +1,7 @@
+package kr.kernel360.anabada.domain.place.repository;
+
+import kr.kernel360.anabada.domain.place.entity.Place;
+
+public interface PlaceRepositoryCustom {
+	Long upsert(Place place);
+}
@@ -0,0 +1,49 @@
+package kr.kernel360.anabada.domain.place.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import kr.kernel360.anabada.domain.place.entity.Place;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PlaceRepositoryImpl implements PlaceRepositoryCustom {
+	// 이미 있으면 기존 아이디를 LAST_INSERT_ID 로 돌려받고, 비어 있는 좌표만 채운다.
+	private static final String UPSERT_PLACE = """
+		INSERT INTO place (state, city, address1, x, y) VALUES (?, ?, ?, ?, ?)
+		ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id), x = COALESCE(x, VALUES(x)), y = COALESCE(y, VALUES(y))
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * (state, city, address1) 유니크 제약에 기대어 동시에 들어와도 한 행만 만들고 그 아이디를 돌려준다.
+	 * 같은 커넥션에서 실행해야 LAST_INSERT_ID 를 읽을 수 있으므로 트랜잭션 안에서 호출한다.
+	 */
+	@Override
+	public Long upsert(Place place) {
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(connection -> {
+			PreparedStatement preparedStatement = connection.prepareStatement(UPSERT_PLACE,
+				Statement.RETURN_GENERATED_KEYS);
+			preparedStatement.setString(1, place.getState());
+			preparedStatement.setString(2, place.getCity());
+			preparedStatement.setString(3, place.getAddress1());
+			preparedStatement.setObject(4, place.getX(), Types.DOUBLE);
+			preparedStatement.setObject(5, place.getY(), Types.DOUBLE);
+			return preparedStatement;
+		}, keyHolder);
+
+		Number key = keyHolder.getKey();
+		if (key != null) {
+			return key.longValue();
+		}
+		// 바뀐 값이 없어 영향받은 행이 0 이면 드라이버가 키를 돌려주지 않는다.
+		return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+	}
+}
@@ -0,0 +1,102 @@
+package kr.kernel360.anabada.domain.place.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.place.repository.PlaceRepository;
+import kr.kernel360.anabada.global.geo.GeoGrid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좌표가 있는 지역(Place)의 격자 색인
+ * 교환은 지역에 속하므로, 반경 안의 지역 아이디만 골라 교환 조회 조건(place_id IN)으로 넘긴다.
+ * 격자는 노드마다 따로 있으므로 새로 좌표가 생긴 지역은 redis 채널로 다른 노드에 알린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceGeoService implements MessageListener {
+	public static final String CHANNEL = "anabada:place:geo";
+	private static final String DELIMITER = "|";
+	public static final double DEFAULT_RADIUS_KM = 3.0;
+	public static final double MAX_RADIUS_KM = 20.0;
+	private static final int MAX_NEARBY_PLACES = 200;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final PlaceRepository placeRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final GeoGrid geoGrid = new GeoGrid();
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		placeRepository.findAllByXIsNotNullAndYIsNotNull()
+			.forEach(place -> geoGrid.put(place.getId(), place.getX(), place.getY()));
+		log.info("place geo index ready. places={}", geoGrid.size());
+	}
+
+	/**
+	 * 이 노드의 격자에 넣고 다른 노드에 알린다. 커밋 이후에 호출한다.
+	 */
+	public void index(Place place) {
+		if (place.getId() == null || !place.hasCoordinates()) {
+			return;
+		}
+		geoGrid.put(place.getId(), place.getX(), place.getY());
+		try {
+			redisTemplate.convertAndSend(CHANNEL,
+				nodeId + DELIMITER + place.getId() + DELIMITER + place.getX() + DELIMITER + place.getY());
+		} catch (RuntimeException e) {
+			log.warn("place geo publish failed. id={}, cause={}", place.getId(), e.getMessage());
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		// redisTemplate 의 value serializer 로 보냈으므로 같은 serializer 로 읽는다.
+		Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+		if (body == null) {
+			return;
+		}
+		String[] parts = body.toString().split("\\" + DELIMITER);
+		if (parts.length != 4 || nodeId.equals(parts[0])) {
+			return;
+		}
+		try {
+			geoGrid.put(Long.valueOf(parts[1]), Double.parseDouble(parts[2]), Double.parseDouble(parts[3]));
+		} catch (RuntimeException e) {
+			log.warn("place geo message ignored. body={}, cause={}", body, e.getMessage());
+		}
+	}
+
+	/**
+	 * 가까운 순서로 정렬된 반경 안의 지역 아이디
+	 */
+	public List<Long> findNearbyPlaceIds(double x, double y, Double radiusKm) {
+		double radius = radiusKm == null || radiusKm <= 0 ? DEFAULT_RADIUS_KM : Math.min(radiusKm, MAX_RADIUS_KM);
+
+		return geoGrid.within(x, y, radius, MAX_NEARBY_PLACES).stream()
+			.map(GeoGrid.Neighbor::getId)
+			.toList();
+	}
+}
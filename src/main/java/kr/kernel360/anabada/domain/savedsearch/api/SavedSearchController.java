@@ -0,0 +1,86 @@
+package kr.kernel360.anabada.domain.savedsearch.api;
+
+import java.net.URI;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import kr.kernel360.anabada.domain.savedsearch.dto.CreateSavedSearchRequest;
+import kr.kernel360.anabada.domain.savedsearch.dto.CreateSavedSearchResponse;
+import kr.kernel360.anabada.domain.savedsearch.dto.FindAllSavedSearchHitResponse;
+import kr.kernel360.anabada.domain.savedsearch.dto.FindAllSavedSearchResponse;
+import kr.kernel360.anabada.domain.savedsearch.service.SavedSearchService;
+import lombok.RequiredArgsConstructor;
+
+@Api(tags = "검색 조건 알림 API", description = "/api/v1/saved-searches")
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class SavedSearchController {
+	private final SavedSearchService savedSearchService;
+
+	@ApiOperation(value = "검색 조건 저장")
+	@ApiResponses({@ApiResponse(code = 201, message = "검색 조건 저장 성공"),
+		@ApiResponse(code = 400, message = "잘못된 검색 조건 입니다."),
+		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
+		@ApiResponse(code = 403, message = "잘못된 접근입니다."),
+		@ApiResponse(code = 404, message = "존재하지 않는 회원 입니다."),
+		@ApiResponse(code = 500, message = "서버 오류")})
+	@PostMapping("/v1/saved-searches")
+	public ResponseEntity<CreateSavedSearchResponse> create(
+		@RequestBody CreateSavedSearchRequest createSavedSearchRequest) {
+		CreateSavedSearchResponse createSavedSearchResponse = savedSearchService.create(createSavedSearchRequest);
+		URI url = URI.create("api/v1/saved-searches/" + createSavedSearchResponse.getId());
+
+		return ResponseEntity.created(url).body(createSavedSearchResponse);
+	}
+
+	@ApiOperation(value = "내 검색 조건 목록 조회")
+	@ApiResponses({@ApiResponse(code = 200, message = "검색 조건 목록 조회 성공"),
+		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
+		@ApiResponse(code = 403, message = "잘못된 접근입니다."),
+		@ApiResponse(code = 404, message = "존재하지 않는 회원 입니다."),
+		@ApiResponse(code = 500, message = "서버 오류")})
+	@GetMapping("/v1/saved-searches")
+	public ResponseEntity<FindAllSavedSearchResponse> findAll() {
+		FindAllSavedSearchResponse findAllSavedSearchResponse = savedSearchService.findAll();
+
+		return ResponseEntity.ok(findAllSavedSearchResponse);
+	}
+
+	@ApiOperation(value = "새 교환 알림 조회 (조회한 알림은 받은 것으로 표시)")
+	@ApiResponses({@ApiResponse(code = 200, message = "알림 조회 성공"),
+		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
+		@ApiResponse(code = 403, message = "잘못된 접근입니다."),
+		@ApiResponse(code = 404, message = "존재하지 않는 회원 입니다."),
+		@ApiResponse(code = 500, message = "서버 오류")})
+	@PostMapping("/v1/saved-searches/hits")
+	public ResponseEntity<FindAllSavedSearchHitResponse> deliverHits() {
+		FindAllSavedSearchHitResponse findAllSavedSearchHitResponse = savedSearchService.deliverHits();
+
+		return ResponseEntity.ok(findAllSavedSearchHitResponse);
+	}
+
+	@ApiOperation(value = "검색 조건 삭제")
+	@ApiResponses({@ApiResponse(code = 200, message = "검색 조건 삭제 성공"),
+		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
+		@ApiResponse(code = 403, message = "본인의 검색 조건만 삭제할 수 있습니다."),
+		@ApiResponse(code = 404, message = "존재하지 않는 검색 조건 입니다."),
+		@ApiResponse(code = 500, message = "서버 오류")})
+	@DeleteMapping("/v1/saved-searches/{savedSearchId}")
+	public ResponseEntity<Long> remove(@PathVariable Long savedSearchId) {
+		Long removedSavedSearchId = savedSearchService.remove(savedSearchId);
+
+		return ResponseEntity.ok(removedSavedSearchId);
+	}
+}
@@ -0,0 +1,24 @@
+package kr.kernel360.anabada.domain.savedsearch.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import kr.kernel360.anabada.domain.place.dto.PlaceDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class CreateSavedSearchRequest {
+	@ApiModelProperty(value = "제목 검색어", example = "아이폰")
+	private String keyword;
+
+	@ApiModelProperty(value = "교환 타입", example = "TRADE")
+	private String tradeType;
+
+	@ApiModelProperty(value = "카테고리 아이디", example = "1")
+	private Long categoryId;
+
+	@ApiModelProperty(value = "지역")
+	private PlaceDto place;
+}
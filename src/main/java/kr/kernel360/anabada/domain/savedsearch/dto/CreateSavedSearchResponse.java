@@ -0,0 +1,23 @@
+package kr.kernel360.anabada.domain.savedsearch.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import kr.kernel360.anabada.domain.savedsearch.entity.SavedSearch;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateSavedSearchResponse {
+	@ApiModelProperty(value = "검색 조건 아이디", example = "1")
+	private Long id;
+
+	public static CreateSavedSearchResponse of(SavedSearch savedSearch) {
+		return CreateSavedSearchResponse.builder()
+			.id(savedSearch.getId())
+			.build();
+	}
+}
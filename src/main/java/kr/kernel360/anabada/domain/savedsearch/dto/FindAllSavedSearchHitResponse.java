@@ -0,0 +1,24 @@
+package kr.kernel360.anabada.domain.savedsearch.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FindAllSavedSearchHitResponse {
+	@ApiModelProperty(value = "새로 일치한 교환 목록")
+	private List<FindSavedSearchHitResponse> hits;
+
+	public static FindAllSavedSearchHitResponse of(List<FindSavedSearchHitResponse> hits) {
+		return FindAllSavedSearchHitResponse.builder()
+			.hits(hits)
+			.build();
+	}
+}
@@ -0,0 +1,24 @@
+package kr.kernel360.anabada.domain.savedsearch.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FindAllSavedSearchResponse {
+	@ApiModelProperty(value = "저장된 검색 조건 목록")
+	private List<FindSavedSearchResponse> savedSearches;
+
+	public static FindAllSavedSearchResponse of(List<FindSavedSearchResponse> savedSearches) {
+		return FindAllSavedSearchResponse.builder()
+			.savedSearches(savedSearches)
+			.build();
+	}
+}
@@ -0,0 +1,37 @@
+package kr.kernel360.anabada.domain.savedsearch.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.annotations.ApiModelProperty;
+import kr.kernel360.anabada.domain.savedsearch.entity.SavedSearchHit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FindSavedSearchHitResponse {
+	@ApiModelProperty(value = "검색 조건 아이디", example = "1")
+	private Long savedSearchId;
+
+	@ApiModelProperty(value = "교환 아이디", example = "1")
+	private Long tradeId;
+
+	@ApiModelProperty(value = "교환 제목", example = "[아이폰]드려요. [갤럭시]받아요.")
+	private String tradeTitle;
+
+	@ApiModelProperty(value = "일치한 시각", example = "2023-12-01T12:00:00")
+	private LocalDateTime createdDate;
+
+	public static FindSavedSearchHitResponse of(SavedSearchHit savedSearchHit) {
+		return FindSavedSearchHitResponse.builder()
+			.savedSearchId(savedSearchHit.getSavedSearchId())
+			.tradeId(savedSearchHit.getTradeId())
+			.tradeTitle(savedSearchHit.getTradeTitle())
+			.createdDate(savedSearchHit.getCreatedDate())
+			.build();
+	}
+}
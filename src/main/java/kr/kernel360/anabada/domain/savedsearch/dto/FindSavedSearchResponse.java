@@ -0,0 +1,46 @@
+package kr.kernel360.anabada.domain.savedsearch.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.annotations.ApiModelProperty;
+import kr.kernel360.anabada.domain.savedsearch.entity.SavedSearch;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FindSavedSearchResponse {
+	@ApiModelProperty(value = "검색 조건 아이디", example = "1")
+	private Long id;
+
+	@ApiModelProperty(value = "제목 검색어", example = "아이폰")
+	private String keyword;
+
+	@ApiModelProperty(value = "교환 타입", example = "TRADE")
+	private TradeType tradeType;
+
+	@ApiModelProperty(value = "카테고리 아이디", example = "1")
+	private Long categoryId;
+
+	@ApiModelProperty(value = "지역 아이디", example = "1")
+	private Long placeId;
+
+	@ApiModelProperty(value = "저장일", example = "2023-12-01T12:00:00")
+	private LocalDateTime createdDate;
+
+	public static FindSavedSearchResponse of(SavedSearch savedSearch) {
+		return FindSavedSearchResponse.builder()
+			.id(savedSearch.getId())
+			.keyword(savedSearch.getKeyword())
+			.tradeType(savedSearch.getTradeType())
+			.categoryId(savedSearch.getCategoryId())
+			.placeId(savedSearch.getPlaceId())
+			.createdDate(savedSearch.getCreatedDate())
+			.build();
+	}
+}
@@ -0,0 +1,58 @@
+package kr.kernel360.anabada.domain.savedsearch.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import kr.kernel360.anabada.global.commons.entity.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 새 교환 알림을 받을 검색 조건 (비어 있는 조건은 모든 교환과 일치한다)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "saved_search", indexes = {
+	@Index(name = "idx_saved_search_member_id", columnList = "member_id")})
+public class SavedSearch extends BaseEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, name = "member_id")
+	private Long memberId;
+
+	@Column(name = "keyword", columnDefinition = "varchar(100)")
+	private String keyword;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "trade_type", columnDefinition = "varchar(40)")
+	private TradeType tradeType;
+
+	@Column(name = "category_id")
+	private Long categoryId;
+
+	@Column(name = "place_id")
+	private Long placeId;
+
+	@Builder
+	public SavedSearch(Long id, Long memberId, String keyword, TradeType tradeType, Long categoryId, Long placeId) {
+		this.id = id;
+		this.memberId = memberId;
+		this.keyword = keyword;
+		this.tradeType = tradeType;
+		this.categoryId = categoryId;
+		this.placeId = placeId;
+	}
+}
@@ -0,0 +1,61 @@
+package kr.kernel360.anabada.domain.savedsearch.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import kr.kernel360.anabada.global.commons.entity.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장된 검색 조건에 맞은 새 교환. deliveredDate 가 비어 있으면 아직 전달하지 않은 알림이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "saved_search_hit",
+	uniqueConstraints = @UniqueConstraint(name = "uk_saved_search_hit", columnNames = {"saved_search_id", "trade_id"}),
+	indexes = @Index(name = "idx_saved_search_hit_member_delivered", columnList = "member_id, delivered_date, id"))
+public class SavedSearchHit extends BaseEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, name = "saved_search_id")
+	private Long savedSearchId;
+
+	@Column(nullable = false, name = "member_id")
+	private Long memberId;
+
+	@Column(nullable = false, name = "trade_id")
+	private Long tradeId;
+
+	@Column(nullable = false, name = "trade_title", columnDefinition = "varchar(255)")
+	private String tradeTitle;
+
+	@Column(name = "delivered_date", columnDefinition = "datetime")
+	private LocalDateTime deliveredDate;
+
+	@Builder
+	public SavedSearchHit(Long id, Long savedSearchId, Long memberId, Long tradeId, String tradeTitle) {
+		this.id = id;
+		this.savedSearchId = savedSearchId;
+		this.memberId = memberId;
+		this.tradeId = tradeId;
+		this.tradeTitle = tradeTitle;
+	}
+
+	public void deliver(LocalDateTime deliveredDate) {
+		this.deliveredDate = deliveredDate;
+	}
+}
@@ -0,0 +1,211 @@
+package kr.kernel360.anabada.domain.savedsearch.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import kr.kernel360.anabada.domain.savedsearch.entity.SavedSearch;
+import kr.kernel360.anabada.global.cache.CountCache;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장된 검색 조건의 역색인 (새 교환 -> 일치하는 검색 조건)
+ * 조건은 (카테고리, 교환 타입, 지역) 버킷에 들어가고, 조건이 없는 항목은 "모두" 로 둔다.
+ * 새 교환은 자신의 값과 "모두" 를 조합한 최대 8개 버킷만 보고, 버킷 안에서는 검색어의 앞 두 글자(anchor)가
+ * 제목에 있는 조건만 후보로 꺼내 제목 포함 여부(LIKE '%검색어%' 와 같은 의미)를 확인한다.
+ */
+public class SavedSearchIndex {
+	private static final int ANCHOR_LENGTH = 2;
+
+	private final Map<String, Bucket> buckets = new HashMap<>();
+	private final Map<Long, SavedQuery> queries = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public void put(SavedQuery query) {
+		lock.writeLock().lock();
+		try {
+			SavedQuery previous = queries.put(query.getId(), query);
+			if (previous != null) {
+				removeFromBucket(previous);
+			}
+			buckets.computeIfAbsent(bucketKey(query.getCategoryId(), query.getTradeType(), query.getPlaceId()),
+				key -> new Bucket()).add(query);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long id) {
+		lock.writeLock().lock();
+		try {
+			SavedQuery previous = queries.remove(id);
+			if (previous != null) {
+				removeFromBucket(previous);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return queries.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public List<SavedQuery> match(Long categoryId, TradeType tradeType, Long placeId, String title) {
+		String normalizedTitle = title == null ? "" : normalize(title);
+		Set<String> titleGrams = null;
+		List<SavedQuery> matched = new ArrayList<>();
+
+		lock.readLock().lock();
+		try {
+			for (Long categoryKey : keysOf(categoryId)) {
+				for (TradeType tradeTypeKey : keysOf(tradeType)) {
+					for (Long placeKey : keysOf(placeId)) {
+						Bucket bucket = buckets.get(bucketKey(categoryKey, tradeTypeKey, placeKey));
+						if (bucket == null) {
+							continue;
+						}
+						matched.addAll(bucket.withoutKeyword);
+						if (bucket.byAnchor.isEmpty()) {
+							continue;
+						}
+						if (titleGrams == null) {
+							titleGrams = grams(normalizedTitle);
+						}
+						for (String gram : titleGrams) {
+							List<SavedQuery> candidates = bucket.byAnchor.get(gram);
+							if (candidates == null) {
+								continue;
+							}
+							candidates.stream()
+								.filter(candidate -> normalizedTitle.contains(candidate.getKeyword()))
+								.forEach(matched::add);
+						}
+					}
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return matched;
+	}
+
+	private void removeFromBucket(SavedQuery query) {
+		String key = bucketKey(query.getCategoryId(), query.getTradeType(), query.getPlaceId());
+		Bucket bucket = buckets.get(key);
+		if (bucket != null && bucket.remove(query)) {
+			buckets.remove(key);
+		}
+	}
+
+	/**
+	 * 교환의 값과 "모두"(null). 교환에 값이 없으면 "모두" 버킷만 본다.
+	 */
+	private static <T> List<T> keysOf(T value) {
+		List<T> keys = new ArrayList<>(2);
+		if (value != null) {
+			keys.add(value);
+		}
+		keys.add(null);
+		return keys;
+	}
+
+	/**
+	 * 값이 null 인 차원(조건 없음)과 null 이 아닌 차원이 항상 다른 키가 되도록 "*" 를 쓴다.
+	 */
+	private static String bucketKey(Long categoryId, TradeType tradeType, Long placeId) {
+		return CountCache.keyOf(
+			categoryId != null ? categoryId : "*",
+			tradeType != null ? tradeType : "*",
+			placeId != null ? placeId : "*");
+	}
+
+	private static String normalize(String text) {
+		return text.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private static String anchorOf(String keyword) {
+		return keyword.substring(0, Math.min(ANCHOR_LENGTH, keyword.length()));
+	}
+
+	/**
+	 * 한 글자 검색어의 anchor 도 찾을 수 있도록 1글자, 2글자 조각을 모두 만든다.
+	 */
+	private static Set<String> grams(String text) {
+		Set<String> grams = new LinkedHashSet<>();
+		for (int i = 0; i < text.length(); i++) {
+			grams.add(text.substring(i, i + 1));
+			if (i + ANCHOR_LENGTH <= text.length()) {
+				grams.add(text.substring(i, i + ANCHOR_LENGTH));
+			}
+		}
+		return grams;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static final class SavedQuery {
+		private final Long id;
+		private final Long memberId;
+		private final Long categoryId;
+		private final TradeType tradeType;
+		private final Long placeId;
+		private final String keyword;
+
+		public static SavedQuery of(SavedSearch savedSearch) {
+			String keyword = savedSearch.getKeyword();
+			return new SavedQuery(
+				savedSearch.getId(),
+				savedSearch.getMemberId(),
+				savedSearch.getCategoryId(),
+				savedSearch.getTradeType(),
+				savedSearch.getPlaceId(),
+				keyword == null || keyword.isBlank() ? null : normalize(keyword));
+		}
+	}
+
+	private static final class Bucket {
+		private final List<SavedQuery> withoutKeyword = new ArrayList<>();
+		private final Map<String, List<SavedQuery>> byAnchor = new HashMap<>();
+
+		void add(SavedQuery query) {
+			if (query.getKeyword() == null) {
+				withoutKeyword.add(query);
+				return;
+			}
+			byAnchor.computeIfAbsent(anchorOf(query.getKeyword()), key -> new ArrayList<>()).add(query);
+		}
+
+		/**
+		 * 버킷이 비면 true 를 반환한다.
+		 */
+		boolean remove(SavedQuery query) {
+			if (query.getKeyword() == null) {
+				withoutKeyword.remove(query);
+			} else {
+				String anchor = anchorOf(query.getKeyword());
+				List<SavedQuery> anchored = byAnchor.get(anchor);
+				if (anchored != null) {
+					anchored.remove(query);
+					if (anchored.isEmpty()) {
+						byAnchor.remove(anchor);
+					}
+				}
+			}
+			return withoutKeyword.isEmpty() && byAnchor.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package kr.kernel360.anabada.domain.savedsearch.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import kr.kernel360.anabada.domain.savedsearch.entity.SavedSearchHit;
+
+public interface SavedSearchHitRepository extends JpaRepository<SavedSearchHit, Long> {
+	List<SavedSearchHit> findTop100ByMemberIdAndDeliveredDateIsNullOrderByIdAsc(Long memberId);
+
+	@Modifying
+	@Query("delete from SavedSearchHit h where h.savedSearchId = :savedSearchId")
+	int deleteAllBySavedSearchId(@Param("savedSearchId") Long savedSearchId);
+}
@@ -0,0 +1,13 @@
+package kr.kernel360.anabada.domain.savedsearch.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import kr.kernel360.anabada.domain.savedsearch.entity.SavedSearch;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+	List<SavedSearch> findAllByMemberIdOrderByIdDesc(Long memberId);
+
+	long countByMemberId(Long memberId);
+}
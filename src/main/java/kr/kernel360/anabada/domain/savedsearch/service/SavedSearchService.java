@@ -0,0 +1,349 @@
+package kr.kernel360.anabada.domain.savedsearch.service;
+
+import static org.springframework.util.StringUtils.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kr.kernel360.anabada.domain.member.entity.Member;
+import kr.kernel360.anabada.domain.member.service.LoginMemberService;
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.savedsearch.dto.CreateSavedSearchRequest;
+import kr.kernel360.anabada.domain.savedsearch.dto.CreateSavedSearchResponse;
+import kr.kernel360.anabada.domain.savedsearch.dto.FindAllSavedSearchHitResponse;
+import kr.kernel360.anabada.domain.savedsearch.dto.FindAllSavedSearchResponse;
+import kr.kernel360.anabada.domain.savedsearch.dto.FindSavedSearchHitResponse;
+import kr.kernel360.anabada.domain.savedsearch.dto.FindSavedSearchResponse;
+import kr.kernel360.anabada.domain.savedsearch.entity.SavedSearch;
+import kr.kernel360.anabada.domain.savedsearch.entity.SavedSearchHit;
+import kr.kernel360.anabada.domain.savedsearch.index.SavedSearchIndex;
+import kr.kernel360.anabada.domain.savedsearch.index.SavedSearchIndex.SavedQuery;
+import kr.kernel360.anabada.domain.savedsearch.repository.SavedSearchHitRepository;
+import kr.kernel360.anabada.domain.savedsearch.repository.SavedSearchRepository;
+import kr.kernel360.anabada.domain.trade.event.TradeCreatedEvent;
+import kr.kernel360.anabada.domain.trade.event.TradesImportedEvent;
+import kr.kernel360.anabada.domain.trade.service.TradeService;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import kr.kernel360.anabada.global.config.AsyncConfig;
+import kr.kernel360.anabada.global.error.code.SavedSearchErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 검색 조건과 새 교환 알림
+ * 새 교환은 커밋 이후 별도 스레드에서 SavedSearchIndex 로 후보 조건만 골라 확인하고, 일치한 결과는 saved_search_hit 에 쌓는다.
+ * 색인은 노드마다 따로 있으므로 추가/삭제는 redis 채널로 다른 노드에 알리고, 메시지를 놓친 경우를 위해 주기적으로 다시 만든다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SavedSearchService implements MessageListener {
+	public static final int MAX_SAVED_SEARCHES = 20;
+	public static final String CHANNEL = "anabada:saved-search:index";
+	private static final String DELIMITER = "|";
+	private static final String PUT = "put";
+	private static final String REMOVE = "remove";
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final SavedSearchRepository savedSearchRepository;
+	private final SavedSearchHitRepository savedSearchHitRepository;
+	private final LoginMemberService loginMemberService;
+	private final TradeService tradeService;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private volatile SavedSearchIndex savedSearchIndex = new SavedSearchIndex();
+	// 재구성 중에 들어온 추가/삭제. 새 색인으로 바꿔 끼운 뒤 다시 적용한다. 재구성 중이 아니면 null
+	private Queue<Runnable> pendingUpdates;
+	private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		reload();
+		log.info("saved search index ready. queries={}", savedSearchIndex.size());
+	}
+
+	/**
+	 * DB 에서 새 색인을 만든 뒤 바꿔 끼운다.
+	 * 만드는 동안 들어온 추가/삭제는 기존 색인에 적용하면서 모아 두었다가 바꿔 끼운 새 색인에 다시 적용한다.
+	 */
+	@Scheduled(fixedDelayString = "${anabada.saved-search.reload-interval-ms:600000}",
+		initialDelayString = "${anabada.saved-search.reload-interval-ms:600000}")
+	public void reload() {
+		Queue<Runnable> updates = new ConcurrentLinkedQueue<>();
+		setPendingUpdates(updates);
+		try {
+			SavedSearchIndex reloadedIndex = new SavedSearchIndex();
+			savedSearchRepository.findAll().forEach(savedSearch -> reloadedIndex.put(SavedQuery.of(savedSearch)));
+
+			swapLock.writeLock().lock();
+			try {
+				savedSearchIndex = reloadedIndex;
+				updates.forEach(Runnable::run);
+			} finally {
+				swapLock.writeLock().unlock();
+			}
+		} finally {
+			setPendingUpdates(null);
+		}
+	}
+
+	@Transactional
+	public CreateSavedSearchResponse create(CreateSavedSearchRequest createSavedSearchRequest) {
+		Member loginMember = findLoginMember();
+		if (savedSearchRepository.countByMemberId(loginMember.getId()) >= MAX_SAVED_SEARCHES) {
+			throw new BusinessException(SavedSearchErrorCode.TOO_MANY_SAVED_SEARCHES);
+		}
+		TradeType tradeType = parseTradeType(createSavedSearchRequest.getTradeType());
+		Place place = createSavedSearchRequest.getPlace() == null ? null
+			: tradeService.findPlaceByStateAndCityAndAddress1(createSavedSearchRequest.getPlace());
+		String keyword = hasText(createSavedSearchRequest.getKeyword())
+			? createSavedSearchRequest.getKeyword().trim() : null;
+		if (keyword == null && tradeType == null && createSavedSearchRequest.getCategoryId() == null && place == null) {
+			throw new BusinessException(SavedSearchErrorCode.EMPTY_SAVED_SEARCH);
+		}
+
+		SavedSearch savedSearch = savedSearchRepository.save(SavedSearch.builder()
+			.memberId(loginMember.getId())
+			.keyword(keyword)
+			.tradeType(tradeType)
+			.categoryId(createSavedSearchRequest.getCategoryId())
+			.placeId(place != null ? place.getId() : null)
+			.build());
+		SavedQuery savedQuery = SavedQuery.of(savedSearch);
+		afterCommit(() -> {
+			update(index -> index.put(savedQuery));
+			publish(PUT, savedQuery.getId());
+		});
+
+		return CreateSavedSearchResponse.of(savedSearch);
+	}
+
+	public FindAllSavedSearchResponse findAll() {
+		Member loginMember = findLoginMember();
+		List<FindSavedSearchResponse> responses = savedSearchRepository.findAllByMemberIdOrderByIdDesc(loginMember.getId())
+			.stream()
+			.map(FindSavedSearchResponse::of)
+			.toList();
+
+		return FindAllSavedSearchResponse.of(responses);
+	}
+
+	@Transactional
+	public Long remove(Long savedSearchId) {
+		Member loginMember = findLoginMember();
+		SavedSearch findSavedSearch = savedSearchRepository.findById(savedSearchId)
+			.orElseThrow(() -> new BusinessException(SavedSearchErrorCode.NOT_FOUND_SAVED_SEARCH));
+		if (!findSavedSearch.getMemberId().equals(loginMember.getId())) {
+			throw new BusinessException(SavedSearchErrorCode.FORBIDDEN_SAVED_SEARCH);
+		}
+		savedSearchHitRepository.deleteAllBySavedSearchId(savedSearchId);
+		savedSearchRepository.delete(findSavedSearch);
+		afterCommit(() -> {
+			update(index -> index.remove(savedSearchId));
+			publish(REMOVE, savedSearchId);
+		});
+
+		return savedSearchId;
+	}
+
+	/**
+	 * 아직 전달하지 않은 알림을 오래된 순으로 반환하고 전달한 것으로 표시한다.
+	 */
+	@Transactional
+	public FindAllSavedSearchHitResponse deliverHits() {
+		Member loginMember = findLoginMember();
+		List<SavedSearchHit> hits = savedSearchHitRepository
+			.findTop100ByMemberIdAndDeliveredDateIsNullOrderByIdAsc(loginMember.getId());
+		LocalDateTime now = LocalDateTime.now();
+		hits.forEach(hit -> hit.deliver(now));
+
+		return FindAllSavedSearchHitResponse.of(hits.stream()
+			.map(FindSavedSearchHitResponse::of)
+			.toList());
+	}
+
+	/**
+	 * 교환이 커밋된 뒤에만, 요청 스레드가 아닌 별도 스레드에서 실행된다. 작성자 본인의 조건은 제외한다.
+	 */
+	@Async(AsyncConfig.SAVED_SEARCH_EXECUTOR)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void on(TradeCreatedEvent event) {
+		List<SavedSearchHit> hits = existing(hitsOf(event));
+		if (!hits.isEmpty()) {
+			savedSearchHitRepository.saveAll(hits);
+		}
+	}
+
+	/**
+	 * 가져오기 배치의 교환들을 한 번에 매칭해 한 트랜잭션으로 저장한다.
+	 */
+	@Async(AsyncConfig.SAVED_SEARCH_EXECUTOR)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void on(TradesImportedEvent event) {
+		List<SavedSearchHit> hits = existing(event.getTrades().stream()
+			.flatMap(trade -> hitsOf(trade).stream())
+			.toList());
+		if (!hits.isEmpty()) {
+			savedSearchHitRepository.saveAll(hits);
+		}
+	}
+
+	/**
+	 * 다른 노드의 추가는 DB 에서 조건을 다시 읽어 넣는다. (커밋 이후에 보내므로 읽을 수 있다)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		// redisTemplate 의 value serializer 로 보냈으므로 같은 serializer 로 읽는다.
+		Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+		if (body == null) {
+			return;
+		}
+		String[] parts = body.toString().split("\\" + DELIMITER, 3);
+		if (parts.length != 3 || nodeId.equals(parts[0])) {
+			return;
+		}
+		try {
+			Long savedSearchId = Long.valueOf(parts[2]);
+			if (REMOVE.equals(parts[1])) {
+				update(index -> index.remove(savedSearchId));
+				return;
+			}
+			savedSearchRepository.findById(savedSearchId)
+				.ifPresent(savedSearch -> update(index -> index.put(SavedQuery.of(savedSearch))));
+		} catch (RuntimeException e) {
+			log.warn("saved search index message ignored. body={}, cause={}", body, e.getMessage());
+		}
+	}
+
+	/**
+	 * 현재 색인에 적용하고, 재구성 중이면 바꿔 끼운 새 색인에도 다시 적용하도록 모아 둔다.
+	 */
+	private void update(Consumer<SavedSearchIndex> change) {
+		Runnable update = () -> change.accept(savedSearchIndex);
+		swapLock.readLock().lock();
+		try {
+			update.run();
+			if (pendingUpdates != null) {
+				pendingUpdates.add(update);
+			}
+		} finally {
+			swapLock.readLock().unlock();
+		}
+	}
+
+	private void setPendingUpdates(Queue<Runnable> updates) {
+		swapLock.writeLock().lock();
+		try {
+			pendingUpdates = updates;
+		} finally {
+			swapLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 색인이 아직 지우지 못한 조건(다른 노드에서 막 삭제된 조건)의 알림은 버린다.
+	 */
+	private List<SavedSearchHit> existing(List<SavedSearchHit> hits) {
+		if (hits.isEmpty()) {
+			return hits;
+		}
+		Set<Long> existingIds = savedSearchRepository.findAllById(hits.stream()
+				.map(SavedSearchHit::getSavedSearchId)
+				.collect(Collectors.toSet()))
+			.stream()
+			.map(SavedSearch::getId)
+			.collect(Collectors.toSet());
+		return hits.stream()
+			.filter(hit -> existingIds.contains(hit.getSavedSearchId()))
+			.toList();
+	}
+
+	private void publish(String action, Long savedSearchId) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + action + DELIMITER + savedSearchId);
+		} catch (RuntimeException e) {
+			log.warn("saved search index publish failed. action={}, id={}, cause={}", action, savedSearchId,
+				e.getMessage());
+		}
+	}
+
+	private List<SavedSearchHit> hitsOf(TradeCreatedEvent event) {
+		return savedSearchIndex.match(event.getCategoryId(), event.getTradeType(),
+				event.getPlaceId(), event.getTitle())
+			.stream()
+			.filter(savedQuery -> !savedQuery.getMemberId().equals(event.getMemberId()))
+			.map(savedQuery -> SavedSearchHit.builder()
+				.savedSearchId(savedQuery.getId())
+				.memberId(savedQuery.getMemberId())
+				.tradeId(event.getTradeId())
+				.tradeTitle(event.getTitle())
+				.build())
+			.toList();
+	}
+
+	private TradeType parseTradeType(String tradeType) {
+		if (!hasText(tradeType)) {
+			return null;
+		}
+		try {
+			return TradeType.valueOf(tradeType);
+		} catch (IllegalArgumentException e) {
+			throw new BusinessException(SavedSearchErrorCode.INVALID_TRADE_TYPE);
+		}
+	}
+
+	private Member findLoginMember() {
+		return loginMemberService.getReference(SavedSearchErrorCode.NOT_FOUND_MEMBER);
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
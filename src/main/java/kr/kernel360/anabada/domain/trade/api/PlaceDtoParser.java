@@ -0,0 +1,34 @@
+package kr.kernel360.anabada.domain.trade.api;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kernel360.anabada.domain.place.dto.PlaceDto;
+import kr.kernel360.anabada.global.error.code.TradeErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 교환 API 의 placeDto 요청 파라미터(JSON 문자열)를 PlaceDto 로 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceDtoParser {
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 파라미터가 없으면 null 을 반환한다.
+	 */
+	public PlaceDto parse(String placeDtoJson) {
+		if (placeDtoJson == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(placeDtoJson, PlaceDto.class);
+		} catch (JsonProcessingException e) {
+			throw new BusinessException(TradeErrorCode.NOT_FOUND_PLACE);
+		}
+	}
+}
@@ -1,30 +1,33 @@
 package kr.kernel360.anabada.domain.trade.api;
 
-import java.net.MalformedURLException;
+import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import org.springframework.core.io.UrlResource;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
@@ -32,12 +35,19 @@ import kr.kernel360.anabada.domain.place.dto.PlaceDto;
 import kr.kernel360.anabada.domain.trade.dto.CreateTradeRequest;
 import kr.kernel360.anabada.domain.trade.dto.FindAllTradeResponse;
 import kr.kernel360.anabada.domain.trade.dto.FindAllTradesByStateResponse;
+import kr.kernel360.anabada.domain.trade.dto.FindTradePageResponse;
 import kr.kernel360.anabada.domain.trade.dto.FindTradeResponse;
 import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
+import kr.kernel360.anabada.domain.trade.service.TradePageService;
 import kr.kernel360.anabada.domain.trade.service.TradeService;
 import kr.kernel360.anabada.global.FileHandler;
+import kr.kernel360.anabada.global.cache.AggregateVersionStore;
 import kr.kernel360.anabada.global.error.code.TradeErrorCode;
 import kr.kernel360.anabada.global.error.exception.BusinessException;
+import kr.kernel360.anabada.global.idempotency.IdempotencyStore;
+import kr.kernel360.anabada.global.image.ImageResponseWriter;
+import kr.kernel360.anabada.global.upload.MultipartStreamReader;
+import kr.kernel360.anabada.global.upload.StreamedMultipart;
 import lombok.RequiredArgsConstructor;
 
 @Api(tags = "교환 API", description = "/api/v1/trades")
@@ -46,8 +56,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TradeController {
 	private final TradeService tradeService;
+	private final TradePageService tradePageService;
 	private final FileHandler fileHandler;
-	private final ObjectMapper objectMapper;
+	private final PlaceDtoParser placeDtoParser;
+	private final AggregateVersionStore aggregateVersionStore;
+	private final IdempotencyStore idempotencyStore;
+	private final ImageResponseWriter imageResponseWriter;
+	private final MultipartStreamReader multipartStreamReader;
 	private final Path rootLocation = Paths.get(Paths.get("images/trade").toAbsolutePath().toString().replace("/build/libs",""));
 
 	@ApiOperation(value = "조건에 따른 모든 교환 조회 -- 사용할 수 있는 조건 : 제목, 작성자, 교환 타입, 카테고리 아이디")
@@ -55,32 +70,39 @@ public class TradeController {
 		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
 		@ApiResponse(code = 404, message = "페이지가 존재하지 않습니다."),
 		@ApiResponse(code = 500, message = "서버 오류")})
-	@ApiImplicitParam(name = "page_number", required = true
-		, dataType = "int", paramType = "query", defaultValue = "1")
+	@ApiImplicitParams({
+		@ApiImplicitParam(name = "page_number", required = true
+			, dataType = "int", paramType = "query", defaultValue = "1"),
+		@ApiImplicitParam(name = "scroll", value = "커서 조회 여부 (true 이면 전체 개수 대신 hasNext, nextCursor 반환)"
+			, dataType = "boolean", paramType = "query", defaultValue = "false"),
+		@ApiImplicitParam(name = "cursor", value = "이전 응답의 nextCursor (첫 페이지는 생략)"
+			, dataType = "string", paramType = "query"),
+		@ApiImplicitParam(name = "facets", value = "교환 타입, 카테고리, 시/도별 교환 수 함께 조회 여부"
+			, dataType = "boolean", paramType = "query", defaultValue = "false")})
 	@GetMapping("/v1/trades")
 	public ResponseEntity<FindAllTradeResponse> findAll(TradeSearchCondition tradeSearchCondition,
 														@RequestParam(value = "placeDto", required = false) String placeDtoJson,
-														@RequestParam(value="pageNo", defaultValue="1") int pageNo
+														@RequestParam(value="pageNo", defaultValue="1") int pageNo,
+														@RequestParam(value = "scroll", defaultValue = "false") boolean scroll,
+														@RequestParam(value = "cursor", required = false) String cursor,
+														@RequestParam(value = "facets", defaultValue = "false") boolean facets
 		) {
+		PlaceDto placeDto = placeDtoParser.parse(placeDtoJson);
+		if (scroll) {
+			return ResponseEntity.ok(tradeService.findAll(tradeSearchCondition, placeDto, cursor, 10));
+		}
 		Pageable pageable = PageRequest.of(pageNo<1 ? 0 : pageNo-1, 10);
-		PlaceDto placeDto = parseJsonToPlaceDto(placeDtoJson);
+		if (facets) {
+			return ResponseEntity.ok(tradeService.findAllWithFacets(tradeSearchCondition, placeDto, pageable));
+		}
 		FindAllTradeResponse findAllTradeResponse = tradeService.findAll(tradeSearchCondition, placeDto, pageable);
 
 		return ResponseEntity.ok(findAllTradeResponse);
 	}
 
-	private PlaceDto parseJsonToPlaceDto(String placeDtoJson) {
-		if (placeDtoJson == null) return null;
-		try {
-			PlaceDto placeDto = objectMapper.readValue(placeDtoJson, PlaceDto.class);
-			return placeDto;
-		} catch (JsonProcessingException e) {
-			throw new BusinessException(TradeErrorCode.NOT_FOUND_PLACE);
-		}
-	}
-
 	@ApiOperation(value = "단일 교환 조회")
 	@ApiResponses({@ApiResponse(code = 200, message = "단일 교환 조회 성공"),
+		@ApiResponse(code = 304, message = "변경되지 않았습니다. (If-None-Match)"),
 		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
 		@ApiResponse(code = 403, message = "비활성화 상태 계정입니다."),
 		@ApiResponse(code = 404, message = "존재하지 않는 회원 입니다. \t\n 교환 정보를 찾을 수 없습니다."),
@@ -88,57 +110,125 @@ public class TradeController {
 	@ApiImplicitParam(name = "trade_id", required = true
 		, dataType = "int", paramType = "path", defaultValue = "1")
 	@GetMapping("/v1/trades/{tradeId}")
-	public ResponseEntity<FindTradeResponse> find(@PathVariable Long tradeId) {
+	public ResponseEntity<FindTradeResponse> find(@PathVariable Long tradeId, WebRequest webRequest) {
+		// 작성자 여부, 교환 요청 여부가 조회한 회원마다 다르므로 회원도 ETag 에 포함한다.
+		// 조회수는 ETag 에 포함하지 않으므로 304 응답이면 조회수를 올리지 않고, 클라이언트는 이전 조회수를 보여준다.
+		String eTag = aggregateVersionStore.eTag(SecurityContextHolder.getContext().getAuthentication().getName(),
+			AggregateVersionStore.keyOf(AggregateVersionStore.TRADE, tradeId),
+			AggregateVersionStore.keyOf(AggregateVersionStore.MEMBER, null));
+		if (eTag != null && webRequest.checkNotModified(eTag)) {
+			return null;
+		}
 		FindTradeResponse findTradeResponse = tradeService.find(tradeId);
 
 		return ResponseEntity.ok(findTradeResponse);
 	}
 
+	@ApiOperation(value = "교환 상세 화면 조회 -- 교환, 댓글, 교환 요청을 동시에 조회")
+	@ApiResponses({@ApiResponse(code = 200, message = "교환 상세 화면 조회 성공"),
+		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
+		@ApiResponse(code = 403, message = "비활성화 상태 계정입니다."),
+		@ApiResponse(code = 404, message = "존재하지 않는 회원 입니다. \t\n 교환 정보를 찾을 수 없습니다."),
+		@ApiResponse(code = 500, message = "서버 오류"),
+		@ApiResponse(code = 504, message = "교환 정보 조회 시간이 초과되었습니다.")})
+	@ApiImplicitParams({
+		@ApiImplicitParam(name = "trade_id", required = true
+			, dataType = "int", paramType = "path", defaultValue = "1"),
+		@ApiImplicitParam(name = "pageNo", value = "교환 요청 페이지 번호"
+			, dataType = "int", paramType = "query", defaultValue = "1")})
+	@GetMapping("/v1/trades/{tradeId}/page")
+	public ResponseEntity<FindTradePageResponse> findPage(@PathVariable Long tradeId,
+		@RequestParam(value = "pageNo", defaultValue = "1") int pageNo) {
+		Pageable pageable = PageRequest.of(pageNo < 1 ? 0 : pageNo - 1, 10);
+		FindTradePageResponse findTradePageResponse = tradePageService.find(tradeId, pageable);
+
+		return ResponseEntity.ok(findTradePageResponse);
+	}
+
 	@ApiOperation(value = "교환 추가")
 	@ApiResponses({@ApiResponse(code = 201, message = "교환 추가 성공"),
 		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
 		@ApiResponse(code = 403, message = "비활성화 상태 계정입니다."),
 		@ApiResponse(code = 404, message = "존재하지 않는 회원 입니다."),
+		@ApiResponse(code = 409, message = "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요."),
+		@ApiResponse(code = 422, message = "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
 		@ApiResponse(code = 500, message = "서버 오류")})
-	@ApiImplicitParam(name = "image_file", required = true
-		, dataType = "MultipartFile", paramType = "query", defaultValue = "1")
+	@ApiImplicitParams({
+		@ApiImplicitParam(name = "image_file", required = true
+			, dataType = "MultipartFile", paramType = "query", defaultValue = "1"),
+		@ApiImplicitParam(name = IdempotencyStore.HEADER, value = "재시도해도 한 번만 추가되도록 요청마다 만드는 키 (예: UUID)"
+			, dataType = "string", paramType = "header")})
 	@PostMapping(path = "/v1/trades", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
 	public ResponseEntity<Long> create(
 		@ModelAttribute CreateTradeRequest createTradeRequest,
 		@RequestParam("placeDto") String placeDtoJson,
-		@RequestParam(value = "imageFile", required = false) MultipartFile imageFile) {
-		if (imageFile != null && !imageFile.isEmpty()) {
-			String imagePath = fileHandler.parseFileInfo(imageFile,"trade");
-			createTradeRequest.setImagePath(imagePath);
-		}
-		try {
-			PlaceDto placeDto = objectMapper.readValue(placeDtoJson, PlaceDto.class);
-			Long savedTradeId = tradeService.create(createTradeRequest, placeDto);
-			URI uri = URI.create("/api/v1/trades/"+savedTradeId);
-
-			return ResponseEntity.created(uri).build();
-		} catch (JsonProcessingException e) {
-			throw new BusinessException(TradeErrorCode.NOT_FOUND_PLACE);
-		}
+		@RequestParam(value = "imageFile", required = false) MultipartFile imageFile,
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+		// 재시도면 파일 저장과 지역 upsert 없이 처음 만든 교환 아이디를 돌려준다.
+		Long savedTradeId = idempotencyStore.execute(IdempotencyStore.TRADE, idempotencyKey,
+			idempotencyStore.fingerprint(createTradeRequest, placeDtoJson, imageFile), () -> {
+				PlaceDto placeDto = placeDtoParser.parse(placeDtoJson);
+				if (imageFile != null && !imageFile.isEmpty()) {
+					String imagePath = fileHandler.parseFileInfo(imageFile,"trade");
+					createTradeRequest.setImagePath(imagePath);
+				}
+				return tradeService.create(createTradeRequest, placeDto);
+			});
+		URI uri = URI.create("/api/v1/trades/"+savedTradeId);
+
+		return ResponseEntity.created(uri).build();
+	}
 
+	@ApiOperation(value = "교환 추가 (스트리밍 업로드)", notes = "교환 추가와 같은 폼을 받는다. 이미지를 받아 두지 않고 읽으면서 저장한다.")
+	@ApiResponses({@ApiResponse(code = 201, message = "교환 추가 성공"),
+		@ApiResponse(code = 400, message = "업로드 요청을 읽을 수 없습니다."),
+		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
+		@ApiResponse(code = 403, message = "비활성화 상태 계정입니다."),
+		@ApiResponse(code = 404, message = "존재하지 않는 회원 입니다."),
+		@ApiResponse(code = 409, message = "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요."),
+		@ApiResponse(code = 413, message = "업로드할 수 있는 파일 크기를 넘었습니다."),
+		@ApiResponse(code = 415, message = "지원하지 않는 파일 확장자 입니다."),
+		@ApiResponse(code = 422, message = "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
+		@ApiResponse(code = 500, message = "서버 오류")})
+	@ApiImplicitParam(name = IdempotencyStore.HEADER, value = "재시도해도 한 번만 추가되도록 요청마다 만드는 키 (예: UUID)"
+		, dataType = "string", paramType = "header")
+	@PostMapping(path = "/v1/trades/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<Long> createStreaming(HttpServletRequest request,
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+		// 본문을 읽어야 폼 필드를 알 수 있으므로 이미지는 멱등 키 확인 전에 저장된다. 같은 내용이면 기존 파일을 그대로 쓴다.
+		StreamedMultipart streamedMultipart = multipartStreamReader.read(request, "imageFile", "trade");
+		CreateTradeRequest createTradeRequest = streamedMultipart.bindTo(new CreateTradeRequest());
+		createTradeRequest.setImagePath(streamedMultipart.getImagePath());
+		String placeDtoJson = streamedMultipart.getField("placeDto");
+		Long savedTradeId = idempotencyStore.execute(IdempotencyStore.TRADE, idempotencyKey,
+			idempotencyStore.fingerprint(createTradeRequest, placeDtoJson),
+			() -> tradeService.create(createTradeRequest, placeDtoParser.parse(placeDtoJson)));
+		URI uri = URI.create("/api/v1/trades/"+savedTradeId);
+
+		return ResponseEntity.created(uri).build();
 	}
 
 	@ApiOperation(value = "교환 이미지 디스플레이")
 	@ApiResponses({@ApiResponse(code = 200, message = "교환 이미지 디스플레이 성공"),
+		@ApiResponse(code = 206, message = "요청한 구간 디스플레이 성공"),
+		@ApiResponse(code = 304, message = "변경되지 않은 이미지"),
 		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
 		@ApiResponse(code = 403, message = "비활성화 상태 계정입니다."),
 		@ApiResponse(code = 404, message = "파일 경로를 찾을 수 없습니다."),
+		@ApiResponse(code = 416, message = "요청한 구간이 파일 범위를 벗어났습니다."),
 		@ApiResponse(code = 500, message = "서버 오류")})
 	@ApiImplicitParam(name = "image_name", required = true
 		, dataType = "string", paramType = "path"
 		, defaultValue = "src/main/resources/static/images/trade/23110916241318_카카오 로고 Yellow.png")
-	@GetMapping("/images/trade/{imageName}")
-	public ResponseEntity<UrlResource> showImage(@PathVariable String imageName) {
-		try {
-			Path file = rootLocation.resolve(imageName);
-			UrlResource resource = new UrlResource(file.toUri());
-			return ResponseEntity.ok().body(resource);
-		} catch (MalformedURLException e) {
+	@GetMapping({"/images/trade/{imageName}", "/images/trade/{firstShard}/{secondShard}/{imageName}"})
+	public void showImage(@PathVariable(required = false) String firstShard,
+		@PathVariable(required = false) String secondShard, @PathVariable String imageName,
+		HttpServletRequest request, HttpServletResponse response) throws IOException {
+		// 내용 주소로 저장한 이미지는 해시 앞 두 바이트로 나눈 디렉토리에 있다. (FileHandler)
+		Path directory = firstShard == null ? rootLocation
+			: rootLocation.resolve(shard(firstShard)).resolve(shard(secondShard));
+		Path file = directory.resolve(imageName).normalize();
+		if (!file.startsWith(rootLocation) || !imageResponseWriter.write(file, request, response)) {
 			throw new BusinessException(TradeErrorCode.NOT_FOUND_FILE_PATH);
 		}
 	}
@@ -154,6 +244,11 @@ public class TradeController {
 
 		return ResponseEntity.ok(findAllTradesByStateResponse);
 	}
-}
-
 
+	private String shard(String shard) {
+		if (shard == null || !shard.matches("[0-9a-f]{2}")) {
+			throw new BusinessException(TradeErrorCode.NOT_FOUND_FILE_PATH);
+		}
+		return shard;
+	}
+}
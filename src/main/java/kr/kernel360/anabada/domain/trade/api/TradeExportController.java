@@ -0,0 +1,60 @@
+package kr.kernel360.anabada.domain.trade.api;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import kr.kernel360.anabada.domain.place.dto.PlaceDto;
+import kr.kernel360.anabada.domain.trade.dto.TradeExportFormat;
+import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
+import kr.kernel360.anabada.domain.trade.service.TradeExportService;
+import lombok.RequiredArgsConstructor;
+
+@Api(tags = "교환 내보내기 API", description = "/api/v1/trades/export")
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class TradeExportController {
+	private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+	private final TradeExportService tradeExportService;
+	private final PlaceDtoParser placeDtoParser;
+
+	@ApiOperation(value = "조건에 따른 모든 교환 내보내기 -- 사용할 수 있는 조건 : 제목, 작성자, 교환 타입, 카테고리 아이디")
+	@ApiResponses({@ApiResponse(code = 200, message = "교환 내보내기 성공"),
+		@ApiResponse(code = 400, message = "지원하지 않는 내보내기 형식 입니다."),
+		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
+		@ApiResponse(code = 500, message = "서버 오류")})
+	@ApiImplicitParams({
+		@ApiImplicitParam(name = "format", value = "내보내기 형식 (csv, ndjson)"
+			, dataType = "string", paramType = "query", defaultValue = "csv")})
+	@Secured("ROLE_ADMIN")
+	@GetMapping("/v1/trades/export")
+	public ResponseEntity<StreamingResponseBody> export(TradeSearchCondition tradeSearchCondition,
+		@RequestParam(value = "placeDto", required = false) String placeDtoJson,
+		@RequestParam(value = "format", defaultValue = "csv") String format) {
+		TradeExportFormat exportFormat = TradeExportFormat.from(format);
+		PlaceDto placeDto = placeDtoParser.parse(placeDtoJson);
+		String fileName = "trades-" + LocalDateTime.now().format(FILE_NAME_FORMAT) + "." + exportFormat.getExtension();
+
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+			.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+			.body(tradeExportService.export(tradeSearchCondition, placeDto, exportFormat));
+	}
+}
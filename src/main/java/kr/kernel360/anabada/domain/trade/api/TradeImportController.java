@@ -0,0 +1,55 @@
+package kr.kernel360.anabada.domain.trade.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import kr.kernel360.anabada.domain.trade.dto.ImportTradeResponse;
+import kr.kernel360.anabada.domain.trade.dto.TradeImportFormat;
+import kr.kernel360.anabada.domain.trade.service.TradeImportService;
+import kr.kernel360.anabada.global.error.code.TradeErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+
+@Api(tags = "교환 가져오기 API", description = "/api/v1/trades/import")
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class TradeImportController {
+	private final TradeImportService tradeImportService;
+
+	@ApiOperation(value = "파일로 교환 여러 개 추가 -- 헤더/필드 : title, content, tradeType, categoryId, imagePath, state, city, address1, x, y")
+	@ApiResponses({@ApiResponse(code = 200, message = "교환 가져오기 성공 (실패한 행은 failures 에 담긴다)"),
+		@ApiResponse(code = 400, message = "지원하지 않는 가져오기 형식 입니다. \t\n 교환 파일을 읽을 수 없습니다."),
+		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
+		@ApiResponse(code = 500, message = "서버 오류")})
+	@ApiImplicitParams({
+		@ApiImplicitParam(name = "format", value = "파일 형식 (csv, ndjson)"
+			, dataType = "string", paramType = "query", defaultValue = "csv")})
+	@Secured("ROLE_ADMIN")
+	@PostMapping(value = "/v1/trades/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<ImportTradeResponse> importTrades(@RequestPart("file") MultipartFile file,
+		@RequestParam(value = "format", defaultValue = "csv") String format) {
+		TradeImportFormat importFormat = TradeImportFormat.from(format);
+		try (InputStream inputStream = file.getInputStream()) {
+			return ResponseEntity.ok(tradeImportService.importTrades(inputStream, importFormat));
+		} catch (IOException e) {
+			throw new BusinessException(TradeErrorCode.INVALID_IMPORT_FILE);
+		}
+	}
+}
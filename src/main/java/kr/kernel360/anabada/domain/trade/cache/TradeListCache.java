@@ -0,0 +1,202 @@
+package kr.kernel360.anabada.domain.trade.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kernel360.anabada.domain.place.dto.PlaceDto;
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.trade.dto.FindTradeDto;
+import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
+import kr.kernel360.anabada.domain.trade.entity.Trade;
+import kr.kernel360.anabada.global.cache.CountCache;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 교환 목록 응답 캐시 (Redis)
+ * 각 항목의 키에는 (카테고리, 교환 타입, 지역) 범위의 세대 번호가 들어간다. 조건이 없는 축은 "*" 로 둔다.
+ * 교환이 생성/수락되면 그 교환이 보일 수 있는 범위 8 개의 세대만 올린다. 이전 세대 항목은 더 읽히지 않고 TTL 로 사라진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TradeListCache {
+	private static final String KEY_PREFIX = "tradeList:";
+	private static final String GENERATION_PREFIX = "tradeList:generation:";
+	private static final String ANY = "*";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Value("${anabada.trade-list-cache.ttl-seconds:60}")
+	private long ttlSeconds;
+
+	@Value("${anabada.trade-list-cache.max-page:3}")
+	private int maxPage;
+
+	public Optional<Page<FindTradeDto>> find(TradeSearchCondition tradeSearchCondition, PlaceDto placeDto,
+		Pageable pageable) {
+		if (!isCacheable(pageable)) {
+			return Optional.empty();
+		}
+		try {
+			String cached = redisTemplate.opsForValue().get(keyOf(tradeSearchCondition, placeDto, pageable));
+			if (cached == null) {
+				return Optional.empty();
+			}
+			CachedPage cachedPage = objectMapper.readValue(cached, CachedPage.class);
+			return Optional.of(new PageImpl<>(cachedPage.getContent(), pageable, cachedPage.getTotal()));
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("trade list cache read failed: {}", e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	public void put(TradeSearchCondition tradeSearchCondition, PlaceDto placeDto, Pageable pageable,
+		Page<FindTradeDto> trades) {
+		if (!isCacheable(pageable)) {
+			return;
+		}
+		try {
+			String value = objectMapper.writeValueAsString(new CachedPage(trades.getContent(), trades.getTotalElements()));
+			redisTemplate.opsForValue().set(keyOf(tradeSearchCondition, placeDto, pageable), value,
+				Duration.ofSeconds(ttlSeconds));
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("trade list cache write failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 해당 교환이 보일 수 있는 목록만 무효화한다. 트랜잭션 안이면 커밋 이후에 무효화한다.
+	 */
+	public void evict(Trade trade) {
+		String categoryId = trade.getCategory() != null ? String.valueOf(trade.getCategory().getId()) : null;
+		String tradeType = trade.getTradeType() != null ? trade.getTradeType().name() : null;
+		String place = trade.getPlace() != null ? placeValue(trade.getPlace()) : null;
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evict(categoryId, tradeType, place);
+				}
+			});
+			return;
+		}
+		evict(categoryId, tradeType, place);
+	}
+
+	/**
+	 * 세대 키는 마지막으로 올린 뒤 항목 TTL 의 두 배 동안 남긴다.
+	 * 세대 키가 사라져 0 으로 돌아가도 그 전에 0 세대로 넣은 항목은 이미 만료되었다.
+	 */
+	private void evict(String categoryId, String tradeType, String place) {
+		Duration generationTtl = Duration.ofSeconds(ttlSeconds).multipliedBy(2);
+		try {
+			for (String category : scopeValues(categoryId)) {
+				for (String type : scopeValues(tradeType)) {
+					for (String scopePlace : scopeValues(place)) {
+						String generationKey = generationKey(category, type, scopePlace);
+						redisTemplate.opsForValue().increment(generationKey);
+						redisTemplate.expire(generationKey, generationTtl);
+					}
+				}
+			}
+		} catch (DataAccessException e) {
+			log.warn("trade list cache evict failed: {}", e.getMessage());
+		}
+	}
+
+	private Set<String> scopeValues(String value) {
+		Set<String> values = new LinkedHashSet<>();
+		values.add(ANY);
+		if (value != null) {
+			values.add(value);
+		}
+		return values;
+	}
+
+	private boolean isCacheable(Pageable pageable) {
+		return pageable.getPageNumber() < maxPage;
+	}
+
+	private String keyOf(TradeSearchCondition tradeSearchCondition, PlaceDto placeDto, Pageable pageable) {
+		String condition = CountCache.keyOf(
+			tradeSearchCondition.getTradeType(),
+			tradeSearchCondition.getCategoryId(),
+			tradeSearchCondition.getCreatedBy(),
+			tradeSearchCondition.getTitle(),
+			placeDto != null ? placeDto.getState() : null,
+			placeDto != null ? placeDto.getCity() : null,
+			placeDto != null ? placeDto.getAddress1() : null,
+			tradeSearchCondition.getX(),
+			tradeSearchCondition.getY(),
+			tradeSearchCondition.getRadiusKm(),
+			tradeSearchCondition.getSort(),
+			pageable.getPageNumber(),
+			pageable.getPageSize()
+		);
+		String generation = redisTemplate.opsForValue().get(generationKey(
+			categoryScope(tradeSearchCondition.getCategoryId()),
+			tradeTypeScope(tradeSearchCondition.getTradeType()),
+			placeScope(placeDto)));
+		return KEY_PREFIX + DigestUtils.md5DigestAsHex(condition.getBytes(StandardCharsets.UTF_8))
+			+ ":" + (generation != null ? generation : "0");
+	}
+
+	private String generationKey(String categoryId, String tradeType, String place) {
+		return GENERATION_PREFIX + "category:" + categoryId + "|tradeType:" + tradeType + "|place:" + place;
+	}
+
+	private String categoryScope(Long categoryId) {
+		return categoryId != null ? String.valueOf(categoryId) : ANY;
+	}
+
+	private String tradeTypeScope(String tradeType) {
+		return tradeType != null && !tradeType.isBlank() ? tradeType : ANY;
+	}
+
+	private String placeScope(PlaceDto placeDto) {
+		if (placeDto == null) {
+			return ANY;
+		}
+		return placeValue(placeDto.getState(), placeDto.getCity(), placeDto.getAddress1());
+	}
+
+	private String placeValue(Place place) {
+		return placeValue(place.getState(), place.getCity(), place.getAddress1());
+	}
+
+	private String placeValue(String state, String city, String address1) {
+		return CountCache.keyOf(state, city, address1);
+	}
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	private static class CachedPage {
+		private List<FindTradeDto> content;
+		private long total;
+	}
+}
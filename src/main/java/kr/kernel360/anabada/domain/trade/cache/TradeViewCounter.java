@@ -0,0 +1,96 @@
+package kr.kernel360.anabada.domain.trade.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import kr.kernel360.anabada.domain.trade.repository.TradeSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 교환 조회수 write-behind 카운터
+ * 조회마다 UPDATE 하지 않고 교환별 LongAdder 에 모아 두었다가 flush 주기마다 배치 UPDATE 한 번으로 반영한다.
+ * 조회수는 DB 값 + 아직 반영되지 않은 증가분이고, 비정상 종료 시 최대 flush 주기만큼의 증가분을 잃는다.
+ */
+@Slf4j
+@Component
+public class TradeViewCounter {
+	private final TradeSummaryRepository tradeSummaryRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	private final Map<Long, PendingViews> pendingViews = new ConcurrentHashMap<>();
+
+	public TradeViewCounter(TradeSummaryRepository tradeSummaryRepository,
+		PlatformTransactionManager transactionManager) {
+		this.tradeSummaryRepository = tradeSummaryRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	public void increase(Long tradeId) {
+		pendingViews.computeIfAbsent(tradeId, key -> new PendingViews()).views.increment();
+	}
+
+	/** 아직 DB 에 반영되지 않은 조회수 **/
+	public long pendingOf(Long tradeId) {
+		PendingViews pending = pendingViews.get(tradeId);
+		return pending == null ? 0L : pending.pending();
+	}
+
+	/**
+	 * 반영에 실패하면 증가분을 그대로 두고 다음 주기에 다시 시도한다.
+	 * 이번 주기에 증가분이 없던 교환은 맵에서 지운다.
+	 */
+	@Scheduled(fixedDelayString = "${anabada.trade-view.flush-interval-ms:5000}")
+	public synchronized void flush() {
+		Map<Long, Long> viewCounts = new HashMap<>();
+		pendingViews.forEach((tradeId, pending) -> {
+			long count = pending.pending();
+			if (count > 0) {
+				viewCounts.put(tradeId, count);
+			} else if (pendingViews.remove(tradeId, pending)) {
+				// 지우는 사이에 들어온 조회수는 새 항목으로 옮긴다.
+				long late = pending.pending();
+				if (late > 0) {
+					pendingViews.computeIfAbsent(tradeId, key -> new PendingViews()).views.add(late);
+				}
+			}
+		});
+		if (viewCounts.isEmpty()) {
+			return;
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> tradeSummaryRepository.increaseViewCounts(viewCounts));
+		} catch (DataAccessException | TransactionException e) {
+			log.warn("trade view count flush failed. trades={}, cause={}", viewCounts.size(), e.getMessage());
+			return;
+		}
+		viewCounts.forEach((tradeId, count) -> pendingViews.get(tradeId).flushed += count);
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	private static final class PendingViews {
+		private final LongAdder views = new LongAdder();
+		private volatile long flushed;
+
+		private long pending() {
+			return views.sum() - flushed;
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package kr.kernel360.anabada.domain.trade.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDto {
+	@ApiModelProperty(value = "검색 조건 값", example = "TRADE")
+	private String key;
+
+	@ApiModelProperty(value = "표시 이름", example = "바꿔요")
+	private String name;
+
+	@ApiModelProperty(value = "교환 수", example = "12")
+	private Long count;
+}
@@ -1,9 +1,12 @@
 package kr.kernel360.anabada.domain.trade.dto;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import io.swagger.annotations.ApiModelProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,12 +14,42 @@ import lombok.Getter;
 @Getter
 @Builder
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class FindAllTradeResponse {
-	private Page<FindTradeDto> trades;
+	private Slice<FindTradeDto> trades;
 
-	public static FindAllTradeResponse of(Page<FindTradeDto> trades) {
+	@ApiModelProperty(value = "다음 페이지 존재 여부 (커서 조회)", example = "true")
+	private Boolean hasNext;
+
+	@ApiModelProperty(value = "다음 페이지 조회 커서 (커서 조회)", example = "QkVGT1JFX0FDQ0VQVHwyMDIzLTExLTA5VDE2OjI0OjEzfDEy")
+	private String nextCursor;
+
+	@ApiModelProperty(value = "교환 타입, 카테고리, 시/도별 교환 수 (facets 조회)")
+	private TradeFacetsDto facets;
+
+	@ApiModelProperty(value = "전체 개수가 상한(10,000)을 넘어 근사값인지 여부 (true 이면 \"10,000+\" 로 표시)", example = "false")
+	private Boolean totalApproximate;
+
+	public static FindAllTradeResponse of(Page<FindTradeDto> trades, boolean totalApproximate) {
+		return FindAllTradeResponse.builder()
+			.trades(trades)
+			.totalApproximate(totalApproximate)
+			.build();
+	}
+
+	public static FindAllTradeResponse of(Page<FindTradeDto> trades, TradeFacetsDto facets, boolean totalApproximate) {
+		return FindAllTradeResponse.builder()
+			.trades(trades)
+			.facets(facets)
+			.totalApproximate(totalApproximate)
+			.build();
+	}
+
+	public static FindAllTradeResponse of(Slice<FindTradeDto> trades, String nextCursor) {
 		return FindAllTradeResponse.builder()
 			.trades(trades)
+			.hasNext(trades.hasNext())
+			.nextCursor(nextCursor)
 			.build();
 	}
 }
@@ -0,0 +1,45 @@
+package kr.kernel360.anabada.domain.trade.dto;
+
+import java.time.LocalDateTime;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import lombok.Getter;
+
+/**
+ * 교환 단건 조회 결과(반영된 조회수 포함)와, 조회한 회원 기준의 작성자 여부/교환 요청 여부를 한 번에 담는다.
+ */
+@Getter
+public class FindTradeDetailDto {
+	private final FindTradeDto findTradeDto;
+	private final Long ownerId;
+	private final String ownerEmail;
+	private final Long offerCount;
+
+	@QueryProjection
+	public FindTradeDetailDto(Long tradeId, TradeType tradeType, TradeStatus tradeStatus, DeletedStatus deletedStatus,
+		String categoryName, String tradeTitle, String nickname, LocalDateTime createdDate, String content,
+		String imagePath, String thumbnailPath, String mediumPath, String normalizedPath, Long ownerId, String ownerEmail,
+		Long offerCount, Long viewCount) {
+		this.findTradeDto = new FindTradeDto(tradeId, tradeType, tradeStatus, deletedStatus, categoryName, tradeTitle,
+			nickname, createdDate, content, imagePath);
+		this.findTradeDto.setThumbnailPath(thumbnailPath);
+		this.findTradeDto.setMediumPath(mediumPath);
+		this.findTradeDto.setNormalizedPath(normalizedPath);
+		this.findTradeDto.setViewCount(viewCount == null ? 0L : viewCount);
+		this.ownerId = ownerId;
+		this.ownerEmail = ownerEmail;
+		this.offerCount = offerCount;
+	}
+
+	public boolean isTradeOwner(String email) {
+		return ownerEmail != null && ownerEmail.equals(email);
+	}
+
+	public boolean isTradeOffer() {
+		return offerCount != null && offerCount > 0;
+	}
+}
@@ -2,6 +2,7 @@ package kr.kernel360.anabada.domain.trade.dto;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.querydsl.core.annotations.QueryProjection;
 
 import io.swagger.annotations.ApiModelProperty;
@@ -49,14 +50,40 @@ public class FindTradeDto {
 		, example = "'src/main/resources/static/images/trade/23110916241318_카카오 로고 Yellow.png'")
 	private String imagePath;
 
+	@ApiModelProperty(value = "썸네일 이미지 경로(변환 전이면 null)"
+		, example = "'/images/trade/23110916241318_카카오 로고 Yellow_thumb.jpg'")
+	private String thumbnailPath;
+
+	@ApiModelProperty(value = "중간 크기 이미지 경로(변환 전이면 null)"
+		, example = "'/images/trade/23110916241318_카카오 로고 Yellow_medium.jpg'")
+	private String mediumPath;
+
+	@ApiModelProperty(value = "원본 크기, EXIF 를 지운 이미지 경로(변환 전이면 null)"
+		, example = "'/images/trade/23110916241318_카카오 로고 Yellow_normalized.png'")
+	private String normalizedPath;
+
 	@ApiModelProperty(value = "교환 요청 작성자", example = "가을전어이윤선")
 	private String tradeOfferCreatedBy;
 
+	@ApiModelProperty(value = "조회수", example = "12")
+	private Long viewCount;
+
+	@JsonIgnore
+	private LocalDateTime createdDateTime;
+
 	@QueryProjection
 	@Builder
 	public FindTradeDto(Long tradeId, TradeType tradeType, TradeStatus tradeStatus, DeletedStatus deletedStatus,
 		String categoryName, String tradeTitle, String nickname,
 		LocalDateTime createdDate, String tradeOfferCreatedBy) {
+		this(tradeId, tradeType, tradeStatus, deletedStatus, categoryName, tradeTitle, nickname, createdDate,
+			tradeOfferCreatedBy, 0L, null);
+	}
+
+	@QueryProjection
+	public FindTradeDto(Long tradeId, TradeType tradeType, TradeStatus tradeStatus, DeletedStatus deletedStatus,
+		String categoryName, String tradeTitle, String nickname,
+		LocalDateTime createdDate, String tradeOfferCreatedBy, Long viewCount, String thumbnailPath) {
 		this.tradeId = tradeId;
 		this.tradeType = tradeType;
 		this.tradeStatus = tradeStatus;
@@ -65,7 +92,10 @@ public class FindTradeDto {
 		this.tradeTitle = tradeTitle;
 		this.nickname = nickname;
 		this.createdDate = DateParser.dateToString(createdDate);
+		this.createdDateTime = createdDate;
 		this.tradeOfferCreatedBy = tradeOfferCreatedBy;
+		this.viewCount = viewCount;
+		this.thumbnailPath = thumbnailPath;
 	}
 
 	@QueryProjection
@@ -0,0 +1,37 @@
+package kr.kernel360.anabada.domain.trade.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+import kr.kernel360.anabada.domain.comment.dto.FindAllCommentResponse;
+import kr.kernel360.anabada.domain.tradeoffer.dto.FindAllTradeOfferResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FindTradePageResponse {
+	@ApiModelProperty(value = "교환")
+	private FindTradeResponse trade;
+
+	@ApiModelProperty(value = "댓글 (제한 시간을 넘기면 null)")
+	private FindAllCommentResponse comments;
+
+	@ApiModelProperty(value = "교환 요청 (제한 시간을 넘기면 null)")
+	private FindAllTradeOfferResponse tradeOffers;
+
+	@ApiModelProperty(value = "제한 시간을 넘겨 비어 있는 항목", example = "[\"comments\"]")
+	private List<String> timedOutSections;
+
+	public static FindTradePageResponse of(FindTradeResponse trade, FindAllCommentResponse comments,
+		FindAllTradeOfferResponse tradeOffers, List<String> timedOutSections) {
+		return FindTradePageResponse.builder()
+			.trade(trade)
+			.comments(comments)
+			.tradeOffers(tradeOffers)
+			.timedOutSections(timedOutSections)
+			.build();
+	}
+}
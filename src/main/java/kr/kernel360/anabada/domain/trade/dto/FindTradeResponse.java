@@ -47,6 +47,21 @@ public class FindTradeResponse {
 		, example = "'src/main/resources/static/images/trade/23110916241318_카카오 로고 Yellow.png'")
 	private String imagePath;
 
+	@ApiModelProperty(value = "썸네일 이미지 경로(변환 전이면 null)"
+		, example = "'/images/trade/23110916241318_카카오 로고 Yellow_thumb.jpg'")
+	private String thumbnailPath;
+
+	@ApiModelProperty(value = "중간 크기 이미지 경로(변환 전이면 null)"
+		, example = "'/images/trade/23110916241318_카카오 로고 Yellow_medium.jpg'")
+	private String mediumPath;
+
+	@ApiModelProperty(value = "원본 크기, EXIF 를 지운 이미지 경로(변환 전이면 null)"
+		, example = "'/images/trade/23110916241318_카카오 로고 Yellow_normalized.png'")
+	private String normalizedPath;
+
+	@ApiModelProperty(value = "조회수", example = "12")
+	private Long viewCount;
+
 	@ApiModelProperty(value = "교환 작성자 확인", example = "true")
 	private Boolean isTradeOwner;
 
@@ -65,6 +80,10 @@ public class FindTradeResponse {
 			.createdDate(findTradeDto.getCreatedDate())
 			.content(findTradeDto.getContent())
 			.imagePath(findTradeDto.getImagePath())
+			.thumbnailPath(findTradeDto.getThumbnailPath())
+			.mediumPath(findTradeDto.getMediumPath())
+			.normalizedPath(findTradeDto.getNormalizedPath())
+			.viewCount(findTradeDto.getViewCount())
 			.build();
 	}
 }
@@ -0,0 +1,15 @@
+package kr.kernel360.anabada.domain.trade.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class ImportTradeFailure {
+	@ApiModelProperty(value = "파일의 줄 번호", example = "12")
+	private long line;
+
+	@ApiModelProperty(value = "실패 이유", example = "존재하지 않는 카테고리 입니다.")
+	private String reason;
+}
@@ -0,0 +1,30 @@
+package kr.kernel360.anabada.domain.trade.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ImportTradeResponse {
+	@ApiModelProperty(value = "추가된 교환 수", example = "9998")
+	private long importedCount;
+
+	@ApiModelProperty(value = "실패한 행 수", example = "2")
+	private long failedCount;
+
+	@ApiModelProperty(value = "실패한 행 (최대 1000개)")
+	private List<ImportTradeFailure> failures;
+
+	public static ImportTradeResponse of(long importedCount, long failedCount, List<ImportTradeFailure> failures) {
+		return ImportTradeResponse.builder()
+			.importedCount(importedCount)
+			.failedCount(failedCount)
+			.failures(failures)
+			.build();
+	}
+}
@@ -0,0 +1,59 @@
+package kr.kernel360.anabada.domain.trade.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import kr.kernel360.anabada.domain.place.dto.PlaceDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 가져오기 파일의 교환 한 행 (csv 헤더 / ndjson 필드 이름이 같다)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ImportTradeRow {
+	private String title;
+	private String content;
+	private String tradeType;
+	private Long categoryId;
+	private String imagePath;
+	private String state;
+	private String city;
+	private String address1;
+	private Double x;
+	private Double y;
+
+	/** 파일에서 행이 시작하는 줄 번호 **/
+	private long line;
+
+	/** 행을 읽지 못한 이유 (읽었으면 null) **/
+	private String invalidReason;
+
+	public static ImportTradeRow invalid(long line, String invalidReason) {
+		return ImportTradeRow.builder()
+			.line(line)
+			.invalidReason(invalidReason)
+			.build();
+	}
+
+	public boolean hasPlace() {
+		return state != null && !state.isBlank();
+	}
+
+	public PlaceDto toPlaceDto() {
+		return PlaceDto.builder()
+			.state(state)
+			.city(city)
+			.address1(address1)
+			.x(x)
+			.y(y)
+			.build();
+	}
+}
@@ -0,0 +1,54 @@
+package kr.kernel360.anabada.domain.trade.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import kr.kernel360.anabada.global.commons.domain.TradeStatus;
+import kr.kernel360.anabada.global.error.code.TradeErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 교환 목록 커서 페이지네이션의 마지막 위치 (tradeStatus, createdDate, tradeId)
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 토큰으로만 전달한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TradeCursor {
+	private static final String DELIMITER = "|";
+
+	private final TradeStatus tradeStatus;
+	private final LocalDateTime createdDate;
+	private final Long tradeId;
+
+	public static TradeCursor of(FindTradeDto findTradeDto) {
+		return new TradeCursor(findTradeDto.getTradeStatus(), findTradeDto.getCreatedDateTime(),
+			findTradeDto.getTradeId());
+	}
+
+	public static TradeCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] values = decoded.split("\\" + DELIMITER);
+			if (values.length != 3) {
+				throw new BusinessException(TradeErrorCode.INVALID_CURSOR);
+			}
+			return new TradeCursor(TradeStatus.valueOf(values[0]), LocalDateTime.parse(values[1]),
+				Long.valueOf(values[2]));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new BusinessException(TradeErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public String encode() {
+		String raw = tradeStatus.name() + DELIMITER + createdDate + DELIMITER + tradeId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
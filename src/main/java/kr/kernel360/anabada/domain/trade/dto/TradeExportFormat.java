@@ -0,0 +1,34 @@
+package kr.kernel360.anabada.domain.trade.dto;
+
+import java.util.Arrays;
+
+import kr.kernel360.anabada.global.error.code.TradeErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+
+public enum TradeExportFormat {
+	CSV("text/csv;charset=UTF-8", "csv"),
+	NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+	private final String contentType;
+	private final String extension;
+
+	TradeExportFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	public static TradeExportFormat from(String format) {
+		return Arrays.stream(values())
+			.filter(value -> value.extension.equalsIgnoreCase(format))
+			.findFirst()
+			.orElseThrow(() -> new BusinessException(TradeErrorCode.INVALID_EXPORT_FORMAT));
+	}
+}
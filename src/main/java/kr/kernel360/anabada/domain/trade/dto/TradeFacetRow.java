@@ -0,0 +1,26 @@
+package kr.kernel360.anabada.domain.trade.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TradeFacetRow {
+	private TradeType tradeType;
+	private Long categoryId;
+	private String categoryName;
+	private String state;
+	private Long count;
+
+	@QueryProjection
+	public TradeFacetRow(TradeType tradeType, Long categoryId, String categoryName, String state, Long count) {
+		this.tradeType = tradeType;
+		this.categoryId = categoryId;
+		this.categoryName = categoryName;
+		this.state = state;
+		this.count = count;
+	}
+}
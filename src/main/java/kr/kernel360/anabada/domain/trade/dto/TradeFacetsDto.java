@@ -0,0 +1,73 @@
+package kr.kernel360.anabada.domain.trade.dto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TradeFacetsDto {
+	@ApiModelProperty(value = "교환 타입별 교환 수")
+	private List<FacetCountDto> tradeTypes;
+
+	@ApiModelProperty(value = "카테고리별 교환 수")
+	private List<FacetCountDto> categories;
+
+	@ApiModelProperty(value = "시, 도별 교환 수")
+	private List<FacetCountDto> states;
+
+	/**
+	 * (교환 타입, 카테고리, 시/도) 로 묶은 집계 결과를 각 축별 합계로 펼친다.
+	 */
+	public static TradeFacetsDto of(List<TradeFacetRow> rows) {
+		Map<String, FacetCountDto> tradeTypes = new LinkedHashMap<>();
+		Map<String, FacetCountDto> categories = new LinkedHashMap<>();
+		Map<String, FacetCountDto> states = new LinkedHashMap<>();
+
+		for (TradeFacetRow row : rows) {
+			if (row.getTradeType() != null) {
+				add(tradeTypes, row.getTradeType().name(), row.getTradeType().getDescription(), row.getCount());
+			}
+			if (row.getCategoryId() != null) {
+				add(categories, String.valueOf(row.getCategoryId()), row.getCategoryName(), row.getCount());
+			}
+			if (row.getState() != null) {
+				add(states, row.getState(), row.getState(), row.getCount());
+			}
+		}
+
+		return TradeFacetsDto.builder()
+			.tradeTypes(sorted(tradeTypes))
+			.categories(sorted(categories))
+			.states(sorted(states))
+			.build();
+	}
+
+	/**
+	 * 교환 타입은 모든 교환에 있으므로 교환 타입별 수의 합이 조건에 맞는 전체 교환 수다.
+	 */
+	public long total() {
+		return tradeTypes.stream().mapToLong(FacetCountDto::getCount).sum();
+	}
+
+	private static void add(Map<String, FacetCountDto> facets, String key, String name, Long count) {
+		facets.merge(key, new FacetCountDto(key, name, count),
+			(previous, current) -> new FacetCountDto(key, name, previous.getCount() + current.getCount()));
+	}
+
+	private static List<FacetCountDto> sorted(Map<String, FacetCountDto> facets) {
+		List<FacetCountDto> result = new ArrayList<>(facets.values());
+		result.sort(Comparator.comparing(FacetCountDto::getCount).reversed());
+		return result;
+	}
+}
@@ -0,0 +1,28 @@
+package kr.kernel360.anabada.domain.trade.dto;
+
+import java.util.Arrays;
+
+import kr.kernel360.anabada.global.error.code.TradeErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+
+public enum TradeImportFormat {
+	CSV("csv"),
+	NDJSON("ndjson");
+
+	private final String extension;
+
+	TradeImportFormat(String extension) {
+		this.extension = extension;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	public static TradeImportFormat from(String format) {
+		return Arrays.stream(values())
+			.filter(value -> value.extension.equalsIgnoreCase(format))
+			.findFirst()
+			.orElseThrow(() -> new BusinessException(TradeErrorCode.INVALID_IMPORT_FORMAT));
+	}
+}
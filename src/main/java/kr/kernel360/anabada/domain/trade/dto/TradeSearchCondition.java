@@ -1,6 +1,9 @@
 package kr.kernel360.anabada.domain.trade.dto;
 
+import java.util.List;
+
 import io.swagger.annotations.ApiModelProperty;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,6 +12,8 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 public class TradeSearchCondition {
+	public static final String VIEW_COUNT_SORT = "VIEWS";
+
 	@ApiModelProperty(value = "교환 제목", example = "[강아지] 드려요. [고양이] 받아요.")
 	private String title;
 
@@ -20,4 +25,44 @@ public class TradeSearchCondition {
 
 	@ApiModelProperty(value = "카테고리 아이디", example = "1")
 	private Long categoryId;
+
+	@ApiModelProperty(value = "경도 (거리순 조회)", example = "127.0557")
+	private Double x;
+
+	@ApiModelProperty(value = "위도 (거리순 조회)", example = "37.5088")
+	private Double y;
+
+	@ApiModelProperty(value = "검색 반경 km (기본 3, 최대 20)", example = "3")
+	private Double radiusKm;
+
+	@ApiModelProperty(value = "정렬 (VIEWS: 조회수순, 생략하면 최신순. 커서 조회에는 적용되지 않음)", example = "VIEWS")
+	private String sort;
+
+	@Setter(AccessLevel.NONE)
+	@ApiModelProperty(hidden = true)
+	private List<Long> titleMatchedTradeIds;
+
+	@Setter(AccessLevel.NONE)
+	@ApiModelProperty(hidden = true)
+	private List<Long> createdByMatchedMemberIds;
+
+	@Setter(AccessLevel.NONE)
+	@ApiModelProperty(hidden = true)
+	private List<Long> nearbyPlaceIds;
+
+	public boolean isViewCountSort() {
+		return VIEW_COUNT_SORT.equalsIgnoreCase(sort);
+	}
+
+	public void applyTitleMatches(List<Long> tradeIds) {
+		this.titleMatchedTradeIds = tradeIds;
+	}
+
+	public void applyCreatedByMatches(List<Long> memberIds) {
+		this.createdByMatchedMemberIds = memberIds;
+	}
+
+	public void applyNearbyPlaces(List<Long> placeIds) {
+		this.nearbyPlaceIds = placeIds;
+	}
 }
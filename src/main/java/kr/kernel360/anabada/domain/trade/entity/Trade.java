@@ -3,6 +3,7 @@ package kr.kernel360.anabada.domain.trade.entity;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -11,11 +12,15 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import kr.kernel360.anabada.domain.category.entity.Category;
 import kr.kernel360.anabada.domain.comment.entity.Comment;
 import kr.kernel360.anabada.domain.member.entity.Member;
@@ -33,7 +38,11 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "trade")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "trade")
+@Table(name = "trade", indexes = {
+	@Index(name = "idx_trade_status_created_date", columnList = "trade_status, created_date, id"),
+	@Index(name = "idx_trade_place_id", columnList = "place_id")})
 public class Trade extends BaseEntity {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -52,6 +61,15 @@ public class Trade extends BaseEntity {
 	@Column(name = "image_path", columnDefinition = "varchar(255)")
 	private String imagePath;
 
+	@Column(name = "thumbnail_path", columnDefinition = "varchar(255)")
+	private String thumbnailPath;
+
+	@Column(name = "medium_path", columnDefinition = "varchar(255)")
+	private String mediumPath;
+
+	@Column(name = "normalized_path", columnDefinition = "varchar(255)")
+	private String normalizedPath;
+
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false, name = "trade_status", columnDefinition = "varchar(20)")
 	private TradeStatus tradeStatus;
@@ -92,6 +110,15 @@ public class Trade extends BaseEntity {
 		this.place = place;
 	}
 
+	/**
+	 * 업로드 이후 비동기로 만들어진 썸네일/중간 크기/정리본(EXIF 제거) 이미지 경로
+	 */
+	public void changeImageVariants(String thumbnailPath, String mediumPath, String normalizedPath) {
+		this.thumbnailPath = thumbnailPath;
+		this.mediumPath = mediumPath;
+		this.normalizedPath = normalizedPath;
+	}
+
 	public void update(TradeStatus tradeStatus) {
 		this.tradeStatus = tradeStatus;
 	}
@@ -0,0 +1,151 @@
+package kr.kernel360.anabada.domain.trade.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 교환 목록 조회용 읽기 모델
+ * 목록에 필요한 카테고리 이름, 작성자/수락된 요청자 닉네임, 지역, 썸네일, 요청/댓글/조회 수를 한 행에 펼쳐 둔다.
+ * TradeSummaryService 가 도메인 이벤트를 받아 갱신한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "trade_summary", indexes = {
+	@Index(name = "idx_trade_summary_status_created_date", columnList = "trade_status, created_date, trade_id"),
+	@Index(name = "idx_trade_summary_place_id", columnList = "place_id"),
+	@Index(name = "idx_trade_summary_category_id", columnList = "category_id"),
+	@Index(name = "idx_trade_summary_member_id", columnList = "member_id"),
+	@Index(name = "idx_trade_summary_accepted_offer_member_id", columnList = "accepted_offer_member_id"),
+	@Index(name = "idx_trade_summary_view_count", columnList = "view_count, trade_id")})
+public class TradeSummary {
+	@Id
+	@Column(name = "trade_id")
+	private Long tradeId;
+
+	@Column(nullable = false, name = "title", columnDefinition = "varchar(255)")
+	private String title;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, name = "trade_type", columnDefinition = "varchar(40)")
+	private TradeType tradeType;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, name = "trade_status", columnDefinition = "varchar(20)")
+	private TradeStatus tradeStatus;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, name = "deleted_status", columnDefinition = "varchar(20)")
+	private DeletedStatus deletedStatus;
+
+	@Column(name = "category_id")
+	private Long categoryId;
+
+	@Column(name = "category_name", columnDefinition = "varchar(50)")
+	private String categoryName;
+
+	@Column(name = "member_id")
+	private Long memberId;
+
+	@Column(name = "owner_nickname", columnDefinition = "varchar(40)")
+	private String ownerNickname;
+
+	@Column(name = "accepted_offer_member_id")
+	private Long acceptedOfferMemberId;
+
+	@Column(name = "accepted_offer_nickname", columnDefinition = "varchar(40)")
+	private String acceptedOfferNickname;
+
+	@Column(name = "place_id")
+	private Long placeId;
+
+	@Column(name = "state", columnDefinition = "varchar(40)")
+	private String state;
+
+	@Column(name = "city", columnDefinition = "varchar(40)")
+	private String city;
+
+	@Column(name = "address1", columnDefinition = "varchar(40)")
+	private String address1;
+
+	@Column(name = "thumbnail_path", columnDefinition = "varchar(255)")
+	private String thumbnailPath;
+
+	@Column(nullable = false, name = "offer_count")
+	private int offerCount;
+
+	@Column(nullable = false, name = "comment_count")
+	private int commentCount;
+
+	@Column(nullable = false, name = "view_count")
+	private long viewCount;
+
+	@Column(nullable = false, name = "created_date", columnDefinition = "datetime")
+	private LocalDateTime createdDate;
+
+	@Builder
+	public TradeSummary(Long tradeId, String title, TradeType tradeType, TradeStatus tradeStatus,
+		DeletedStatus deletedStatus, Long categoryId, String categoryName, Long memberId, String ownerNickname,
+		Long placeId, String state, String city, String address1, String thumbnailPath, LocalDateTime createdDate) {
+		this.tradeId = tradeId;
+		this.title = title;
+		this.tradeType = tradeType;
+		this.tradeStatus = tradeStatus;
+		this.deletedStatus = deletedStatus;
+		this.categoryId = categoryId;
+		this.categoryName = categoryName;
+		this.memberId = memberId;
+		this.ownerNickname = ownerNickname;
+		this.placeId = placeId;
+		this.state = state;
+		this.city = city;
+		this.address1 = address1;
+		this.thumbnailPath = thumbnailPath;
+		this.createdDate = createdDate;
+	}
+
+	public static TradeSummary of(Trade trade) {
+		Place place = trade.getPlace();
+		return TradeSummary.builder()
+			.tradeId(trade.getId())
+			.title(trade.getTitle())
+			.tradeType(trade.getTradeType())
+			.tradeStatus(trade.getTradeStatus())
+			.deletedStatus(trade.getDeletedStatus())
+			.categoryId(trade.getCategory() != null ? trade.getCategory().getId() : null)
+			.categoryName(trade.getCategory() != null ? trade.getCategory().getName() : null)
+			.memberId(trade.getMember() != null ? trade.getMember().getId() : null)
+			.ownerNickname(trade.getMember() != null ? trade.getMember().getNickname() : null)
+			.placeId(place != null ? place.getId() : null)
+			.state(place != null ? place.getState() : null)
+			.city(place != null ? place.getCity() : null)
+			.address1(place != null ? place.getAddress1() : null)
+			.thumbnailPath(trade.getThumbnailPath())
+			.createdDate(trade.getCreatedDate())
+			.build();
+	}
+
+	public void updateOffers(TradeStatus tradeStatus, int offerCount, Long acceptedOfferMemberId,
+		String acceptedOfferNickname) {
+		this.tradeStatus = tradeStatus;
+		this.offerCount = offerCount;
+		this.acceptedOfferMemberId = acceptedOfferMemberId;
+		this.acceptedOfferNickname = acceptedOfferNickname;
+	}
+}
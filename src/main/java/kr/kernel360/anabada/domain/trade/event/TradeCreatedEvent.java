@@ -0,0 +1,27 @@
+package kr.kernel360.anabada.domain.trade.event;
+
+import kr.kernel360.anabada.domain.trade.entity.Trade;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TradeCreatedEvent {
+	private final Long tradeId;
+	private final String title;
+	private final TradeType tradeType;
+	private final Long categoryId;
+	private final Long placeId;
+	private final Long memberId;
+
+	public static TradeCreatedEvent of(Trade trade) {
+		return new TradeCreatedEvent(
+			trade.getId(),
+			trade.getTitle(),
+			trade.getTradeType(),
+			trade.getCategory() != null ? trade.getCategory().getId() : null,
+			trade.getPlace() != null ? trade.getPlace().getId() : null,
+			trade.getMember() != null ? trade.getMember().getId() : null);
+	}
+}
@@ -0,0 +1,15 @@
+package kr.kernel360.anabada.domain.trade.event;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가져오기로 한 번에 추가된 교환들. 배치 트랜잭션마다 한 번 발행한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TradesImportedEvent {
+	private final List<TradeCreatedEvent> trades;
+}
@@ -4,18 +4,34 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.trade.dto.FindTradeDetailDto;
 import kr.kernel360.anabada.domain.trade.dto.FindTradeDto;
 import kr.kernel360.anabada.domain.trade.dto.StateCountDto;
+import kr.kernel360.anabada.domain.trade.dto.TradeCursor;
+import kr.kernel360.anabada.domain.trade.dto.TradeFacetsDto;
 import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
+import kr.kernel360.anabada.domain.trade.entity.Trade;
+import kr.kernel360.anabada.global.search.SearchDocument;
 
 public interface TradeRepositoryCustom {
 	Page<FindTradeDto> findTrades(TradeSearchCondition tradeSearchCondition, Place placeCondition, Pageable pageable);
 
-	FindTradeDto findTrade(Long tradeId);
+	List<FindTradeDto> findTradeContent(TradeSearchCondition tradeSearchCondition, Place placeCondition,
+		Pageable pageable);
 
-	Long countTradeOfferByTradeIdAndEmail(Long tradeId, String email);
+	Slice<FindTradeDto> findTradesByCursor(TradeSearchCondition tradeSearchCondition, Place placeCondition,
+		TradeCursor cursor, int size);
+
+	FindTradeDetailDto findTradeDetail(Long tradeId, String email);
 
 	List<StateCountDto> countTradeByState();
+
+	TradeFacetsDto countTradeFacets(TradeSearchCondition tradeSearchCondition, Place placeCondition);
+
+	List<SearchDocument> findTradeTitles();
+
+	List<Long> insertTrades(List<Trade> trades);
 }
@@ -2,92 +2,146 @@ package kr.kernel360.anabada.domain.trade.repository;
 
 import static kr.kernel360.anabada.domain.category.entity.QCategory.*;
 import static kr.kernel360.anabada.domain.member.entity.QMember.*;
-import static kr.kernel360.anabada.domain.place.entity.QPlace.*;
 import static kr.kernel360.anabada.domain.trade.entity.QTrade.*;
+import static kr.kernel360.anabada.domain.trade.entity.QTradeSummary.*;
 import static kr.kernel360.anabada.domain.tradeoffer.entity.QTradeOffer.*;
 import static org.springframework.util.StringUtils.*;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import kr.kernel360.anabada.domain.member.entity.QMember;
 import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.trade.dto.FindTradeDetailDto;
 import kr.kernel360.anabada.domain.trade.dto.FindTradeDto;
+import kr.kernel360.anabada.domain.trade.dto.QFindTradeDetailDto;
 import kr.kernel360.anabada.domain.trade.dto.QFindTradeDto;
 import kr.kernel360.anabada.domain.trade.dto.QStateCountDto;
+import kr.kernel360.anabada.domain.trade.dto.QTradeFacetRow;
 import kr.kernel360.anabada.domain.trade.dto.StateCountDto;
+import kr.kernel360.anabada.domain.trade.dto.TradeCursor;
+import kr.kernel360.anabada.domain.trade.dto.TradeFacetsDto;
 import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
-import kr.kernel360.anabada.global.commons.domain.TradeOfferStatus;
+import kr.kernel360.anabada.domain.trade.entity.Trade;
+import kr.kernel360.anabada.global.cache.CountCache;
 import kr.kernel360.anabada.global.commons.domain.TradeType;
+import kr.kernel360.anabada.global.query.CappedCountQuery;
+import kr.kernel360.anabada.global.query.PageQueryExecutor;
+import kr.kernel360.anabada.global.search.QSearchDocument;
+import kr.kernel360.anabada.global.search.SearchDocument;
 import kr.kernel360.anabada.global.utils.OrderByNull;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class TradeRepositoryImpl implements TradeRepositoryCustom {
+	private static final String INSERT_TRADE = """
+		INSERT INTO trade (title, content, trade_type, image_path, trade_status, deleted_status,
+			created_by, category_id, place_id, created_date, modified_date)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
 
 	private final JPAQueryFactory queryFactory;
+	private final CountCache countCache;
+	private final PageQueryExecutor pageQueryExecutor;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Override
 	public Page<FindTradeDto> findTrades(TradeSearchCondition tradeSearchCondition, Place placeCondition, Pageable pageable) {
-		List<FindTradeDto> content = queryFactory
-			.select(new QFindTradeDto(
-				trade.id,
-				trade.tradeType,
-				trade.tradeStatus,
-				trade.deletedStatus,
-				category.name,
-				trade.title,
-				trade.member.nickname,
-				trade.createdDate,
-				tradeOffer.member.nickname
-			))
-			.from(trade)
-			.leftJoin(trade.category, category)
-			.leftJoin(trade.member, member)
-			.leftJoin(trade.tradeOffers, tradeOffer)
-			.on(tradeOffer.tradeOfferStatus.eq(TradeOfferStatus.REQUEST_ACCEPTED))
-			.leftJoin(tradeOffer.member, member)
-			.leftJoin(trade.place, place)
-			.where(
-				tradeTypeEq(tradeSearchCondition.getTradeType()),
-				categoryIdEq(tradeSearchCondition.getCategoryId()),
-				tradeCreatedByContain(tradeSearchCondition.getCreatedBy()),
-				tradeTitleContain(tradeSearchCondition.getTitle()),
-				placeEq(placeCondition)
-			)
-			.orderBy(
-				trade.tradeStatus.desc(),
-				trade.createdDate.desc()
-			)
+		String countKey = CountCache.keyOf(
+			tradeSearchCondition.getTradeType(),
+			tradeSearchCondition.getCategoryId(),
+			tradeSearchCondition.getCreatedBy(),
+			tradeSearchCondition.getTitle(),
+			placeCondition != null ? placeCondition.getId() : null,
+			tradeSearchCondition.getX(),
+			tradeSearchCondition.getY(),
+			tradeSearchCondition.getRadiusKm()
+		);
+
+		return pageQueryExecutor.page(CountCache.TRADE, pageable,
+			() -> findTradeContent(tradeSearchCondition, placeCondition, pageable),
+			() -> countCache.count(CountCache.TRADE, countKey,
+				() -> queryFactory
+					.select(tradeSummary.count())
+					.from(tradeSummary)
+					.where(listConditions(tradeSearchCondition, placeCondition))
+					.fetchOne(),
+				() -> cappedListCount(tradeSearchCondition, placeCondition)
+			));
+	}
+
+	/**
+	 * 개수 쿼리 없이 목록만 가져온다. (전체 수를 다른 집계에서 얻는 경우)
+	 */
+	@Override
+	public List<FindTradeDto> findTradeContent(TradeSearchCondition tradeSearchCondition, Place placeCondition,
+		Pageable pageable) {
+		return queryFactory
+			.select(tradeSummaryProjection())
+			.from(tradeSummary)
+			.where(listConditions(tradeSearchCondition, placeCondition))
+			.orderBy(tradeListOrder(tradeSearchCondition))
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
+	}
 
-		Long total = queryFactory
-			.select(trade.count())
-			.from(trade)
-			.leftJoin(trade.member, member)
-			.where(
-				tradeTypeEq(tradeSearchCondition.getTradeType()),
-				categoryIdEq(tradeSearchCondition.getCategoryId()),
-				tradeCreatedByContain(tradeSearchCondition.getCreatedBy()),
-				tradeTitleContain(tradeSearchCondition.getTitle()),
-				placeEq(placeCondition)
+	@Override
+	public Slice<FindTradeDto> findTradesByCursor(TradeSearchCondition tradeSearchCondition, Place placeCondition,
+		TradeCursor cursor, int size) {
+		List<FindTradeDto> content = queryFactory
+			.select(tradeSummaryProjection())
+			.from(tradeSummary)
+			.where(listConditions(tradeSearchCondition, placeCondition))
+			.where(cursorAfter(cursor))
+			.orderBy(
+				tradeSummary.tradeStatus.desc(),
+				tradeSummary.createdDate.desc(),
+				tradeSummary.tradeId.desc()
 			)
-			.fetchOne();
+			.limit(size + 1L)
+			.fetch();
 
-		return new PageImpl<>(content, pageable, total);
+		boolean hasNext = content.size() > size;
+		if (hasNext) {
+			content.remove(size);
+		}
+
+		return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
 	}
 
+	/**
+	 * 교환, 작성자 이메일, 반영된 조회수, 조회한 회원의 교환 요청 수(상관 서브쿼리)를 한 번에 조회한다.
+	 * HQL 은 select 절의 EXISTS 를 지원하지 않으므로 해당 교환의 trade_id 인덱스 범위만 세는 스칼라 서브쿼리를 쓴다.
+	 */
 	@Override
-	public FindTradeDto findTrade(Long tradeId) {
+	public FindTradeDetailDto findTradeDetail(Long tradeId, String email) {
+		QMember offerMember = new QMember("offerMember");
 		return queryFactory
-			.select(new QFindTradeDto(
+			.select(new QFindTradeDetailDto(
 				trade.id,
 				trade.tradeType,
 				trade.tradeStatus,
@@ -97,59 +151,250 @@ public class TradeRepositoryImpl implements TradeRepositoryCustom {
 				member.nickname,
 				trade.createdDate,
 				trade.content,
-				trade.imagePath
+				trade.imagePath,
+				trade.thumbnailPath,
+				trade.mediumPath,
+				trade.normalizedPath,
+				member.id,
+				member.email,
+				JPAExpressions
+					.select(tradeOffer.count())
+					.from(tradeOffer)
+					.join(tradeOffer.member, offerMember)
+					.where(
+						tradeOffer.trade.id.eq(trade.id),
+						offerMember.email.eq(email)
+					),
+				tradeSummary.viewCount
 			))
 			.from(trade)
 			.leftJoin(trade.category, category)
 			.leftJoin(trade.member, member)
+			.leftJoin(tradeSummary).on(tradeSummary.tradeId.eq(trade.id))
 			.where(trade.id.eq(tradeId))
 			.fetchOne();
 	}
 
-	@Override
-	public Long countTradeOfferByTradeIdAndEmail(Long tradeId, String email) {
-		return queryFactory
-			.select(trade.count())
-			.from(trade)
-			.leftJoin(trade.tradeOffers, tradeOffer)
-			.leftJoin(tradeOffer.member, member)
-			.where(
-				tradeOffer.trade.id.eq(tradeId)
-					.and(member.email.in(email))
-			)
-			.fetchOne();
-	}
-
 	@Override
 	public List<StateCountDto> countTradeByState() {
 		return queryFactory
 			.select(new QStateCountDto(
-				trade.place.state,
-				trade.count()
+				tradeSummary.state,
+				tradeSummary.count()
 			))
-				.from(trade)
-				.groupBy(trade.place.state)
+				.from(tradeSummary)
+				.groupBy(tradeSummary.state)
 				.orderBy(OrderByNull.DEFAULT)
 				.fetch();
 	}
 
+	@Override
+	public TradeFacetsDto countTradeFacets(TradeSearchCondition tradeSearchCondition, Place placeCondition) {
+		return TradeFacetsDto.of(queryFactory
+			.select(new QTradeFacetRow(
+				tradeSummary.tradeType,
+				tradeSummary.categoryId,
+				tradeSummary.categoryName,
+				tradeSummary.state,
+				tradeSummary.count()
+			))
+			.from(tradeSummary)
+			.where(listConditions(tradeSearchCondition, placeCondition))
+			.groupBy(tradeSummary.tradeType, tradeSummary.categoryId, tradeSummary.categoryName, tradeSummary.state)
+			.orderBy(OrderByNull.DEFAULT)
+			.fetch());
+	}
+
+	@Override
+	public List<SearchDocument> findTradeTitles() {
+		return queryFactory
+			.select(new QSearchDocument(
+				trade.id,
+				trade.title
+			))
+			.from(trade)
+			.fetch();
+	}
+
+	/**
+	 * 영속성 컨텍스트를 거치지 않고 JDBC 배치 INSERT 한 번으로 넣는다. (IDENTITY 라 Hibernate 배치가 꺼져 있다)
+	 * 드라이버에 rewriteBatchedStatements=true 를 주면 multi-row INSERT 로 바뀐다.
+	 * 생성된 아이디를 넣은 순서대로 돌려준다.
+	 */
+	@Override
+	public List<Long> insertTrades(List<Trade> trades) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Long> tradeIds = jdbcTemplate.execute((ConnectionCallback<List<Long>>)connection -> {
+			try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_TRADE,
+				Statement.RETURN_GENERATED_KEYS)) {
+				for (Trade importedTrade : trades) {
+					preparedStatement.setString(1, importedTrade.getTitle());
+					preparedStatement.setString(2, importedTrade.getContent());
+					preparedStatement.setString(3, importedTrade.getTradeType().name());
+					preparedStatement.setString(4, importedTrade.getImagePath());
+					preparedStatement.setString(5, importedTrade.getTradeStatus().name());
+					preparedStatement.setString(6, importedTrade.getDeletedStatus().name());
+					preparedStatement.setObject(7, importedTrade.getMember().getId(), Types.BIGINT);
+					preparedStatement.setObject(8, importedTrade.getCategory().getId(), Types.BIGINT);
+					preparedStatement.setObject(9,
+						importedTrade.getPlace() != null ? importedTrade.getPlace().getId() : null, Types.BIGINT);
+					preparedStatement.setTimestamp(10, now);
+					preparedStatement.setTimestamp(11, now);
+					preparedStatement.addBatch();
+				}
+				preparedStatement.executeBatch();
+
+				List<Long> generatedIds = new ArrayList<>(trades.size());
+				try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+					while (generatedKeys.next()) {
+						generatedIds.add(generatedKeys.getLong(1));
+					}
+				}
+				return generatedIds;
+			}
+		});
+		if (tradeIds == null || tradeIds.size() != trades.size()) {
+			throw new IncorrectResultSizeDataAccessException(trades.size(), tradeIds == null ? 0 : tradeIds.size());
+		}
+		return tradeIds;
+	}
+
+	/**
+	 * listConditions 와 같은 조건을 네이티브 SQL 로 APPROXIMATE_LIMIT + 1 개까지만 센다.
+	 */
+	private long cappedListCount(TradeSearchCondition tradeSearchCondition, Place placeCondition) {
+		String tradeType = tradeSearchCondition.getTradeType();
+		CappedCountQuery countQuery = CappedCountQuery.from("trade_summary")
+			.eq("trade_type", hasText(tradeType) ? TradeType.valueOf(tradeType).name() : null)
+			.eq("category_id", tradeSearchCondition.getCategoryId())
+			.eq("place_id", placeCondition != null ? placeCondition.getId() : null)
+			.in("place_id", tradeSearchCondition.getNearbyPlaceIds());
+		if (hasText(tradeSearchCondition.getCreatedBy())) {
+			countQuery.in("member_id", tradeSearchCondition.getCreatedByMatchedMemberIds())
+				.contains("owner_nickname", tradeSearchCondition.getCreatedBy());
+		}
+		if (hasText(tradeSearchCondition.getTitle())) {
+			countQuery.in("trade_id", tradeSearchCondition.getTitleMatchedTradeIds())
+				.contains("title", tradeSearchCondition.getTitle());
+		}
+		return countQuery.count(jdbcTemplate, CountCache.APPROXIMATE_LIMIT + 1);
+	}
+
+	private QFindTradeDto tradeSummaryProjection() {
+		return new QFindTradeDto(
+			tradeSummary.tradeId,
+			tradeSummary.tradeType,
+			tradeSummary.tradeStatus,
+			tradeSummary.deletedStatus,
+			tradeSummary.categoryName,
+			tradeSummary.title,
+			tradeSummary.ownerNickname,
+			tradeSummary.createdDate,
+			tradeSummary.acceptedOfferNickname,
+			tradeSummary.viewCount,
+			tradeSummary.thumbnailPath
+		);
+	}
+
+	private BooleanExpression[] listConditions(TradeSearchCondition tradeSearchCondition, Place placeCondition) {
+		return new BooleanExpression[] {
+			tradeTypeEq(tradeSearchCondition.getTradeType()),
+			categoryIdEq(tradeSearchCondition.getCategoryId()),
+			tradeCreatedByContain(tradeSearchCondition),
+			tradeTitleContain(tradeSearchCondition),
+			placeEq(placeCondition),
+			nearbyPlaceIn(tradeSearchCondition)
+		};
+	}
+
 	private BooleanExpression tradeTypeEq(String tradeType) {
-		return hasText(tradeType) ? trade.tradeType.eq(TradeType.valueOf(tradeType)) : null;
+		return hasText(tradeType) ? tradeSummary.tradeType.eq(TradeType.valueOf(tradeType)) : null;
 	}
 
 	private BooleanExpression categoryIdEq(Long categoryId) {
-		return categoryId != null ? trade.category.id.eq(categoryId) : null;
+		return categoryId != null ? tradeSummary.categoryId.eq(categoryId) : null;
+	}
+
+	/**
+	 * 색인으로 고른 아이디는 후보를 줄이는 데만 쓰고, 일치 여부는 항상 LIKE 로 DB 에서 확인한다.
+	 * (색인이 늦게 반영되어 남아 있는 옛 제목/닉네임이 결과에 섞이지 않도록)
+	 */
+	private BooleanExpression tradeTitleContain(TradeSearchCondition tradeSearchCondition) {
+		String title = tradeSearchCondition.getTitle();
+		if (!hasText(title)) {
+			return null;
+		}
+		BooleanExpression titleContains = tradeSummary.title.contains(title);
+		if (tradeSearchCondition.getTitleMatchedTradeIds() != null) {
+			return idIn(tradeSearchCondition.getTitleMatchedTradeIds()).and(titleContains);
+		}
+		return titleContains;
 	}
 
-	private BooleanExpression tradeTitleContain(String title) {
-		return hasText(title) ? trade.title.contains(title) : null;
+	private BooleanExpression tradeCreatedByContain(TradeSearchCondition tradeSearchCondition) {
+		String createdBy = tradeSearchCondition.getCreatedBy();
+		if (!hasText(createdBy)) {
+			return null;
+		}
+		BooleanExpression createdByContains = tradeSummary.ownerNickname.contains(createdBy);
+		if (tradeSearchCondition.getCreatedByMatchedMemberIds() != null) {
+			List<Long> memberIds = tradeSearchCondition.getCreatedByMatchedMemberIds();
+			return memberIds.isEmpty() ? Expressions.FALSE.isTrue()
+				: tradeSummary.memberId.in(memberIds).and(createdByContains);
+		}
+		return createdByContains;
 	}
 
-	private BooleanExpression tradeCreatedByContain(String createdBy) {
-		return hasText(createdBy) ? trade.member.nickname.contains(createdBy) : null;
+	private BooleanExpression idIn(List<Long> tradeIds) {
+		return tradeIds.isEmpty() ? Expressions.FALSE.isTrue() : tradeSummary.tradeId.in(tradeIds);
 	}
 
 	private BooleanExpression placeEq(Place placeCondition) {
-		return placeCondition != null ? trade.place.eq(placeCondition) : null;
+		return placeCondition != null ? tradeSummary.placeId.eq(placeCondition.getId()) : null;
+	}
+
+	private BooleanExpression nearbyPlaceIn(TradeSearchCondition tradeSearchCondition) {
+		List<Long> placeIds = tradeSearchCondition.getNearbyPlaceIds();
+		if (placeIds == null) {
+			return null;
+		}
+		return placeIds.isEmpty() ? Expressions.FALSE.isTrue() : tradeSummary.placeId.in(placeIds);
+	}
+
+	/**
+	 * 거리순 조회이면 가까운 지역(nearbyPlaceIds 순서)부터, 같은 지역 안에서는 기존 정렬을 따른다.
+	 * 조회수순이면 반영된 조회수가 많은 순서, 같으면 최신순이다.
+	 */
+	private OrderSpecifier<?>[] tradeListOrder(TradeSearchCondition tradeSearchCondition) {
+		List<OrderSpecifier<?>> orders = new ArrayList<>();
+		List<Long> placeIds = tradeSearchCondition.getNearbyPlaceIds();
+		if (placeIds != null && !placeIds.isEmpty()) {
+			CaseBuilder.Cases<Integer, NumberExpression<Integer>> distanceRank = new CaseBuilder()
+				.when(tradeSummary.placeId.eq(placeIds.get(0))).then(0);
+			for (int rank = 1; rank < placeIds.size(); rank++) {
+				distanceRank = distanceRank.when(tradeSummary.placeId.eq(placeIds.get(rank))).then(rank);
+			}
+			orders.add(distanceRank.otherwise(placeIds.size()).asc());
+		}
+		if (tradeSearchCondition.isViewCountSort()) {
+			orders.add(tradeSummary.viewCount.desc());
+			orders.add(tradeSummary.createdDate.desc());
+			return orders.toArray(new OrderSpecifier[0]);
+		}
+		orders.add(tradeSummary.tradeStatus.desc());
+		orders.add(tradeSummary.createdDate.desc());
+
+		return orders.toArray(new OrderSpecifier[0]);
+	}
+
+	private BooleanExpression cursorAfter(TradeCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		return tradeSummary.tradeStatus.lt(cursor.getTradeStatus())
+			.or(tradeSummary.tradeStatus.eq(cursor.getTradeStatus())
+				.and(tradeSummary.createdDate.lt(cursor.getCreatedDate())
+					.or(tradeSummary.createdDate.eq(cursor.getCreatedDate())
+						.and(tradeSummary.tradeId.lt(cursor.getTradeId())))));
 	}
 }
@@ -0,0 +1,8 @@
+package kr.kernel360.anabada.domain.trade.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import kr.kernel360.anabada.domain.trade.entity.TradeSummary;
+
+public interface TradeSummaryRepository extends JpaRepository<TradeSummary, Long>, TradeSummaryRepositoryCustom {
+}
@@ -0,0 +1,19 @@
+package kr.kernel360.anabada.domain.trade.repository;
+
+import java.util.Map;
+
+public interface TradeSummaryRepositoryCustom {
+	void refreshOffers(Long tradeId);
+
+	void increaseCommentCount(Long tradeId);
+
+	void updateNickname(Long memberId, String nickname);
+
+	void updateThumbnail(Long tradeId, String thumbnailPath);
+
+	int insertMissingSummaries();
+
+	int insertMissingSummaries(Long fromTradeId, Long toTradeId);
+
+	void increaseViewCounts(Map<Long, Long> viewCounts);
+}
@@ -0,0 +1,157 @@
+package kr.kernel360.anabada.domain.trade.repository;
+
+import static kr.kernel360.anabada.domain.member.entity.QMember.*;
+import static kr.kernel360.anabada.domain.trade.entity.QTrade.*;
+import static kr.kernel360.anabada.domain.trade.entity.QTradeSummary.*;
+import static kr.kernel360.anabada.domain.tradeoffer.entity.QTradeOffer.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeOfferStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeStatus;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TradeSummaryRepositoryImpl implements TradeSummaryRepositoryCustom {
+	// 수락된 요청이 여러 개여도 교환당 한 행만 나오도록 가장 최근(MAX(id)) 수락 요청 하나만 붙인다.
+	private static final String INSERT_MISSING_SUMMARIES = """
+		INSERT INTO trade_summary (trade_id, title, trade_type, trade_status, deleted_status,
+			category_id, category_name, member_id, owner_nickname, accepted_offer_member_id, accepted_offer_nickname,
+			place_id, state, city, address1, thumbnail_path, offer_count, comment_count, created_date)
+		SELECT t.id, t.title, t.trade_type, t.trade_status, t.deleted_status,
+			t.category_id, c.name, t.created_by, m.nickname, ao.created_by, am.nickname,
+			t.place_id, p.state, p.city, p.address1, t.thumbnail_path,
+			(SELECT COUNT(*) FROM trade_offer o WHERE o.trade_id = t.id AND o.deleted_status = 'FALSE'),
+			(SELECT COUNT(*) FROM comment cm WHERE cm.trade_id = t.id),
+			t.created_date
+		FROM trade t
+		LEFT JOIN category c ON c.id = t.category_id
+		LEFT JOIN member m ON m.id = t.created_by
+		LEFT JOIN trade_offer ao ON ao.id = (SELECT MAX(o.id) FROM trade_offer o
+			WHERE o.trade_id = t.id AND o.trade_offer_status = 'REQUEST_ACCEPTED')
+		LEFT JOIN member am ON am.id = ao.created_by
+		LEFT JOIN place p ON p.id = t.place_id
+		WHERE NOT EXISTS (SELECT 1 FROM trade_summary s WHERE s.trade_id = t.id)
+		""";
+	private static final String INCREASE_VIEW_COUNT =
+		"UPDATE trade_summary SET view_count = view_count + ? WHERE trade_id = ?";
+	private static final int VIEW_COUNT_BATCH_SIZE = 500;
+
+	private final JPAQueryFactory queryFactory;
+	private final EntityManager entityManager;
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 교환 요청이 바뀌면 요청 수, 수락된 요청자, 교환 상태를 원본 테이블에서 다시 계산한다.
+	 * 수락된 요청자는 insertMissingSummaries 와 같이 가장 최근 수락 요청으로 고른다.
+	 */
+	@Override
+	public void refreshOffers(Long tradeId) {
+		Long offerCount = queryFactory
+			.select(tradeOffer.count())
+			.from(tradeOffer)
+			.where(
+				tradeOffer.trade.id.eq(tradeId),
+				tradeOffer.deletedStatus.eq(DeletedStatus.FALSE)
+			)
+			.fetchOne();
+		Tuple acceptedOffer = queryFactory
+			.select(member.id, member.nickname)
+			.from(tradeOffer)
+			.join(tradeOffer.member, member)
+			.where(
+				tradeOffer.trade.id.eq(tradeId),
+				tradeOffer.tradeOfferStatus.eq(TradeOfferStatus.REQUEST_ACCEPTED)
+			)
+			.orderBy(tradeOffer.id.desc())
+			.fetchFirst();
+		TradeStatus tradeStatus = queryFactory
+			.select(trade.tradeStatus)
+			.from(trade)
+			.where(trade.id.eq(tradeId))
+			.fetchOne();
+
+		queryFactory
+			.update(tradeSummary)
+			.set(tradeSummary.offerCount, offerCount == null ? 0 : offerCount.intValue())
+			.set(tradeSummary.acceptedOfferMemberId, acceptedOffer != null ? acceptedOffer.get(member.id) : null)
+			.set(tradeSummary.acceptedOfferNickname, acceptedOffer != null ? acceptedOffer.get(member.nickname) : null)
+			.set(tradeSummary.tradeStatus, tradeStatus)
+			.where(tradeSummary.tradeId.eq(tradeId))
+			.execute();
+	}
+
+	@Override
+	public void increaseCommentCount(Long tradeId) {
+		queryFactory
+			.update(tradeSummary)
+			.set(tradeSummary.commentCount, tradeSummary.commentCount.add(1))
+			.where(tradeSummary.tradeId.eq(tradeId))
+			.execute();
+	}
+
+	@Override
+	public void updateNickname(Long memberId, String nickname) {
+		queryFactory
+			.update(tradeSummary)
+			.set(tradeSummary.ownerNickname, nickname)
+			.where(tradeSummary.memberId.eq(memberId))
+			.execute();
+		queryFactory
+			.update(tradeSummary)
+			.set(tradeSummary.acceptedOfferNickname, nickname)
+			.where(tradeSummary.acceptedOfferMemberId.eq(memberId))
+			.execute();
+	}
+
+	@Override
+	public void updateThumbnail(Long tradeId, String thumbnailPath) {
+		queryFactory
+			.update(tradeSummary)
+			.set(tradeSummary.thumbnailPath, thumbnailPath)
+			.where(tradeSummary.tradeId.eq(tradeId))
+			.execute();
+	}
+
+	/**
+	 * 읽기 모델이 없는 교환을 INSERT ... SELECT 한 번으로 채운다.
+	 */
+	@Override
+	public int insertMissingSummaries() {
+		return entityManager.createNativeQuery(INSERT_MISSING_SUMMARIES).executeUpdate();
+	}
+
+	/**
+	 * 가져오기 배치로 추가된 아이디 범위만 채운다.
+	 * Hibernate native query 는 2차 캐시를 모두 비우므로 JDBC 로 실행한다.
+	 */
+	@Override
+	public int insertMissingSummaries(Long fromTradeId, Long toTradeId) {
+		return jdbcTemplate.update(INSERT_MISSING_SUMMARIES + "AND t.id BETWEEN ? AND ?", fromTradeId, toTradeId);
+	}
+
+	/**
+	 * 교환별 조회수 증가분을 JDBC 배치 UPDATE 로 반영한다.
+	 * 여러 서버가 동시에 반영해도 잠금 순서가 같도록 교환 아이디 오름차순으로 실행한다.
+	 */
+	@Override
+	public void increaseViewCounts(Map<Long, Long> viewCounts) {
+		List<Map.Entry<Long, Long>> sortedViewCounts = new ArrayList<>(new TreeMap<>(viewCounts).entrySet());
+		jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT, sortedViewCounts, VIEW_COUNT_BATCH_SIZE,
+			(preparedStatement, viewCount) -> {
+				preparedStatement.setLong(1, viewCount.getValue());
+				preparedStatement.setLong(2, viewCount.getKey());
+			});
+	}
+}
@@ -0,0 +1,129 @@
+package kr.kernel360.anabada.domain.trade.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kernel360.anabada.domain.place.cache.PlaceDictionary;
+import kr.kernel360.anabada.domain.place.dto.PlaceDto;
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.trade.dto.FindTradeDto;
+import kr.kernel360.anabada.domain.trade.dto.TradeCursor;
+import kr.kernel360.anabada.domain.trade.dto.TradeExportFormat;
+import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
+import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자용 교환 내보내기
+ * 목록 커서(TradeCursor)로 chunkSize 행씩 끊어 읽고, 조각마다 짧은 읽기 전용 트랜잭션을 연다.
+ * 응답을 쓰는 동안에는 커넥션을 잡고 있지 않으므로, 느린 클라이언트가 풀의 커넥션을 오래 붙잡지 않는다.
+ * 메모리에는 한 조각만 올라가므로 메모리 사용량은 교환 수와 상관없이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TradeExportService {
+	private static final String[] CSV_HEADER = {"tradeId", "tradeType", "tradeStatus", "deletedStatus",
+		"categoryName", "tradeTitle", "nickname", "createdDate", "tradeOfferCreatedBy"};
+	private static final char BYTE_ORDER_MARK = '\uFEFF';
+	private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+	private final TradeRepository tradeRepository;
+	private final PlaceDictionary placeDictionary;
+	private final TradeSearchService tradeSearchService;
+	private final PlatformTransactionManager transactionManager;
+	private final ObjectMapper objectMapper;
+
+	@Value("${anabada.trade-export.chunk-size:1000}")
+	private int chunkSize;
+
+	public StreamingResponseBody export(TradeSearchCondition tradeSearchCondition, PlaceDto placeDto,
+		TradeExportFormat format) {
+		tradeSearchService.applyTo(tradeSearchCondition);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+
+		return outputStream -> {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+			if (format == TradeExportFormat.CSV) {
+				writer.write(BYTE_ORDER_MARK);
+				writer.write(String.join(",", CSV_HEADER));
+				writer.write('\n');
+			}
+			Optional<Place> findPlace = findPlace(placeDto);
+			if (placeDto == null || findPlace.isPresent()) {
+				Place placeCondition = findPlace.orElse(null);
+				TradeCursor cursor = null;
+				Slice<FindTradeDto> trades;
+				do {
+					TradeCursor after = cursor;
+					trades = transactionTemplate.execute(status ->
+						tradeRepository.findTradesByCursor(tradeSearchCondition, placeCondition, after, chunkSize));
+					write(trades.getContent(), format, writer);
+					writer.flush();
+					if (trades.hasContent()) {
+						cursor = TradeCursor.of(trades.getContent().get(trades.getNumberOfElements() - 1));
+					}
+				} while (trades.hasNext());
+			}
+			writer.flush();
+		};
+	}
+
+	private Optional<Place> findPlace(PlaceDto placeDto) {
+		if (placeDto == null) {
+			return Optional.empty();
+		}
+		return placeDictionary.find(placeDto);
+	}
+
+	private void write(List<FindTradeDto> trades, TradeExportFormat format, Writer writer) throws IOException {
+		for (FindTradeDto trade : trades) {
+			writer.write(format == TradeExportFormat.CSV ? toCsv(trade) : objectMapper.writeValueAsString(trade));
+			writer.write('\n');
+		}
+	}
+
+	private String toCsv(FindTradeDto trade) {
+		return String.join(",",
+			csv(trade.getTradeId()),
+			csv(trade.getTradeType()),
+			csv(trade.getTradeStatus()),
+			csv(trade.getDeletedStatus()),
+			csv(trade.getCategoryName()),
+			csv(trade.getTradeTitle()),
+			csv(trade.getNickname()),
+			csv(trade.getCreatedDate()),
+			csv(trade.getTradeOfferCreatedBy()));
+	}
+
+	/**
+	 * 제목, 닉네임은 사용자가 쓴 값이므로, 스프레드시트가 수식으로 읽는 문자로 시작하면 ' 를 붙여 문자열로 열리게 한다.
+	 */
+	private String csv(Object value) {
+		if (value == null) {
+			return "";
+		}
+		String text = value.toString();
+		if (!text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+			return "\"'" + text.replace("\"", "\"\"") + '"';
+		}
+		if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+			return text;
+		}
+		return '"' + text.replace("\"", "\"\"") + '"';
+	}
+}
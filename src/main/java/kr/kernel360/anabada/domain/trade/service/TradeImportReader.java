@@ -0,0 +1,192 @@
+package kr.kernel360.anabada.domain.trade.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kernel360.anabada.domain.trade.dto.ImportTradeRow;
+import kr.kernel360.anabada.domain.trade.dto.TradeImportFormat;
+
+/**
+ * 가져오기 파일을 한 행씩 읽는다. 파일 전체를 메모리에 올리지 않는다.
+ * csv 는 첫 줄이 헤더이고, 따옴표 안의 쉼표/줄바꿈/"" 를 지원한다. (TradeExportService 가 쓰는 형식)
+ * 읽지 못한 행은 건너뛰지 않고 invalidReason 을 채워 돌려준다.
+ */
+class TradeImportReader implements Closeable {
+	private static final char BYTE_ORDER_MARK = '\uFEFF';
+	private static final int END_OF_FILE = -1;
+
+	private final BufferedReader reader;
+	private final TradeImportFormat format;
+	private final ObjectMapper objectMapper;
+
+	private Map<String, Integer> header;
+	private long lineNumber;
+	private int pushedBack = END_OF_FILE;
+
+	TradeImportReader(Reader reader, TradeImportFormat format, ObjectMapper objectMapper) {
+		this.reader = new BufferedReader(reader);
+		this.format = format;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 다음 행. 파일 끝이면 null
+	 */
+	ImportTradeRow next() throws IOException {
+		return format == TradeImportFormat.CSV ? nextCsv() : nextNdjson();
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private ImportTradeRow nextNdjson() throws IOException {
+		String line;
+		do {
+			line = reader.readLine();
+			if (line == null) {
+				return null;
+			}
+			lineNumber++;
+			line = stripByteOrderMark(line);
+		} while (line.isBlank());
+
+		try {
+			ImportTradeRow row = objectMapper.readValue(line, ImportTradeRow.class);
+			row.setLine(lineNumber);
+			row.setInvalidReason(null);
+			return row;
+		} catch (JsonProcessingException e) {
+			return ImportTradeRow.invalid(lineNumber, "JSON 형식이 올바르지 않습니다.");
+		}
+	}
+
+	private ImportTradeRow nextCsv() throws IOException {
+		if (header == null) {
+			List<String> headerFields = readRecord();
+			if (headerFields == null) {
+				return null;
+			}
+			header = new HashMap<>();
+			for (int i = 0; i < headerFields.size(); i++) {
+				header.put(stripByteOrderMark(headerFields.get(i)).trim(), i);
+			}
+		}
+
+		List<String> fields;
+		long recordLine;
+		do {
+			recordLine = lineNumber + 1;
+			fields = readRecord();
+			if (fields == null) {
+				return null;
+			}
+		} while (fields.size() == 1 && fields.get(0).isBlank());
+
+		try {
+			return ImportTradeRow.builder()
+				.title(field(fields, "title"))
+				.content(field(fields, "content"))
+				.tradeType(field(fields, "tradeType"))
+				.categoryId(longField(fields, "categoryId"))
+				.imagePath(field(fields, "imagePath"))
+				.state(field(fields, "state"))
+				.city(field(fields, "city"))
+				.address1(field(fields, "address1"))
+				.x(doubleField(fields, "x"))
+				.y(doubleField(fields, "y"))
+				.line(recordLine)
+				.build();
+		} catch (NumberFormatException e) {
+			return ImportTradeRow.invalid(recordLine, "숫자 형식이 올바르지 않습니다.");
+		}
+	}
+
+	/**
+	 * csv 레코드 하나. 따옴표 안의 줄바꿈은 같은 레코드로 읽는다.
+	 */
+	private List<String> readRecord() throws IOException {
+		int next = read();
+		if (next == END_OF_FILE) {
+			return null;
+		}
+		lineNumber++;
+
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		while (next != END_OF_FILE) {
+			char character = (char)next;
+			if (quoted) {
+				if (character == '"') {
+					int following = read();
+					if (following == '"') {
+						field.append('"');
+					} else {
+						quoted = false;
+						pushedBack = following;
+					}
+				} else {
+					if (character == '\n') {
+						lineNumber++;
+					}
+					field.append(character);
+				}
+			} else if (character == '"') {
+				quoted = true;
+			} else if (character == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if (character == '\n') {
+				break;
+			} else if (character != '\r') {
+				field.append(character);
+			}
+			next = read();
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+
+	private int read() throws IOException {
+		if (pushedBack != END_OF_FILE) {
+			int character = pushedBack;
+			pushedBack = END_OF_FILE;
+			return character;
+		}
+		return reader.read();
+	}
+
+	private String field(List<String> fields, String name) {
+		Integer index = header.get(name);
+		if (index == null || index >= fields.size()) {
+			return null;
+		}
+		String value = fields.get(index).trim();
+		return value.isEmpty() ? null : value;
+	}
+
+	private Long longField(List<String> fields, String name) {
+		String value = field(fields, name);
+		return value == null ? null : Long.valueOf(value);
+	}
+
+	private Double doubleField(List<String> fields, String name) {
+		String value = field(fields, name);
+		return value == null ? null : Double.valueOf(value);
+	}
+
+	private String stripByteOrderMark(String text) {
+		return !text.isEmpty() && text.charAt(0) == BYTE_ORDER_MARK ? text.substring(1) : text;
+	}
+}
@@ -0,0 +1,239 @@
+package kr.kernel360.anabada.domain.trade.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kernel360.anabada.domain.category.entity.Category;
+import kr.kernel360.anabada.domain.category.repository.CategoryRepository;
+import kr.kernel360.anabada.domain.member.entity.Member;
+import kr.kernel360.anabada.domain.member.service.LoginMemberService;
+import kr.kernel360.anabada.domain.place.cache.PlaceDictionary;
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.trade.cache.TradeListCache;
+import kr.kernel360.anabada.domain.trade.dto.ImportTradeFailure;
+import kr.kernel360.anabada.domain.trade.dto.ImportTradeResponse;
+import kr.kernel360.anabada.domain.trade.dto.ImportTradeRow;
+import kr.kernel360.anabada.domain.trade.dto.TradeImportFormat;
+import kr.kernel360.anabada.domain.trade.entity.Trade;
+import kr.kernel360.anabada.domain.trade.event.TradeCreatedEvent;
+import kr.kernel360.anabada.domain.trade.event.TradesImportedEvent;
+import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
+import kr.kernel360.anabada.domain.trade.repository.TradeSummaryRepository;
+import kr.kernel360.anabada.global.cache.CountCache;
+import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import kr.kernel360.anabada.global.error.code.TradeErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자용 교환 가져오기
+ * 파일을 한 행씩 읽어 batch-size 행마다 JDBC 배치 INSERT 와 읽기 모델(trade_summary) INSERT ... SELECT 를 한 트랜잭션으로 실행한다.
+ * 카테고리는 시작할 때 한 번 읽고, 지역은 PlaceDictionary 에서 찾는다.
+ * 배치가 실패하면 그 배치만 한 행씩 다시 넣어 실패한 행만 기록하고 다음 배치를 계속 넣는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TradeImportService {
+	private static final int MAX_REPORTED_FAILURES = 1000;
+
+	private final TradeRepository tradeRepository;
+	private final TradeSummaryRepository tradeSummaryRepository;
+	private final CategoryRepository categoryRepository;
+	private final PlaceDictionary placeDictionary;
+	private final LoginMemberService loginMemberService;
+	private final TradeSearchService tradeSearchService;
+	private final CountCache countCache;
+	private final TradeListCache tradeListCache;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PlatformTransactionManager transactionManager;
+	private final ObjectMapper objectMapper;
+
+	@Value("${anabada.trade-import.batch-size:1000}")
+	private int batchSize;
+
+	public ImportTradeResponse importTrades(InputStream inputStream, TradeImportFormat format) {
+		Member owner = loginMemberService.getMember(TradeErrorCode.NOT_FOUND_MEMBER);
+		Map<Long, Category> categories = categoryRepository.findAll().stream()
+			.filter(category -> category.getDeletedStatus() == DeletedStatus.FALSE)
+			.collect(Collectors.toMap(Category::getId, Function.identity()));
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		ImportProgress progress = new ImportProgress();
+
+		try (TradeImportReader reader = new TradeImportReader(
+			new InputStreamReader(inputStream, StandardCharsets.UTF_8), format, objectMapper)) {
+			List<ImportTradeRow> rows = new ArrayList<>(batchSize);
+			List<Trade> trades = new ArrayList<>(batchSize);
+			ImportTradeRow row;
+			while ((row = reader.next()) != null) {
+				String invalidReason = row.getInvalidReason() != null ? row.getInvalidReason()
+					: validate(row, categories);
+				Place place = null;
+				if (invalidReason == null && row.hasPlace()) {
+					try {
+						place = placeDictionary.intern(row.toPlaceDto());
+					} catch (DataAccessException | TransactionException e) {
+						invalidReason = "지역 정보를 저장할 수 없습니다.";
+					}
+				}
+				if (invalidReason != null) {
+					progress.fail(row.getLine(), invalidReason);
+					continue;
+				}
+
+				rows.add(row);
+				trades.add(toTrade(row, owner, categories.get(row.getCategoryId()), place));
+				if (trades.size() >= batchSize) {
+					insert(rows, trades, transactionTemplate, progress);
+					rows.clear();
+					trades.clear();
+				}
+			}
+			insert(rows, trades, transactionTemplate, progress);
+		} catch (IOException e) {
+			throw new BusinessException(TradeErrorCode.INVALID_IMPORT_FILE);
+		} finally {
+			if (progress.imported > 0) {
+				tradeSearchService.indexMember(owner);
+				countCache.evict(CountCache.TRADE);
+				progress.evictedLists.values().forEach(tradeListCache::evict);
+			}
+		}
+		log.info("trade import finished. imported={}, failed={}", progress.imported, progress.failed);
+
+		return ImportTradeResponse.of(progress.imported, progress.failed, progress.failures);
+	}
+
+	private void insert(List<ImportTradeRow> rows, List<Trade> trades, TransactionTemplate transactionTemplate,
+		ImportProgress progress) {
+		if (trades.isEmpty()) {
+			return;
+		}
+		try {
+			List<Long> tradeIds = transactionTemplate.execute(status -> insertBatch(trades));
+			succeed(trades, tradeIds, progress);
+		} catch (DataAccessException | TransactionException e) {
+			log.warn("trade import batch failed, retrying row by row. rows={}, cause={}", trades.size(),
+				e.getMessage());
+			// 한 행씩 다시 넣어 실패한 행만 골라낸다.
+			for (int i = 0; i < trades.size(); i++) {
+				List<Trade> single = List.of(trades.get(i));
+				try {
+					List<Long> tradeIds = transactionTemplate.execute(status -> insertBatch(single));
+					succeed(single, tradeIds, progress);
+				} catch (DataAccessException | TransactionException rowException) {
+					progress.fail(rows.get(i).getLine(), "교환을 저장할 수 없습니다.");
+				}
+			}
+		}
+	}
+
+	private void succeed(List<Trade> trades, List<Long> tradeIds, ImportProgress progress) {
+		progress.imported += trades.size();
+		for (int i = 0; i < trades.size(); i++) {
+			Trade trade = trades.get(i);
+			tradeSearchService.indexTitle(tradeIds.get(i), trade.getTitle());
+			// 목록 캐시는 (카테고리, 교환 타입, 지역) 조합마다 한 번만 지운다.
+			progress.evictedLists.putIfAbsent(trade.getCategory().getId() + ":" + trade.getTradeType() + ":"
+				+ (trade.getPlace() != null ? trade.getPlace().getId() : null), trade);
+		}
+	}
+
+	private List<Long> insertBatch(List<Trade> trades) {
+		List<Long> tradeIds = tradeRepository.insertTrades(trades);
+		tradeSummaryRepository.insertMissingSummaries(tradeIds.get(0), tradeIds.get(tradeIds.size() - 1));
+
+		List<TradeCreatedEvent> createdEvents = new ArrayList<>(trades.size());
+		for (int i = 0; i < trades.size(); i++) {
+			Trade trade = trades.get(i);
+			createdEvents.add(new TradeCreatedEvent(tradeIds.get(i), trade.getTitle(), trade.getTradeType(),
+				trade.getCategory().getId(), trade.getPlace() != null ? trade.getPlace().getId() : null,
+				trade.getMember().getId()));
+		}
+		eventPublisher.publishEvent(new TradesImportedEvent(createdEvents));
+		return tradeIds;
+	}
+
+	private String validate(ImportTradeRow row, Map<Long, Category> categories) {
+		if (row.getTitle() == null || row.getTitle().isBlank()) {
+			return "제목이 없습니다.";
+		}
+		if (row.getTitle().length() > 255) {
+			return "제목이 너무 깁니다.";
+		}
+		if (row.getContent() == null || row.getContent().isBlank()) {
+			return "내용이 없습니다.";
+		}
+		if (parseTradeType(row.getTradeType()) == null) {
+			return "교환 타입이 올바르지 않습니다.";
+		}
+		if (row.getCategoryId() == null || !categories.containsKey(row.getCategoryId())) {
+			return TradeErrorCode.NOT_FOUND_CATEGORY.getMessage();
+		}
+		return null;
+	}
+
+	private Trade toTrade(ImportTradeRow row, Member owner, Category category, Place place) {
+		return Trade.builder()
+			.title(row.getTitle())
+			.content(row.getContent())
+			.imagePath(row.getImagePath())
+			.tradeType(parseTradeType(row.getTradeType()))
+			.tradeStatus(TradeStatus.BEFORE_ACCEPT)
+			.deletedStatus(DeletedStatus.FALSE)
+			.member(owner)
+			.category(category)
+			.place(place)
+			.build();
+	}
+
+	/**
+	 * 이름(SHARE) 과 설명(드려요) 모두 받는다.
+	 */
+	private TradeType parseTradeType(String tradeType) {
+		if (tradeType == null) {
+			return null;
+		}
+		for (TradeType value : TradeType.values()) {
+			if (value.name().equalsIgnoreCase(tradeType) || value.getDescription().equals(tradeType)) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	private static final class ImportProgress {
+		private final List<ImportTradeFailure> failures = new ArrayList<>();
+		private final Map<String, Trade> evictedLists = new HashMap<>();
+		private long imported;
+		private long failed;
+
+		private void fail(long line, String reason) {
+			failed++;
+			if (failures.size() < MAX_REPORTED_FAILURES) {
+				failures.add(ImportTradeFailure.of(line, reason));
+			}
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package kr.kernel360.anabada.domain.trade.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Service;
+
+import kr.kernel360.anabada.domain.comment.dto.FindAllCommentResponse;
+import kr.kernel360.anabada.domain.comment.service.CommentService;
+import kr.kernel360.anabada.domain.trade.dto.FindTradePageResponse;
+import kr.kernel360.anabada.domain.trade.dto.FindTradeResponse;
+import kr.kernel360.anabada.domain.tradeoffer.dto.FindAllTradeOfferRequest;
+import kr.kernel360.anabada.domain.tradeoffer.dto.FindAllTradeOfferResponse;
+import kr.kernel360.anabada.domain.tradeoffer.service.TradeOfferService;
+import kr.kernel360.anabada.global.config.AsyncConfig;
+import kr.kernel360.anabada.global.error.code.TradeErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 교환 상세 화면(교환, 댓글, 교환 요청)을 한 번의 요청으로 조회한다.
+ * 세 조회를 tradePageTaskExecutor 에서 동시에 실행하며, 요청 스레드의 SecurityContext 를 작업 스레드로 넘긴다.
+ * 교환은 반드시 있어야 하고, 댓글/교환 요청은 제한 시간을 넘기면 비워 두고 timedOutSections 에 이름을 담는다.
+ */
+@Slf4j
+@Service
+public class TradePageService {
+	public static final String COMMENTS = "comments";
+	public static final String TRADE_OFFERS = "tradeOffers";
+
+	private final TradeService tradeService;
+	private final CommentService commentService;
+	private final TradeOfferService tradeOfferService;
+	private final Executor taskExecutor;
+
+	@Value("${anabada.trade-page.trade-timeout-ms:3000}")
+	private long tradeTimeoutMs;
+
+	@Value("${anabada.trade-page.section-timeout-ms:1500}")
+	private long sectionTimeoutMs;
+
+	public TradePageService(TradeService tradeService, CommentService commentService,
+		TradeOfferService tradeOfferService, @Qualifier(AsyncConfig.TRADE_PAGE_EXECUTOR) Executor taskExecutor) {
+		this.tradeService = tradeService;
+		this.commentService = commentService;
+		this.tradeOfferService = tradeOfferService;
+		this.taskExecutor = new DelegatingSecurityContextExecutor(taskExecutor);
+	}
+
+	public FindTradePageResponse find(Long tradeId, Pageable tradeOfferPageable) {
+		long startedAt = System.nanoTime();
+		CompletableFuture<FindTradeResponse> trade = submit(() -> tradeService.find(tradeId));
+		CompletableFuture<FindAllCommentResponse> comments = submit(() -> commentService.findAll(tradeId));
+		CompletableFuture<FindAllTradeOfferResponse> tradeOffers = submit(() -> tradeOfferService.findAll(
+			FindAllTradeOfferRequest.builder().tradeId(tradeId).build(), tradeOfferPageable));
+
+		FindTradeResponse findTradeResponse;
+		try {
+			findTradeResponse = await(trade, startedAt, tradeTimeoutMs);
+		} catch (TimeoutException e) {
+			comments.cancel(true);
+			tradeOffers.cancel(true);
+			throw new BusinessException(TradeErrorCode.TIMEOUT_TRADE_PAGE);
+		} catch (RuntimeException e) {
+			comments.cancel(true);
+			tradeOffers.cancel(true);
+			throw e;
+		}
+
+		List<String> timedOutSections = new ArrayList<>();
+		FindAllCommentResponse findAllCommentResponse = awaitSection(COMMENTS, comments, startedAt, timedOutSections);
+		FindAllTradeOfferResponse findAllTradeOfferResponse = awaitSection(TRADE_OFFERS, tradeOffers, startedAt,
+			timedOutSections);
+
+		return FindTradePageResponse.of(findTradeResponse, findAllCommentResponse, findAllTradeOfferResponse,
+			timedOutSections);
+	}
+
+	/**
+	 * 풀이 가득 차면 요청 스레드에서 바로 실행한다.
+	 */
+	private <T> CompletableFuture<T> submit(Supplier<T> section) {
+		try {
+			return CompletableFuture.supplyAsync(section, taskExecutor);
+		} catch (RejectedExecutionException e) {
+			try {
+				return CompletableFuture.completedFuture(section.get());
+			} catch (RuntimeException sectionException) {
+				return CompletableFuture.failedFuture(sectionException);
+			}
+		}
+	}
+
+	private <T> T awaitSection(String name, CompletableFuture<T> section, long startedAt,
+		List<String> timedOutSections) {
+		try {
+			return await(section, startedAt, sectionTimeoutMs);
+		} catch (TimeoutException e) {
+			section.cancel(true);
+			timedOutSections.add(name);
+			log.warn("trade page section timed out. section={}, timeoutMs={}", name, sectionTimeoutMs);
+			return null;
+		}
+	}
+
+	/**
+	 * 세 조회가 동시에 시작되므로 제한 시간은 각 조회를 기다리기 시작한 시점이 아니라 요청 시작 시점부터 잰다.
+	 */
+	private <T> T await(CompletableFuture<T> section, long startedAt, long timeoutMs) throws TimeoutException {
+		long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs) - (System.nanoTime() - startedAt);
+		try {
+			return section.get(Math.max(remainingNanos, 0L), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(TradeErrorCode.TIMEOUT_TRADE_PAGE);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+}
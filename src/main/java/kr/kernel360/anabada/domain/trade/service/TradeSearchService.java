@@ -0,0 +1,235 @@
+package kr.kernel360.anabada.domain.trade.service;
+
+import static org.springframework.util.StringUtils.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kr.kernel360.anabada.domain.member.entity.Member;
+import kr.kernel360.anabada.domain.member.repository.MemberRepository;
+import kr.kernel360.anabada.domain.place.service.PlaceGeoService;
+import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
+import kr.kernel360.anabada.domain.trade.entity.Trade;
+import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
+import kr.kernel360.anabada.global.search.NgramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 교환 제목(Trade.title), 작성자 닉네임(Member.nickname) n-gram 색인
+ * 검색어에 맞는 아이디를 후보로 골라 TradeSearchCondition 에 넘긴다. 일치 여부는 DB 의 LIKE 가 다시 확인한다.
+ * 색인은 노드마다 따로 있으므로 변경은 redis 채널로 다른 노드에 알리고, 메시지를 놓친 경우를 위해 주기적으로 다시 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TradeSearchService implements MessageListener {
+	public static final String CHANNEL = "anabada:search:index";
+	public static final String DELIMITER = "|";
+	public static final String TITLE = "title";
+	private static final String NICKNAME = "nickname";
+	private static final int MAX_MATCHED_IDS = 1000;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final TradeRepository tradeRepository;
+	private final MemberRepository memberRepository;
+	private final PlaceGeoService placeGeoService;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private volatile NgramIndex titleIndex = new NgramIndex();
+	private volatile NgramIndex nicknameIndex = new NgramIndex();
+	private volatile boolean ready;
+	// 재구성 중에 들어온 변경. 새 색인으로 바꿔 끼운 뒤 다시 넣는다. 재구성 중이 아니면 null
+	private Queue<Runnable> pendingUpdates;
+	private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		rebuild();
+		ready = true;
+		log.info("trade search index ready. titles={}, nicknames={}", titleIndex.size(), nicknameIndex.size());
+	}
+
+	/**
+	 * DB 에서 새 색인을 만든 뒤 바꿔 끼운다.
+	 * 만드는 동안 들어온 변경(이 노드의 색인, 다른 노드의 메시지)은 기존 색인에 넣으면서 모아 두었다가 바꿔 끼운 새 색인에 다시 넣는다.
+	 */
+	@Scheduled(fixedDelayString = "${anabada.trade-search.rebuild-interval-ms:600000}",
+		initialDelayString = "${anabada.trade-search.rebuild-interval-ms:600000}")
+	public void rebuild() {
+		Queue<Runnable> updates = new ConcurrentLinkedQueue<>();
+		setPendingUpdates(updates);
+		try {
+			NgramIndex rebuiltTitleIndex = new NgramIndex();
+			tradeRepository.findTradeTitles()
+				.forEach(document -> rebuiltTitleIndex.put(document.getId(), document.getText()));
+			NgramIndex rebuiltNicknameIndex = new NgramIndex();
+			memberRepository.findMemberNicknames()
+				.forEach(document -> rebuiltNicknameIndex.putIfAbsent(document.getId(), document.getText()));
+
+			swapLock.writeLock().lock();
+			try {
+				titleIndex = rebuiltTitleIndex;
+				nicknameIndex = rebuiltNicknameIndex;
+				updates.forEach(Runnable::run);
+			} finally {
+				swapLock.writeLock().unlock();
+			}
+		} finally {
+			setPendingUpdates(null);
+		}
+	}
+
+	public void index(Trade trade) {
+		indexTitle(trade.getId(), trade.getTitle());
+		indexMember(trade.getMember());
+	}
+
+	/**
+	 * 트랜잭션 안이면 커밋 이후에 색인한다. 커밋 전에 색인하면 그 사이에 시작한 재구성이 커밋 전 DB 를 읽어 새 색인에서 빠진다.
+	 */
+	public void indexTitle(Long tradeId, String title) {
+		afterCommit(() -> {
+			put(TITLE, tradeId, title);
+			publish(TITLE, tradeId, title);
+		});
+	}
+
+	public void indexMember(Member member) {
+		Long memberId = member.getId();
+		String nickname = member.getNickname();
+		afterCommit(() -> {
+			put(NICKNAME, memberId, nickname);
+			publish(NICKNAME, memberId, nickname);
+		});
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		// redisTemplate 의 value serializer 로 보냈으므로 같은 serializer 로 읽는다.
+		Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+		if (body == null) {
+			return;
+		}
+		// 본문(제목/닉네임)에 구분자가 들어 있을 수 있으므로 마지막 항목은 나누지 않는다.
+		String[] parts = body.toString().split("\\" + DELIMITER, 4);
+		if (parts.length != 4 || nodeId.equals(parts[0])) {
+			return;
+		}
+		try {
+			put(parts[1], Long.valueOf(parts[2]), parts[3]);
+		} catch (RuntimeException e) {
+			log.warn("search index message ignored. body={}, cause={}", body, e.getMessage());
+		}
+	}
+
+	/**
+	 * 색인으로 답할 수 있는 조건이면 매칭된 아이디를 조건에 채운다.
+	 * 색인이 준비되지 않았거나 검색어가 짧거나 결과가 너무 많으면 기존 LIKE 검색을 그대로 사용한다.
+	 * 좌표가 있으면 반경 안의 지역 아이디를 가까운 순서로 채운다.
+	 */
+	public void applyTo(TradeSearchCondition tradeSearchCondition) {
+		if (tradeSearchCondition.getX() != null && tradeSearchCondition.getY() != null) {
+			tradeSearchCondition.applyNearbyPlaces(placeGeoService.findNearbyPlaceIds(tradeSearchCondition.getX(),
+				tradeSearchCondition.getY(), tradeSearchCondition.getRadiusKm()));
+		}
+		if (!ready) {
+			return;
+		}
+		if (hasText(tradeSearchCondition.getTitle())) {
+			List<Long> tradeIds = search(titleIndex, tradeSearchCondition.getTitle());
+			if (tradeIds != null) {
+				tradeSearchCondition.applyTitleMatches(tradeIds);
+			}
+		}
+		if (hasText(tradeSearchCondition.getCreatedBy())) {
+			List<Long> memberIds = search(nicknameIndex, tradeSearchCondition.getCreatedBy());
+			if (memberIds != null) {
+				tradeSearchCondition.applyCreatedByMatches(memberIds);
+			}
+		}
+	}
+
+	/**
+	 * 재구성 중이면 같은 변경을 바꿔 끼운 새 색인에도 넣도록 모아 둔다.
+	 */
+	private void put(String field, Long id, String text) {
+		Runnable update = () -> (TITLE.equals(field) ? titleIndex : nicknameIndex).put(id, text);
+		swapLock.readLock().lock();
+		try {
+			update.run();
+			if (pendingUpdates != null) {
+				pendingUpdates.add(update);
+			}
+		} finally {
+			swapLock.readLock().unlock();
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+
+	private void setPendingUpdates(Queue<Runnable> updates) {
+		swapLock.writeLock().lock();
+		try {
+			pendingUpdates = updates;
+		} finally {
+			swapLock.writeLock().unlock();
+		}
+	}
+
+	private void publish(String field, Long id, String text) {
+		if (id == null || text == null) {
+			return;
+		}
+		try {
+			redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + field + DELIMITER + id + DELIMITER + text);
+		} catch (RuntimeException e) {
+			log.warn("search index publish failed. field={}, id={}, cause={}", field, id, e.getMessage());
+		}
+	}
+
+	private List<Long> search(NgramIndex index, String query) {
+		long[] ids = index.search(query);
+		if (ids == null || ids.length > MAX_MATCHED_IDS) {
+			return null;
+		}
+		return Arrays.stream(ids).boxed().toList();
+	}
+}
@@ -3,30 +3,45 @@ package kr.kernel360.anabada.domain.trade.service;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import kr.kernel360.anabada.domain.autocomplete.service.AutocompleteService;
 import kr.kernel360.anabada.domain.category.entity.Category;
 import kr.kernel360.anabada.domain.category.repository.CategoryRepository;
+import kr.kernel360.anabada.domain.image.service.StoredImageService;
 import kr.kernel360.anabada.domain.member.entity.Member;
-import kr.kernel360.anabada.domain.member.repository.MemberRepository;
+import kr.kernel360.anabada.domain.member.service.LoginMemberService;
+import kr.kernel360.anabada.domain.place.cache.PlaceDictionary;
 import kr.kernel360.anabada.domain.place.dto.PlaceDto;
 import kr.kernel360.anabada.domain.place.entity.Place;
-import kr.kernel360.anabada.domain.place.repository.PlaceRepository;
+import kr.kernel360.anabada.domain.trade.cache.TradeListCache;
+import kr.kernel360.anabada.domain.trade.cache.TradeViewCounter;
 import kr.kernel360.anabada.domain.trade.dto.CreateTradeRequest;
 import kr.kernel360.anabada.domain.trade.dto.FindAllTradeResponse;
 import kr.kernel360.anabada.domain.trade.dto.FindAllTradesByStateResponse;
+import kr.kernel360.anabada.domain.trade.dto.FindTradeDetailDto;
 import kr.kernel360.anabada.domain.trade.dto.FindTradeDto;
 import kr.kernel360.anabada.domain.trade.dto.FindTradeResponse;
 import kr.kernel360.anabada.domain.trade.dto.StateCountDto;
+import kr.kernel360.anabada.domain.trade.dto.TradeCursor;
+import kr.kernel360.anabada.domain.trade.dto.TradeFacetsDto;
 import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
 import kr.kernel360.anabada.domain.trade.entity.Trade;
+import kr.kernel360.anabada.domain.trade.event.TradeCreatedEvent;
 import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
+import kr.kernel360.anabada.domain.trade.repository.TradeSummaryRepository;
+import kr.kernel360.anabada.global.cache.AggregateVersionStore;
+import kr.kernel360.anabada.global.cache.CountCache;
 import kr.kernel360.anabada.global.error.code.TradeErrorCode;
 import kr.kernel360.anabada.global.error.exception.BusinessException;
+import kr.kernel360.anabada.global.image.ImageVariantService;
+import kr.kernel360.anabada.global.image.ImageVariants;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -34,59 +49,132 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TradeService {
 	private final TradeRepository tradeRepository;
-	private final MemberRepository memberRepository;
+	private final LoginMemberService loginMemberService;
 	private final CategoryRepository categoryRepository;
-	private final PlaceRepository placeRepository;
+	private final PlaceDictionary placeDictionary;
+	private final TradeSearchService tradeSearchService;
+	private final CountCache countCache;
+	private final TradeListCache tradeListCache;
+	private final TradeViewCounter tradeViewCounter;
+	private final AutocompleteService autocompleteService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TradeSummaryRepository tradeSummaryRepository;
+	private final ImageVariantService imageVariantService;
+	private final StoredImageService storedImageService;
+	private final AggregateVersionStore aggregateVersionStore;
 
 	@Transactional
 	public FindAllTradeResponse findAll(TradeSearchCondition tradeSearchCondition, PlaceDto placeDto, Pageable pageable) {
+		Optional<Page<FindTradeDto>> cachedTrades = tradeListCache.find(tradeSearchCondition, placeDto, pageable);
+		if (cachedTrades.isPresent()) {
+			recordQuery(tradeSearchCondition, cachedTrades.get());
+			return FindAllTradeResponse.of(cachedTrades.get(),
+				countCache.isApproximate(cachedTrades.get().getTotalElements()));
+		}
 		Place findPlace = placeDto == null ? null :findPlaceByStateAndCityAndAddress1(placeDto);
+		tradeSearchService.applyTo(tradeSearchCondition);
 		Page<FindTradeDto> findTrades = tradeRepository.findTrades(tradeSearchCondition, findPlace, pageable);
+		tradeListCache.put(tradeSearchCondition, placeDto, pageable, findTrades);
+		recordQuery(tradeSearchCondition, findTrades);
+
+		return FindAllTradeResponse.of(findTrades, countCache.isApproximate(findTrades.getTotalElements()));
+	}
+
+	/**
+	 * 전체 수는 facet 집계에서 구하므로 개수 쿼리를 따로 보내지 않는다. 목록은 findAll 과 같은 캐시를 쓴다.
+	 * facet 은 상한 없이 센 값이므로 전체 수는 근삿값이 아니다.
+	 */
+	@Transactional
+	public FindAllTradeResponse findAllWithFacets(TradeSearchCondition tradeSearchCondition, PlaceDto placeDto,
+		Pageable pageable) {
+		Place findPlace = placeDto == null ? null :findPlaceByStateAndCityAndAddress1(placeDto);
+		tradeSearchService.applyTo(tradeSearchCondition);
+		TradeFacetsDto facets = tradeRepository.countTradeFacets(tradeSearchCondition, findPlace);
+
+		Optional<Page<FindTradeDto>> cachedTrades = tradeListCache.find(tradeSearchCondition, placeDto, pageable);
+		if (cachedTrades.isPresent()) {
+			return FindAllTradeResponse.of(
+				new PageImpl<>(cachedTrades.get().getContent(), pageable, facets.total()), facets, false);
+		}
+		Page<FindTradeDto> findTrades = new PageImpl<>(
+			tradeRepository.findTradeContent(tradeSearchCondition, findPlace, pageable), pageable, facets.total());
+		tradeListCache.put(tradeSearchCondition, placeDto, pageable, findTrades);
+
+		return FindAllTradeResponse.of(findTrades, facets, false);
+	}
 
-		return FindAllTradeResponse.of(findTrades);
+	@Transactional
+	public FindAllTradeResponse findAll(TradeSearchCondition tradeSearchCondition, PlaceDto placeDto, String cursor,
+		int size) {
+		TradeCursor tradeCursor = TradeCursor.decode(cursor);
+		Place findPlace = placeDto == null ? null :findPlaceByStateAndCityAndAddress1(placeDto);
+		tradeSearchService.applyTo(tradeSearchCondition);
+		Slice<FindTradeDto> findTrades = tradeRepository.findTradesByCursor(tradeSearchCondition, findPlace,
+			tradeCursor, size);
+		String nextCursor = findTrades.hasNext()
+			? TradeCursor.of(findTrades.getContent().get(findTrades.getNumberOfElements() - 1)).encode() : null;
+
+		return FindAllTradeResponse.of(findTrades, nextCursor);
 	}
 
 	public FindTradeResponse find(Long tradeId) {
-		String findEmailByJwt = SecurityContextHolder.getContext().getAuthentication().getName();
-		Member findLoginMember = memberRepository.findByEmail(findEmailByJwt)
-			.orElseThrow(()-> new BusinessException(TradeErrorCode.NOT_FOUND_MEMBER));
-		FindTradeDto findTradeDto = Optional.of(tradeRepository.findTrade(tradeId))
+		String findEmailByJwt = loginMemberService.getEmail();
+		FindTradeDetailDto findTradeDetailDto = Optional.ofNullable(tradeRepository.findTradeDetail(tradeId, findEmailByJwt))
 			.orElseThrow(() -> new BusinessException(TradeErrorCode.NOT_FOUND_TRADE));
-		Member findTradeOwner = memberRepository.findByNickname(findTradeDto.getNickname())
-			.orElseThrow(()-> new BusinessException(TradeErrorCode.NOT_FOUND_MEMBER));
-		FindTradeResponse findTradeResponse = FindTradeResponse.of(findTradeDto);
-		findTradeResponse.setIsTradeOwner(findLoginMember.getEmail().equals(findTradeOwner.getEmail()));
-		findTradeResponse.setIsTradeOffer(tradeRepository.countTradeOfferByTradeIdAndEmail(tradeId, findEmailByJwt) > 0 ? true : false);
+		tradeViewCounter.increase(tradeId);
+		FindTradeResponse findTradeResponse = FindTradeResponse.of(findTradeDetailDto.getFindTradeDto());
+		findTradeResponse.setViewCount(findTradeResponse.getViewCount() + tradeViewCounter.pendingOf(tradeId));
+		findTradeResponse.setIsTradeOwner(findTradeDetailDto.isTradeOwner(findEmailByJwt));
+		findTradeResponse.setIsTradeOffer(findTradeDetailDto.isTradeOffer());
 
 		return findTradeResponse;
 	}
 
 	@Transactional
 	public Long create(CreateTradeRequest createTradeRequest, PlaceDto placeDto) {
-		String findEmailByJwt = SecurityContextHolder.getContext().getAuthentication().getName();
-		Member findMember = memberRepository.findByEmail(findEmailByJwt)
-			.orElseThrow(()-> new BusinessException(TradeErrorCode.NOT_FOUND_MEMBER));
+		Member findMember = loginMemberService.getReference(TradeErrorCode.NOT_FOUND_MEMBER);
 		Category findCategory = categoryRepository.findById(createTradeRequest.getCategoryId())
 			.orElseThrow(() -> new BusinessException(TradeErrorCode.NOT_FOUND_CATEGORY));
 		Place findPlace = findPlaceByStateAndCityAndAddress1(placeDto);
 		Trade savedTrade = tradeRepository.save(CreateTradeRequest.toEntity(createTradeRequest, findCategory, findMember, findPlace));
+		storedImageService.retain(savedTrade.getImagePath());
+		eventPublisher.publishEvent(TradeCreatedEvent.of(savedTrade));
+		tradeSearchService.index(savedTrade);
+		countCache.evict(CountCache.TRADE);
+		tradeListCache.evict(savedTrade);
+		imageVariantService.generateAfterCommit(savedTrade.getImagePath(),
+			imageVariants -> applyImageVariants(savedTrade.getId(), imageVariants));
 
 		return savedTrade.getId();
 	}
 
+	/**
+	 * 변환이 끝나면 교환과 목록 읽기 모델에 경로를 남기고, 상세 ETag 와 목록 캐시를 갱신한다.
+	 */
+	private void applyImageVariants(Long tradeId, ImageVariants imageVariants) {
+		tradeRepository.findById(tradeId).ifPresent(findTrade -> {
+			findTrade.changeImageVariants(imageVariants.getThumbnailPath(), imageVariants.getMediumPath(),
+				imageVariants.getNormalizedPath());
+			tradeSummaryRepository.updateThumbnail(tradeId, imageVariants.getThumbnailPath());
+			aggregateVersionStore.bump(AggregateVersionStore.keyOf(AggregateVersionStore.TRADE, tradeId));
+			tradeListCache.evict(findTrade);
+		});
+	}
+
 	public FindAllTradesByStateResponse countTradeByStatus() {
 		List<StateCountDto> stateCountList = tradeRepository.countTradeByState();
 
 		return FindAllTradesByStateResponse.of(stateCountList);
 	}
 
-	@Transactional
 	public Place findPlaceByStateAndCityAndAddress1(PlaceDto placeDto) {
-		if (!placeRepository.existsByStateAndCityAndAddress1(placeDto.getState(), placeDto.getCity(),
-			placeDto.getAddress1())) {
-			return placeRepository.save(PlaceDto.toEntity(placeDto));
+		// 사전에 있으면 쿼리 없이, 없으면 insert-or-select 한 번으로 찾는다.
+		return placeDictionary.intern(placeDto);
+	}
+
+	private void recordQuery(TradeSearchCondition tradeSearchCondition, Page<FindTradeDto> trades) {
+		if (trades.getNumber() == 0 && trades.hasContent()) {
+			autocompleteService.recordQuery(tradeSearchCondition.getTitle());
 		}
-		return placeRepository.findByStateAndCityAndAddress1(placeDto.getState(), placeDto.getCity(), placeDto.getAddress1())
-			.orElseThrow(() -> new IllegalArgumentException(""));
 	}
 }
@@ -0,0 +1,65 @@
+package kr.kernel360.anabada.domain.trade.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.kernel360.anabada.domain.comment.event.CommentCreatedEvent;
+import kr.kernel360.anabada.domain.member.event.MemberUpdatedEvent;
+import kr.kernel360.anabada.domain.trade.entity.Trade;
+import kr.kernel360.anabada.domain.trade.entity.TradeSummary;
+import kr.kernel360.anabada.domain.trade.event.TradeCreatedEvent;
+import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
+import kr.kernel360.anabada.domain.trade.repository.TradeSummaryRepository;
+import kr.kernel360.anabada.domain.tradeoffer.event.TradeOfferChangedEvent;
+import kr.kernel360.anabada.global.error.code.TradeErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 교환 목록 읽기 모델(trade_summary) 갱신
+ * 이벤트를 발행한 트랜잭션 안에서 함께 갱신되므로 원본과 읽기 모델이 어긋난 채로 커밋되지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TradeSummaryService {
+	private final TradeRepository tradeRepository;
+	private final TradeSummaryRepository tradeSummaryRepository;
+
+	@Transactional
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildMissing() {
+		int inserted = tradeSummaryRepository.insertMissingSummaries();
+		log.info("trade summary ready. inserted={}", inserted);
+	}
+
+	@Transactional
+	@EventListener
+	public void on(TradeCreatedEvent event) {
+		Trade findTrade = tradeRepository.findById(event.getTradeId())
+			.orElseThrow(() -> new BusinessException(TradeErrorCode.NOT_FOUND_TRADE));
+		tradeSummaryRepository.save(TradeSummary.of(findTrade));
+	}
+
+	@Transactional
+	@EventListener
+	public void on(TradeOfferChangedEvent event) {
+		tradeSummaryRepository.refreshOffers(event.getTradeId());
+	}
+
+	@Transactional
+	@EventListener
+	public void on(CommentCreatedEvent event) {
+		tradeSummaryRepository.increaseCommentCount(event.getTradeId());
+	}
+
+	@Transactional
+	@EventListener
+	public void on(MemberUpdatedEvent event) {
+		tradeSummaryRepository.updateNickname(event.getMemberId(), event.getNickname());
+	}
+}
@@ -1,11 +1,13 @@
 package kr.kernel360.anabada.domain.tradeoffer.api;
 
-import java.net.MalformedURLException;
+import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import org.springframework.core.io.UrlResource;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -23,6 +26,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
@@ -34,6 +38,10 @@ import kr.kernel360.anabada.domain.tradeoffer.service.TradeOfferService;
 import kr.kernel360.anabada.global.FileHandler;
 import kr.kernel360.anabada.global.error.code.TradeOfferErrorCode;
 import kr.kernel360.anabada.global.error.exception.BusinessException;
+import kr.kernel360.anabada.global.idempotency.IdempotencyStore;
+import kr.kernel360.anabada.global.image.ImageResponseWriter;
+import kr.kernel360.anabada.global.upload.MultipartStreamReader;
+import kr.kernel360.anabada.global.upload.StreamedMultipart;
 import lombok.RequiredArgsConstructor;
 
 @Api(tags = "교환 요청 API", description = "/api/v1/trade-offers")
@@ -43,6 +51,9 @@ import lombok.RequiredArgsConstructor;
 public class TradeOfferController {
 	private final TradeOfferService tradeOfferService;
 	private final FileHandler fileHandler;
+	private final IdempotencyStore idempotencyStore;
+	private final ImageResponseWriter imageResponseWriter;
+	private final MultipartStreamReader multipartStreamReader;
 	private final Path rootLocation = Paths.get(Paths.get("images/tradeOffer").toAbsolutePath().toString().replace("/build/libs",""));
 
 	@ApiOperation(value = "조건에 따른 모든 교환 요청 조회 -- 사용할 수 있는 조건 : 교환 요청 상태, 교환 요청 삭제 상태, 회원 아이디, 교환 아이디")
@@ -65,17 +76,53 @@ public class TradeOfferController {
 	@ApiResponses({@ApiResponse(code = 201, message = "교환 요청 추가 성공"),
 		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
 		@ApiResponse(code = 404, message = "페이지가 존재하지 않습니다."),
+		@ApiResponse(code = 409, message = "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요."),
+		@ApiResponse(code = 422, message = "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
 		@ApiResponse(code = 500, message = "서버 오류")})
-	@ApiImplicitParam(name = "page_number", required = true
-		, dataType = "int", paramType = "query", defaultValue = "1")
+	@ApiImplicitParams({
+		@ApiImplicitParam(name = "page_number", required = true
+			, dataType = "int", paramType = "query", defaultValue = "1"),
+		@ApiImplicitParam(name = IdempotencyStore.HEADER, value = "재시도해도 한 번만 추가되도록 요청마다 만드는 키 (예: UUID)"
+			, dataType = "string", paramType = "header")})
 	@PostMapping(path = "/v1/trade-offers", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
 	public ResponseEntity<Long> create(@ModelAttribute CreateTradeOfferRequest createTradeOfferRequest,
-		 							   @RequestParam(value = "imageFile", required = false) MultipartFile imageFile) {
-		if (imageFile != null && !imageFile.isEmpty()) {
-			String imagePath = fileHandler.parseFileInfo(imageFile,"tradeOffer");
-			createTradeOfferRequest.setImagePath(imagePath);
-		}
-		Long createdTradeOfferId = tradeOfferService.create(createTradeOfferRequest, createTradeOfferRequest.getTradeId());
+		 							   @RequestParam(value = "imageFile", required = false) MultipartFile imageFile,
+									   @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+		Long createdTradeOfferId = idempotencyStore.execute(IdempotencyStore.TRADE_OFFER, idempotencyKey,
+			idempotencyStore.fingerprint(createTradeOfferRequest, imageFile), () -> {
+				if (imageFile != null && !imageFile.isEmpty()) {
+					String imagePath = fileHandler.parseFileInfo(imageFile,"tradeOffer");
+					createTradeOfferRequest.setImagePath(imagePath);
+				}
+				return tradeOfferService.create(createTradeOfferRequest, createTradeOfferRequest.getTradeId());
+			});
+		URI url = URI.create("api/v1/trades/trade_offers/" + createdTradeOfferId);
+
+		return ResponseEntity.created(url).body(createdTradeOfferId);
+	}
+
+	@ApiOperation(value = "교환 요청 추가 (스트리밍 업로드)", notes = "교환 요청 추가와 같은 폼을 받는다. 이미지를 받아 두지 않고 읽으면서 저장한다.")
+	@ApiResponses({@ApiResponse(code = 201, message = "교환 요청 추가 성공"),
+		@ApiResponse(code = 400, message = "업로드 요청을 읽을 수 없습니다."),
+		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
+		@ApiResponse(code = 404, message = "페이지가 존재하지 않습니다."),
+		@ApiResponse(code = 409, message = "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요."),
+		@ApiResponse(code = 413, message = "업로드할 수 있는 파일 크기를 넘었습니다."),
+		@ApiResponse(code = 415, message = "지원하지 않는 파일 확장자 입니다."),
+		@ApiResponse(code = 422, message = "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
+		@ApiResponse(code = 500, message = "서버 오류")})
+	@ApiImplicitParam(name = IdempotencyStore.HEADER, value = "재시도해도 한 번만 추가되도록 요청마다 만드는 키 (예: UUID)"
+		, dataType = "string", paramType = "header")
+	@PostMapping(path = "/v1/trade-offers/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<Long> createStreaming(HttpServletRequest request,
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+		// 본문을 읽어야 폼 필드를 알 수 있으므로 이미지는 멱등 키 확인 전에 저장된다. 같은 내용이면 기존 파일을 그대로 쓴다.
+		StreamedMultipart streamedMultipart = multipartStreamReader.read(request, "imageFile", "tradeOffer");
+		CreateTradeOfferRequest createTradeOfferRequest = streamedMultipart.bindTo(new CreateTradeOfferRequest());
+		createTradeOfferRequest.setImagePath(streamedMultipart.getImagePath());
+		Long createdTradeOfferId = idempotencyStore.execute(IdempotencyStore.TRADE_OFFER, idempotencyKey,
+			idempotencyStore.fingerprint(createTradeOfferRequest),
+			() -> tradeOfferService.create(createTradeOfferRequest, createTradeOfferRequest.getTradeId()));
 		URI url = URI.create("api/v1/trades/trade_offers/" + createdTradeOfferId);
 
 		return ResponseEntity.created(url).body(createdTradeOfferId);
@@ -125,21 +172,33 @@ public class TradeOfferController {
 
 	@ApiOperation(value = "교환 요청 이미지 디스플레이")
 	@ApiResponses({@ApiResponse(code = 200, message = "교환 요청 이미지 디스플레이 성공"),
+		@ApiResponse(code = 206, message = "요청한 구간 디스플레이 성공"),
+		@ApiResponse(code = 304, message = "변경되지 않은 이미지"),
 		@ApiResponse(code = 401, message = "접근 권한이 없습니다."),
 		@ApiResponse(code = 403, message = "비활성화 상태 계정입니다."),
 		@ApiResponse(code = 404, message = "파일 경로를 찾을 수 없습니다."),
+		@ApiResponse(code = 416, message = "요청한 구간이 파일 범위를 벗어났습니다."),
 		@ApiResponse(code = 500, message = "서버 오류")})
 	@ApiImplicitParam(name = "image_name", required = true
 		, dataType = "string", paramType = "path"
 		, defaultValue = "src/main/resources/static/images/trade/23110916241318_카카오 로고 Yellow.png")
-	@GetMapping("/images/tradeOffer/{imageName}")
-	public ResponseEntity<UrlResource> showImage(@PathVariable String imageName) {
-		try {
-			Path file = rootLocation.resolve(imageName);
-			UrlResource resource = new UrlResource(file.toUri());
-			return ResponseEntity.ok().body(resource);
-		} catch (MalformedURLException e) {
+	@GetMapping({"/images/tradeOffer/{imageName}", "/images/tradeOffer/{firstShard}/{secondShard}/{imageName}"})
+	public void showImage(@PathVariable(required = false) String firstShard,
+		@PathVariable(required = false) String secondShard, @PathVariable String imageName,
+		HttpServletRequest request, HttpServletResponse response) throws IOException {
+		// 내용 주소로 저장한 이미지는 해시 앞 두 바이트로 나눈 디렉토리에 있다. (FileHandler)
+		Path directory = firstShard == null ? rootLocation
+			: rootLocation.resolve(shard(firstShard)).resolve(shard(secondShard));
+		Path file = directory.resolve(imageName).normalize();
+		if (!file.startsWith(rootLocation) || !imageResponseWriter.write(file, request, response)) {
+			throw new BusinessException(TradeOfferErrorCode.NOT_FOUND_FILE_PATH);
+		}
+	}
+
+	private String shard(String shard) {
+		if (shard == null || !shard.matches("[0-9a-f]{2}")) {
 			throw new BusinessException(TradeOfferErrorCode.NOT_FOUND_FILE_PATH);
 		}
+		return shard;
 	}
 }
@@ -18,9 +18,17 @@ import lombok.Setter;
 public class FindAllTradeOfferResponse {
 	Page<FindTradeOfferDto> tradeOffers;
 
+	// 전체 개수가 상한(10,000)을 넘어 근사값이면 true ("10,000+" 로 표시)
+	boolean totalApproximate;
+
 	public static FindAllTradeOfferResponse of(Page<FindTradeOfferDto> tradeOffers) {
+		return of(tradeOffers, false);
+	}
+
+	public static FindAllTradeOfferResponse of(Page<FindTradeOfferDto> tradeOffers, boolean totalApproximate) {
 		return FindAllTradeOfferResponse.builder()
 			.tradeOffers(tradeOffers)
+			.totalApproximate(totalApproximate)
 			.build();
 	}
 }
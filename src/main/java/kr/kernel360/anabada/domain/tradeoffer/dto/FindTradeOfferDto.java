@@ -30,6 +30,18 @@ public class FindTradeOfferDto {
 			, example = "'src/main/resources/static/images/trade/23110916241318_카카오 로고 Yellow.png'")
 		private String imagePath;
 
+		@ApiModelProperty(value = "썸네일 이미지 경로(변환 전이면 null)"
+			, example = "'/images/tradeOffer/23110916241318_카카오 로고 Yellow_thumb.jpg'")
+		private String thumbnailPath;
+
+		@ApiModelProperty(value = "중간 크기 이미지 경로(변환 전이면 null)"
+			, example = "'/images/tradeOffer/23110916241318_카카오 로고 Yellow_medium.jpg'")
+		private String mediumPath;
+
+		@ApiModelProperty(value = "원본 크기, EXIF 를 지운 이미지 경로(변환 전이면 null)"
+			, example = "'/images/tradeOffer/23110916241318_카카오 로고 Yellow_normalized.png'")
+		private String normalizedPath;
+
 		@ApiModelProperty(value = "교환 요청 거래 상태", example = "수락전")
 		private TradeOfferStatus tradeOfferStatus;
 
@@ -39,6 +51,9 @@ public class FindTradeOfferDto {
 		@ApiModelProperty(value = "작성자", example = "겨울붕어빵이윤선")
 		private String createdBy;
 
+		@ApiModelProperty(value = "작성자 회원 아이디", example = "1")
+		private Long memberId;
+
 		@ApiModelProperty(value = "교환 아이디", example = "1")
 		private Long tradeId;
 
@@ -53,15 +68,20 @@ public class FindTradeOfferDto {
 
 	@QueryProjection
 	@Builder
-	public FindTradeOfferDto(Long id, String title, String content, String imagePath, TradeOfferStatus tradeOfferStatus,
-		DeletedStatus deletedStatus, String createdBy, LocalDateTime createdDate, Long tradeId) {
+	public FindTradeOfferDto(Long id, String title, String content, String imagePath, String thumbnailPath,
+		String mediumPath, String normalizedPath, TradeOfferStatus tradeOfferStatus, DeletedStatus deletedStatus,
+		String createdBy, Long memberId, LocalDateTime createdDate, Long tradeId) {
 		this.id = id;
 		this.title = title;
 		this.content = content;
 		this.imagePath = imagePath;
+		this.thumbnailPath = thumbnailPath;
+		this.mediumPath = mediumPath;
+		this.normalizedPath = normalizedPath;
 		this.tradeOfferStatus = tradeOfferStatus;
 		this.deletedStatus = deletedStatus;
 		this.createdBy = createdBy;
+		this.memberId = memberId;
 		this.createdDate = DateParser.dateTimeToString(createdDate);
 		this.tradeId = tradeId;
 	}
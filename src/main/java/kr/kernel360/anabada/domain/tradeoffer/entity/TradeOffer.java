@@ -8,6 +8,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -30,7 +31,8 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE trade_offer SET deleted_status = 1 WHERE id  = ?")
-@Table(name = "trade_offer")
+@Table(name = "trade_offer", indexes = {
+	@Index(name = "idx_trade_offer_trade_id_status", columnList = "trade_id, trade_offer_status")})
 public class TradeOffer extends BaseEntity {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -45,6 +47,15 @@ public class TradeOffer extends BaseEntity {
 	@Column(name = "image_path", columnDefinition = "varchar(255)")
 	private String imagePath;
 
+	@Column(name = "thumbnail_path", columnDefinition = "varchar(255)")
+	private String thumbnailPath;
+
+	@Column(name = "medium_path", columnDefinition = "varchar(255)")
+	private String mediumPath;
+
+	@Column(name = "normalized_path", columnDefinition = "varchar(255)")
+	private String normalizedPath;
+
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false, name = "trade_offer_status", columnDefinition = "varchar(20)")
 	private TradeOfferStatus tradeOfferStatus;
@@ -74,6 +85,15 @@ public class TradeOffer extends BaseEntity {
 		this.trade = trade;
 	}
 
+	/**
+	 * 업로드 이후 비동기로 만들어진 썸네일/중간 크기/정리본(EXIF 제거) 이미지 경로
+	 */
+	public void changeImageVariants(String thumbnailPath, String mediumPath, String normalizedPath) {
+		this.thumbnailPath = thumbnailPath;
+		this.mediumPath = mediumPath;
+		this.normalizedPath = normalizedPath;
+	}
+
 	public void update(TradeOfferStatus tradeOfferStatus) {
 		this.tradeOfferStatus = tradeOfferStatus;
 	}
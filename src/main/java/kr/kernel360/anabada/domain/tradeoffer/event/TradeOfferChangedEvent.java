@@ -0,0 +1,14 @@
+package kr.kernel360.anabada.domain.tradeoffer.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 교환 요청 생성, 삭제, 수락
+ */
+@Getter
+@AllArgsConstructor
+public class TradeOfferChangedEvent {
+	private final Long tradeId;
+	private final Long tradeOfferId;
+}
@@ -4,11 +4,9 @@ import static kr.kernel360.anabada.domain.member.entity.QMember.*;
 import static kr.kernel360.anabada.domain.trade.entity.QTrade.*;
 import static kr.kernel360.anabada.domain.tradeoffer.entity.QTradeOffer.*;
 
-import java.util.List;
-
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -17,60 +15,76 @@ import kr.kernel360.anabada.domain.trade.entity.Trade;
 import kr.kernel360.anabada.domain.tradeoffer.dto.FindAllTradeOfferRequest;
 import kr.kernel360.anabada.domain.tradeoffer.dto.FindTradeOfferDto;
 import kr.kernel360.anabada.domain.tradeoffer.dto.QFindTradeOfferDto;
+import kr.kernel360.anabada.global.cache.CountCache;
 import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
 import kr.kernel360.anabada.global.commons.domain.TradeOfferStatus;
+import kr.kernel360.anabada.global.query.CappedCountQuery;
+import kr.kernel360.anabada.global.query.PageQueryExecutor;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class TradeOfferRepositoryImpl implements TradeOfferRepositoryCustom{
 	private final JPAQueryFactory queryFactory;
+	private final CountCache countCache;
+	private final PageQueryExecutor pageQueryExecutor;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Override
 	public Page<FindTradeOfferDto> findAll(FindAllTradeOfferRequest findAllTradeOfferRequest, Pageable pageable) {
-		List<FindTradeOfferDto> content = queryFactory
-			.select(new QFindTradeOfferDto(
-				tradeOffer.id,
-				tradeOffer.title,
-				tradeOffer.tradeOfferStatus,
-				tradeOffer.deletedStatus,
-				tradeOffer.member.nickname,
-				tradeOffer.trade.id,
-				tradeOffer.createdDate,
-				tradeOffer.trade.title,
-				tradeOffer.trade.member.nickname
-			))
-			.from(tradeOffer)
-			.leftJoin(tradeOffer.member, member)
-			.innerJoin(tradeOffer.trade, trade)
-			.innerJoin(trade.member, member)
-			.where(
-				memberIdEq(findAllTradeOfferRequest.getMemberId()),
-				tradeIdEq(findAllTradeOfferRequest.getTradeId()),
-				memberNicknameEq(findAllTradeOfferRequest.getNickname()),
-				tradeOffer.deletedStatus.eq(DeletedStatus.FALSE)
+		String countKey = CountCache.keyOf(
+			findAllTradeOfferRequest.getMemberId(),
+			findAllTradeOfferRequest.getTradeId(),
+			findAllTradeOfferRequest.getNickname()
+		);
+		return pageQueryExecutor.page(CountCache.TRADE_OFFER, pageable,
+			() -> queryFactory
+				.select(new QFindTradeOfferDto(
+					tradeOffer.id,
+					tradeOffer.title,
+					tradeOffer.tradeOfferStatus,
+					tradeOffer.deletedStatus,
+					tradeOffer.member.nickname,
+					tradeOffer.trade.id,
+					tradeOffer.createdDate,
+					tradeOffer.trade.title,
+					tradeOffer.trade.member.nickname
+				))
+				.from(tradeOffer)
+				.leftJoin(tradeOffer.member, member)
+				.innerJoin(tradeOffer.trade, trade)
+				.innerJoin(trade.member, member)
+				.where(
+					memberIdEq(findAllTradeOfferRequest.getMemberId()),
+					tradeIdEq(findAllTradeOfferRequest.getTradeId()),
+					memberNicknameEq(findAllTradeOfferRequest.getNickname()),
+					tradeOffer.deletedStatus.eq(DeletedStatus.FALSE)
+					)
+				.orderBy(
+					tradeOffer.tradeOfferStatus.desc(),
+					tradeOffer.createdDate.desc()
 				)
-			.orderBy(
-				tradeOffer.tradeOfferStatus.desc(),
-				tradeOffer.createdDate.desc()
-			)
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.fetch();
-
-		Long total = queryFactory
-			.select(tradeOffer.count())
-			.from(tradeOffer)
-			.leftJoin(tradeOffer.member, member)
-			.where(
-				memberIdEq(findAllTradeOfferRequest.getMemberId()),
-				tradeIdEq(findAllTradeOfferRequest.getTradeId()),
-				memberNicknameEq(findAllTradeOfferRequest.getNickname()),
-				tradeOffer.deletedStatus.eq(DeletedStatus.FALSE)
-			)
-			.fetchOne();
-
-		return new PageImpl<>(content, pageable, total);
-
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize())
+				.fetch(),
+			() -> countCache.count(CountCache.TRADE_OFFER, countKey,
+				() -> queryFactory
+					.select(tradeOffer.count())
+					.from(tradeOffer)
+					.leftJoin(tradeOffer.member, member)
+					.where(
+						memberIdEq(findAllTradeOfferRequest.getMemberId()),
+						tradeIdEq(findAllTradeOfferRequest.getTradeId()),
+						memberNicknameEq(findAllTradeOfferRequest.getNickname()),
+						tradeOffer.deletedStatus.eq(DeletedStatus.FALSE)
+					)
+					.fetchOne(),
+				() -> CappedCountQuery.from("trade_offer o LEFT JOIN member m ON m.id = o.created_by")
+					.eq("m.id", findAllTradeOfferRequest.getMemberId())
+					.eq("o.trade_id", findAllTradeOfferRequest.getTradeId())
+					.eq("m.nickname", findAllTradeOfferRequest.getNickname())
+					.eq("o.deleted_status", DeletedStatus.FALSE.name())
+					.count(jdbcTemplate, CountCache.APPROXIMATE_LIMIT + 1)
+			));
 	}
 
 	private BooleanExpression memberNicknameEq(String nickname) {
@@ -93,9 +107,13 @@ public class TradeOfferRepositoryImpl implements TradeOfferRepositoryCustom{
 				tradeOffer.title,
 				tradeOffer.content,
 				tradeOffer.imagePath,
+				tradeOffer.thumbnailPath,
+				tradeOffer.mediumPath,
+				tradeOffer.normalizedPath,
 				tradeOffer.tradeOfferStatus,
 				tradeOffer.deletedStatus,
 				member.nickname,
+				member.id,
 				tradeOffer.createdDate,
 				tradeOffer.trade.id
 			))
@@ -2,14 +2,16 @@ package kr.kernel360.anabada.domain.tradeoffer.service;
 
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import kr.kernel360.anabada.domain.image.service.StoredImageService;
 import kr.kernel360.anabada.domain.member.entity.Member;
-import kr.kernel360.anabada.domain.member.repository.MemberRepository;
+import kr.kernel360.anabada.domain.member.service.LoginMemberService;
+import kr.kernel360.anabada.domain.trade.cache.TradeListCache;
 import kr.kernel360.anabada.domain.trade.entity.Trade;
 import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
 import kr.kernel360.anabada.domain.tradeoffer.dto.CreateTradeOfferRequest;
@@ -18,11 +20,16 @@ import kr.kernel360.anabada.domain.tradeoffer.dto.FindAllTradeOfferResponse;
 import kr.kernel360.anabada.domain.tradeoffer.dto.FindTradeOfferDto;
 import kr.kernel360.anabada.domain.tradeoffer.dto.FindTradeOfferResponse;
 import kr.kernel360.anabada.domain.tradeoffer.entity.TradeOffer;
+import kr.kernel360.anabada.domain.tradeoffer.event.TradeOfferChangedEvent;
 import kr.kernel360.anabada.domain.tradeoffer.repository.TradeOfferRepository;
+import kr.kernel360.anabada.global.cache.AggregateVersionStore;
+import kr.kernel360.anabada.global.cache.CountCache;
+import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
 import kr.kernel360.anabada.global.commons.domain.TradeOfferStatus;
 import kr.kernel360.anabada.global.commons.domain.TradeStatus;
 import kr.kernel360.anabada.global.error.code.TradeOfferErrorCode;
 import kr.kernel360.anabada.global.error.exception.BusinessException;
+import kr.kernel360.anabada.global.image.ImageVariantService;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -30,44 +37,65 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class TradeOfferService {
 	private final TradeOfferRepository tradeOfferRepository;
-	private final MemberRepository memberRepository;
+	private final LoginMemberService loginMemberService;
 	private final TradeRepository tradeRepository;
+	private final CountCache countCache;
+	private final TradeListCache tradeListCache;
+	private final AggregateVersionStore aggregateVersionStore;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ImageVariantService imageVariantService;
+	private final StoredImageService storedImageService;
 
 	public FindAllTradeOfferResponse findAll(FindAllTradeOfferRequest findAllTradeOfferRequest, Pageable pageable) {
 		Page<FindTradeOfferDto> tradeOffers = tradeOfferRepository.findAll(findAllTradeOfferRequest, pageable);
 		
-		return FindAllTradeOfferResponse.of(tradeOffers);
+		return FindAllTradeOfferResponse.of(tradeOffers, countCache.isApproximate(tradeOffers.getTotalElements()));
 	}
 
 	public FindTradeOfferResponse find(Long tradeOfferId) {
-		String findEmailByJwt = SecurityContextHolder.getContext().getAuthentication().getName();
-		Member loginMember = memberRepository.findByEmail(findEmailByJwt)
-			.orElseThrow(()-> new BusinessException(TradeOfferErrorCode.NOT_FOUND_MEMBER));
+		// 닉네임은 바뀔 수 있으므로 회원 아이디로 비교한다.
+		Long loginMemberId = loginMemberService.getMemberId(TradeOfferErrorCode.NOT_FOUND_MEMBER);
 		FindTradeOfferDto findTradeOfferDto = Optional.ofNullable(tradeOfferRepository.find(tradeOfferId))
 			.orElseThrow(() -> new BusinessException(TradeOfferErrorCode.NOT_FOUND_TRADE_OFFER));
-		Member tradeOfferOwner = memberRepository.findByNickname(findTradeOfferDto.getCreatedBy())
-			.orElseThrow(()-> new BusinessException(TradeOfferErrorCode.NOT_FOUND_MEMBER));
 		FindTradeOfferResponse findTradeOfferResponse = FindTradeOfferResponse.of(findTradeOfferDto);
-		findTradeOfferResponse.setIsOfferOwner(loginMember.getEmail().equals(tradeOfferOwner.getEmail()));
+		findTradeOfferResponse.setIsOfferOwner(loginMemberId.equals(findTradeOfferDto.getMemberId()));
 
 		return findTradeOfferResponse;
 	}
 
 	@Transactional
 	public Long create(CreateTradeOfferRequest createTradeOfferRequest, Long tradeId) {
-		String findEmailByJwt = SecurityContextHolder.getContext().getAuthentication().getName();
-		Member findMember = memberRepository.findByEmail(findEmailByJwt)
-			.orElseThrow(()-> new BusinessException(TradeOfferErrorCode.NOT_FOUND_MEMBER));
+		Member findMember = loginMemberService.getReference(TradeOfferErrorCode.NOT_FOUND_MEMBER);
 		Trade findTrade = findTradeById(tradeId);
+		TradeOffer savedTradeOffer = tradeOfferRepository.save(
+			CreateTradeOfferRequest.toEntity(createTradeOfferRequest, findMember, findTrade));
+		Long savedTradeOfferId = savedTradeOffer.getId();
+		storedImageService.retain(savedTradeOffer.getImagePath());
+		countCache.evict(CountCache.TRADE_OFFER);
+		aggregateVersionStore.bump(AggregateVersionStore.keyOf(AggregateVersionStore.TRADE, tradeId));
+		eventPublisher.publishEvent(new TradeOfferChangedEvent(tradeId, savedTradeOfferId));
+		imageVariantService.generateAfterCommit(savedTradeOffer.getImagePath(),
+			imageVariants -> tradeOfferRepository.findById(savedTradeOfferId).ifPresent(findTradeOffer -> {
+				findTradeOffer.changeImageVariants(imageVariants.getThumbnailPath(), imageVariants.getMediumPath(),
+					imageVariants.getNormalizedPath());
+				aggregateVersionStore.bump(AggregateVersionStore.keyOf(AggregateVersionStore.TRADE, tradeId));
+			}));
 
-		return tradeOfferRepository.save(CreateTradeOfferRequest.toEntity(createTradeOfferRequest, findMember, findTrade)).getId();
+		return savedTradeOfferId;
 	}
 
 	@Transactional
 	public Long remove(Long tradeOfferId) {
 		TradeOffer findTradeOffer = findTradeOfferById(tradeOfferId);
+		if (findTradeOffer.getDeletedStatus() == DeletedStatus.FALSE) {
+			storedImageService.release(findTradeOffer.getImagePath());
+		}
 		findTradeOffer.remove();
-		
+		countCache.evict(CountCache.TRADE_OFFER);
+		aggregateVersionStore.bump(AggregateVersionStore.keyOf(AggregateVersionStore.TRADE,
+			findTradeOffer.getTrade().getId()));
+		eventPublisher.publishEvent(new TradeOfferChangedEvent(findTradeOffer.getTrade().getId(), tradeOfferId));
+
 		return tradeOfferId;
 	}
 
@@ -90,6 +118,10 @@ public class TradeOfferService {
 		findTrade.update(TradeStatus.AFTER_ACCEPT);
 		findTradeOffer.update(TradeOfferStatus.REQUEST_ACCEPTED);
 		tradeOfferRepository.updateTradeOffersByTradeOfferIdNeAndTradeEq(tradeOfferId, findTrade);
+		countCache.evict(CountCache.TRADE_OFFER);
+		tradeListCache.evict(findTrade);
+		aggregateVersionStore.bump(AggregateVersionStore.keyOf(AggregateVersionStore.TRADE, findTrade.getId()));
+		eventPublisher.publishEvent(new TradeOfferChangedEvent(findTrade.getId(), tradeOfferId));
 	}
 
 	private void isAlreadyAfterAccept(Trade findTrade) {
@@ -2,62 +2,207 @@ package kr.kernel360.anabada.global;
 
 import java.io.File;
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.Optional;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import kr.kernel360.anabada.domain.image.repository.StoredImageRepository;
 import kr.kernel360.anabada.global.error.code.FileErrorCode;
 import kr.kernel360.anabada.global.error.exception.BusinessException;
+import kr.kernel360.anabada.global.image.ImageVariantGenerator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 업로드 이미지는 내용의 SHA-256 으로 이름을 짓고 images/{detailPath}/ab/cd/{sha256}.{ext} 에 둔다.
+ * 업로드 스트림을 고정 크기 버퍼로 저장 디렉토리의 임시 파일에 쓰면서 해시를 계산하고, 다 받으면 최종 이름으로 rename 한다.
+ * 파일 형식은 클라이언트가 보낸 Content-Type 이 아니라 앞부분 바이트(매직 넘버)로 판단한다.
+ * 디렉토리를 앞 두 바이트로 나눠 한 디렉토리의 파일 수가 계속 늘지 않게 한다.
+ * 저장한 파일은 참조 수 0 으로 stored_image 에 남겨, 끝내 참조되지 않으면 StoredImageService 가 지우게 한다.
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class FileHandler {
+	// 확장자별 파일 앞부분 바이트 (JPEG SOI, PNG 시그니처)
+	private static final Map<String, byte[]> SIGNATURES = Map.of(
+		".jpg", new byte[] {(byte)0xFF, (byte)0xD8, (byte)0xFF},
+		".png", new byte[] {(byte)0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+	private static final int SIGNATURE_LENGTH = 8;
+	private static final int BUFFER_SIZE = 64 * 1024;
 	private final String imageStoragePath = "images/";
+	private final StoredImageRepository storedImageRepository;
+
+	@Value("${anabada.upload.max-image-bytes:10485760}")
+	private long maxImageBytes;
+
 	public String parseFileInfo(MultipartFile multipartFile, String detailPath) {
-		String contentType = findContentTypeByFile(multipartFile);
-		if (!isValidImageType(contentType))
-			return null;
-		String uniqueImageName = generateUniqueImageName(multipartFile.getOriginalFilename());
-		String imageSavePath = imageStoragePath + detailPath;
-		String filePathString = generateImagePath(imageSavePath, uniqueImageName);
-		transferTo(multipartFile, new File(filePathString));
+		try (InputStream inputStream = multipartFile.getInputStream()) {
+			return store(inputStream, detailPath);
+		} catch (IOException e) {
+			throw new BusinessException(FileErrorCode.FILE_SYSTEM_ERROR);
+		}
+	}
+
+	/**
+	 * 업로드 스트림을 끝까지 읽어 저장하고 /images/{detailPath}/ab/cd/{sha256}.{ext} 를 돌려준다.
+	 * 크기 제한과 형식은 읽는 동안 확인하므로, 잘못된 업로드는 다 받기 전에 멈춘다.
+	 */
+	public String store(InputStream inputStream, String detailPath) throws IOException {
+		Path directory = generateImagePath(imageStoragePath + detailPath);
+		Files.createDirectories(directory);
+		Path temporary = Files.createTempFile(directory, ".upload", ".tmp");
+		try {
+			MessageDigest messageDigest = sha256();
+			String extension = copy(inputStream, temporary, messageDigest);
+			String hash = HexFormat.of().formatHex(messageDigest.digest());
+			String shardedName = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + extension;
+			String imagePath = "/images/" + detailPath + "/" + shardedName;
+			// 파일보다 행을 먼저 남겨, 옮긴 뒤 실패해도 지울 대상에서 빠지지 않게 한다.
+			storedImageRepository.registerUpload(imagePath);
+			moveIfAbsent(temporary, directory.resolve(shardedName));
 
-		return "/images/" + detailPath + "/" + uniqueImageName;
+			return imagePath;
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
 	}
-	private String findContentTypeByFile(MultipartFile multipartFile) {
-		return Optional.ofNullable(multipartFile.getContentType())
-			.orElseThrow(() -> new BusinessException(FileErrorCode.NOT_FOUND_FILE_TYPE));
+
+	/**
+	 * parseFileInfo 가 돌려준 경로(/images/trade/ab/cd/이름)를 저장된 파일 경로로 바꾼다.
+	 */
+	public Path findSavedPath(String imagePath) {
+		String relativePath = imagePath.startsWith("/") ? imagePath.substring(1) : imagePath;
+		return generateImagePath(relativePath);
 	}
 
-	private boolean isValidImageType(String contentType) {
-		List<String> allowedImageExtensions = List.of("image/jpeg", "image/png");
-		if (!allowedImageExtensions.contains(contentType)) {
-			throw new BusinessException(FileErrorCode.UNSUPPORTED_EXTENSION);
+	/**
+	 * 원본과 변환본(썸네일/중간 크기/정리본)을 지운다. 참조가 모두 사라진 이미지에만 쓴다.
+	 * 원본이 modifiedBefore 이후에 다시 저장(재사용)되었으면 곧 참조될 파일이므로 지우지 않는다.
+	 */
+	public void deleteSavedFile(String imagePath, Instant modifiedBefore) {
+		Path original = findSavedPath(imagePath);
+		try {
+			if (Files.exists(original) && !Files.getLastModifiedTime(original).toInstant().isBefore(modifiedBefore)) {
+				return;
+			}
+			for (Path variant : ImageVariantGenerator.variantsOf(original)) {
+				Files.deleteIfExists(variant);
+			}
+			Files.deleteIfExists(original);
+		} catch (IOException e) {
+			log.warn("image delete failed. imagePath={}, cause={}", imagePath, e.getMessage());
 		}
-		return true;
 	}
 
-	private String generateUniqueImageName(String originalFilename) {
-		return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyMMddHHmmss"))
-			+ "_" + originalFilename;
+	private Path generateImagePath(String relativePath) {
+		File file = new File(relativePath).getAbsoluteFile();
+		return Paths.get(file.toString().replace("/build/libs", ""));
 	}
 
-	private String generateImagePath(String imageSavePath, String uniqueImageName) {
-		File file = new File(imageSavePath, uniqueImageName).getAbsoluteFile();
-		return file.toString().replace("/build/libs", "");
+	/**
+	 * 버퍼 하나로 읽으면서 임시 파일에 쓰고 SHA-256 을 갱신한다.
+	 * 첫 SIGNATURE_LENGTH 바이트가 모이면 형식을 확인하고, 확장자를 돌려준다.
+	 */
+	private String copy(InputStream inputStream, Path temporary, MessageDigest messageDigest) throws IOException {
+		ReadableByteChannel source = Channels.newChannel(inputStream);
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		String extension = null;
+		long size = 0;
+		try (FileChannel target = FileChannel.open(temporary, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING)) {
+			int read;
+			while ((read = source.read(buffer)) != -1) {
+				size += read;
+				if (size > maxImageBytes) {
+					throw new BusinessException(FileErrorCode.FILE_TOO_LARGE);
+				}
+				if (extension == null) {
+					if (buffer.position() < SIGNATURE_LENGTH) {
+						continue;
+					}
+					extension = detectExtension(buffer);
+				}
+				drain(buffer, target, messageDigest);
+			}
+			if (extension == null) {
+				extension = detectExtension(buffer);
+			}
+			drain(buffer, target, messageDigest);
+		}
+		return extension;
 	}
 
-	private void transferTo(MultipartFile multipartFile, File file) {
-		try {
-			multipartFile.transferTo(file);
-		} catch (IOException e) {
-			throw new BusinessException(FileErrorCode.FILE_SYSTEM_ERROR);
+	private void drain(ByteBuffer buffer, FileChannel target, MessageDigest messageDigest) throws IOException {
+		buffer.flip();
+		messageDigest.update(buffer.duplicate());
+		while (buffer.hasRemaining()) {
+			target.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	private String detectExtension(ByteBuffer buffer) {
+		for (Map.Entry<String, byte[]> signature : SIGNATURES.entrySet()) {
+			if (startsWith(buffer, signature.getValue())) {
+				return signature.getKey();
+			}
 		}
+		throw new BusinessException(FileErrorCode.UNSUPPORTED_EXTENSION);
 	}
 
-}
\ No newline at end of file
+	private boolean startsWith(ByteBuffer buffer, byte[] signature) {
+		if (buffer.position() < signature.length) {
+			return false;
+		}
+		for (int i = 0; i < signature.length; i++) {
+			if (buffer.get(i) != signature[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 같은 내용이 이미 있으면 그대로 쓴다. 동시에 같은 파일이 올라와도 rename 은 원자적이고 내용이 같으므로 덮어써도 된다.
+	 * 재사용할 때는 수정 시각을 갱신해, 참조가 사라진 파일을 지우는 쪽(StoredImageService)이 건드리지 않게 한다.
+	 */
+	private void moveIfAbsent(Path temporary, Path target) throws IOException {
+		if (Files.exists(target)) {
+			try {
+				Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+				return;
+			} catch (NoSuchFileException e) {
+				// 확인한 사이 지워졌으면 새로 옮긴다.
+			}
+		}
+		Files.createDirectories(target.getParent());
+		Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package kr.kernel360.anabada.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조회 응답의 ETag 를 만드는 집합(aggregate)별 버전 카운터 (Redis INCR)
+ * 쓰기 작업이 커밋되면 버전을 올리고, ETag 는 DB 조회 없이 버전만으로 만든다.
+ * INCR 값을 그대로 읽어야 하므로 문자열 직렬화를 쓰는 StringRedisTemplate 을 사용한다.
+ * Redis 가 비워지면 epoch 가 새로 만들어져 이전 ETag 는 모두 맞지 않게 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AggregateVersionStore {
+	public static final String TRADE = "trade";
+	public static final String FAQ = "faq";
+	public static final String CATEGORY = "category";
+	public static final String MEMBER = "member";
+
+	private static final String KEY_PREFIX = "version:";
+	private static final String EPOCH_KEY = KEY_PREFIX + "epoch";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * id 가 null 이면 집합 전체에 하나인 버전 키를 반환한다.
+	 */
+	public static String keyOf(String aggregate, Object id) {
+		return id == null ? KEY_PREFIX + aggregate : KEY_PREFIX + aggregate + ":" + id;
+	}
+
+	/**
+	 * 버전 키들과 variant(같은 버전이라도 응답이 달라지는 값, 예: 조회한 회원)로 강한 ETag 를 만든다.
+	 * Redis 를 읽지 못하면 null 을 반환하고, 호출한 쪽은 조건부 응답 없이 그대로 조회한다.
+	 */
+	public String eTag(String variant, String... versionKeys) {
+		try {
+			List<String> keys = new ArrayList<>(versionKeys.length + 1);
+			keys.add(EPOCH_KEY);
+			keys.addAll(List.of(versionKeys));
+			List<String> versions = stringRedisTemplate.opsForValue().multiGet(keys);
+			if (versions == null) {
+				return null;
+			}
+			String epoch = versions.get(0) != null ? versions.get(0) : newEpoch();
+
+			StringBuilder source = new StringBuilder(epoch);
+			for (int i = 1; i < keys.size(); i++) {
+				source.append('|').append(keys.get(i)).append('=').append(versions.get(i) != null ? versions.get(i) : "0");
+			}
+			source.append('|').append(variant);
+
+			return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+		} catch (DataAccessException e) {
+			log.warn("aggregate version read failed: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * 트랜잭션 안이면 커밋 이후에 버전을 올린다.
+	 */
+	public void bump(String versionKey) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					increment(versionKey);
+				}
+			});
+			return;
+		}
+		increment(versionKey);
+	}
+
+	private void increment(String versionKey) {
+		try {
+			stringRedisTemplate.opsForValue().increment(versionKey);
+		} catch (DataAccessException e) {
+			log.warn("aggregate version bump failed. key={}, {}", versionKey, e.getMessage());
+		}
+	}
+
+	private String newEpoch() {
+		stringRedisTemplate.opsForValue().setIfAbsent(EPOCH_KEY, UUID.randomUUID().toString());
+		return stringRedisTemplate.opsForValue().get(EPOCH_KEY);
+	}
+}
@@ -0,0 +1,167 @@
+package kr.kernel360.anabada.global.cache;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 목록 조회의 전체 개수(COUNT) 캐시
+ * 키는 정규화된 검색 조건이고, 쓰기 작업이 region 의 세대(generation)를 올리면 이전 값은 모두 무효가 된다.
+ * approximate 모드에서는 세대와 상관없이 ttl 동안 값을 재사용하고, APPROXIMATE_LIMIT 을 넘는 개수는 세지 않는다.
+ * 캐시는 노드마다 따로 있으므로 세대를 올리면 redis 채널로 알리고, 다른 노드도 같은 region 의 세대를 올린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CountCache implements MessageListener {
+	public static final String CHANNEL = "anabada:count-cache:evict";
+	public static final String TRADE = "trade";
+	public static final String TRADE_OFFER = "tradeOffer";
+	public static final String FAQ = "faq";
+	public static final long APPROXIMATE_LIMIT = 10_000L;
+
+	private static final String KEY_DELIMITER = "|";
+
+	private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+	private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@Value("${anabada.count-cache.approximate:false}")
+	private boolean approximate;
+
+	@Value("${anabada.count-cache.ttl-seconds:300}")
+	private long ttlSeconds;
+
+	@Value("${anabada.count-cache.approximate-ttl-seconds:60}")
+	private long approximateTtlSeconds;
+
+	@Value("${anabada.count-cache.max-size:10000}")
+	private int maxSize;
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	public static String keyOf(Object... conditions) {
+		return Arrays.stream(conditions)
+			.map(condition -> condition == null ? "" : condition.toString().trim().toLowerCase(Locale.ROOT))
+			.collect(Collectors.joining(KEY_DELIMITER));
+	}
+
+	/**
+	 * approximate 모드이면 cappedCount(APPROXIMATE_LIMIT + 1 에서 멈추는 개수)를, 아니면 exactCount 를 캐시해서 반환한다.
+	 * APPROXIMATE_LIMIT 보다 큰 값이면 응답의 totalApproximate 가 true 이고, 클라이언트는 "10,000+" 로 표시한다.
+	 */
+	public long count(String region, String key, LongSupplier exactCount, LongSupplier cappedCount) {
+		String cacheKey = region + KEY_DELIMITER + approximate + KEY_DELIMITER + key;
+		long generation = generationOf(region).get();
+		long now = System.currentTimeMillis();
+
+		CachedCount cached = counts.get(cacheKey);
+		if (cached != null && cached.isValid(generation, now)) {
+			return cached.count;
+		}
+
+		long count = approximate ? cappedCount.getAsLong() : exactCount.getAsLong();
+		if (counts.size() >= maxSize) {
+			counts.clear();
+		}
+		long expiresAt = now + (approximate ? approximateTtlSeconds : ttlSeconds) * 1000;
+		counts.put(cacheKey, new CachedCount(count, generation, expiresAt, approximate));
+
+		return count;
+	}
+
+	/**
+	 * approximate 모드에서 상한에 걸려 실제 개수를 모르는 값인지 여부
+	 */
+	public boolean isApproximate(long count) {
+		return approximate && count > APPROXIMATE_LIMIT;
+	}
+
+	/**
+	 * 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 무효화해서,
+	 * 커밋 전에 다른 요청이 이전 개수를 다시 캐시하는 경우를 막는다. 다른 노드에는 커밋 이후에 알린다.
+	 */
+	public void evict(String region) {
+		AtomicLong generation = generationOf(region);
+		generation.incrementAndGet();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					generation.incrementAndGet();
+					publish(region);
+				}
+			});
+			return;
+		}
+		publish(region);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		// redisTemplate 의 value serializer 로 보냈으므로 같은 serializer 로 읽는다.
+		Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+		if (body == null) {
+			return;
+		}
+		String[] parts = body.toString().split("\\" + KEY_DELIMITER, 2);
+		if (parts.length != 2 || nodeId.equals(parts[0])) {
+			return;
+		}
+		generationOf(parts[1]).incrementAndGet();
+	}
+
+	private void publish(String region) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, nodeId + KEY_DELIMITER + region);
+		} catch (RuntimeException e) {
+			log.warn("count cache eviction publish failed. region={}, cause={}", region, e.getMessage());
+		}
+	}
+
+	private AtomicLong generationOf(String region) {
+		return generations.computeIfAbsent(region, key -> new AtomicLong());
+	}
+
+	@AllArgsConstructor
+	private static final class CachedCount {
+		private final long count;
+		private final long generation;
+		private final long expiresAt;
+		private final boolean approximate;
+
+		private boolean isValid(long currentGeneration, long now) {
+			if (now > expiresAt) {
+				return false;
+			}
+			return approximate || generation == currentGeneration;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package kr.kernel360.anabada.global.cache;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.place.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hibernate 2차 캐시 노드 간 무효화
+ * 2차 캐시(ehcache)는 노드마다 따로 있으므로, 캐시되는 엔티티가 수정/삭제 커밋되면 redis 채널로 알리고
+ * 다른 노드는 해당 엔티티와 그 엔티티를 돌려주는 query cache region 만 지운다. 메시지를 놓치면 region TTL 이 지난 뒤 맞춰진다.
+ * 새로 만든 엔티티는 다른 노드 캐시에 아직 없으므로 알리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheSynchronizer implements PostCommitUpdateEventListener, PostCommitDeleteEventListener,
+	MessageListener {
+	public static final String CHANNEL = "anabada:cache:evict";
+	private static final String DELIMITER = "|";
+	// 엔티티 -> 그 엔티티를 돌려주는 cacheable 쿼리의 region. cacheable 쿼리를 추가하면 여기에도 등록한다.
+	private static final Map<String, List<String>> QUERY_REGIONS = Map.of(
+		Place.class.getName(), List.of(PlaceRepository.QUERY_CACHE_REGION));
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@PostConstruct
+	public void register() {
+		sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		EventListenerRegistry eventListenerRegistry = sessionFactory.getServiceRegistry()
+			.getService(EventListenerRegistry.class);
+		eventListenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+		eventListenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		publish(event.getPersister(), event.getId());
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		publish(event.getPersister(), event.getId());
+	}
+
+	@Override
+	public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+	}
+
+	@Override
+	public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+	}
+
+	/** 2차 캐시에 올라가는 엔티티만 알린다. **/
+	@Override
+	public boolean requiresPostCommitHanding(EntityPersister persister) {
+		return persister.canWriteToCache();
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		// redisTemplate 의 value serializer 로 보냈으므로 같은 serializer 로 읽는다.
+		Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+		if (body == null) {
+			return;
+		}
+		String[] parts = body.toString().split("\\" + DELIMITER, 3);
+		if (parts.length != 3 || nodeId.equals(parts[0])) {
+			return;
+		}
+		try {
+			sessionFactory.getCache().evictEntityData(parts[1], Long.valueOf(parts[2]));
+			evictQueryRegions(parts[1]);
+		} catch (RuntimeException e) {
+			log.warn("second level cache eviction failed. entity={}, id={}, cause={}", parts[1], parts[2], e.getMessage());
+		}
+	}
+
+	/**
+	 * Hibernate 를 거치지 않고 JDBC 로 바꾼 엔티티를 이 노드와 다른 노드의 2차 캐시에서 지운다.
+	 * 커밋 이후에 호출한다.
+	 */
+	public void evict(Class<?> entityClass, Serializable id) {
+		sessionFactory.getCache().evictEntityData(entityClass, id);
+		evictQueryRegions(entityClass.getName());
+		publish(entityClass.getName(), id);
+	}
+
+	private void evictQueryRegions(String entityName) {
+		QUERY_REGIONS.getOrDefault(entityName, List.of())
+			.forEach(region -> sessionFactory.getCache().evictQueryRegion(region));
+	}
+
+	private void publish(EntityPersister persister, Serializable id) {
+		if (!persister.canWriteToCache()) {
+			return;
+		}
+		publish(persister.getEntityName(), id);
+	}
+
+	private void publish(String entityName, Serializable id) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + entityName + DELIMITER + id);
+		} catch (RuntimeException e) {
+			log.warn("second level cache eviction publish failed. entity={}, id={}, cause={}",
+				entityName, id, e.getMessage());
+		}
+	}
+}
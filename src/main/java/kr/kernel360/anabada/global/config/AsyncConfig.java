@@ -0,0 +1,83 @@
+package kr.kernel360.anabada.global.config;
+
+import org.springframework.aop.interceptor.AsyncExecutionAspectSupport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+	public static final String PAGE_QUERY_EXECUTOR = "pageQueryTaskExecutor";
+	public static final String SAVED_SEARCH_EXECUTOR = "savedSearchTaskExecutor";
+	public static final String TRADE_PAGE_EXECUTOR = "tradePageTaskExecutor";
+	public static final String IMAGE_EXECUTOR = "imageTaskExecutor";
+
+	/**
+	 * Executor 빈을 직접 등록하면 Spring Boot 기본 실행기가 만들어지지 않으므로,
+	 * MVC 비동기 요청(StreamingResponseBody)과 이름 없는 @Async 가 쓰는 기본 실행기를 같은 설정으로 등록한다.
+	 */
+	@Primary
+	@Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+		AsyncExecutionAspectSupport.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+	public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder taskExecutorBuilder) {
+		return taskExecutorBuilder.build();
+	}
+
+	/**
+	 * 목록 개수(COUNT) 쿼리 전용 풀. 스레드마다 커넥션을 하나씩 잡으므로 커넥션 풀보다 작게 둔다.
+	 * 큐가 차면 TaskRejectedException 을 던지고, 호출한 쪽은 요청 스레드에서 순서대로 실행한다.
+	 */
+	@Bean(name = PAGE_QUERY_EXECUTOR)
+	public ThreadPoolTaskExecutor pageQueryTaskExecutor(
+		@Value("${anabada.page-query.pool-size:4}") int poolSize,
+		@Value("${anabada.page-query.queue-capacity:32}") int queueCapacity) {
+		return boundedExecutor("page-query-", poolSize, queueCapacity);
+	}
+
+	/**
+	 * 새 교환과 저장된 검색 조건을 맞춰보는 풀. 알림은 늦어도 되므로 큐를 넉넉하게 둔다.
+	 */
+	@Bean(name = SAVED_SEARCH_EXECUTOR)
+	public ThreadPoolTaskExecutor savedSearchTaskExecutor(
+		@Value("${anabada.saved-search.pool-size:2}") int poolSize,
+		@Value("${anabada.saved-search.queue-capacity:1000}") int queueCapacity) {
+		return boundedExecutor("saved-search-", poolSize, queueCapacity);
+	}
+
+	/**
+	 * 교환 상세 화면(교환, 댓글, 교환 요청)을 나눠 조회하는 풀. 요청 하나가 작업 세 개를 넣는다.
+	 */
+	@Bean(name = TRADE_PAGE_EXECUTOR)
+	public ThreadPoolTaskExecutor tradePageTaskExecutor(
+		@Value("${anabada.trade-page.pool-size:8}") int poolSize,
+		@Value("${anabada.trade-page.queue-capacity:64}") int queueCapacity) {
+		return boundedExecutor("trade-page-", poolSize, queueCapacity);
+	}
+
+	/**
+	 * 업로드 이미지 변환(썸네일/중간 크기) 풀. 디코딩한 이미지가 메모리를 많이 쓰므로 스레드를 적게 둔다.
+	 */
+	@Bean(name = IMAGE_EXECUTOR)
+	public ThreadPoolTaskExecutor imageTaskExecutor(
+		@Value("${anabada.image.pool-size:2}") int poolSize,
+		@Value("${anabada.image.queue-capacity:200}") int queueCapacity) {
+		return boundedExecutor("image-", poolSize, queueCapacity);
+	}
+
+	private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix(threadNamePrefix);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		return executor;
+	}
+}
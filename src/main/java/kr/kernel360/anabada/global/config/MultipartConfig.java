@@ -0,0 +1,20 @@
+package kr.kernel360.anabada.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import kr.kernel360.anabada.global.upload.StreamingMultipartResolver;
+
+@Configuration
+public class MultipartConfig {
+	/**
+	 * MultipartResolver 빈을 직접 등록하면 Spring Boot 기본 resolver 는 만들어지지 않는다.
+	 * 스트리밍 업로드 경로만 빼고 기본 resolver 와 같게 동작한다. (spring.servlet.multipart 크기 제한도 그대로 쓴다)
+	 */
+	@Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+	public MultipartResolver multipartResolver() {
+		return new StreamingMultipartResolver();
+	}
+}
@@ -5,7 +5,8 @@ import lombok.AllArgsConstructor;
 public enum FileErrorCode implements ErrorCode {
 	FILE_SYSTEM_ERROR(500, "파일시스템 처리 중 에러가 발생하였습니다."),
 	UNSUPPORTED_EXTENSION(415, "지원하지 않는 파일 확장자 입니다."),
-	NOT_FOUND_FILE_TYPE(422, "파일 타입을 찾을 수 없습니다.");
+	FILE_TOO_LARGE(413, "업로드할 수 있는 파일 크기를 넘었습니다."),
+	INVALID_UPLOAD_REQUEST(400, "업로드 요청을 읽을 수 없습니다.");
 
 	private final int status;
 	private final String message;
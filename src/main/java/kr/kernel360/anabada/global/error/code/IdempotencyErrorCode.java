@@ -0,0 +1,23 @@
+package kr.kernel360.anabada.global.error.code;
+
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public enum IdempotencyErrorCode implements ErrorCode {
+	INVALID_IDEMPOTENCY_KEY(400, "Idempotency-Key 는 1~100자의 영문, 숫자, -, _ 만 사용할 수 있습니다."),
+	REQUEST_IN_PROGRESS(409, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요."),
+	IDEMPOTENCY_KEY_REUSED(422, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+
+	private final int status;
+	private final String message;
+
+	@Override
+	public int getStatus() {
+		return status;
+	}
+
+	@Override
+	public String getMessage() {
+		return message;
+	}
+}
@@ -0,0 +1,26 @@
+package kr.kernel360.anabada.global.error.code;
+
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public enum SavedSearchErrorCode implements ErrorCode {
+	NOT_FOUND_MEMBER(404, "존재하지 않는 회원 입니다."),
+	NOT_FOUND_SAVED_SEARCH(404, "존재하지 않는 검색 조건 입니다."),
+	FORBIDDEN_SAVED_SEARCH(403, "본인의 검색 조건만 삭제할 수 있습니다."),
+	EMPTY_SAVED_SEARCH(400, "검색어, 교환 타입, 카테고리, 지역 중 하나 이상을 입력해 주세요."),
+	INVALID_TRADE_TYPE(400, "잘못된 교환 타입 입니다."),
+	TOO_MANY_SAVED_SEARCHES(400, "검색 조건은 최대 20개까지 저장할 수 있습니다.");
+
+	private final int status;
+	private final String message;
+
+	@Override
+	public int getStatus() {
+		return status;
+	}
+
+	@Override
+	public String getMessage() {
+		return message;
+	}
+}
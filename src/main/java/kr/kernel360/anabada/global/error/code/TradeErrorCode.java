@@ -9,7 +9,12 @@ public enum TradeErrorCode implements ErrorCode {
 	NOT_FOUND_MEMBER(404, "존재하지 않는 회원 입니다."),
 	NOT_FOUND_CATEGORY(404, "존재하지 않는 카테고리 입니다."),
 	NOT_FOUND_TRADE(404, "교환 정보를 찾을 수 없습니다."),
-	NOT_FOUND_PLACE(404, "위치정보를 찾을 수 없습니다.");
+	NOT_FOUND_PLACE(404, "위치정보를 찾을 수 없습니다."),
+	INVALID_CURSOR(400, "유효하지 않은 커서 입니다."),
+	INVALID_EXPORT_FORMAT(400, "지원하지 않는 내보내기 형식 입니다."),
+	INVALID_IMPORT_FORMAT(400, "지원하지 않는 가져오기 형식 입니다."),
+	INVALID_IMPORT_FILE(400, "교환 파일을 읽을 수 없습니다."),
+	TIMEOUT_TRADE_PAGE(504, "교환 정보 조회 시간이 초과되었습니다.");
 
 
 	private final int status;
@@ -0,0 +1,127 @@
+package kr.kernel360.anabada.global.geo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 위도/경도 격자(grid) 공간 색인
+ * 점들을 CELL_DEGREES 크기의 칸에 나눠 담고, 반경 검색 시 반경에 걸치는 칸만 거리 계산한다.
+ */
+public class GeoGrid {
+	public static final double CELL_DEGREES = 0.05;
+
+	private static final double EARTH_RADIUS_KM = 6371.0;
+	private static final double KM_PER_DEGREE = 111.32;
+
+	private final Map<Long, List<Point>> cells = new HashMap<>();
+	private final Map<Long, Point> points = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * x 는 경도, y 는 위도 (카카오 좌표계와 같다)
+	 */
+	public void put(Long id, double x, double y) {
+		Point point = new Point(id, x, y);
+		lock.writeLock().lock();
+		try {
+			Point previous = points.put(id, point);
+			if (previous != null) {
+				cells.get(cellOf(previous.x, previous.y)).remove(previous);
+			}
+			cells.computeIfAbsent(cellOf(x, y), key -> new ArrayList<>()).add(point);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return points.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 반경 안의 점을 가까운 순서로 최대 limit 개 반환한다.
+	 */
+	public List<Neighbor> within(double x, double y, double radiusKm, int limit) {
+		double latDelta = radiusKm / KM_PER_DEGREE;
+		double lonDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(y)), 0.01));
+		int minRow = row(y - latDelta);
+		int maxRow = row(y + latDelta);
+		int minCol = col(x - lonDelta);
+		int maxCol = col(x + lonDelta);
+
+		List<Neighbor> neighbors = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			for (int row = minRow; row <= maxRow; row++) {
+				for (int col = minCol; col <= maxCol; col++) {
+					List<Point> cell = cells.get(key(row, col));
+					if (cell == null) {
+						continue;
+					}
+					for (Point point : cell) {
+						double distanceKm = distanceKm(x, y, point.x, point.y);
+						if (distanceKm <= radiusKm) {
+							neighbors.add(new Neighbor(point.id, distanceKm));
+						}
+					}
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		neighbors.sort(Comparator.comparingDouble(Neighbor::getDistanceKm));
+
+		return neighbors.size() > limit ? new ArrayList<>(neighbors.subList(0, limit)) : neighbors;
+	}
+
+	public static double distanceKm(double x1, double y1, double x2, double y2) {
+		double dLat = Math.toRadians(y2 - y1);
+		double dLon = Math.toRadians(x2 - x1);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+			+ Math.cos(Math.toRadians(y1)) * Math.cos(Math.toRadians(y2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+		return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+	}
+
+	private static long cellOf(double x, double y) {
+		return key(row(y), col(x));
+	}
+
+	private static int row(double y) {
+		return (int)Math.floor(y / CELL_DEGREES);
+	}
+
+	private static int col(double x) {
+		return (int)Math.floor(x / CELL_DEGREES);
+	}
+
+	private static long key(int row, int col) {
+		return ((long)row << 32) | (col & 0xffffffffL);
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static final class Neighbor {
+		private final Long id;
+		private final double distanceKm;
+	}
+
+	@AllArgsConstructor
+	private static final class Point {
+		private final Long id;
+		private final double x;
+		private final double y;
+	}
+}
@@ -0,0 +1,167 @@
+package kr.kernel360.anabada.global.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kernel360.anabada.global.error.code.IdempotencyErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 헤더로 생성 요청의 재시도를 한 번만 처리한다. (Redis)
+ * 처음 요청이 끝나면 요청 지문(fingerprint)과 생성된 아이디를 ttl 동안 저장하고, 같은 키로 다시 오면 저장된 아이디를 돌려준다.
+ * 같은 키의 요청이 동시에 들어오면 SET NX 잠금을 잡은 요청만 처리하고, 나머지는 결과가 저장될 때까지 잠시 기다린다.
+ * 키는 회원별로 나뉜다. 헤더가 없거나 Redis 를 쓸 수 없으면 그대로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+	public static final String HEADER = "Idempotency-Key";
+	public static final String TRADE = "trade";
+	public static final String TRADE_OFFER = "tradeOffer";
+	public static final String COMMENT = "comment";
+
+	private static final String KEY_PREFIX = "idempotency:";
+	private static final String LOCK_SUFFIX = ":lock";
+	private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,100}");
+	private static final long POLL_INTERVAL_MILLIS = 100;
+	// 잠금을 잡은 요청이 건 값일 때만 지운다. (잠금이 만료된 뒤 다른 요청이 잡은 잠금을 지우지 않도록)
+	private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Value("${anabada.idempotency.ttl-seconds:86400}")
+	private long ttlSeconds;
+
+	@Value("${anabada.idempotency.lock-seconds:30}")
+	private long lockSeconds;
+
+	@Value("${anabada.idempotency.wait-millis:3000}")
+	private long waitMillis;
+
+	/**
+	 * idempotencyKey 로 한 번만 action 을 실행하고, 생성된 아이디를 돌려준다.
+	 */
+	public Long execute(String scope, String idempotencyKey, String fingerprint, Supplier<Long> action) {
+		if (idempotencyKey == null) {
+			return action.get();
+		}
+		if (!KEY_PATTERN.matcher(idempotencyKey).matches()) {
+			throw new BusinessException(IdempotencyErrorCode.INVALID_IDEMPOTENCY_KEY);
+		}
+		String key = KEY_PREFIX + scope + ":" + memberName() + ":" + idempotencyKey;
+		String lockKey = key + LOCK_SUFFIX;
+		String lockToken = UUID.randomUUID().toString();
+		long deadline = System.currentTimeMillis() + waitMillis;
+
+		while (true) {
+			String stored;
+			Boolean locked;
+			try {
+				stored = redisTemplate.opsForValue().get(key);
+				locked = stored == null ? redisTemplate.opsForValue()
+					.setIfAbsent(lockKey, lockToken, Duration.ofSeconds(lockSeconds)) : null;
+			} catch (DataAccessException e) {
+				log.warn("idempotency store unavailable, processing without key: {}", e.getMessage());
+				return action.get();
+			}
+			if (stored != null) {
+				return replay(stored, fingerprint);
+			}
+			if (Boolean.TRUE.equals(locked)) {
+				return executeLocked(key, lockKey, lockToken, fingerprint, action);
+			}
+			if (System.currentTimeMillis() > deadline) {
+				throw new BusinessException(IdempotencyErrorCode.REQUEST_IN_PROGRESS);
+			}
+			waitForResult();
+		}
+	}
+
+	/**
+	 * 요청 본문(JSON)과 업로드 파일(이름, 크기, 타입)로 요청 지문을 만든다.
+	 */
+	public String fingerprint(Object... parts) {
+		StringBuilder source = new StringBuilder();
+		for (Object part : parts) {
+			source.append(describe(part)).append('\n');
+		}
+		return DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private Long executeLocked(String key, String lockKey, String lockToken, String fingerprint,
+		Supplier<Long> action) {
+		try {
+			Long id = action.get();
+			try {
+				redisTemplate.opsForValue().set(key, fingerprint + ":" + id, Duration.ofSeconds(ttlSeconds));
+			} catch (DataAccessException e) {
+				log.warn("idempotency result write failed. key={}, cause={}", key, e.getMessage());
+			}
+			return id;
+		} finally {
+			try {
+				redisTemplate.execute(RELEASE_LOCK, List.of(lockKey), lockToken);
+			} catch (DataAccessException e) {
+				log.warn("idempotency lock release failed. key={}, cause={}", lockKey, e.getMessage());
+			}
+		}
+	}
+
+	private Long replay(String stored, String fingerprint) {
+		int separator = stored.lastIndexOf(':');
+		if (!stored.substring(0, separator).equals(fingerprint)) {
+			throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+		}
+		return Long.valueOf(stored.substring(separator + 1));
+	}
+
+	private void waitForResult() {
+		try {
+			Thread.sleep(POLL_INTERVAL_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(IdempotencyErrorCode.REQUEST_IN_PROGRESS);
+		}
+	}
+
+	private String memberName() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return authentication != null ? authentication.getName() : "anonymous";
+	}
+
+	private String describe(Object part) {
+		if (part instanceof MultipartFile multipartFile) {
+			return multipartFile.isEmpty() ? "" : multipartFile.getOriginalFilename() + "|" + multipartFile.getSize()
+				+ "|" + multipartFile.getContentType();
+		}
+		try {
+			return objectMapper.writeValueAsString(part);
+		} catch (JsonProcessingException e) {
+			return String.valueOf(part);
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package kr.kernel360.anabada.global.image;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 업로드 이미지를 응답 본문에 복사 없이 내려보낸다.
+ * Tomcat 이 sendfile 을 지원하면 파일 경로만 넘기고, 아니면 FileChannel.transferTo 로 보낸다.
+ * ETag 는 파일 이름, 크기, 수정 시각으로 만든 강한 ETag 이고, If-None-Match 가 맞으면 304 를 돌려준다.
+ * Range 는 한 구간만 지원한다. 여러 구간이면 전체를 보낸다.
+ */
+@Component
+public class ImageResponseWriter {
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+	// FileHandler 가 내용 주소(SHA-256)로 저장한 원본과 그 변환본 이름
+	private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile(
+		"[0-9a-f]{64}(_thumb|_medium|_normalized)?\\.(jpg|png)");
+	private static final String IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+		.getHeaderValue();
+	private static final String REVALIDATE = CacheControl.noCache().cachePublic().getHeaderValue();
+
+	/**
+	 * 파일이 없으면 아무것도 쓰지 않고 false 를 돌려준다.
+	 */
+	public boolean write(Path file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+		if (!Files.isRegularFile(file)) {
+			return false;
+		}
+		BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		long length = attributes.size();
+		String eTag = eTagOf(file, attributes);
+
+		response.setHeader(HttpHeaders.ETAG, eTag);
+		response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControlOf(file));
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return true;
+		}
+
+		long start = 0;
+		long end = length - 1;
+		HttpRange range = rangeOf(request, eTag);
+		if (range != null) {
+			if (length == 0 || !isSatisfiable(range, length)) {
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+				response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+				return true;
+			}
+			start = range.getRangeStart(length);
+			end = range.getRangeEnd(length);
+			response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+			response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+		}
+		long count = end - start + 1;
+		response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+			.orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+		response.setContentLengthLong(count);
+		if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+			return true;
+		}
+
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, end + 1);
+			return true;
+		}
+		transfer(file, start, count, response);
+		return true;
+	}
+
+	private void transfer(Path file, long start, long count, HttpServletResponse response) throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+			WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+			long position = start;
+			long remaining = count;
+			while (remaining > 0) {
+				long transferred = fileChannel.transferTo(position, remaining, target);
+				if (transferred <= 0) {
+					break;
+				}
+				position += transferred;
+				remaining -= transferred;
+			}
+		}
+	}
+
+	/**
+	 * 내용 주소 원본과 그 변환본은 한 번 쓰면 바뀌지 않으므로 1년 동안 캐시한다.
+	 * 그 밖의 이미지는 매번 ETag 로 확인한다.
+	 */
+	private String cacheControlOf(Path file) {
+		return CONTENT_ADDRESSED_NAME.matcher(file.getFileName().toString()).matches() ? IMMUTABLE : REVALIDATE;
+	}
+
+	private String eTagOf(Path file, BasicFileAttributes attributes) {
+		String source = file.getFileName() + "|" + attributes.size() + "|" + attributes.lastModifiedTime().toMillis();
+		return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+
+	private boolean matches(String ifNoneMatch, String eTag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String trimmed = candidate.trim();
+			if (trimmed.equals("*") || trimmed.equals(eTag) || trimmed.equals("W/" + eTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * If-Range 가 현재 ETag 와 다르면 파일이 바뀐 것이므로 구간 요청을 무시하고 전체를 보낸다.
+	 */
+	private HttpRange rangeOf(HttpServletRequest request, String eTag) {
+		String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (rangeHeader == null || (ifRange != null && !ifRange.equals(eTag))) {
+			return null;
+		}
+		try {
+			List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+			return ranges.size() == 1 ? ranges.get(0) : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private boolean isSatisfiable(HttpRange range, long length) {
+		try {
+			return range.getRangeStart(length) < length;
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+}
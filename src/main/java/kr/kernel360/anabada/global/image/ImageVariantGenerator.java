@@ -0,0 +1,289 @@
+package kr.kernel360.anabada.global.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드된 원본 이미지로 썸네일/중간 크기 JPEG 와 원본 크기의 정리본을 만든다.
+ * 원본은 내용 주소(SHA-256) 이름과 바이트가 맞아야 하므로 건드리지 않는다.
+ * 정리본은 EXIF 회전값만 적용해 메타데이터 없이 원본과 같은 형식으로 저장한다. (ImageIO 는 메타데이터를 쓰지 않는다)
+ * 변환본 이름은 원본 이름 뒤에 _thumb.jpg / _medium.jpg / _normalized.{원본 확장자} 를 붙이며, 원본과 같은 디렉토리에 둔다.
+ */
+@Component
+public class ImageVariantGenerator {
+	public static final String THUMBNAIL_SUFFIX = "_thumb.jpg";
+	public static final String MEDIUM_SUFFIX = "_medium.jpg";
+	public static final String NORMALIZED_SUFFIX = "_normalized";
+	private static final long MAX_PIXELS = 40_000_000L;
+	private static final float NORMALIZED_QUALITY = 0.9f;
+	private static final float VARIANT_QUALITY = 0.8f;
+
+	@Value("${anabada.image.thumbnail-size:240}")
+	private int thumbnailSize = 240;
+
+	@Value("${anabada.image.medium-size:960}")
+	private int mediumSize = 960;
+
+	/**
+	 * 원본은 그대로 두고 변환본 세 개를 만든다. 변환본 파일 이름을 돌려준다.
+	 * 형식은 파일 이름이 아니라 실제 내용으로 판단한다.
+	 */
+	public ImageVariants generate(Path original) throws IOException {
+		List<Path> variants = variantsOf(original);
+		Path thumbnail = variants.get(0);
+		Path medium = variants.get(1);
+		Path normalized = variants.get(2);
+		if (variants.stream().allMatch(Files::exists)) {
+			// 같은 내용의 파일을 다른 교환이 이미 올려 변환까지 끝났다. 다시 인코딩하지 않는다.
+			return imageVariantsOf(thumbnail, medium, normalized);
+		}
+		int orientation = readOrientation(original);
+		DecodedImage decoded = read(original);
+		BufferedImage image = applyOrientation(decoded.image, orientation);
+		String formatName = decoded.formatName;
+
+		replace(normalized, target -> write(toWritable(image, formatName), formatName, target, NORMALIZED_QUALITY));
+
+		BufferedImage mediumImage = resize(image, mediumSize);
+		replace(medium, target -> write(toRgb(mediumImage), "jpeg", target, VARIANT_QUALITY));
+		replace(thumbnail, target -> write(toRgb(resize(mediumImage, thumbnailSize)), "jpeg", target,
+			VARIANT_QUALITY));
+
+		return imageVariantsOf(thumbnail, medium, normalized);
+	}
+
+	/**
+	 * 원본 옆에 두는 변환본 경로 (썸네일, 중간 크기, 정리본 순)
+	 */
+	public static List<Path> variantsOf(Path original) {
+		String fileName = original.getFileName().toString();
+		int extensionIndex = fileName.lastIndexOf('.');
+		String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+		String extension = extensionIndex > 0 ? fileName.substring(extensionIndex) : "";
+		return List.of(original.resolveSibling(baseName + THUMBNAIL_SUFFIX),
+			original.resolveSibling(baseName + MEDIUM_SUFFIX),
+			original.resolveSibling(baseName + NORMALIZED_SUFFIX + extension));
+	}
+
+	private ImageVariants imageVariantsOf(Path thumbnail, Path medium, Path normalized) {
+		return ImageVariants.of(thumbnail.getFileName().toString(), medium.getFileName().toString(),
+			normalized.getFileName().toString());
+	}
+
+	/**
+	 * 압축 해제 전에 크기를 확인해 지나치게 큰 이미지는 읽지 않는다.
+	 */
+	private DecodedImage read(Path original) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+			Iterator<ImageReader> readers = input == null ? Collections.emptyIterator() : ImageIO.getImageReaders(input);
+			if (!readers.hasNext()) {
+				throw new IOException("unsupported image: " + original.getFileName());
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				if ((long)reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+					throw new IOException("image too large: " + original.getFileName());
+				}
+				String formatName = "png".equalsIgnoreCase(reader.getFormatName()) ? "png" : "jpeg";
+				return new DecodedImage(reader.read(0), formatName);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/**
+	 * 긴 변이 maxSize 가 되도록 줄인다. 한 번에 줄이면 계단 현상이 생기므로 절반씩 나눠 줄인다.
+	 */
+	BufferedImage resize(BufferedImage image, int maxSize) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		double scale = Math.min(1.0, (double)maxSize / Math.max(width, height));
+		int targetWidth = Math.max(1, (int)Math.round(width * scale));
+		int targetHeight = Math.max(1, (int)Math.round(height * scale));
+
+		BufferedImage resized = image;
+		while (width != targetWidth || height != targetHeight) {
+			width = Math.max(targetWidth, width / 2);
+			height = Math.max(targetHeight, height / 2);
+			resized = draw(resized, width, height, null);
+		}
+		return resized;
+	}
+
+	private BufferedImage draw(BufferedImage source, int width, int height, AffineTransform transform) {
+		int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+		BufferedImage target = new BufferedImage(width, height, type);
+		Graphics2D graphics = target.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			if (transform != null) {
+				graphics.drawImage(source, transform, null);
+			} else {
+				graphics.drawImage(source, 0, 0, width, height, null);
+			}
+		} finally {
+			graphics.dispose();
+		}
+		return target;
+	}
+
+	/**
+	 * JPEG 는 투명도를 저장하지 못하므로 흰 배경 위에 그린다.
+	 */
+	private BufferedImage toRgb(BufferedImage image) {
+		if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+			return image;
+		}
+		BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = rgb.createGraphics();
+		try {
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+			graphics.drawImage(image, 0, 0, null);
+		} finally {
+			graphics.dispose();
+		}
+		return rgb;
+	}
+
+	private BufferedImage toWritable(BufferedImage image, String formatName) {
+		return "jpeg".equals(formatName) ? toRgb(image) : image;
+	}
+
+	private void write(BufferedImage image, String formatName, Path target, float quality) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName(formatName).next();
+		try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+			writer.setOutput(output);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			if ("jpeg".equals(formatName)) {
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(quality);
+				param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+			}
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	/**
+	 * 임시 파일에 다 쓴 뒤 옮겨서, 읽는 쪽이 쓰다 만 파일을 보지 않게 한다.
+	 */
+	private void replace(Path target, ImageWriteAction action) throws IOException {
+		Path temporary = Files.createTempFile(target.getParent(), ".variant", ".tmp");
+		try {
+			action.write(temporary);
+			Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+	/**
+	 * EXIF Orientation(1~8) 에 맞게 돌리거나 뒤집는다.
+	 */
+	private BufferedImage applyOrientation(BufferedImage image, int orientation) {
+		if (orientation <= 1 || orientation > 8) {
+			return image;
+		}
+		int width = image.getWidth();
+		int height = image.getHeight();
+		boolean swap = orientation >= 5;
+		AffineTransform transform = new AffineTransform();
+		switch (orientation) {
+			case 2 -> transform.setTransform(-1, 0, 0, 1, width, 0);
+			case 3 -> transform.setTransform(-1, 0, 0, -1, width, height);
+			case 4 -> transform.setTransform(1, 0, 0, -1, 0, height);
+			case 5 -> transform.setTransform(0, 1, 1, 0, 0, 0);
+			case 6 -> transform.setTransform(0, 1, -1, 0, height, 0);
+			case 7 -> transform.setTransform(0, -1, -1, 0, height, width);
+			case 8 -> transform.setTransform(0, -1, 1, 0, 0, width);
+			default -> {
+				return image;
+			}
+		}
+		return draw(image, swap ? height : width, swap ? width : height, transform);
+	}
+
+	/**
+	 * JPEG APP1(Exif) 의 0th IFD 에서 Orientation(0x0112) 태그만 읽는다. 없거나 읽지 못하면 1
+	 */
+	int readOrientation(Path original) {
+		try (InputStream inputStream = Files.newInputStream(original);
+			 DataInputStream input = new DataInputStream(inputStream)) {
+			if (input.readUnsignedShort() != 0xFFD8) {
+				return 1;
+			}
+			while (true) {
+				int marker = input.readUnsignedShort();
+				int length = input.readUnsignedShort() - 2;
+				if (marker == 0xFFDA || (marker & 0xFF00) != 0xFF00 || length < 0) {
+					return 1;
+				}
+				byte[] segment = new byte[length];
+				input.readFully(segment);
+				if (marker == 0xFFE1 && length > 14 && new String(segment, 0, 4).equals("Exif")) {
+					return orientationOf(ByteBuffer.wrap(segment, 6, length - 6).slice());
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			return 1;
+		}
+	}
+
+	private int orientationOf(ByteBuffer tiff) {
+		tiff.order(tiff.getShort(0) == 0x4949 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+		int ifdOffset = tiff.getInt(4);
+		int entries = tiff.getShort(ifdOffset) & 0xFFFF;
+		for (int i = 0; i < entries; i++) {
+			int entry = ifdOffset + 2 + i * 12;
+			if ((tiff.getShort(entry) & 0xFFFF) == 0x0112) {
+				return tiff.getShort(entry + 8) & 0xFFFF;
+			}
+		}
+		return 1;
+	}
+
+	private static final class DecodedImage {
+		private final BufferedImage image;
+		private final String formatName;
+
+		private DecodedImage(BufferedImage image, String formatName) {
+			this.image = image;
+			this.formatName = formatName;
+		}
+	}
+
+	@FunctionalInterface
+	private interface ImageWriteAction {
+		void write(Path target) throws IOException;
+	}
+}
@@ -0,0 +1,79 @@
+package kr.kernel360.anabada.global.image;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import kr.kernel360.anabada.global.FileHandler;
+import kr.kernel360.anabada.global.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 응답을 기다리게 하지 않도록 이미지 변환본을 커밋 이후 전용 풀에서 만든다.
+ * 변환이 끝나기 전이나 실패했을 때는 변환본 경로가 비어 있고, 화면은 원본(imagePath)을 그대로 쓴다.
+ * 큐가 차면 작업을 버리고 로그만 남긴다. 업로드 요청은 실패시키지 않는다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+	private final ImageVariantGenerator imageVariantGenerator;
+	private final FileHandler fileHandler;
+	private final ThreadPoolTaskExecutor imageTaskExecutor;
+	private final TransactionTemplate transactionTemplate;
+
+	public ImageVariantService(ImageVariantGenerator imageVariantGenerator, FileHandler fileHandler,
+		@Qualifier(AsyncConfig.IMAGE_EXECUTOR) ThreadPoolTaskExecutor imageTaskExecutor,
+		PlatformTransactionManager transactionManager) {
+		this.imageVariantGenerator = imageVariantGenerator;
+		this.fileHandler = fileHandler;
+		this.imageTaskExecutor = imageTaskExecutor;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * 트랜잭션 안이면 커밋 이후에 변환을 시작한다. onGenerated 는 변환이 끝난 뒤 새 트랜잭션에서 실행된다.
+	 */
+	public void generateAfterCommit(String imagePath, Consumer<ImageVariants> onGenerated) {
+		if (imagePath == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					submit(imagePath, onGenerated);
+				}
+			});
+			return;
+		}
+		submit(imagePath, onGenerated);
+	}
+
+	private void submit(String imagePath, Consumer<ImageVariants> onGenerated) {
+		try {
+			imageTaskExecutor.execute(() -> generate(imagePath, onGenerated));
+		} catch (TaskRejectedException e) {
+			log.warn("image variant task rejected. imagePath={}", imagePath);
+		}
+	}
+
+	private void generate(String imagePath, Consumer<ImageVariants> onGenerated) {
+		try {
+			Path original = fileHandler.findSavedPath(imagePath);
+			String directory = imagePath.substring(0, imagePath.lastIndexOf('/') + 1);
+			ImageVariants imageVariants = imageVariantGenerator.generate(original).under(directory);
+			transactionTemplate.executeWithoutResult(status -> onGenerated.accept(imageVariants));
+		} catch (IOException | RuntimeException e) {
+			log.warn("image variant generation failed. imagePath={}, cause={}", imagePath, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package kr.kernel360.anabada.global.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class ImageVariants {
+	private final String thumbnailPath;
+	private final String mediumPath;
+	private final String normalizedPath;
+
+	/**
+	 * 파일 이름만 담긴 변환본을 웹 경로(/images/trade/ 등) 아래로 옮긴다.
+	 */
+	public ImageVariants under(String directory) {
+		return ImageVariants.of(directory + thumbnailPath, directory + mediumPath, directory + normalizedPath);
+	}
+}
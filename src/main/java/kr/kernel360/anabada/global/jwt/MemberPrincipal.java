@@ -0,0 +1,34 @@
+package kr.kernel360.anabada.global.jwt;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import kr.kernel360.anabada.domain.member.entity.Member;
+import lombok.Getter;
+
+/**
+ * JWT 클레임으로 복원되는 로그인 회원 정보
+ * username 은 기존처럼 이메일이고, 회원 아이디/닉네임/계정 상태를 함께 가진다.
+ */
+@Getter
+public class MemberPrincipal extends User {
+	private final Long memberId;
+	private final String nickname;
+	private final boolean accountStatus;
+
+	public MemberPrincipal(String email, String password, Collection<? extends GrantedAuthority> authorities,
+		Long memberId, String nickname, boolean accountStatus) {
+		super(email, password, authorities);
+		this.memberId = memberId;
+		this.nickname = nickname;
+		this.accountStatus = accountStatus;
+	}
+
+	public static MemberPrincipal of(Member member, Collection<? extends GrantedAuthority> authorities) {
+		String password = member.getPassword() != null ? member.getPassword() : "";
+		return new MemberPrincipal(member.getEmail(), password, authorities, member.getId(),
+			member.getNickname(), Boolean.TRUE.equals(member.getAccountStatus()));
+	}
+}
@@ -6,7 +6,9 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -51,6 +53,9 @@ public class TokenProvider implements InitializingBean {
 	private Key key;
 
 	private final String AUTHORITIES_KEY = "auth";
+	private final String MEMBER_ID_KEY = "memberId";
+	private final String NICKNAME_KEY = "nickname";
+	private final String ACCOUNT_STATUS_KEY = "accountStatus";
 
 	@Value("${spring.security.jwt.secret}")
 	private String secret;
@@ -73,14 +78,21 @@ public class TokenProvider implements InitializingBean {
 		String authorities = authentication.getAuthorities().stream()
 			.map(GrantedAuthority::getAuthority)
 			.collect(Collectors.joining(","));
+		Map<String, Object> memberClaims = authentication.getPrincipal() instanceof MemberPrincipal memberPrincipal
+			? memberClaims(memberPrincipal) : Map.of();
 		return TokenDto.builder()
-			.accessToken(createAccessToken(authentication.getName(), authorities))
+			.accessToken(createAccessToken(authentication.getName(), authorities, memberClaims))
 			.refreshToken(createRefreshToken(authentication.getName()))
 			.build();
 	}
 
 	/** Access Token 발급 **/
 	public String createAccessToken(String sub, String roles) {
+		return createAccessToken(sub, roles, Map.of());
+	}
+
+	/** 회원 아이디, 닉네임, 계정 상태 클레임을 포함한 Access Token 발급 **/
+	public String createAccessToken(String sub, String roles, Map<String, Object> memberClaims) {
 		LocalDateTime localDateTime = LocalDateTime.now()
 			.plusSeconds(accessTokenValidityInSeconds);
 		Instant instant = localDateTime.atZone(ZoneId.systemDefault()).toInstant();
@@ -88,6 +100,7 @@ public class TokenProvider implements InitializingBean {
 		return Jwts.builder()
 			.setSubject(sub)
 			.claim(AUTHORITIES_KEY, roles)
+			.addClaims(memberClaims)
 			.setExpiration(expirationDate)
 			.signWith(key, SignatureAlgorithm.HS512)
 			.setHeaderParam(Header.TYPE, Header.JWT_TYPE)
@@ -147,11 +160,24 @@ public class TokenProvider implements InitializingBean {
 			.map(SimpleGrantedAuthority::new)
 			.toList();
 
-		User principal = new User(claims.getSubject(), "", authorities);
+		User principal = claims.get(MEMBER_ID_KEY) != null
+			? new MemberPrincipal(claims.getSubject(), "", authorities,
+			claims.get(MEMBER_ID_KEY, Number.class).longValue(),
+			claims.get(NICKNAME_KEY, String.class),
+			Boolean.TRUE.equals(claims.get(ACCOUNT_STATUS_KEY, Boolean.class)))
+			: new User(claims.getSubject(), "", authorities);
 
 		return new UsernamePasswordAuthenticationToken(principal, token, authorities);
 	}
 
+	private Map<String, Object> memberClaims(MemberPrincipal memberPrincipal) {
+		Map<String, Object> memberClaims = new HashMap<>();
+		memberClaims.put(MEMBER_ID_KEY, memberPrincipal.getMemberId());
+		memberClaims.put(NICKNAME_KEY, memberPrincipal.getNickname());
+		memberClaims.put(ACCOUNT_STATUS_KEY, memberPrincipal.isAccountStatus());
+		return memberClaims;
+	}
+
 	public Claims parseClaims(String token) {
 		try {
 			Claims claims = Jwts.parserBuilder()
@@ -181,17 +207,25 @@ public class TokenProvider implements InitializingBean {
 		}
 	}
 
-	/** Refresh Token 재발급 **/
-	public TokenDto reissueToken(TokenDto tokenDto) {
-		Claims claims = parseClaims(tokenDto.getAccessToken());
+	/** Refresh Token 검증 후 토큰 주인의 이메일 반환 **/
+	public String validateReissueToken(TokenDto tokenDto) {
 		String findEmailByAccessToken = parseClaims(tokenDto.getAccessToken()).getSubject();
 		String refreshTokenToString = redisTemplate.opsForValue().get("refreshToken:" + tokenDto.getRefreshToken());
 
 		RefreshToken refreshToken = toRefreshToken(refreshTokenToString);
 		validateReissueToken(refreshToken, findEmailByAccessToken);
 
+		return refreshToken.getEmail();
+	}
+
+	/** 다시 조회한 회원 정보(권한, 닉네임, 계정 상태)로 Access Token 재발급 **/
+	public TokenDto reissueToken(TokenDto tokenDto, MemberPrincipal memberPrincipal) {
+		String authorities = memberPrincipal.getAuthorities().stream()
+			.map(GrantedAuthority::getAuthority)
+			.collect(Collectors.joining(","));
+
 		return TokenDto.builder()
-			.accessToken(createAccessToken(refreshToken.getEmail(), claims.get("auth").toString()))
+			.accessToken(createAccessToken(memberPrincipal.getUsername(), authorities, memberClaims(memberPrincipal)))
 			.refreshToken(tokenDto.getRefreshToken()) // todo : 리플래시토큰 재발급할지 고민
 			.build();
 	}
@@ -0,0 +1,91 @@
+package kr.kernel360.anabada.global.query;
+
+import static org.springframework.util.StringUtils.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 상한까지만 세는 네이티브 개수 쿼리
+ * SELECT COUNT(*) FROM (SELECT 1 FROM ... WHERE ... LIMIT ?) t 로 세므로 아이디 목록을 가져오지 않는다.
+ * JPQL 은 FROM 절 서브쿼리를 지원하지 않아 Querydsl 목록 조건을 같은 뜻의 SQL 조건으로 다시 만든다.
+ * 값이 비어 있는 조건은 Querydsl 의 null 조건처럼 건너뛴다.
+ */
+public final class CappedCountQuery {
+	private static final char LIKE_ESCAPE = '!';
+
+	private final String from;
+	private final List<String> conditions = new ArrayList<>();
+	private final List<Object> parameters = new ArrayList<>();
+
+	private CappedCountQuery(String from) {
+		this.from = from;
+	}
+
+	public static CappedCountQuery from(String from) {
+		return new CappedCountQuery(from);
+	}
+
+	public CappedCountQuery eq(String column, Object value) {
+		if (value != null) {
+			conditions.add(column + " = ?");
+			parameters.add(value);
+		}
+		return this;
+	}
+
+	public CappedCountQuery contains(String column, String value) {
+		if (hasText(value)) {
+			conditions.add(column + " LIKE ? ESCAPE '" + LIKE_ESCAPE + "'");
+			parameters.add("%" + escapeLike(value) + "%");
+		}
+		return this;
+	}
+
+	/**
+	 * values 가 null 이면 건너뛰고, 비어 있으면 아무 행도 세지 않는다.
+	 */
+	public CappedCountQuery in(String column, Collection<?> values) {
+		if (values == null) {
+			return this;
+		}
+		if (values.isEmpty()) {
+			conditions.add("1 = 0");
+			return this;
+		}
+		conditions.add(column + " IN (" + String.join(", ", Collections.nCopies(values.size(), "?")) + ")");
+		parameters.addAll(values);
+		return this;
+	}
+
+	/**
+	 * limit 을 넘으면 limit 을 반환한다.
+	 */
+	public long count(JdbcTemplate jdbcTemplate, long limit) {
+		StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM (SELECT 1 FROM ").append(from);
+		if (!conditions.isEmpty()) {
+			sql.append(" WHERE ").append(String.join(" AND ", conditions));
+		}
+		sql.append(" LIMIT ?) t");
+
+		List<Object> arguments = new ArrayList<>(parameters);
+		arguments.add(limit);
+		Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, arguments.toArray());
+		return count == null ? 0L : count;
+	}
+
+	private static String escapeLike(String value) {
+		StringBuilder escaped = new StringBuilder(value.length());
+		for (char character : value.toCharArray()) {
+			if (character == '%' || character == '_' || character == LIKE_ESCAPE) {
+				escaped.append(LIKE_ESCAPE);
+			}
+			escaped.append(character);
+		}
+		return escaped.toString();
+	}
+}
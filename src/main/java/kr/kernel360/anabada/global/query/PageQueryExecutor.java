@@ -0,0 +1,194 @@
+package kr.kernel360.anabada.global.query;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.kernel360.anabada.global.config.AsyncConfig;
+import lombok.AllArgsConstructor;
+
+/**
+ * 페이지 목록(content)과 전체 개수(count) 쿼리 실행기
+ * 어느 모드든 PageableExecutionUtils 처럼 마지막 페이지가 채워지지 않으면 개수 쿼리를 결과에 쓰지 않는다.
+ * parallel 모드에서는 개수 쿼리를 별도 스레드의 읽기 전용 트랜잭션(별도 커넥션)에서 동시에 실행하므로,
+ * 개수는 커밋된 데이터 기준이다.
+ * 요청 스레드는 자기 커넥션을 잡은 채 기다리므로, 개수 쿼리는 시작 전이면 필요 없을 때 실행하지 않고,
+ * count-timeout-ms 안에 끝나지 않으면 요청 스레드에서 직접 센다. (커넥션 풀이 모두 대기 중인 요청에 잡혀도 멈추지 않도록)
+ *
+ * 지표: anabada.page.query{query, part=content|count}, anabada.page.query.saved{query}(동시 실행으로 줄어든 시간),
+ * anabada.page.query.count.skipped{query}, anabada.page.query.count.fallback{query}
+ */
+@Component
+public class PageQueryExecutor {
+	private final TransactionTemplate readOnlyTransaction;
+	private final MeterRegistry meterRegistry;
+	private final Executor taskExecutor;
+
+	@Value("${anabada.page-query.parallel:false}")
+	private boolean parallel;
+
+	@Value("${anabada.page-query.count-timeout-ms:1000}")
+	private long countTimeoutMillis;
+
+	public PageQueryExecutor(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+		@Qualifier(AsyncConfig.PAGE_QUERY_EXECUTOR) Executor taskExecutor) {
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.meterRegistry = meterRegistry;
+		this.taskExecutor = taskExecutor;
+	}
+
+	public <T> Page<T> page(String query, Pageable pageable, Supplier<List<T>> content, LongSupplier count) {
+		if (!parallel || pageable.isUnpaged()) {
+			return sequential(query, pageable, content, count);
+		}
+
+		long startedAt = System.nanoTime();
+		CountTask countTask = new CountTask(count);
+		try {
+			taskExecutor.execute(countTask);
+		} catch (RejectedExecutionException e) {
+			return sequential(query, pageable, content, count);
+		}
+
+		long contentStartedAt = System.nanoTime();
+		List<T> result;
+		try {
+			result = content.get();
+		} catch (RuntimeException e) {
+			countTask.skip();
+			throw e;
+		}
+		long contentNanos = System.nanoTime() - contentStartedAt;
+		timer(query, "content").record(contentNanos, TimeUnit.NANOSECONDS);
+
+		AtomicBoolean counted = new AtomicBoolean();
+		Page<T> page = PageableExecutionUtils.getPage(result, pageable, () -> {
+			counted.set(true);
+			TimedCount timedCount = await(query, countTask, count);
+			timer(query, "count").record(timedCount.nanos, TimeUnit.NANOSECONDS);
+			long savedNanos = contentNanos + timedCount.nanos - (System.nanoTime() - startedAt);
+			Timer.builder("anabada.page.query.saved")
+				.tag("query", query)
+				.register(meterRegistry)
+				.record(Math.max(savedNanos, 0L), TimeUnit.NANOSECONDS);
+			return timedCount.total;
+		});
+		if (!counted.get()) {
+			// 아직 시작하지 않았으면 개수 쿼리(와 커넥션)를 쓰지 않는다.
+			countTask.skip();
+			skipped(query).increment();
+		}
+		return page;
+	}
+
+	private <T> Page<T> sequential(String query, Pageable pageable, Supplier<List<T>> content, LongSupplier count) {
+		List<T> result = timer(query, "content").record(content);
+		AtomicBoolean counted = new AtomicBoolean();
+		Page<T> page = PageableExecutionUtils.getPage(result, pageable, () -> {
+			counted.set(true);
+			return timer(query, "count").record(() -> count.getAsLong());
+		});
+		if (!counted.get()) {
+			skipped(query).increment();
+		}
+		return page;
+	}
+
+	/**
+	 * 개수 쿼리를 기다린다. 시간 안에 끝나지 않으면 아직 시작하지 않은 작업은 취소하고 요청 스레드에서 센다.
+	 */
+	private TimedCount await(String query, CountTask countTask, LongSupplier count) {
+		try {
+			return countTask.result.get(countTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			countTask.skip();
+			Counter.builder("anabada.page.query.count.fallback")
+				.tag("query", query)
+				.register(meterRegistry)
+				.increment();
+			long countStartedAt = System.nanoTime();
+			return new TimedCount(count.getAsLong(), System.nanoTime() - countStartedAt);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private Timer timer(String query, String part) {
+		return Timer.builder("anabada.page.query")
+			.tag("query", query)
+			.tag("part", part)
+			.register(meterRegistry);
+	}
+
+	private Counter skipped(String query) {
+		return Counter.builder("anabada.page.query.count.skipped")
+			.tag("query", query)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 요청 스레드가 먼저 skip 하면 실행되지 않는 개수 쿼리 작업
+	 * CompletableFuture.cancel 은 이미 넘긴 작업을 멈추지 못하므로 시작 여부를 직접 관리한다.
+	 */
+	private final class CountTask implements Runnable {
+		private final LongSupplier count;
+		private final AtomicBoolean claimed = new AtomicBoolean();
+		private final CompletableFuture<TimedCount> result = new CompletableFuture<>();
+
+		private CountTask(LongSupplier count) {
+			this.count = count;
+		}
+
+		@Override
+		public void run() {
+			if (!claimed.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				long countStartedAt = System.nanoTime();
+				Long total = readOnlyTransaction.execute(status -> count.getAsLong());
+				result.complete(new TimedCount(total == null ? 0L : total, System.nanoTime() - countStartedAt));
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		}
+
+		private void skip() {
+			claimed.compareAndSet(false, true);
+		}
+	}
+
+	@AllArgsConstructor
+	private static final class TimedCount {
+		private final long total;
+		private final long nanos;
+	}
+}
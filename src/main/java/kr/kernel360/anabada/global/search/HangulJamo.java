@@ -0,0 +1,81 @@
+package kr.kernel360.anabada.global.search;
+
+import java.util.Locale;
+
+/**
+ * 한글 음절을 자모 단위로 분해한다.
+ * 입력 중인 글자("아잎", "아이ㅍ")도 완성된 글자("아이폰")의 접두어가 되도록
+ * 겹모음(ㅘ → ㅗㅏ)과 겹받침(ㄳ → ㄱㅅ)까지 낱자로 나눈다.
+ */
+public final class HangulJamo {
+	private static final char SYLLABLE_BEGIN = 0xAC00;
+	private static final char SYLLABLE_END = 0xD7A3;
+	private static final int JUNG_COUNT = 21;
+	private static final int JONG_COUNT = 28;
+
+	private static final String[] CHO = {
+		"ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+	private static final String[] JUNG = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+		"ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+
+	private static final String[] JONG = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ",
+		"ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+	private HangulJamo() {
+	}
+
+	/**
+	 * 한글 음절과 호환용 겹자모는 낱자로, 영문은 소문자로 바꾸고 공백은 하나로 줄인다.
+	 */
+	public static String decompose(String text) {
+		StringBuilder jamo = new StringBuilder(text.length() * 3);
+		boolean previousSpace = true;
+		for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+			if (Character.isWhitespace(c)) {
+				if (!previousSpace) {
+					jamo.append(' ');
+				}
+				previousSpace = true;
+				continue;
+			}
+			previousSpace = false;
+			if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+				int index = c - SYLLABLE_BEGIN;
+				jamo.append(CHO[index / (JUNG_COUNT * JONG_COUNT)])
+					.append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+					.append(JONG[index % JONG_COUNT]);
+			} else {
+				jamo.append(splitCompatibilityJamo(c));
+			}
+		}
+		int length = jamo.length();
+		return length > 0 && jamo.charAt(length - 1) == ' ' ? jamo.substring(0, length - 1) : jamo.toString();
+	}
+
+	private static String splitCompatibilityJamo(char c) {
+		return switch (c) {
+			case 'ㄳ' -> "ㄱㅅ";
+			case 'ㄵ' -> "ㄴㅈ";
+			case 'ㄶ' -> "ㄴㅎ";
+			case 'ㄺ' -> "ㄹㄱ";
+			case 'ㄻ' -> "ㄹㅁ";
+			case 'ㄼ' -> "ㄹㅂ";
+			case 'ㄽ' -> "ㄹㅅ";
+			case 'ㄾ' -> "ㄹㅌ";
+			case 'ㄿ' -> "ㄹㅍ";
+			case 'ㅀ' -> "ㄹㅎ";
+			case 'ㅄ' -> "ㅂㅅ";
+			case 'ㅘ' -> "ㅗㅏ";
+			case 'ㅙ' -> "ㅗㅐ";
+			case 'ㅚ' -> "ㅗㅣ";
+			case 'ㅝ' -> "ㅜㅓ";
+			case 'ㅞ' -> "ㅜㅔ";
+			case 'ㅟ' -> "ㅜㅣ";
+			case 'ㅢ' -> "ㅡㅣ";
+			default -> String.valueOf(c);
+		};
+	}
+}
@@ -0,0 +1,210 @@
+package kr.kernel360.anabada.global.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 부분 문자열 검색(LIKE '%...%')을 대신하는 메모리 n-gram 역색인
+ * 문서 아이디별 n-gram 의 정렬된 posting list 를 교집합한 뒤 원문으로 한 번 더 확인한다.
+ */
+public class NgramIndex {
+	public static final int GRAM_SIZE = 2;
+
+	private final Map<String, PostingList> postings = new HashMap<>();
+	private final Map<Long, String> documents = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public void put(Long id, String text) {
+		if (id == null || text == null) {
+			return;
+		}
+		String normalized = normalize(text);
+		lock.writeLock().lock();
+		try {
+			String previous = documents.put(id, normalized);
+			if (normalized.equals(previous)) {
+				return;
+			}
+			if (previous != null) {
+				grams(previous).forEach(gram -> removePosting(gram, id));
+			}
+			grams(normalized).forEach(gram -> postings.computeIfAbsent(gram, key -> new PostingList()).add(id));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void putIfAbsent(Long id, String text) {
+		lock.readLock().lock();
+		try {
+			if (documents.containsKey(id)) {
+				return;
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		put(id, text);
+	}
+
+	public void remove(Long id) {
+		lock.writeLock().lock();
+		try {
+			String previous = documents.remove(id);
+			if (previous != null) {
+				grams(previous).forEach(gram -> removePosting(gram, id));
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			postings.clear();
+			documents.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색어를 포함하는 문서 아이디를 오름차순으로 반환한다.
+	 * 검색어가 n-gram 보다 짧으면 색인으로 답할 수 없으므로 null 을 반환한다.
+	 */
+	public long[] search(String query) {
+		if (query == null) {
+			return null;
+		}
+		String normalized = normalize(query);
+		if (normalized.length() < GRAM_SIZE) {
+			return null;
+		}
+		lock.readLock().lock();
+		try {
+			List<PostingList> lists = new ArrayList<>();
+			for (String gram : grams(normalized)) {
+				PostingList postingList = postings.get(gram);
+				if (postingList == null) {
+					return new long[0];
+				}
+				lists.add(postingList);
+			}
+			lists.sort(Comparator.comparingInt(PostingList::size));
+
+			long[] candidates = lists.get(0).toArray();
+			for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+				candidates = lists.get(i).intersect(candidates);
+			}
+
+			return Arrays.stream(candidates)
+				.filter(id -> documents.get(id).contains(normalized))
+				.toArray();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void removePosting(String gram, Long id) {
+		PostingList postingList = postings.get(gram);
+		if (postingList == null) {
+			return;
+		}
+		postingList.remove(id);
+		if (postingList.size() == 0) {
+			postings.remove(gram);
+		}
+	}
+
+	private static String normalize(String text) {
+		return text.toLowerCase(Locale.ROOT);
+	}
+
+	private static Set<String> grams(String text) {
+		Set<String> grams = new LinkedHashSet<>();
+		for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+			grams.add(text.substring(i, i + GRAM_SIZE));
+		}
+		return grams;
+	}
+
+	private static final class PostingList {
+		private long[] ids = new long[4];
+		private int size;
+
+		int size() {
+			return size;
+		}
+
+		void add(long id) {
+			if (size > 0 && ids[size - 1] >= id) {
+				int index = Arrays.binarySearch(ids, 0, size, id);
+				if (index >= 0) {
+					return;
+				}
+				insert(-index - 1, id);
+				return;
+			}
+			insert(size, id);
+		}
+
+		void remove(long id) {
+			int index = Arrays.binarySearch(ids, 0, size, id);
+			if (index < 0) {
+				return;
+			}
+			System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+			size--;
+		}
+
+		long[] toArray() {
+			return Arrays.copyOf(ids, size);
+		}
+
+		long[] intersect(long[] sorted) {
+			long[] result = new long[Math.min(sorted.length, size)];
+			int count = 0;
+			int i = 0;
+			int j = 0;
+			while (i < sorted.length && j < size) {
+				if (sorted[i] == ids[j]) {
+					result[count++] = sorted[i];
+					i++;
+					j++;
+				} else if (sorted[i] < ids[j]) {
+					i++;
+				} else {
+					j++;
+				}
+			}
+			return Arrays.copyOf(result, count);
+		}
+
+		private void insert(int index, long id) {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			System.arraycopy(ids, index, ids, index + 1, size - index);
+			ids[index] = id;
+			size++;
+		}
+	}
+}
@@ -0,0 +1,296 @@
+package kr.kernel360.anabada.global.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import lombok.Getter;
+
+/**
+ * 자동완성용 자모 단위 접두어 트라이
+ * 각 노드가 그 접두어로 시작하는 항목 중 가중치 상위 TOP_K 개를 들고 있어서, 조회는 접두어 길이만큼만 내려간다.
+ * 문장 맨 앞뿐 아니라 단어 시작마다 색인하므로 "[아이폰]드려요" 는 "아이", "드려" 모두로 찾을 수 있다.
+ * 노드는 상위 TOP_K 개만 들고 있으므로, 항목을 지우면(remove, prune) 남은 항목으로 트라이를 다시 만든다.
+ */
+public class PrefixTrie {
+	public static final int TOP_K = 10;
+	public static final int MAX_DEPTH = 24;
+	private static final int MAX_WORDS = 6;
+
+	private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::getWeight).reversed()
+		.thenComparingInt(entry -> entry.getText().length())
+		.thenComparing(Entry::getText);
+
+	private Node root = new Node();
+	private final Map<String, Entry> entries = new HashMap<>();
+	private final Map<String, Integer> typeSizes = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * 항목이 없으면 추가하고, 있으면 가중치를 weight 만큼 올린다.
+	 */
+	public void add(String type, String text, long weight) {
+		if (text == null || text.isBlank()) {
+			return;
+		}
+		String key = type + ":" + text;
+		lock.writeLock().lock();
+		try {
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				entry = new Entry(type, text, weight);
+				entries.put(key, entry);
+				typeSizes.merge(type, 1, Integer::sum);
+			} else {
+				entry.weight += weight;
+			}
+			index(entry);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 이미 있는 항목이면 가중치를 올리지 않는다.
+	 */
+	public void addIfAbsent(String type, String text, long weight) {
+		if (text == null || text.isBlank()) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			if (!entries.containsKey(type + ":" + text)) {
+				add(type, text, weight);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(String type, String text) {
+		if (text == null) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			Entry entry = entries.remove(type + ":" + text);
+			if (entry != null) {
+				typeSizes.merge(type, -1, Integer::sum);
+				rebuild();
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * type 항목이 maxEntries 개를 넘으면 가중치가 낮은 것부터 지워 maxEntries / 2 개만 남긴다.
+	 * 절반까지 줄이므로 다시 만드는 비용은 maxEntries / 2 번 추가할 때마다 한 번이다.
+	 */
+	public void prune(String type, int maxEntries) {
+		lock.writeLock().lock();
+		try {
+			if (typeSizes.getOrDefault(type, 0) <= maxEntries) {
+				return;
+			}
+			List<Entry> typeEntries = new ArrayList<>();
+			for (Entry entry : entries.values()) {
+				if (entry.getType().equals(type)) {
+					typeEntries.add(entry);
+				}
+			}
+			typeEntries.sort(RANKING);
+			for (Entry entry : typeEntries.subList(maxEntries / 2, typeEntries.size())) {
+				entries.remove(entry.getType() + ":" + entry.getText());
+			}
+			typeSizes.put(type, maxEntries / 2);
+			rebuild();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return entries.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size(String type) {
+		lock.readLock().lock();
+		try {
+			return typeSizes.getOrDefault(type, 0);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void index(Entry entry) {
+		for (String indexKey : indexKeys(entry.getText())) {
+			Node node = root;
+			for (int i = 0; i < indexKey.length() && i < MAX_DEPTH; i++) {
+				node = node.child(indexKey.charAt(i), true);
+				node.offer(entry);
+			}
+		}
+	}
+
+	private void rebuild() {
+		root = new Node();
+		entries.values().forEach(this::index);
+	}
+
+	/**
+	 * 접두어로 시작하는 항목을 가중치 순으로 최대 limit(TOP_K 이하) 개 반환한다.
+	 */
+	public List<Entry> search(String prefix, int limit) {
+		String jamo = HangulJamo.decompose(normalize(prefix));
+		if (jamo.isEmpty()) {
+			return List.of();
+		}
+		lock.readLock().lock();
+		try {
+			Node node = root;
+			for (int i = 0; i < jamo.length() && i < MAX_DEPTH; i++) {
+				node = node.child(jamo.charAt(i), false);
+				if (node == null) {
+					return List.of();
+				}
+			}
+			List<Entry> result = new ArrayList<>(Math.min(limit, node.size));
+			for (int i = 0; i < node.size && result.size() < limit; i++) {
+				Entry entry = node.top[i];
+				if (jamo.length() <= MAX_DEPTH || matches(entry, jamo)) {
+					result.add(entry);
+				}
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 여러 트라이의 search 결과를 가중치 순으로 합쳐 최대 limit 개 반환한다.
+	 */
+	public static List<Entry> merge(List<List<Entry>> results, int limit) {
+		List<Entry> merged = new ArrayList<>();
+		results.forEach(merged::addAll);
+		merged.sort(RANKING);
+		return merged.size() > limit ? merged.subList(0, limit) : merged;
+	}
+
+	private boolean matches(Entry entry, String jamo) {
+		return indexKeys(entry.getText()).stream().anyMatch(indexKey -> indexKey.startsWith(jamo));
+	}
+
+	private static Set<String> indexKeys(String text) {
+		String normalized = normalize(text);
+		Set<String> keys = new LinkedHashSet<>();
+		int words = 0;
+		for (int i = 0; i < normalized.length() && words < MAX_WORDS; i++) {
+			if (i == 0 || normalized.charAt(i - 1) == ' ') {
+				keys.add(HangulJamo.decompose(normalized.substring(i)));
+				words++;
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * 글자와 숫자 외의 문자는 공백으로 바꾼다.
+	 */
+	private static String normalize(String text) {
+		StringBuilder normalized = new StringBuilder(text.length());
+		for (char c : text.trim().toCharArray()) {
+			normalized.append(Character.isLetterOrDigit(c) ? c : ' ');
+		}
+		return normalized.toString().trim().replaceAll(" +", " ");
+	}
+
+	@Getter
+	public static final class Entry {
+		private final String type;
+		private final String text;
+		private long weight;
+
+		private Entry(String type, String text, long weight) {
+			this.type = type;
+			this.text = text;
+			this.weight = weight;
+		}
+	}
+
+	private static final class Node {
+		private char[] keys = new char[0];
+		private Node[] children = new Node[0];
+		private final Entry[] top = new Entry[TOP_K];
+		private int size;
+
+		Node child(char key, boolean create) {
+			int index = Arrays.binarySearch(keys, key);
+			if (index >= 0) {
+				return children[index];
+			}
+			if (!create) {
+				return null;
+			}
+			int insertAt = -index - 1;
+			Node child = new Node();
+			keys = insert(keys, insertAt, key);
+			Node[] expanded = new Node[children.length + 1];
+			System.arraycopy(children, 0, expanded, 0, insertAt);
+			expanded[insertAt] = child;
+			System.arraycopy(children, insertAt, expanded, insertAt + 1, children.length - insertAt);
+			children = expanded;
+			return child;
+		}
+
+		/**
+		 * 항목이 이미 상위 목록에 있으면 다시 정렬하고, 없으면 마지막 항목보다 앞설 때만 넣는다.
+		 */
+		void offer(Entry entry) {
+			int position = -1;
+			for (int i = 0; i < size; i++) {
+				if (top[i] == entry) {
+					position = i;
+					break;
+				}
+			}
+			if (position < 0) {
+				if (size < TOP_K) {
+					position = size++;
+				} else if (RANKING.compare(entry, top[size - 1]) < 0) {
+					position = size - 1;
+				} else {
+					return;
+				}
+				top[position] = entry;
+			}
+			while (position > 0 && RANKING.compare(top[position], top[position - 1]) < 0) {
+				Entry previous = top[position - 1];
+				top[position - 1] = top[position];
+				top[position] = previous;
+				position--;
+			}
+		}
+
+		private static char[] insert(char[] array, int index, char value) {
+			char[] expanded = new char[array.length + 1];
+			System.arraycopy(array, 0, expanded, 0, index);
+			expanded[index] = value;
+			System.arraycopy(array, index, expanded, index + 1, array.length - index);
+			return expanded;
+		}
+	}
+}
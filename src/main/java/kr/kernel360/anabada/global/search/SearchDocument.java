@@ -0,0 +1,20 @@
+package kr.kernel360.anabada.global.search;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class SearchDocument {
+	private Long id;
+
+	private String text;
+
+	@QueryProjection
+	public SearchDocument(Long id, String text) {
+		this.id = id;
+		this.text = text;
+	}
+}
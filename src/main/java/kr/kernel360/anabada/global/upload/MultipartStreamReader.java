@@ -0,0 +1,86 @@
+package kr.kernel360.anabada.global.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.apache.commons.fileupload.util.Streams;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import kr.kernel360.anabada.global.FileHandler;
+import kr.kernel360.anabada.global.error.code.FileErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * multipart 요청 본문을 파트 순서대로 읽는다. (commons-fileupload streaming API)
+ * 폼 필드는 문자열로 모으고, 파일 파트는 받아 두지 않고 바로 FileHandler 로 흘려 저장한다.
+ * StreamingMultipartResolver 에 등록한 경로에서만 쓸 수 있다. (그 밖의 경로는 이미 본문을 읽은 뒤다)
+ */
+@Component
+@RequiredArgsConstructor
+public class MultipartStreamReader {
+	private final FileHandler fileHandler;
+
+	@Value("${anabada.upload.max-request-bytes:11534336}")
+	private long maxRequestBytes;
+
+	public StreamedMultipart read(HttpServletRequest request, String fileFieldName, String detailPath) {
+		if (!ServletFileUpload.isMultipartContent(request)) {
+			throw new BusinessException(FileErrorCode.INVALID_UPLOAD_REQUEST);
+		}
+		ServletFileUpload servletFileUpload = new ServletFileUpload();
+		servletFileUpload.setSizeMax(maxRequestBytes);
+		servletFileUpload.setHeaderEncoding(StandardCharsets.UTF_8.name());
+
+		Map<String, String> fields = new HashMap<>();
+		String imagePath = null;
+		try {
+			FileItemIterator fileItemIterator = servletFileUpload.getItemIterator(request);
+			while (fileItemIterator.hasNext()) {
+				FileItemStream fileItemStream = fileItemIterator.next();
+				try (InputStream inputStream = fileItemStream.openStream()) {
+					if (fileItemStream.isFormField()) {
+						fields.putIfAbsent(fileItemStream.getFieldName(),
+							Streams.asString(inputStream, StandardCharsets.UTF_8.name()));
+					} else if (imagePath == null && isSelectedFile(fileItemStream, fileFieldName)) {
+						imagePath = fileHandler.store(inputStream, detailPath);
+					}
+					// 그 밖의 파일 파트는 읽지 않는다. 닫으면 남은 바이트를 버리고 다음 파트로 넘어간다.
+				}
+			}
+		} catch (FileUploadBase.SizeException e) {
+			throw new BusinessException(FileErrorCode.FILE_TOO_LARGE);
+		} catch (FileUploadException e) {
+			throw new BusinessException(FileErrorCode.INVALID_UPLOAD_REQUEST);
+		} catch (IOException e) {
+			// 본문을 읽는 중 크기 제한을 넘으면 FileUploadIOException 으로 감싸서 던진다.
+			if (e.getCause() instanceof FileUploadBase.SizeException) {
+				throw new BusinessException(FileErrorCode.FILE_TOO_LARGE);
+			}
+			if (e instanceof FileUploadBase.FileUploadIOException) {
+				throw new BusinessException(FileErrorCode.INVALID_UPLOAD_REQUEST);
+			}
+			throw new BusinessException(FileErrorCode.FILE_SYSTEM_ERROR);
+		}
+		return StreamedMultipart.of(fields, imagePath);
+	}
+
+	/**
+	 * 파일을 고르지 않은 폼도 파일 이름이 빈 파트를 보낸다.
+	 */
+	private boolean isSelectedFile(FileItemStream fileItemStream, String fileFieldName) {
+		return fileFieldName.equals(fileItemStream.getFieldName())
+			&& fileItemStream.getName() != null && !fileItemStream.getName().isEmpty();
+	}
+}
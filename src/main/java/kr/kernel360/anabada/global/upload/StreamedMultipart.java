@@ -0,0 +1,37 @@
+package kr.kernel360.anabada.global.upload;
+
+import java.util.Map;
+
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.validation.DataBinder;
+
+import kr.kernel360.anabada.global.error.code.FileErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * MultipartStreamReader 로 읽은 폼 필드와, 파일 파트를 저장한 이미지 경로(파일이 없으면 null).
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class StreamedMultipart {
+	private final Map<String, String> fields;
+	private final String imagePath;
+
+	public String getField(String name) {
+		return fields.get(name);
+	}
+
+	/**
+	 * @ModelAttribute 처럼 폼 필드를 이름이 같은 프로퍼티에 넣는다. 모르는 필드는 무시한다.
+	 */
+	public <T> T bindTo(T target) {
+		DataBinder dataBinder = new DataBinder(target);
+		dataBinder.bind(new MutablePropertyValues(fields));
+		if (dataBinder.getBindingResult().hasErrors()) {
+			throw new BusinessException(FileErrorCode.INVALID_UPLOAD_REQUEST);
+		}
+		return target;
+	}
+}
@@ -0,0 +1,26 @@
+package kr.kernel360.anabada.global.upload;
+
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * 스트리밍 업로드 경로는 DispatcherServlet 이 multipart 를 미리 풀지 않게 한다.
+ * 기본 resolver 는 request.getParts() 로 요청 전체를 메모리나 임시 파일에 받아 둔 뒤 컨트롤러를 부르므로,
+ * 이 경로들은 컨트롤러가 MultipartStreamReader 로 요청 본문을 직접 읽는다.
+ * 이 경로에서는 필터가 request.getParameter 를 부르면 컨테이너가 본문을 다시 받아 두므로 부르지 않아야 한다.
+ */
+public class StreamingMultipartResolver extends StandardServletMultipartResolver {
+	private static final Set<String> STREAMING_PATHS = Set.of("/api/v1/trades/stream", "/api/v1/trade-offers/stream");
+
+	private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+	@Override
+	public boolean isMultipart(HttpServletRequest request) {
+		return super.isMultipart(request)
+			&& !STREAMING_PATHS.contains(urlPathHelper.getPathWithinApplication(request));
+	}
+}
@@ -0,0 +1,6 @@
+-- 참조 수가 0 이 된 시각. StoredImageService 가 유예 시간이 지난 이미지만 지운다.
+ALTER TABLE stored_image ADD COLUMN released_date DATETIME NULL;
+
+UPDATE stored_image SET released_date = NOW() WHERE reference_count = 0;
+
+CREATE INDEX idx_stored_image_released_date ON stored_image (released_date);
@@ -0,0 +1,25 @@
+-- NULL 은 유니크 인덱스에서 서로 다른 값으로 취급되어 (state, NULL, NULL) 같은 지역이 upsert 로 계속 늘어난다.
+-- NULL 과 '' 를 같은 지역으로 보고 다시 중복을 합친 뒤, 컬럼을 NOT NULL DEFAULT '' 로 바꾼다.
+CREATE TEMPORARY TABLE place_duplicate AS
+SELECT p.id AS duplicate_id, keep.id AS keep_id
+FROM place p
+JOIN (SELECT MIN(id) AS id, COALESCE(state, '') AS state, COALESCE(city, '') AS city, COALESCE(address1, '') AS address1
+      FROM place
+      GROUP BY COALESCE(state, ''), COALESCE(city, ''), COALESCE(address1, '')) keep
+    ON keep.state = COALESCE(p.state, '') AND keep.city = COALESCE(p.city, '') AND keep.address1 = COALESCE(p.address1, '')
+WHERE p.id <> keep.id;
+
+UPDATE trade t JOIN place_duplicate d ON d.duplicate_id = t.place_id SET t.place_id = d.keep_id;
+UPDATE trade_summary s JOIN place_duplicate d ON d.duplicate_id = s.place_id SET s.place_id = d.keep_id;
+UPDATE saved_search s JOIN place_duplicate d ON d.duplicate_id = s.place_id SET s.place_id = d.keep_id;
+DELETE p FROM place p JOIN place_duplicate d ON d.duplicate_id = p.id;
+
+DROP TEMPORARY TABLE place_duplicate;
+
+UPDATE place SET state = COALESCE(state, ''), city = COALESCE(city, ''), address1 = COALESCE(address1, '')
+WHERE state IS NULL OR city IS NULL OR address1 IS NULL;
+
+ALTER TABLE place
+    MODIFY state VARCHAR(40) NOT NULL DEFAULT '',
+    MODIFY city VARCHAR(40) NOT NULL DEFAULT '',
+    MODIFY address1 VARCHAR(40) NOT NULL DEFAULT '';
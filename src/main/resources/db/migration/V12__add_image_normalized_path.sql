@@ -0,0 +1,4 @@
+-- 원본 크기에 EXIF 회전만 적용하고 메타데이터를 지운 변환본. 원본은 내용 주소 이름과 맞도록 그대로 둔다.
+ALTER TABLE trade ADD COLUMN normalized_path VARCHAR(255) NULL;
+
+ALTER TABLE trade_offer ADD COLUMN normalized_path VARCHAR(255) NULL;
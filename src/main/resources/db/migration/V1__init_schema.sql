@@ -0,0 +1,91 @@
+-- Hibernate DDL 로 만들어지던 기존 스키마. 이미 테이블이 있는 DB 는 baseline(1) 으로 건너뛴다.
+CREATE TABLE member (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    email           VARCHAR(50)  NOT NULL,
+    nickname        VARCHAR(40)  NOT NULL,
+    password        VARCHAR(255) NOT NULL,
+    authorities     VARCHAR(40)  NOT NULL,
+    gender          VARCHAR(40)  NOT NULL,
+    birth           VARCHAR(20)  NOT NULL,
+    social_provider VARCHAR(40),
+    account_status  TINYINT      NOT NULL,
+    age_group       VARCHAR(40)  NOT NULL,
+    created_date    DATETIME     NOT NULL,
+    modified_date   DATETIME,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_member_email UNIQUE (email),
+    CONSTRAINT uk_member_nickname UNIQUE (nickname)
+);
+
+CREATE TABLE category (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    name           VARCHAR(50) NOT NULL,
+    deleted_status VARCHAR(20) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE place (
+    id       BIGINT      NOT NULL AUTO_INCREMENT,
+    state    VARCHAR(40),
+    city     VARCHAR(40),
+    address1 VARCHAR(40),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE trade (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    title          VARCHAR(255) NOT NULL,
+    content        TEXT         NOT NULL,
+    trade_type     VARCHAR(40)  NOT NULL,
+    image_path     VARCHAR(255),
+    trade_status   VARCHAR(20)  NOT NULL,
+    deleted_status VARCHAR(20)  NOT NULL,
+    created_by     BIGINT,
+    category_id    BIGINT,
+    place_id       BIGINT,
+    created_date   DATETIME     NOT NULL,
+    modified_date  DATETIME,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_trade_member FOREIGN KEY (created_by) REFERENCES member (id),
+    CONSTRAINT fk_trade_category FOREIGN KEY (category_id) REFERENCES category (id),
+    CONSTRAINT fk_trade_place FOREIGN KEY (place_id) REFERENCES place (id)
+);
+
+CREATE TABLE trade_offer (
+    id                 BIGINT      NOT NULL AUTO_INCREMENT,
+    title              VARCHAR(40) NOT NULL,
+    content            TEXT,
+    image_path         VARCHAR(255),
+    trade_offer_status VARCHAR(20) NOT NULL,
+    deleted_status     VARCHAR(20) NOT NULL,
+    created_by         BIGINT      NOT NULL,
+    trade_id           BIGINT      NOT NULL,
+    created_date       DATETIME    NOT NULL,
+    modified_date      DATETIME,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_trade_offer_member FOREIGN KEY (created_by) REFERENCES member (id),
+    CONSTRAINT fk_trade_offer_trade FOREIGN KEY (trade_id) REFERENCES trade (id)
+);
+
+CREATE TABLE comment (
+    id            BIGINT   NOT NULL AUTO_INCREMENT,
+    created_by    BIGINT   NOT NULL,
+    trade_id      BIGINT   NOT NULL,
+    content       TEXT,
+    created_date  DATETIME NOT NULL,
+    modified_date DATETIME,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_member FOREIGN KEY (created_by) REFERENCES member (id),
+    CONSTRAINT fk_comment_trade FOREIGN KEY (trade_id) REFERENCES trade (id)
+);
+
+CREATE TABLE faq (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    title         VARCHAR(100) NOT NULL,
+    content       TEXT,
+    created_by    BIGINT       NOT NULL,
+    created_date  DATETIME     NOT NULL,
+    modified_date DATETIME,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_faq_member FOREIGN KEY (created_by) REFERENCES member (id)
+);
@@ -0,0 +1,14 @@
+-- 교환 목록 정렬 (trade_status desc, created_date desc, id desc) 과 커서 조회
+CREATE INDEX idx_trade_status_created_date ON trade (trade_status, created_date, id);
+
+-- 지역 조건 교환 목록 / 개수
+CREATE INDEX idx_trade_place_id ON trade (place_id);
+
+-- 교환별 교환 요청 목록, 수락된 요청 조인
+CREATE INDEX idx_trade_offer_trade_id_status ON trade_offer (trade_id, trade_offer_status);
+
+-- 교환별 댓글 목록 (id desc)
+CREATE INDEX idx_comment_trade_id_id ON comment (trade_id, id);
+
+-- 지역 조회 (state, city, address1)
+CREATE INDEX idx_place_state_city_address1 ON place (state, city, address1);
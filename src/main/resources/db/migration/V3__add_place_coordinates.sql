@@ -0,0 +1,3 @@
+-- 지역 좌표 (카카오 좌표계 x: 경도, y: 위도) - 거리순 교환 조회
+ALTER TABLE place ADD COLUMN x DOUBLE;
+ALTER TABLE place ADD COLUMN y DOUBLE;
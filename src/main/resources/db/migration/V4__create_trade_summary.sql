@@ -0,0 +1,30 @@
+-- 교환 목록 읽기 모델 (TradeSummaryService 가 도메인 이벤트로 갱신)
+CREATE TABLE trade_summary (
+    trade_id                 BIGINT       NOT NULL,
+    title                    VARCHAR(255) NOT NULL,
+    trade_type               VARCHAR(40)  NOT NULL,
+    trade_status             VARCHAR(20)  NOT NULL,
+    deleted_status           VARCHAR(20)  NOT NULL,
+    category_id              BIGINT,
+    category_name            VARCHAR(50),
+    member_id                BIGINT,
+    owner_nickname           VARCHAR(40),
+    accepted_offer_member_id BIGINT,
+    accepted_offer_nickname  VARCHAR(40),
+    place_id                 BIGINT,
+    state                    VARCHAR(40),
+    city                     VARCHAR(40),
+    address1                 VARCHAR(40),
+    offer_count              INT          NOT NULL DEFAULT 0,
+    comment_count            INT          NOT NULL DEFAULT 0,
+    created_date             DATETIME     NOT NULL,
+    PRIMARY KEY (trade_id)
+);
+
+CREATE INDEX idx_trade_summary_status_created_date ON trade_summary (trade_status, created_date, trade_id);
+CREATE INDEX idx_trade_summary_place_id ON trade_summary (place_id);
+CREATE INDEX idx_trade_summary_category_id ON trade_summary (category_id);
+CREATE INDEX idx_trade_summary_member_id ON trade_summary (member_id);
+CREATE INDEX idx_trade_summary_accepted_offer_member_id ON trade_summary (accepted_offer_member_id);
+
+-- 기존 교환은 애플리케이션 시작 시 TradeSummaryService.rebuildMissing 이 채운다.
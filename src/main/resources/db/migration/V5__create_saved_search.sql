@@ -0,0 +1,30 @@
+-- 저장된 검색 조건과, 새 교환이 조건에 맞았을 때의 알림 대기 목록
+CREATE TABLE saved_search (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id     BIGINT       NOT NULL,
+    keyword       VARCHAR(100),
+    trade_type    VARCHAR(40),
+    category_id   BIGINT,
+    place_id      BIGINT,
+    created_date  DATETIME     NOT NULL,
+    modified_date DATETIME,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_saved_search_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE INDEX idx_saved_search_member_id ON saved_search (member_id);
+
+CREATE TABLE saved_search_hit (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    saved_search_id BIGINT       NOT NULL,
+    member_id       BIGINT       NOT NULL,
+    trade_id        BIGINT       NOT NULL,
+    trade_title     VARCHAR(255) NOT NULL,
+    delivered_date  DATETIME,
+    created_date    DATETIME     NOT NULL,
+    modified_date   DATETIME,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_saved_search_hit UNIQUE (saved_search_id, trade_id)
+);
+
+CREATE INDEX idx_saved_search_hit_member_delivered ON saved_search_hit (member_id, delivered_date, id);
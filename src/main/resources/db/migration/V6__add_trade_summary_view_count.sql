@@ -0,0 +1,4 @@
+-- 교환 조회수 (TradeViewCounter 가 모아 둔 증가분을 주기적으로 배치 반영한다)
+ALTER TABLE trade_summary ADD COLUMN view_count BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_trade_summary_view_count ON trade_summary (view_count, trade_id);
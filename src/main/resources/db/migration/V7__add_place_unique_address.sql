@@ -0,0 +1,18 @@
+-- 지역 (state, city, address1) 중복 제거 후 유니크 제약. PlaceDictionary 의 insert-or-select 가 이 제약에 기댄다.
+-- 중복된 지역을 가리키던 교환/저장된 검색은 가장 먼저 만들어진 지역으로 옮긴다.
+CREATE TEMPORARY TABLE place_duplicate AS
+SELECT p.id AS duplicate_id, keep.id AS keep_id
+FROM place p
+JOIN (SELECT MIN(id) AS id, state, city, address1 FROM place GROUP BY state, city, address1) keep
+    ON keep.state <=> p.state AND keep.city <=> p.city AND keep.address1 <=> p.address1
+WHERE p.id <> keep.id;
+
+UPDATE trade t JOIN place_duplicate d ON d.duplicate_id = t.place_id SET t.place_id = d.keep_id;
+UPDATE trade_summary s JOIN place_duplicate d ON d.duplicate_id = s.place_id SET s.place_id = d.keep_id;
+UPDATE saved_search s JOIN place_duplicate d ON d.duplicate_id = s.place_id SET s.place_id = d.keep_id;
+DELETE p FROM place p JOIN place_duplicate d ON d.duplicate_id = p.id;
+
+DROP TEMPORARY TABLE place_duplicate;
+
+DROP INDEX idx_place_state_city_address1 ON place;
+CREATE UNIQUE INDEX uk_place_state_city_address1 ON place (state, city, address1);
@@ -0,0 +1,6 @@
+-- 업로드 이미지의 썸네일/중간 크기 변환본 (ImageVariantService 가 커밋 이후 비동기로 채운다)
+ALTER TABLE trade ADD COLUMN thumbnail_path VARCHAR(255) NULL, ADD COLUMN medium_path VARCHAR(255) NULL;
+
+ALTER TABLE trade_offer ADD COLUMN thumbnail_path VARCHAR(255) NULL, ADD COLUMN medium_path VARCHAR(255) NULL;
+
+ALTER TABLE trade_summary ADD COLUMN thumbnail_path VARCHAR(255) NULL;
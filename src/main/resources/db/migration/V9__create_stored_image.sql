@@ -0,0 +1,15 @@
+-- 내용 주소(SHA-256) 로 저장한 업로드 이미지의 참조 수. 같은 파일을 여러 교환이 함께 쓴다.
+CREATE TABLE stored_image (
+    path            VARCHAR(255) NOT NULL,
+    reference_count INT          NOT NULL DEFAULT 0,
+    created_date    DATETIME     NOT NULL,
+    PRIMARY KEY (path)
+);
+
+-- 이미 저장된 이미지는 지금 참조하는 교환/교환 요청 수로 채운다.
+INSERT INTO stored_image (path, reference_count, created_date)
+SELECT image_path, COUNT(*), NOW()
+FROM (SELECT image_path FROM trade WHERE image_path IS NOT NULL
+      UNION ALL
+      SELECT image_path FROM trade_offer WHERE image_path IS NOT NULL AND deleted_status = 'FALSE') referenced
+GROUP BY image_path;
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -26,12 +27,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import kr.kernel360.anabada.domain.auth.dto.LoginRequest;
 import kr.kernel360.anabada.domain.auth.dto.SignUpRequest;
+import kr.kernel360.anabada.domain.auth.dto.TokenDto;
 import kr.kernel360.anabada.domain.member.entity.Member;
 import kr.kernel360.anabada.domain.member.repository.MemberRepository;
 import kr.kernel360.anabada.global.commons.domain.SocialProvider;
 import kr.kernel360.anabada.global.error.code.AuthErrorCode;
 import kr.kernel360.anabada.global.error.code.MemberErrorCode;
 import kr.kernel360.anabada.global.error.exception.BusinessException;
+import kr.kernel360.anabada.global.jwt.MemberPrincipal;
 import kr.kernel360.anabada.global.jwt.TokenProvider;
 
 @DisplayName("인증 서비스 단위 mock 테스트")
@@ -285,4 +288,44 @@ public class AuthServiceMockTest {
 		//verify
 		verify(memberRepository, times(1)).existsByNickname(anyString());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("토큰 재발급 시 회원을 다시 조회해 바뀐 닉네임으로 발급하고, 비활성화된 회원은 재발급하지 않는다.")
+	void testReissueAccessTokenReloadsMember() throws Exception {
+		//given
+		TokenDto requestTokenDto = TokenDto.builder().accessToken("access").refreshToken("refresh").build();
+		Member renamedMember = Member.builder()
+			.id(1L)
+			.email("example@naver.com")
+			.nickname("renamed")
+			.authorities("ROLE_USER")
+			.accountStatus(true)
+			.build();
+		Member deactivatedMember = Member.builder()
+			.id(1L)
+			.email("example@naver.com")
+			.nickname("renamed")
+			.authorities("ROLE_USER")
+			.accountStatus(false)
+			.build();
+
+		doReturn("example@naver.com")
+			.when(tokenProvider)
+			.validateReissueToken(requestTokenDto);
+		doReturn(Optional.of(renamedMember), Optional.of(deactivatedMember))
+			.when(memberRepository)
+			.findByEmail("example@naver.com");
+
+		//when
+		authService.reissueAccessToken(requestTokenDto);
+		BusinessException businessException = assertThrows(BusinessException.class, ()
+			-> authService.reissueAccessToken(requestTokenDto));
+
+		//then
+		ArgumentCaptor<MemberPrincipal> memberPrincipal = ArgumentCaptor.forClass(MemberPrincipal.class);
+		verify(tokenProvider, times(1)).reissueToken(eq(requestTokenDto), memberPrincipal.capture());
+		assertThat(memberPrincipal.getValue().getNickname()).isEqualTo("renamed");
+		assertThat(memberPrincipal.getValue().getMemberId()).isEqualTo(1L);
+		assertEquals(MemberErrorCode.DEACTIVATE_MEMBER, businessException.getErrorCode());
+	}
+}
@@ -0,0 +1,83 @@
+package kr.kernel360.anabada.domain.autocomplete.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import kr.kernel360.anabada.domain.autocomplete.dto.SuggestionDto;
+import kr.kernel360.anabada.domain.category.repository.CategoryRepository;
+import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
+import kr.kernel360.anabada.domain.trade.service.TradeSearchService;
+
+@DisplayName("자동완성 서비스 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class AutocompleteServiceTest {
+	@Mock
+	private TradeRepository tradeRepository;
+	@Mock
+	private CategoryRepository categoryRepository;
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+
+	private AutocompleteService autocompleteService;
+
+	@BeforeEach
+	void setUp() {
+		autocompleteService = new AutocompleteService(tradeRepository, categoryRepository, redisTemplate,
+			redisMessageListenerContainer);
+	}
+
+	@Test
+	@DisplayName("검색어는 세어 두었다가 반영 주기에 횟수만큼 가중치를 올려 트라이에 넣는다")
+	void testFlushQueries() {
+		//given
+		autocompleteService.recordQuery("아이폰");
+		autocompleteService.recordQuery(" 아이폰 ");
+		autocompleteService.recordQuery("폰");
+
+		//when
+		int before = autocompleteService.suggest("아이", 10).getSuggestions().size();
+		autocompleteService.flushQueries();
+
+		//then
+		assertThat(before).isZero();
+		assertThat(autocompleteService.suggest("아이", 10).getSuggestions())
+			.extracting(SuggestionDto::getText)
+			.containsExactly("아이폰");
+		assertThat(autocompleteService.suggest("폰", 10).getSuggestions()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 만든 교환 제목을 색인 채널로 받아 넣고, 닉네임 메시지는 무시한다")
+	void testOnMessage() {
+		//given
+		doReturn(serializer).when(redisTemplate).getValueSerializer();
+
+		//when
+		autocompleteService.onMessage(message("other-node|title|7|[아이폰]드려요|급처"), null);
+		autocompleteService.onMessage(message("other-node|nickname|3|아이유"), null);
+
+		//then
+		assertThat(autocompleteService.suggest("아이", 10).getSuggestions())
+			.extracting(SuggestionDto::getText)
+			.containsExactly("[아이폰]드려요|급처");
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(TradeSearchService.CHANNEL.getBytes(), serializer.serialize(body));
+	}
+}
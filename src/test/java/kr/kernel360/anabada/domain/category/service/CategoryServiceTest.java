@@ -17,12 +17,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import kr.kernel360.anabada.domain.category.dto.CreateCategoryRequest;
 import kr.kernel360.anabada.domain.category.dto.CreateCategoryResponse;
 import kr.kernel360.anabada.domain.category.dto.FindAllCategoryResponse;
 import kr.kernel360.anabada.domain.category.entity.Category;
+import kr.kernel360.anabada.domain.category.event.CategoryRemovedEvent;
 import kr.kernel360.anabada.domain.category.repository.CategoryRepository;
+import kr.kernel360.anabada.global.cache.AggregateVersionStore;
 import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
 import kr.kernel360.anabada.global.error.code.CategoryErrorCode;
 import kr.kernel360.anabada.global.error.exception.BusinessException;
@@ -34,10 +37,14 @@ public class CategoryServiceTest {
 	private CategoryService categoryService;
 	@Mock
 	private CategoryRepository categoryRepository;
+	@Mock
+	private AggregateVersionStore aggregateVersionStore;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	@BeforeEach
 	void setUp() {
-		new CategoryService(categoryRepository);
+		new CategoryService(categoryRepository, aggregateVersionStore, eventPublisher);
 	}
 
 	@AfterEach
@@ -125,6 +132,24 @@ public class CategoryServiceTest {
 		assertThat(category1.getDeletedStatus()).isEqualTo(DeletedStatus.FALSE);
 	}
 
+	@Test
+	@DisplayName("활성 카테고리를 삭제하면 자동완성에서 빠지도록 삭제 이벤트를 발행한다")
+	void testRemovePublishesEvent() {
+		//given
+		Category category1 = Category.builder()
+			.name("카테고리1")
+			.deletedStatus(DeletedStatus.FALSE)
+			.build();
+		when(categoryRepository.findById(1L)).thenReturn(Optional.of(category1));
+
+		//when
+		categoryService.remove(1L);
+
+		//then
+		verify(categoryRepository).delete(category1);
+		verify(eventPublisher).publishEvent(any(CategoryRemovedEvent.class));
+	}
+
 	// @Test
 	// @DisplayName("카테고리 활성화 상태 FALSE에서 TRUE로 변경")
 	// void testRemove2() throws Exception {
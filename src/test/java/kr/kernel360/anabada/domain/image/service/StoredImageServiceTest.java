@@ -0,0 +1,78 @@
+package kr.kernel360.anabada.domain.image.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.kernel360.anabada.domain.image.repository.StoredImageRepository;
+import kr.kernel360.anabada.global.FileHandler;
+
+@DisplayName("업로드 이미지 참조 수 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class StoredImageServiceTest {
+	private static final String IMAGE_PATH = "/images/trade/ab/cd/abcd1234.jpg";
+
+	@Mock
+	private StoredImageRepository storedImageRepository;
+	@Mock
+	private FileHandler fileHandler;
+
+	private StoredImageService storedImageService;
+
+	@BeforeEach
+	void setUp() {
+		storedImageService = new StoredImageService(storedImageRepository, fileHandler);
+		ReflectionTestUtils.setField(storedImageService, "graceSeconds", 3600L);
+	}
+
+	@Test
+	@DisplayName("마지막 참조가 사라져도 바로 지우지 않는다")
+	void testReleaseLastReference() {
+		//when
+		storedImageService.release(IMAGE_PATH);
+
+		//then
+		verify(storedImageRepository).decreaseReferenceCount(IMAGE_PATH);
+		verifyNoInteractions(fileHandler);
+	}
+
+	@Test
+	@DisplayName("유예 시간이 지난 이미지는 행을 지운 노드만 파일을 지운다")
+	void testSweep() {
+		//given
+		String retainedAgainPath = "/images/trade/ef/01/ef01.jpg";
+		given(storedImageRepository.findReleasedPaths(eq(3600L), anyInt()))
+			.willReturn(List.of(IMAGE_PATH, retainedAgainPath));
+		given(storedImageRepository.deleteReleased(IMAGE_PATH, 3600L)).willReturn(1);
+		given(storedImageRepository.deleteReleased(retainedAgainPath, 3600L)).willReturn(0);
+
+		//when
+		storedImageService.sweep();
+
+		//then
+		verify(fileHandler).deleteSavedFile(eq(IMAGE_PATH), any(Instant.class));
+		verify(fileHandler, never()).deleteSavedFile(eq(retainedAgainPath), any(Instant.class));
+	}
+
+	@Test
+	@DisplayName("이미지가 없는 교환은 참조 수를 바꾸지 않는다")
+	void testWithoutImage() {
+		//when
+		storedImageService.retain(null);
+		storedImageService.release(null);
+
+		//then
+		verifyNoInteractions(storedImageRepository, fileHandler);
+	}
+}
@@ -0,0 +1,157 @@
+package kr.kernel360.anabada.domain.place.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kr.kernel360.anabada.domain.place.dto.PlaceDto;
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.place.repository.PlaceRepository;
+import kr.kernel360.anabada.domain.place.service.PlaceGeoService;
+import kr.kernel360.anabada.global.cache.SecondLevelCacheSynchronizer;
+
+@DisplayName("지역 사전 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class PlaceDictionaryTest {
+	@Mock
+	private PlaceRepository placeRepository;
+	@Mock
+	private PlaceGeoService placeGeoService;
+	@Mock
+	private SecondLevelCacheSynchronizer secondLevelCacheSynchronizer;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private PlaceDictionary placeDictionary;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		placeDictionary = new PlaceDictionary(placeRepository, placeGeoService, secondLevelCacheSynchronizer,
+			transactionManager);
+	}
+
+	@Test
+	@DisplayName("미리 불러 둔 지역은 쿼리 없이 찾는다")
+	void testInternWarmedPlace() {
+		//given
+		given(placeRepository.findAll()).willReturn(List.of(Place.builder()
+			.id(1L)
+			.state("서울특별시")
+			.city("강남구")
+			.address1("역삼동")
+			.build()));
+		placeDictionary.warmUp();
+
+		//when
+		Place place = placeDictionary.intern(placeDto(null, null));
+
+		//then
+		assertThat(place.getId()).isEqualTo(1L);
+		verify(placeRepository, never()).upsert(any());
+	}
+
+	@Test
+	@DisplayName("사전에 없는 지역은 insert-or-select 한 번으로 찾고, 다음부터는 쿼리하지 않는다")
+	void testInternMissingPlace() {
+		//given
+		given(placeRepository.upsert(any())).willReturn(7L);
+
+		//when
+		Place place = placeDictionary.intern(placeDto(null, null));
+		Place internedPlace = placeDictionary.intern(placeDto(null, null));
+
+		//then
+		assertThat(place.getId()).isEqualTo(7L);
+		assertThat(internedPlace).isSameAs(place);
+		verify(placeRepository, times(1)).upsert(any());
+		verify(secondLevelCacheSynchronizer).evict(Place.class, 7L);
+	}
+
+	@Test
+	@DisplayName("호출한 트랜잭션 안에서는 커밋된 뒤에야 사전에 넣고 2차 캐시를 지운다")
+	void testInternAfterCommit() {
+		//given
+		given(placeRepository.upsert(any())).willReturn(7L);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			//when
+			placeDictionary.intern(placeDto(127.03, 37.50));
+
+			//then
+			assertThat(placeDictionary.size()).isZero();
+			verify(secondLevelCacheSynchronizer, never()).evict(any(), any());
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+			assertThat(placeDictionary.size()).isEqualTo(1);
+			verify(secondLevelCacheSynchronizer).evict(Place.class, 7L);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("좌표가 없던 지역에 좌표가 들어오면 한 번 더 반영하고 좌표 색인에 넣는다")
+	void testInternLocatedPlace() {
+		//given
+		given(placeRepository.upsert(any())).willReturn(7L);
+		placeDictionary.intern(placeDto(null, null));
+
+		//when
+		Place place = placeDictionary.intern(placeDto(127.03, 37.50));
+		placeDictionary.intern(placeDto(127.03, 37.50));
+
+		//then
+		assertThat(place.hasCoordinates()).isTrue();
+		verify(placeRepository, times(2)).upsert(any());
+		verify(placeGeoService).index(place);
+	}
+
+	@Test
+	@DisplayName("비어 있는 주소는 '' 로 맞춰 저장하고, '' 로 저장된 지역과 같은 지역으로 찾는다")
+	void testInternBlankAddress() {
+		//given
+		given(placeRepository.findAll()).willReturn(List.of(Place.builder()
+			.id(3L)
+			.state("세종특별자치시")
+			.city("")
+			.address1("")
+			.build()));
+		placeDictionary.warmUp();
+		given(placeRepository.upsert(any())).willReturn(9L);
+
+		//when
+		Place warmedPlace = placeDictionary.intern(PlaceDto.builder().state("세종특별자치시").build());
+		Place newPlace = placeDictionary.intern(PlaceDto.builder().state("제주특별자치도").build());
+
+		//then
+		assertThat(warmedPlace.getId()).isEqualTo(3L);
+		assertThat(newPlace.getId()).isEqualTo(9L);
+		verify(placeRepository).upsert(argThat(place -> "제주특별자치도".equals(place.getState())
+			&& "".equals(place.getCity()) && "".equals(place.getAddress1())));
+	}
+
+	private PlaceDto placeDto(Double x, Double y) {
+		return PlaceDto.builder()
+			.state("서울특별시")
+			.city("강남구")
+			.address1("역삼동")
+			.x(x)
+			.y(y)
+			.build();
+	}
+}
@@ -0,0 +1,70 @@
+package kr.kernel360.anabada.domain.place.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.place.repository.PlaceRepository;
+
+@DisplayName("지역 격자 색인 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class PlaceGeoServiceTest {
+	private static final double X = 127.0276;
+	private static final double Y = 37.4979;
+
+	@Mock
+	private PlaceRepository placeRepository;
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+
+	private PlaceGeoService placeGeoService;
+
+	@BeforeEach
+	void setUp() {
+		placeGeoService = new PlaceGeoService(placeRepository, redisTemplate, redisMessageListenerContainer);
+	}
+
+	@Test
+	@DisplayName("좌표가 생긴 지역은 이 노드 격자에 넣고 다른 노드에 알린다")
+	void testIndex() {
+		//when
+		placeGeoService.index(Place.builder().id(7L).state("서울특별시").x(X).y(Y).build());
+
+		//then
+		assertThat(placeGeoService.findNearbyPlaceIds(X, Y, 1.0)).containsExactly(7L);
+		verify(redisTemplate).convertAndSend(eq(PlaceGeoService.CHANNEL), endsWith("|7|" + X + "|" + Y));
+	}
+
+	@Test
+	@DisplayName("다른 노드가 알린 지역을 격자에 넣는다")
+	void testOnMessage() {
+		//given
+		doReturn(serializer).when(redisTemplate).getValueSerializer();
+
+		//when
+		placeGeoService.onMessage(message("other-node|7|" + X + "|" + Y), null);
+
+		//then
+		assertThat(placeGeoService.findNearbyPlaceIds(X, Y, 1.0)).containsExactly(7L);
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(PlaceGeoService.CHANNEL.getBytes(), serializer.serialize(body));
+	}
+}
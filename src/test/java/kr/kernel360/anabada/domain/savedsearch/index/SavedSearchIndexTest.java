@@ -0,0 +1,60 @@
+package kr.kernel360.anabada.domain.savedsearch.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kr.kernel360.anabada.domain.savedsearch.index.SavedSearchIndex.SavedQuery;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+
+@DisplayName("저장된 검색 조건 색인 단위 테스트")
+class SavedSearchIndexTest {
+	private SavedSearchIndex savedSearchIndex;
+
+	@BeforeEach
+	void setUp() {
+		savedSearchIndex = new SavedSearchIndex();
+		savedSearchIndex.put(new SavedQuery(1L, 10L, 1L, null, null, "아이폰"));
+		savedSearchIndex.put(new SavedQuery(2L, 10L, 1L, TradeType.SHARE, 5L, null));
+		savedSearchIndex.put(new SavedQuery(3L, 20L, null, null, 5L, "강아지"));
+		savedSearchIndex.put(new SavedQuery(4L, 20L, 2L, null, null, null));
+		savedSearchIndex.put(new SavedQuery(5L, 30L, null, TradeType.TRADE, null, "폰"));
+	}
+
+	@Test
+	@DisplayName("카테고리, 교환 타입, 지역, 제목 검색어가 모두 맞는 조건만 반환한다")
+	void testMatch() {
+		assertThat(savedSearchIndex.match(1L, TradeType.SHARE, 5L, "[아이폰]드려요. [갤럭시]받아요."))
+			.extracting(SavedQuery::getId)
+			.containsExactlyInAnyOrder(1L, 2L);
+		assertThat(savedSearchIndex.match(1L, TradeType.TRADE, 7L, "아이폰 바꿔요"))
+			.extracting(SavedQuery::getId)
+			.containsExactlyInAnyOrder(1L, 5L);
+		assertThat(savedSearchIndex.match(3L, TradeType.SHARE, 5L, "강아지 용품 드려요"))
+			.extracting(SavedQuery::getId)
+			.containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("검색어의 앞 글자가 있어도 제목이 검색어를 포함하지 않으면 제외한다")
+	void testMatchVerifiesKeyword() {
+		assertThat(savedSearchIndex.match(1L, TradeType.REQUEST, null, "아이패드 받아요")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("수정하거나 삭제한 조건은 이전 버킷에서 빠진다")
+	void testPutAndRemove() {
+		//given
+		savedSearchIndex.put(new SavedQuery(1L, 10L, 2L, null, null, "아이폰"));
+		savedSearchIndex.remove(4L);
+
+		//when, then
+		assertThat(savedSearchIndex.match(1L, TradeType.SHARE, null, "아이폰 드려요")).isEmpty();
+		assertThat(savedSearchIndex.match(2L, TradeType.SHARE, null, "아이폰 드려요"))
+			.extracting(SavedQuery::getId)
+			.containsExactly(1L);
+		assertThat(savedSearchIndex.size()).isEqualTo(4);
+	}
+}
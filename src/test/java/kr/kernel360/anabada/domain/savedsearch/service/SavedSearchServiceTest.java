@@ -0,0 +1,105 @@
+package kr.kernel360.anabada.domain.savedsearch.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import kr.kernel360.anabada.domain.member.service.LoginMemberService;
+import kr.kernel360.anabada.domain.savedsearch.entity.SavedSearch;
+import kr.kernel360.anabada.domain.savedsearch.repository.SavedSearchHitRepository;
+import kr.kernel360.anabada.domain.savedsearch.repository.SavedSearchRepository;
+import kr.kernel360.anabada.domain.trade.event.TradeCreatedEvent;
+import kr.kernel360.anabada.domain.trade.service.TradeService;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+
+@DisplayName("저장된 검색 조건 서비스 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class SavedSearchServiceTest {
+	@Mock
+	private SavedSearchRepository savedSearchRepository;
+	@Mock
+	private SavedSearchHitRepository savedSearchHitRepository;
+	@Mock
+	private LoginMemberService loginMemberService;
+	@Mock
+	private TradeService tradeService;
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+
+	private SavedSearchService savedSearchService;
+
+	@BeforeEach
+	void setUp() {
+		savedSearchService = new SavedSearchService(savedSearchRepository, savedSearchHitRepository,
+			loginMemberService, tradeService, redisTemplate, redisMessageListenerContainer);
+		doReturn(serializer).when(redisTemplate).getValueSerializer();
+	}
+
+	@Test
+	@DisplayName("재구성 중에 다른 노드에서 삭제된 조건은 새 색인에 다시 살아나지 않는다")
+	void testRemoveDuringReload() {
+		//given
+		given(savedSearchRepository.findAll()).willAnswer(invocation -> {
+			savedSearchService.onMessage(message("other-node|remove|1"), null);
+			return List.of(savedSearch(1L));
+		});
+		lenient().when(savedSearchRepository.findAllById(anySet())).thenReturn(List.of(savedSearch(1L)));
+
+		//when
+		savedSearchService.reload();
+		savedSearchService.on(tradeCreated());
+
+		//then
+		verify(savedSearchHitRepository, never()).saveAll(anyList());
+	}
+
+	@Test
+	@DisplayName("색인에 남아 있어도 DB 에서 사라진 조건의 알림은 저장하지 않는다")
+	void testSkipRemovedSavedSearch() {
+		//given
+		given(savedSearchRepository.findById(1L)).willReturn(Optional.of(savedSearch(1L)));
+		savedSearchService.onMessage(message("other-node|put|1"), null);
+		given(savedSearchRepository.findAllById(anySet())).willReturn(List.of());
+
+		//when
+		savedSearchService.on(tradeCreated());
+
+		//then
+		verify(savedSearchHitRepository, never()).saveAll(anyList());
+	}
+
+	private SavedSearch savedSearch(Long id) {
+		return SavedSearch.builder()
+			.id(id)
+			.memberId(10L)
+			.keyword("아이폰")
+			.tradeType(TradeType.SHARE)
+			.build();
+	}
+
+	private TradeCreatedEvent tradeCreated() {
+		return new TradeCreatedEvent(100L, "아이폰 드려요", TradeType.SHARE, null, null, 20L);
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(SavedSearchService.CHANNEL.getBytes(), serializer.serialize(body));
+	}
+}
@@ -0,0 +1,85 @@
+package kr.kernel360.anabada.domain.trade.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
+import kr.kernel360.anabada.domain.trade.entity.Trade;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+
+@DisplayName("교환 목록 캐시 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class TradeListCacheTest {
+	private static final String GENERATION_PREFIX = "tradeList:generation:";
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private TradeListCache tradeListCache;
+
+	@BeforeEach
+	void setUp() {
+		tradeListCache = new TradeListCache(redisTemplate, new ObjectMapper());
+		ReflectionTestUtils.setField(tradeListCache, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(tradeListCache, "maxPage", 3);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("목록 키에는 조건 범위의 현재 세대가 들어간다")
+	void testPutWithGeneration() {
+		//given
+		TradeSearchCondition tradeSearchCondition = new TradeSearchCondition();
+		tradeSearchCondition.setTradeType("SHARE");
+		given(valueOperations.get(GENERATION_PREFIX + "category:*|tradeType:SHARE|place:*")).willReturn("4");
+
+		//when
+		tradeListCache.put(tradeSearchCondition, null, PageRequest.of(0, 10), new PageImpl<>(List.of()));
+
+		//then
+		verify(valueOperations).set(endsWith(":4"), anyString(), eq(Duration.ofSeconds(60)));
+	}
+
+	@Test
+	@DisplayName("교환이 바뀌면 그 교환이 보일 수 있는 범위의 세대만 올리고 키를 훑지 않는다")
+	void testEvict() {
+		//given
+		Trade trade = Trade.builder()
+			.tradeType(TradeType.SHARE)
+			.build();
+
+		//when
+		tradeListCache.evict(trade);
+
+		//then
+		ArgumentCaptor<String> generationKeys = ArgumentCaptor.forClass(String.class);
+		verify(valueOperations, times(2)).increment(generationKeys.capture());
+		assertThat(generationKeys.getAllValues()).containsExactly(
+			GENERATION_PREFIX + "category:*|tradeType:*|place:*",
+			GENERATION_PREFIX + "category:*|tradeType:SHARE|place:*");
+		verify(redisTemplate, times(2)).expire(anyString(), eq(Duration.ofSeconds(120)));
+		verify(redisTemplate, never()).opsForSet();
+	}
+}
@@ -0,0 +1,84 @@
+package kr.kernel360.anabada.domain.trade.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import kr.kernel360.anabada.domain.trade.repository.TradeSummaryRepository;
+
+@DisplayName("교환 조회수 카운터 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class TradeViewCounterTest {
+	@Mock
+	private TradeSummaryRepository tradeSummaryRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private TradeViewCounter tradeViewCounter;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		tradeViewCounter = new TradeViewCounter(tradeSummaryRepository, transactionManager);
+	}
+
+	@Test
+	@DisplayName("모아 둔 조회수를 한 번에 반영하고, 반영한 만큼 대기 중인 조회수에서 뺀다")
+	void testFlush() {
+		//given
+		tradeViewCounter.increase(1L);
+		tradeViewCounter.increase(1L);
+		tradeViewCounter.increase(2L);
+
+		//when
+		tradeViewCounter.flush();
+
+		//then
+		verify(tradeSummaryRepository, times(1)).increaseViewCounts(Map.of(1L, 2L, 2L, 1L));
+		assertThat(tradeViewCounter.pendingOf(1L)).isZero();
+		assertThat(tradeViewCounter.pendingOf(2L)).isZero();
+	}
+
+	@Test
+	@DisplayName("반영에 실패하면 조회수를 잃지 않고 다음 주기에 다시 반영한다")
+	void testFlushRetry() {
+		//given
+		tradeViewCounter.increase(1L);
+		willThrow(new QueryTimeoutException("timeout"))
+			.willDoNothing()
+			.given(tradeSummaryRepository).increaseViewCounts(anyMap());
+
+		//when
+		tradeViewCounter.flush();
+		tradeViewCounter.increase(1L);
+
+		//then
+		assertThat(tradeViewCounter.pendingOf(1L)).isEqualTo(2L);
+		tradeViewCounter.flush();
+		verify(tradeSummaryRepository).increaseViewCounts(Map.of(1L, 2L));
+		assertThat(tradeViewCounter.pendingOf(1L)).isZero();
+	}
+
+	@Test
+	@DisplayName("증가분이 없으면 UPDATE 하지 않는다")
+	void testFlushEmpty() {
+		//when
+		tradeViewCounter.flush();
+
+		//then
+		verify(tradeSummaryRepository, never()).increaseViewCounts(anyMap());
+	}
+}
@@ -0,0 +1,51 @@
+package kr.kernel360.anabada.domain.trade.dto;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import kr.kernel360.anabada.global.error.code.TradeErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+
+@DisplayName("교환 목록 커서 단위 테스트")
+class TradeCursorTest {
+
+	@Test
+	@DisplayName("마지막 교환으로 만든 커서는 인코딩 후 디코딩해도 같은 위치를 가리킨다")
+	void testEncodeAndDecode() {
+		//given
+		LocalDateTime createdDate = LocalDateTime.of(2023, 11, 9, 16, 24, 13);
+		FindTradeDto lastTrade = new FindTradeDto(12L, TradeType.TRADE, TradeStatus.BEFORE_ACCEPT, DeletedStatus.FALSE,
+			"전자기기", "[아이폰]드려요. [갤럭시]받아요.", "여름수박장호윤", createdDate, null);
+
+		//when
+		TradeCursor decoded = TradeCursor.decode(TradeCursor.of(lastTrade).encode());
+
+		//then
+		assertThat(decoded.getTradeStatus()).isEqualTo(TradeStatus.BEFORE_ACCEPT);
+		assertThat(decoded.getCreatedDate()).isEqualTo(createdDate);
+		assertThat(decoded.getTradeId()).isEqualTo(12L);
+	}
+
+	@Test
+	@DisplayName("커서가 없으면 첫 페이지로 조회한다")
+	void testDecodeEmpty() {
+		assertThat(TradeCursor.decode(null)).isNull();
+		assertThat(TradeCursor.decode("")).isNull();
+	}
+
+	@Test
+	@DisplayName("잘못된 커서는 INVALID_CURSOR 예외가 발생한다")
+	void testDecodeInvalid() {
+		assertThatThrownBy(() -> TradeCursor.decode("not-a-cursor"))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(TradeErrorCode.INVALID_CURSOR);
+	}
+}
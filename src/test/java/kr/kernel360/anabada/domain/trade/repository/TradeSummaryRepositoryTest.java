@@ -0,0 +1,123 @@
+package kr.kernel360.anabada.domain.trade.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import kr.kernel360.anabada.domain.category.entity.Category;
+import kr.kernel360.anabada.domain.category.repository.CategoryRepository;
+import kr.kernel360.anabada.domain.member.entity.Member;
+import kr.kernel360.anabada.domain.member.repository.MemberRepository;
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.place.repository.PlaceRepository;
+import kr.kernel360.anabada.domain.trade.dto.FindTradeDto;
+import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
+import kr.kernel360.anabada.domain.trade.entity.Trade;
+import kr.kernel360.anabada.domain.trade.entity.TradeSummary;
+import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
+import kr.kernel360.anabada.global.commons.domain.SocialProvider;
+import kr.kernel360.anabada.global.commons.domain.TradeStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import kr.kernel360.anabada.global.config.JpaAuditingConfig;
+import kr.kernel360.anabada.global.config.TestQueryDslConfig;
+import kr.kernel360.anabada.global.utils.AgeGroupParser;
+
+@DisplayName("교환 목록 읽기 모델 리포지토리 테스트")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestQueryDslConfig.class, JpaAuditingConfig.class})
+class TradeSummaryRepositoryTest {
+	@Autowired
+	private TradeSummaryRepository tradeSummaryRepository;
+	@Autowired
+	private TradeRepository tradeRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private CategoryRepository categoryRepository;
+	@Autowired
+	private PlaceRepository placeRepository;
+
+	private Member member;
+	private Trade trade;
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.save(Member.builder()
+			.email("summary@naver.com")
+			.nickname("요약테스트")
+			.password("123412")
+			.ageGroup(AgeGroupParser.birthToAgeGroup("1991-10-10"))
+			.authorities("USER_ROLE")
+			.gender("M")
+			.birth("1991-10-10")
+			.socialProvider(SocialProvider.LOCAL)
+			.accountStatus(true)
+			.build());
+		Category category = categoryRepository.save(Category.builder()
+			.name("요약카테고리")
+			.deletedStatus(DeletedStatus.FALSE)
+			.build());
+		Place place = placeRepository.save(Place.builder()
+			.state("서울특별시")
+			.city("강남구")
+			.address1("삼성동")
+			.build());
+		trade = tradeRepository.save(Trade.builder()
+			.title("[아이폰]드려요")
+			.content("아이폰 드려요")
+			.tradeType(TradeType.SHARE)
+			.tradeStatus(TradeStatus.BEFORE_ACCEPT)
+			.deletedStatus(DeletedStatus.FALSE)
+			.member(member)
+			.category(category)
+			.place(place)
+			.build());
+	}
+
+	@Test
+	@DisplayName("읽기 모델이 없는 교환만 INSERT ... SELECT 로 채운다")
+	void testInsertMissingSummaries() {
+		//given
+		tradeRepository.flush();
+
+		//when
+		int inserted = tradeSummaryRepository.insertMissingSummaries();
+		int insertedAgain = tradeSummaryRepository.insertMissingSummaries();
+
+		//then
+		TradeSummary tradeSummary = tradeSummaryRepository.findById(trade.getId()).orElseThrow();
+		assertThat(inserted).isGreaterThanOrEqualTo(1);
+		assertThat(insertedAgain).isZero();
+		assertThat(tradeSummary.getCategoryName()).isEqualTo("요약카테고리");
+		assertThat(tradeSummary.getOwnerNickname()).isEqualTo("요약테스트");
+		assertThat(tradeSummary.getState()).isEqualTo("서울특별시");
+	}
+
+	@Test
+	@DisplayName("교환 목록은 읽기 모델에서 조회하고 닉네임 변경이 반영된다")
+	void testFindTradesFromSummary() {
+		//given
+		tradeSummaryRepository.saveAndFlush(TradeSummary.of(trade));
+		tradeSummaryRepository.updateNickname(member.getId(), "바뀐닉네임");
+
+		TradeSearchCondition tradeSearchCondition = new TradeSearchCondition();
+		tradeSearchCondition.setCategoryId(trade.getCategory().getId());
+
+		//when
+		Page<FindTradeDto> trades = tradeRepository.findTrades(tradeSearchCondition, null, PageRequest.of(0, 10));
+
+		//then
+		assertThat(trades.getContent()).extracting(FindTradeDto::getTradeId).containsExactly(trade.getId());
+		assertThat(trades.getContent().get(0).getNickname()).isEqualTo("바뀐닉네임");
+		assertThat(trades.getContent().get(0).getCategoryName()).isEqualTo("요약카테고리");
+	}
+}
@@ -0,0 +1,115 @@
+package kr.kernel360.anabada.domain.trade.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kernel360.anabada.domain.place.cache.PlaceDictionary;
+import kr.kernel360.anabada.domain.trade.dto.FindTradeDto;
+import kr.kernel360.anabada.domain.trade.dto.TradeExportFormat;
+import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
+import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
+import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+
+@DisplayName("교환 내보내기 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class TradeExportServiceTest {
+	@Mock
+	private TradeRepository tradeRepository;
+	@Mock
+	private PlaceDictionary placeDictionary;
+	@Mock
+	private TradeSearchService tradeSearchService;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private TradeExportService tradeExportService;
+
+	@BeforeEach
+	void setUp() {
+		tradeExportService = new TradeExportService(tradeRepository, placeDictionary, tradeSearchService,
+			transactionManager, new ObjectMapper());
+		ReflectionTestUtils.setField(tradeExportService, "chunkSize", 2);
+		given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+		given(tradeRepository.findTradesByCursor(any(TradeSearchCondition.class), isNull(), isNull(), eq(2)))
+			.willReturn(new SliceImpl<>(List.of(
+				trade(1L, "아이폰 드려요", "여름수박"),
+				trade(2L, "갤럭시, \"새 것\" 받아요", null)), PageRequest.of(0, 2), true));
+		given(tradeRepository.findTradesByCursor(any(TradeSearchCondition.class), isNull(),
+			argThat(cursor -> cursor != null && cursor.getTradeId() == 2L), eq(2)))
+			.willReturn(new SliceImpl<>(List.of(
+				trade(3L, "=HYPERLINK(\"http://evil\")", "@관리자")), PageRequest.of(0, 2), false));
+	}
+
+	@Test
+	@DisplayName("CSV 는 BOM 과 헤더를 먼저 쓰고, 조각마다 트랜잭션을 따로 열며, 따옴표가 필요한 값과 수식으로 읽히는 값을 감싼다")
+	void testExportCsv() throws IOException {
+		//given
+		StreamingResponseBody body = tradeExportService.export(new TradeSearchCondition(), null,
+			TradeExportFormat.CSV);
+
+		//when
+		String exported = write(body);
+
+		//then
+		assertThat(exported.split("\n")).containsExactly(
+			"\uFEFFtradeId,tradeType,tradeStatus,deletedStatus,categoryName,tradeTitle,nickname,createdDate,"
+				+ "tradeOfferCreatedBy",
+			"1,SHARE,BEFORE_ACCEPT,FALSE,전자기기,아이폰 드려요,여름수박,2023-10-11,",
+			"2,SHARE,BEFORE_ACCEPT,FALSE,전자기기,\"갤럭시, \"\"새 것\"\" 받아요\",,2023-10-11,",
+			"3,SHARE,BEFORE_ACCEPT,FALSE,전자기기,\"'=HYPERLINK(\"\"http://evil\"\")\",\"'@관리자\",2023-10-11,");
+		verify(transactionManager, times(2)).commit(any());
+	}
+
+	@Test
+	@DisplayName("NDJSON 은 헤더 없이 교환 하나를 한 줄의 JSON 으로 쓴다")
+	void testExportNdjson() throws IOException {
+		//given
+		StreamingResponseBody body = tradeExportService.export(new TradeSearchCondition(), null,
+			TradeExportFormat.NDJSON);
+
+		//when
+		String[] lines = write(body).split("\n");
+
+		//then
+		assertThat(lines).hasSize(3);
+		assertThat(new ObjectMapper().readTree(lines[0]).get("tradeId").asLong()).isEqualTo(1L);
+		assertThat(new ObjectMapper().readTree(lines[1]).get("tradeTitle").asText())
+			.isEqualTo("갤럭시, \"새 것\" 받아요");
+	}
+
+	private String write(StreamingResponseBody body) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		body.writeTo(outputStream);
+		return outputStream.toString(StandardCharsets.UTF_8);
+	}
+
+	private FindTradeDto trade(Long tradeId, String tradeTitle, String nickname) {
+		return new FindTradeDto(tradeId, TradeType.SHARE, TradeStatus.BEFORE_ACCEPT, DeletedStatus.FALSE, "전자기기",
+			tradeTitle, nickname, LocalDateTime.of(2023, 10, 11, 9, 30), null);
+	}
+}
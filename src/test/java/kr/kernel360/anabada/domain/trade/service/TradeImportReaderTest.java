@@ -0,0 +1,73 @@
+package kr.kernel360.anabada.domain.trade.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kernel360.anabada.domain.trade.dto.ImportTradeRow;
+import kr.kernel360.anabada.domain.trade.dto.TradeImportFormat;
+
+@DisplayName("교환 가져오기 파일 읽기 테스트")
+class TradeImportReaderTest {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("csv 는 헤더 이름으로 필드를 찾고, 따옴표 안의 쉼표와 줄바꿈을 한 필드로 읽는다")
+	void testReadCsv() throws IOException {
+		//given
+		String csv = "\uFEFFtitle,content,tradeType,categoryId,state,city,address1\n"
+			+ "\"[아이폰]드려요, 새 제품\",\"첫 줄\n둘째 줄 \"\"따옴표\"\"\",SHARE,1,서울특별시,강남구,역삼동\r\n"
+			+ "\n"
+			+ "[갤럭시]받아요,갤럭시 받아요,받아요,2,,,\n";
+
+		//when
+		try (TradeImportReader reader = new TradeImportReader(new StringReader(csv), TradeImportFormat.CSV,
+			objectMapper)) {
+			ImportTradeRow first = reader.next();
+			ImportTradeRow second = reader.next();
+
+			//then
+			assertThat(first.getTitle()).isEqualTo("[아이폰]드려요, 새 제품");
+			assertThat(first.getContent()).isEqualTo("첫 줄\n둘째 줄 \"따옴표\"");
+			assertThat(first.getCategoryId()).isEqualTo(1L);
+			assertThat(first.getAddress1()).isEqualTo("역삼동");
+			assertThat(first.getLine()).isEqualTo(2L);
+			assertThat(second.getTradeType()).isEqualTo("받아요");
+			assertThat(second.hasPlace()).isFalse();
+			assertThat(second.getLine()).isEqualTo(5L);
+			assertThat(reader.next()).isNull();
+		}
+	}
+
+	@Test
+	@DisplayName("읽지 못한 행은 건너뛰지 않고 줄 번호와 이유를 담아 돌려준다")
+	void testReadInvalidRows() throws IOException {
+		//given
+		String ndjson = "{\"title\":\"[아이폰]드려요\",\"content\":\"아이폰\",\"tradeType\":\"SHARE\",\"categoryId\":1}\n"
+			+ "{\"title\":\n"
+			+ "{\"title\":\"[갤럭시]받아요\",\"categoryId\":\"숫자아님\"}\n";
+
+		//when
+		try (TradeImportReader reader = new TradeImportReader(new StringReader(ndjson), TradeImportFormat.NDJSON,
+			objectMapper)) {
+			ImportTradeRow valid = reader.next();
+			ImportTradeRow brokenJson = reader.next();
+			ImportTradeRow wrongType = reader.next();
+
+			//then
+			assertThat(valid.getInvalidReason()).isNull();
+			assertThat(valid.getTitle()).isEqualTo("[아이폰]드려요");
+			assertThat(brokenJson.getLine()).isEqualTo(2L);
+			assertThat(brokenJson.getInvalidReason()).isNotNull();
+			assertThat(wrongType.getLine()).isEqualTo(3L);
+			assertThat(wrongType.getInvalidReason()).isNotNull();
+			assertThat(reader.next()).isNull();
+		}
+	}
+}
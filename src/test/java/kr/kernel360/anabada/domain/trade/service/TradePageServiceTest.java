@@ -0,0 +1,120 @@
+package kr.kernel360.anabada.domain.trade.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.kernel360.anabada.domain.comment.dto.FindAllCommentResponse;
+import kr.kernel360.anabada.domain.comment.service.CommentService;
+import kr.kernel360.anabada.domain.trade.dto.FindTradePageResponse;
+import kr.kernel360.anabada.domain.trade.dto.FindTradeResponse;
+import kr.kernel360.anabada.domain.tradeoffer.dto.FindAllTradeOfferResponse;
+import kr.kernel360.anabada.domain.tradeoffer.service.TradeOfferService;
+import kr.kernel360.anabada.global.error.code.TradeErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+
+@DisplayName("교환 상세 화면 조회 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class TradePageServiceTest {
+	@Mock
+	private TradeService tradeService;
+	@Mock
+	private CommentService commentService;
+	@Mock
+	private TradeOfferService tradeOfferService;
+
+	private ExecutorService executorService;
+	private TradePageService tradePageService;
+
+	@BeforeEach
+	void setUp() {
+		executorService = Executors.newFixedThreadPool(3);
+		tradePageService = new TradePageService(tradeService, commentService, tradeOfferService, executorService);
+		ReflectionTestUtils.setField(tradePageService, "tradeTimeoutMs", 1000L);
+		ReflectionTestUtils.setField(tradePageService, "sectionTimeoutMs", 200L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("작업 스레드에서도 요청한 회원으로 교환을 조회한다")
+	void testSecurityContextPropagation() {
+		//given
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken("page@naver.com", null, List.of()));
+		given(tradeService.find(1L)).willAnswer(invocation -> FindTradeResponse.builder()
+			.tradeId(1L)
+			.nickname(SecurityContextHolder.getContext().getAuthentication().getName())
+			.build());
+		given(commentService.findAll(1L)).willReturn(FindAllCommentResponse.of(List.of()));
+		given(tradeOfferService.findAll(any(), any())).willReturn(FindAllTradeOfferResponse.of(new PageImpl<>(List.of())));
+
+		//when
+		FindTradePageResponse findTradePageResponse = tradePageService.find(1L, PageRequest.of(0, 10));
+
+		//then
+		assertThat(findTradePageResponse.getTrade().getNickname()).isEqualTo("page@naver.com");
+		assertThat(findTradePageResponse.getComments()).isNotNull();
+		assertThat(findTradePageResponse.getTradeOffers()).isNotNull();
+		assertThat(findTradePageResponse.getTimedOutSections()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("제한 시간을 넘긴 항목은 비우고 나머지는 그대로 응답한다")
+	void testSectionTimeout() {
+		//given
+		given(tradeService.find(1L)).willReturn(FindTradeResponse.builder().tradeId(1L).build());
+		given(commentService.findAll(1L)).willAnswer(invocation -> {
+			Thread.sleep(1000L);
+			return FindAllCommentResponse.of(List.of());
+		});
+		given(tradeOfferService.findAll(any(), any())).willReturn(FindAllTradeOfferResponse.of(new PageImpl<>(List.of())));
+
+		//when
+		FindTradePageResponse findTradePageResponse = tradePageService.find(1L, PageRequest.of(0, 10));
+
+		//then
+		assertThat(findTradePageResponse.getTrade().getTradeId()).isEqualTo(1L);
+		assertThat(findTradePageResponse.getComments()).isNull();
+		assertThat(findTradePageResponse.getTradeOffers()).isNotNull();
+		assertThat(findTradePageResponse.getTimedOutSections()).containsExactly(TradePageService.COMMENTS);
+	}
+
+	@Test
+	@DisplayName("교환이 없으면 개별 조회와 같은 예외를 던진다")
+	void testTradeNotFound() {
+		//given
+		given(tradeService.find(1L)).willThrow(new BusinessException(TradeErrorCode.NOT_FOUND_TRADE));
+		lenient().when(commentService.findAll(1L)).thenReturn(FindAllCommentResponse.of(List.of()));
+		lenient().when(tradeOfferService.findAll(any(), any()))
+			.thenReturn(FindAllTradeOfferResponse.of(new PageImpl<>(List.of())));
+
+		//when //then
+		assertThatThrownBy(() -> tradePageService.find(1L, PageRequest.of(0, 10)))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(TradeErrorCode.NOT_FOUND_TRADE);
+	}
+}
@@ -0,0 +1,63 @@
+package kr.kernel360.anabada.domain.trade.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import kr.kernel360.anabada.domain.member.repository.MemberRepository;
+import kr.kernel360.anabada.domain.place.service.PlaceGeoService;
+import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
+import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
+import kr.kernel360.anabada.global.search.SearchDocument;
+
+@DisplayName("교환 검색 색인 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class TradeSearchServiceTest {
+	@Mock
+	private TradeRepository tradeRepository;
+	@Mock
+	private MemberRepository memberRepository;
+	@Mock
+	private PlaceGeoService placeGeoService;
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private TradeSearchService tradeSearchService;
+
+	@BeforeEach
+	void setUp() {
+		tradeSearchService = new TradeSearchService(tradeRepository, memberRepository, placeGeoService,
+			redisTemplate, redisMessageListenerContainer);
+	}
+
+	@Test
+	@DisplayName("재구성 중에 색인한 제목은 바꿔 끼운 새 색인에도 들어간다")
+	void testIndexDuringRebuild() {
+		//given
+		given(tradeRepository.findTradeTitles()).willAnswer(invocation -> {
+			tradeSearchService.indexTitle(2L, "아이폰 새로 올려요");
+			return List.of(new SearchDocument(1L, "아이폰 드려요"));
+		});
+
+		//when
+		tradeSearchService.warmUp();
+		TradeSearchCondition tradeSearchCondition = new TradeSearchCondition();
+		tradeSearchCondition.setTitle("아이폰");
+		tradeSearchService.applyTo(tradeSearchCondition);
+
+		//then
+		assertThat(tradeSearchCondition.getTitleMatchedTradeIds()).containsExactlyInAnyOrder(1L, 2L);
+	}
+}
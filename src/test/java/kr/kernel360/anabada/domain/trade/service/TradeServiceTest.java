@@ -0,0 +1,193 @@
+package kr.kernel360.anabada.domain.trade.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import kr.kernel360.anabada.domain.autocomplete.service.AutocompleteService;
+import kr.kernel360.anabada.domain.category.entity.Category;
+import kr.kernel360.anabada.domain.category.repository.CategoryRepository;
+import kr.kernel360.anabada.domain.image.service.StoredImageService;
+import kr.kernel360.anabada.domain.member.entity.Member;
+import kr.kernel360.anabada.domain.member.repository.MemberRepository;
+import kr.kernel360.anabada.domain.member.service.LoginMemberService;
+import kr.kernel360.anabada.domain.place.cache.PlaceDictionary;
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.place.repository.PlaceRepository;
+import kr.kernel360.anabada.domain.trade.cache.TradeListCache;
+import kr.kernel360.anabada.domain.trade.cache.TradeViewCounter;
+import kr.kernel360.anabada.domain.trade.dto.FindAllTradeResponse;
+import kr.kernel360.anabada.domain.trade.dto.FindTradeResponse;
+import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
+import kr.kernel360.anabada.domain.trade.entity.Trade;
+import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
+import kr.kernel360.anabada.domain.trade.repository.TradeSummaryRepository;
+import kr.kernel360.anabada.domain.tradeoffer.entity.TradeOffer;
+import kr.kernel360.anabada.domain.tradeoffer.repository.TradeOfferRepository;
+import kr.kernel360.anabada.global.cache.AggregateVersionStore;
+import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
+import kr.kernel360.anabada.global.commons.domain.SocialProvider;
+import kr.kernel360.anabada.global.commons.domain.TradeOfferStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import kr.kernel360.anabada.global.config.JpaAuditingConfig;
+import kr.kernel360.anabada.global.config.TestQueryDslConfig;
+import kr.kernel360.anabada.global.image.ImageVariantService;
+import kr.kernel360.anabada.global.plan.SqlCaptureInspector;
+import kr.kernel360.anabada.global.utils.AgeGroupParser;
+
+@DisplayName("교환 서비스 조회 쿼리 수 테스트")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+	+ "kr.kernel360.anabada.global.plan.SqlCaptureInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestQueryDslConfig.class, JpaAuditingConfig.class, TradeService.class, LoginMemberService.class})
+class TradeServiceTest {
+	@Autowired
+	private TradeService tradeService;
+	@Autowired
+	private TradeRepository tradeRepository;
+	@Autowired
+	private TradeOfferRepository tradeOfferRepository;
+	@Autowired
+	private TradeSummaryRepository tradeSummaryRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private CategoryRepository categoryRepository;
+	@Autowired
+	private PlaceRepository placeRepository;
+	@Autowired
+	private EntityManager entityManager;
+
+	@MockBean
+	private TradeSearchService tradeSearchService;
+	@MockBean
+	private PlaceDictionary placeDictionary;
+	@MockBean
+	private TradeListCache tradeListCache;
+	@MockBean
+	private AutocompleteService autocompleteService;
+	@MockBean
+	private TradeViewCounter tradeViewCounter;
+	@MockBean
+	private ImageVariantService imageVariantService;
+	@MockBean
+	private AggregateVersionStore aggregateVersionStore;
+	@MockBean
+	private StoredImageService storedImageService;
+
+	private Trade trade;
+
+	@BeforeEach
+	void setUp() {
+		Member owner = memberRepository.save(member("detail-owner@naver.com", "상세작성자"));
+		Member offerer = memberRepository.save(member("detail-offerer@naver.com", "상세요청자"));
+		Category category = categoryRepository.save(Category.builder()
+			.name("상세카테고리")
+			.deletedStatus(DeletedStatus.FALSE)
+			.build());
+		Place place = placeRepository.save(Place.builder()
+			.state("서울특별시")
+			.city("강남구")
+			.address1("역삼동")
+			.build());
+		trade = tradeRepository.save(Trade.builder()
+			.title("[아이폰]드려요")
+			.content("아이폰 드려요")
+			.tradeType(TradeType.SHARE)
+			.tradeStatus(TradeStatus.BEFORE_ACCEPT)
+			.deletedStatus(DeletedStatus.FALSE)
+			.member(owner)
+			.category(category)
+			.place(place)
+			.build());
+		tradeOfferRepository.save(TradeOffer.builder()
+			.title("[갤럭시] 드릴게요")
+			.content("갤럭시 드릴게요")
+			.tradeOfferStatus(TradeOfferStatus.REQUEST_ON_HOLD)
+			.deletedStatus(DeletedStatus.FALSE)
+			.member(offerer)
+			.trade(trade)
+			.build());
+		entityManager.flush();
+		entityManager.clear();
+		SqlCaptureInspector.clear();
+	}
+
+	@Test
+	@WithMockUser(username = "detail-offerer@naver.com")
+	@DisplayName("교환 요청자가 조회하면 쿼리 한 번으로 요청 여부를 확인한다")
+	void testFindByOfferer() {
+		//when
+		FindTradeResponse findTradeResponse = tradeService.find(trade.getId());
+
+		//then
+		assertThat(findTradeResponse.getTradeTitle()).isEqualTo("[아이폰]드려요");
+		assertThat(findTradeResponse.getNickname()).isEqualTo("상세작성자");
+		assertThat(findTradeResponse.getIsTradeOwner()).isFalse();
+		assertThat(findTradeResponse.getIsTradeOffer()).isTrue();
+		assertThat(SqlCaptureInspector.statements()).hasSize(1);
+	}
+
+	@Test
+	@WithMockUser(username = "detail-owner@naver.com")
+	@DisplayName("작성자가 조회하면 쿼리 한 번으로 작성자 여부를 확인한다")
+	void testFindByOwner() {
+		//when
+		FindTradeResponse findTradeResponse = tradeService.find(trade.getId());
+
+		//then
+		assertThat(findTradeResponse.getIsTradeOwner()).isTrue();
+		assertThat(findTradeResponse.getIsTradeOffer()).isFalse();
+		assertThat(SqlCaptureInspector.statements()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("facet 목록은 개수 쿼리 없이 facet 합계를 전체 수로 쓰고 목록을 캐시에 넣는다")
+	void testFindAllWithFacets() {
+		//given
+		tradeSummaryRepository.insertMissingSummaries();
+		SqlCaptureInspector.clear();
+		Pageable pageable = PageRequest.of(0, 10);
+
+		//when
+		FindAllTradeResponse findAllTradeResponse = tradeService.findAllWithFacets(new TradeSearchCondition(), null,
+			pageable);
+
+		//then
+		assertThat(findAllTradeResponse.getTrades().getContent()).extracting("tradeTitle")
+			.containsExactly("[아이폰]드려요");
+		assertThat(findAllTradeResponse.getFacets().total()).isEqualTo(1L);
+		assertThat(findAllTradeResponse.getTotalApproximate()).isFalse();
+		assertThat(SqlCaptureInspector.statements()).hasSize(2);
+		verify(tradeListCache).put(any(TradeSearchCondition.class), isNull(), eq(pageable), any());
+	}
+
+	private Member member(String email, String nickname) {
+		return Member.builder()
+			.email(email)
+			.nickname(nickname)
+			.password("123412")
+			.ageGroup(AgeGroupParser.birthToAgeGroup("1991-10-10"))
+			.authorities("USER_ROLE")
+			.gender("M")
+			.birth("1991-10-10")
+			.socialProvider(SocialProvider.LOCAL)
+			.accountStatus(true)
+			.build();
+	}
+}
@@ -0,0 +1,118 @@
+package kr.kernel360.anabada.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("목록 개수 캐시 단위 테스트")
+class CountCacheTest {
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+	private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+
+	private CountCache countCache;
+	private AtomicLong countQueries;
+
+	@BeforeEach
+	void setUp() {
+		countCache = new CountCache(redisTemplate, mock(RedisMessageListenerContainer.class));
+		ReflectionTestUtils.setField(countCache, "ttlSeconds", 300L);
+		ReflectionTestUtils.setField(countCache, "approximateTtlSeconds", 60L);
+		ReflectionTestUtils.setField(countCache, "maxSize", 100);
+		countQueries = new AtomicLong();
+	}
+
+	@Test
+	@DisplayName("같은 조건의 개수는 한 번만 조회한다")
+	void testCountCached() {
+		//when
+		long first = countCache.count(CountCache.TRADE, CountCache.keyOf("TRADE", 1L), this::exactCount, () -> 0L);
+		long second = countCache.count(CountCache.TRADE, CountCache.keyOf(" trade ", 1L), this::exactCount, () -> 0L);
+
+		//then
+		assertThat(first).isEqualTo(42L);
+		assertThat(second).isEqualTo(42L);
+		assertThat(countQueries.get()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("쓰기 작업으로 region 이 무효화되면 개수를 다시 조회한다")
+	void testEvict() {
+		//given
+		countCache.count(CountCache.FAQ, CountCache.keyOf("제목"), this::exactCount, () -> 0L);
+
+		//when
+		countCache.evict(CountCache.FAQ);
+		countCache.count(CountCache.FAQ, CountCache.keyOf("제목"), this::exactCount, () -> 0L);
+
+		//then
+		assertThat(countQueries.get()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("무효화하면 다른 노드에 region 을 알리고, 다른 노드의 알림을 받으면 개수를 다시 조회한다")
+	void testEvictAcrossNodes() {
+		//given
+		doReturn(serializer).when(redisTemplate).getValueSerializer();
+		countCache.count(CountCache.TRADE_OFFER, "", this::exactCount, () -> 0L);
+
+		//when
+		countCache.evict(CountCache.FAQ);
+		countCache.onMessage(message("other-node|" + CountCache.TRADE_OFFER), null);
+		countCache.count(CountCache.TRADE_OFFER, "", this::exactCount, () -> 0L);
+
+		//then
+		verify(redisTemplate).convertAndSend(eq(CountCache.CHANNEL), endsWith("|" + CountCache.FAQ));
+		assertThat(countQueries.get()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("approximate 모드는 제한된 개수를 사용하고 무효화와 상관없이 ttl 동안 재사용한다")
+	void testApproximate() {
+		//given
+		ReflectionTestUtils.setField(countCache, "approximate", true);
+
+		//when
+		long count = countCache.count(CountCache.TRADE, "", this::exactCount, this::cappedCount);
+		countCache.evict(CountCache.TRADE);
+		countCache.count(CountCache.TRADE, "", this::exactCount, this::cappedCount);
+
+		//then
+		assertThat(count).isEqualTo(CountCache.APPROXIMATE_LIMIT + 1);
+		assertThat(countQueries.get()).isEqualTo(1L);
+		assertThat(countCache.isApproximate(count)).isTrue();
+		assertThat(countCache.isApproximate(CountCache.APPROXIMATE_LIMIT)).isFalse();
+	}
+
+	@Test
+	@DisplayName("정확한 개수 모드에서는 큰 개수도 근사값으로 표시하지 않는다")
+	void testIsApproximateInExactMode() {
+		//when //then
+		assertThat(countCache.isApproximate(CountCache.APPROXIMATE_LIMIT + 1)).isFalse();
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(CountCache.CHANNEL.getBytes(), serializer.serialize(body));
+	}
+
+	private long exactCount() {
+		countQueries.incrementAndGet();
+		return 42L;
+	}
+
+	private long cappedCount() {
+		countQueries.incrementAndGet();
+		return CountCache.APPROXIMATE_LIMIT + 1;
+	}
+}
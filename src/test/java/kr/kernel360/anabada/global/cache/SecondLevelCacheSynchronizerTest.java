@@ -0,0 +1,128 @@
+package kr.kernel360.anabada.global.cache;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.place.repository.PlaceRepository;
+
+@DisplayName("2차 캐시 노드 간 무효화 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheSynchronizerTest {
+	private static final String TRADE = "kr.kernel360.anabada.domain.trade.entity.Trade";
+
+	@Mock
+	private EntityManagerFactory entityManagerFactory;
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+	@Mock
+	private SessionFactoryImplementor sessionFactory;
+	@Mock
+	private CacheImplementor cache;
+
+	private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+
+	private SecondLevelCacheSynchronizer secondLevelCacheSynchronizer;
+
+	@BeforeEach
+	void setUp() {
+		secondLevelCacheSynchronizer = new SecondLevelCacheSynchronizer(entityManagerFactory, redisTemplate,
+			redisMessageListenerContainer);
+		ReflectionTestUtils.setField(secondLevelCacheSynchronizer, "sessionFactory", sessionFactory);
+		lenient().when(sessionFactory.getCache()).thenReturn(cache);
+		lenient().doReturn(serializer).when(redisTemplate).getValueSerializer();
+	}
+
+	@Test
+	@DisplayName("다른 노드의 메시지를 받으면 해당 엔티티와 그 엔티티의 query cache region 만 지운다")
+	void testOnMessage() {
+		//when
+		secondLevelCacheSynchronizer.onMessage(message("other-node|" + Place.class.getName() + "|7"), null);
+
+		//then
+		verify(cache).evictEntityData(Place.class.getName(), 7L);
+		verify(cache).evictQueryRegion(PlaceRepository.QUERY_CACHE_REGION);
+		verify(cache, never()).evictQueryRegions();
+	}
+
+	@Test
+	@DisplayName("cacheable 쿼리가 없는 엔티티는 엔티티 캐시만 지운다")
+	void testOnMessageWithoutQueryRegion() {
+		//when
+		secondLevelCacheSynchronizer.onMessage(message("other-node|" + TRADE + "|3"), null);
+
+		//then
+		verify(cache).evictEntityData(TRADE, 3L);
+		verify(cache, never()).evictQueryRegion(anyString());
+		verify(cache, never()).evictQueryRegions();
+	}
+
+	@Test
+	@DisplayName("자기 노드가 보낸 메시지는 무시한다")
+	void testOnMessageFromSelf() {
+		//given
+		String nodeId = (String)ReflectionTestUtils.getField(secondLevelCacheSynchronizer, "nodeId");
+
+		//when
+		secondLevelCacheSynchronizer.onMessage(message(nodeId + "|" + TRADE + "|3"), null);
+
+		//then
+		verifyNoInteractions(cache);
+	}
+
+	@Test
+	@DisplayName("캐시되는 엔티티가 수정 커밋되면 엔티티 이름과 아이디를 알린다")
+	void testOnPostUpdate() {
+		//given
+		EntityPersister persister = mock(EntityPersister.class);
+		given(persister.canWriteToCache()).willReturn(true);
+		given(persister.getEntityName()).willReturn(TRADE);
+		PostUpdateEvent event = mock(PostUpdateEvent.class);
+		given(event.getPersister()).willReturn(persister);
+		given(event.getId()).willReturn(3L);
+
+		//when
+		secondLevelCacheSynchronizer.onPostUpdate(event);
+
+		//then
+		verify(redisTemplate).convertAndSend(eq(SecondLevelCacheSynchronizer.CHANNEL), endsWith("|" + TRADE + "|3"));
+	}
+
+	@Test
+	@DisplayName("JDBC 로 바꾼 엔티티는 이 노드 캐시를 지우고 다른 노드에 알린다")
+	void testEvict() {
+		//when
+		secondLevelCacheSynchronizer.evict(Place.class, 7L);
+
+		//then
+		verify(cache).evictEntityData(Place.class, 7L);
+		verify(cache).evictQueryRegion(PlaceRepository.QUERY_CACHE_REGION);
+		verify(redisTemplate).convertAndSend(eq(SecondLevelCacheSynchronizer.CHANNEL),
+			endsWith("|" + Place.class.getName() + "|7"));
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(SecondLevelCacheSynchronizer.CHANNEL.getBytes(), serializer.serialize(body));
+	}
+}
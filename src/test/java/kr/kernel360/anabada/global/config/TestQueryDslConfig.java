@@ -1,13 +1,24 @@
 package kr.kernel360.anabada.global.config;
 
+import static org.mockito.Mockito.*;
+
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kr.kernel360.anabada.global.cache.CountCache;
+import kr.kernel360.anabada.global.query.PageQueryExecutor;
+
 @TestConfiguration
 public class TestQueryDslConfig {
 	@PersistenceContext
@@ -17,4 +28,14 @@ public class TestQueryDslConfig {
 	public JPAQueryFactory jpaQueryFactory() {
 		return new JPAQueryFactory(entityManager);
 	}
+
+	@Bean
+	public CountCache countCache() {
+		return new CountCache(mock(RedisTemplate.class), mock(RedisMessageListenerContainer.class));
+	}
+
+	@Bean
+	public PageQueryExecutor pageQueryExecutor(PlatformTransactionManager transactionManager) {
+		return new PageQueryExecutor(transactionManager, new SimpleMeterRegistry(), new SyncTaskExecutor());
+	}
 }
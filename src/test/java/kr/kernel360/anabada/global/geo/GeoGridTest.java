@@ -0,0 +1,64 @@
+package kr.kernel360.anabada.global.geo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("격자 공간 색인 단위 테스트")
+class GeoGridTest {
+	private GeoGrid geoGrid;
+
+	@BeforeEach
+	void setUp() {
+		geoGrid = new GeoGrid();
+		geoGrid.put(1L, 127.0557, 37.5088); // 삼성동
+		geoGrid.put(2L, 127.0473, 37.5045); // 역삼동 (약 0.9km)
+		geoGrid.put(3L, 127.0276, 37.4979); // 서초동 (약 2.8km)
+		geoGrid.put(4L, 126.9784, 37.5666); // 중구 (약 9.4km)
+	}
+
+	@Test
+	@DisplayName("반경 안의 점을 가까운 순서로 반환한다")
+	void testWithin() {
+		//given
+		double x = 127.0557;
+		double y = 37.5088;
+
+		//when
+		List<GeoGrid.Neighbor> neighbors = geoGrid.within(x, y, 3.0, 10);
+
+		//then
+		assertThat(neighbors).extracting(GeoGrid.Neighbor::getId).containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	@DisplayName("격자 칸 경계 너머의 가까운 점도 찾는다")
+	void testWithinAcrossCells() {
+		//given
+		geoGrid.put(5L, 127.0501, 37.5001);
+
+		//when
+		List<GeoGrid.Neighbor> neighbors = geoGrid.within(127.0499, 37.4999, 0.5, 10);
+
+		//then
+		assertThat(neighbors).extracting(GeoGrid.Neighbor::getId).containsExactly(5L);
+	}
+
+	@Test
+	@DisplayName("좌표가 바뀌면 이전 위치에서는 더 이상 찾지 않는다")
+	void testPutMovesPoint() {
+		//given
+		geoGrid.put(4L, 127.0560, 37.5090);
+
+		//when
+		List<GeoGrid.Neighbor> neighbors = geoGrid.within(126.9784, 37.5666, 1.0, 10);
+
+		//then
+		assertThat(neighbors).isEmpty();
+		assertThat(geoGrid.size()).isEqualTo(4);
+	}
+}
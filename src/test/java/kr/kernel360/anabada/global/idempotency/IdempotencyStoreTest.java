@@ -0,0 +1,146 @@
+package kr.kernel360.anabada.global.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.kernel360.anabada.global.error.code.IdempotencyErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+
+@DisplayName("멱등 키 저장소 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+	private static final String KEY = "idempotency:trade:anonymous:retry-1";
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private IdempotencyStore idempotencyStore;
+	private AtomicLong creates;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		idempotencyStore = new IdempotencyStore(redisTemplate, new ObjectMapper());
+		ReflectionTestUtils.setField(idempotencyStore, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(idempotencyStore, "lockSeconds", 30L);
+		ReflectionTestUtils.setField(idempotencyStore, "waitMillis", 300L);
+		creates = new AtomicLong();
+	}
+
+	@Test
+	@DisplayName("처음 요청은 잠금을 잡고 처리한 뒤 지문과 아이디를 저장한다")
+	void testExecuteFirstRequest() {
+		//given
+		String fingerprint = idempotencyStore.fingerprint("제목");
+		given(valueOperations.setIfAbsent(eq(KEY + ":lock"), anyString(), any(Duration.class))).willReturn(true);
+
+		//when
+		Long id = idempotencyStore.execute(IdempotencyStore.TRADE, "retry-1", fingerprint, this::create);
+
+		//then
+		assertThat(id).isEqualTo(1L);
+		verify(valueOperations).set(KEY, fingerprint + ":1", Duration.ofSeconds(60));
+		verify(redisTemplate).execute(any(RedisScript.class), anyList(), anyString());
+	}
+
+	@Test
+	@DisplayName("같은 키와 같은 요청이 다시 오면 처리하지 않고 저장된 아이디를 돌려준다")
+	void testExecuteReplay() {
+		//given
+		String fingerprint = idempotencyStore.fingerprint("제목");
+		given(valueOperations.get(KEY)).willReturn(fingerprint + ":7");
+
+		//when
+		Long id = idempotencyStore.execute(IdempotencyStore.TRADE, "retry-1", fingerprint, this::create);
+
+		//then
+		assertThat(id).isEqualTo(7L);
+		assertThat(creates.get()).isZero();
+	}
+
+	@Test
+	@DisplayName("같은 키로 다른 요청을 보내면 422 를 던진다")
+	void testExecuteReusedKey() {
+		//given
+		given(valueOperations.get(KEY)).willReturn(idempotencyStore.fingerprint("제목") + ":7");
+
+		//when //then
+		assertThatThrownBy(() -> idempotencyStore.execute(IdempotencyStore.TRADE, "retry-1",
+			idempotencyStore.fingerprint("다른 제목"), this::create))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+		assertThat(creates.get()).isZero();
+	}
+
+	@Test
+	@DisplayName("같은 키의 요청이 처리 중이면 결과를 기다렸다가 그 아이디를 돌려준다")
+	void testExecuteWaitsForInFlightRequest() {
+		//given
+		String fingerprint = idempotencyStore.fingerprint("제목");
+		given(valueOperations.get(KEY)).willReturn(null, fingerprint + ":3");
+		given(valueOperations.setIfAbsent(eq(KEY + ":lock"), anyString(), any(Duration.class))).willReturn(false);
+
+		//when
+		Long id = idempotencyStore.execute(IdempotencyStore.TRADE, "retry-1", fingerprint, this::create);
+
+		//then
+		assertThat(id).isEqualTo(3L);
+		assertThat(creates.get()).isZero();
+	}
+
+	@Test
+	@DisplayName("처리 중인 요청이 기다리는 시간 안에 끝나지 않으면 409 를 던진다")
+	void testExecuteInProgress() {
+		//given
+		given(valueOperations.setIfAbsent(eq(KEY + ":lock"), anyString(), any(Duration.class))).willReturn(false);
+
+		//when //then
+		assertThatThrownBy(() -> idempotencyStore.execute(IdempotencyStore.TRADE, "retry-1",
+			idempotencyStore.fingerprint("제목"), this::create))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(IdempotencyErrorCode.REQUEST_IN_PROGRESS);
+		assertThat(creates.get()).isZero();
+	}
+
+	@Test
+	@DisplayName("헤더가 없거나 Redis 를 쓸 수 없으면 그대로 처리한다")
+	void testExecuteWithoutStore() {
+		//given
+		given(valueOperations.get(KEY)).willThrow(new RedisConnectionFailureException("down"));
+
+		//when
+		Long withoutKey = idempotencyStore.execute(IdempotencyStore.TRADE, null, "", this::create);
+		Long withoutRedis = idempotencyStore.execute(IdempotencyStore.TRADE, "retry-1", "", this::create);
+
+		//then
+		assertThat(withoutKey).isEqualTo(1L);
+		assertThat(withoutRedis).isEqualTo(2L);
+	}
+
+	private Long create() {
+		return creates.incrementAndGet();
+	}
+}
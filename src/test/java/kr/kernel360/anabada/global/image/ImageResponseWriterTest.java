@@ -0,0 +1,165 @@
+package kr.kernel360.anabada.global.image;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("이미지 응답 쓰기 테스트")
+class ImageResponseWriterTest {
+	private static final String HASH = "ab".repeat(32);
+
+	private final ImageResponseWriter imageResponseWriter = new ImageResponseWriter();
+
+	@TempDir
+	Path directory;
+
+	private Path original;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		original = directory.resolve(HASH + ".png");
+		Files.writeString(original, "0123456789");
+	}
+
+	@Test
+	@DisplayName("전체 요청은 200 과 함께 길이, 타입, 강한 ETag 를 보낸다")
+	void testWrite() throws IOException {
+		//given
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		boolean found = imageResponseWriter.write(original, new MockHttpServletRequest("GET", "/"), response);
+
+		//then
+		assertThat(found).isTrue();
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentAsString()).isEqualTo("0123456789");
+		assertThat(response.getContentType()).isEqualTo("image/png");
+		assertThat(response.getHeader(HttpHeaders.CONTENT_LENGTH)).isEqualTo("10");
+		assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"").doesNotStartWith("W/");
+	}
+
+	@Test
+	@DisplayName("내용 주소 원본은 변환 전에도, 변환본과 함께 immutable 로 캐시하고 그 밖의 이미지는 매번 확인하게 한다")
+	void testWriteImmutable() throws IOException {
+		//given
+		for (Path variant : ImageVariantGenerator.variantsOf(original)) {
+			Files.writeString(variant, "variant");
+		}
+		Path legacy = directory.resolve("231109162413_아이폰.png");
+		Files.writeString(legacy, "legacy");
+		MockHttpServletResponse originalResponse = new MockHttpServletResponse();
+		MockHttpServletResponse thumbnailResponse = new MockHttpServletResponse();
+		MockHttpServletResponse normalizedResponse = new MockHttpServletResponse();
+		MockHttpServletResponse legacyResponse = new MockHttpServletResponse();
+
+		//when
+		imageResponseWriter.write(original, new MockHttpServletRequest("GET", "/"), originalResponse);
+		imageResponseWriter.write(ImageVariantGenerator.variantsOf(original).get(0),
+			new MockHttpServletRequest("GET", "/"), thumbnailResponse);
+		imageResponseWriter.write(ImageVariantGenerator.variantsOf(original).get(2),
+			new MockHttpServletRequest("GET", "/"), normalizedResponse);
+		imageResponseWriter.write(legacy, new MockHttpServletRequest("GET", "/"), legacyResponse);
+
+		//then
+		assertThat(originalResponse.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable", "max-age=31536000");
+		assertThat(thumbnailResponse.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+		assertThat(thumbnailResponse.getContentType()).isEqualTo("image/jpeg");
+		assertThat(normalizedResponse.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+		assertThat(normalizedResponse.getContentType()).isEqualTo("image/png");
+		assertThat(legacyResponse.getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache");
+	}
+
+	@Test
+	@DisplayName("If-None-Match 가 ETag 와 같으면 본문 없이 304 를 보낸다")
+	void testWriteNotModified() throws IOException {
+		//given
+		MockHttpServletResponse first = new MockHttpServletResponse();
+		imageResponseWriter.write(original, new MockHttpServletRequest("GET", "/"), first);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		imageResponseWriter.write(original, request, response);
+
+		//then
+		assertThat(response.getStatus()).isEqualTo(304);
+		assertThat(response.getContentAsByteArray()).isEmpty();
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG));
+	}
+
+	@Test
+	@DisplayName("Range 요청은 해당 구간만 206 으로 보낸다")
+	void testWritePartialContent() throws IOException {
+		//given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		imageResponseWriter.write(original, request, response);
+
+		//then
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(response.getContentAsString()).isEqualTo("2345");
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+		assertThat(response.getHeader(HttpHeaders.CONTENT_LENGTH)).isEqualTo("4");
+	}
+
+	@Test
+	@DisplayName("파일 범위를 벗어난 Range 요청은 416 을 보낸다")
+	void testWriteRangeNotSatisfiable() throws IOException {
+		//given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		imageResponseWriter.write(original, request, response);
+
+		//then
+		assertThat(response.getStatus()).isEqualTo(416);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+	}
+
+	@Test
+	@DisplayName("sendfile 을 지원하면 본문을 쓰지 않고 파일 경로와 구간을 요청 속성으로 넘긴다")
+	void testWriteSendfile() throws IOException {
+		//given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+		request.addHeader(HttpHeaders.RANGE, "bytes=4-");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		imageResponseWriter.write(original, request, response);
+
+		//then
+		assertThat(response.getContentAsByteArray()).isEmpty();
+		assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(original.toString());
+		assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(4L);
+		assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+	}
+
+	@Test
+	@DisplayName("파일이 없으면 false 를 돌려준다")
+	void testWriteNotFound() throws IOException {
+		//when
+		boolean found = imageResponseWriter.write(directory.resolve("없는파일.png"), new MockHttpServletRequest(),
+			new MockHttpServletResponse());
+
+		//then
+		assertThat(found).isFalse();
+	}
+}
@@ -0,0 +1,106 @@
+package kr.kernel360.anabada.global.image;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("이미지 변환본 생성 테스트")
+class ImageVariantGeneratorTest {
+	private final ImageVariantGenerator imageVariantGenerator = new ImageVariantGenerator();
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("긴 변 기준으로 비율을 유지해 썸네일과 중간 크기 JPEG, 원본 크기 정리본을 원본 옆에 만든다")
+	void testGenerate() throws IOException {
+		//given
+		Path original = directory.resolve("231109162413_아이폰.png");
+		ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+
+		//when
+		ImageVariants imageVariants = imageVariantGenerator.generate(original);
+
+		//then
+		BufferedImage thumbnail = ImageIO.read(directory.resolve(imageVariants.getThumbnailPath()).toFile());
+		BufferedImage medium = ImageIO.read(directory.resolve(imageVariants.getMediumPath()).toFile());
+		assertThat(imageVariants.getThumbnailPath()).isEqualTo("231109162413_아이폰_thumb.jpg");
+		assertThat(imageVariants.getNormalizedPath()).isEqualTo("231109162413_아이폰_normalized.png");
+		assertThat(thumbnail.getWidth()).isEqualTo(240);
+		assertThat(thumbnail.getHeight()).isEqualTo(120);
+		assertThat(medium.getWidth()).isEqualTo(960);
+		assertThat(medium.getHeight()).isEqualTo(480);
+		assertThat(ImageIO.read(directory.resolve(imageVariants.getNormalizedPath()).toFile()).getWidth())
+			.isEqualTo(2000);
+	}
+
+	@Test
+	@DisplayName("EXIF 회전값을 적용한 정리본에는 EXIF 가 남지 않고, 원본 바이트는 바뀌지 않는다")
+	void testGenerateWithOrientation() throws IOException {
+		//given
+		Path original = directory.resolve("231109162413_세로사진.jpg");
+		byte[] originalBytes = withOrientation(jpeg(400, 200), 6);
+		Files.write(original, originalBytes);
+
+		//when
+		ImageVariants imageVariants = imageVariantGenerator.generate(original);
+
+		//then
+		Path normalized = directory.resolve(imageVariants.getNormalizedPath());
+		BufferedImage medium = ImageIO.read(directory.resolve(imageVariants.getMediumPath()).toFile());
+		assertThat(medium.getWidth()).isEqualTo(200);
+		assertThat(medium.getHeight()).isEqualTo(400);
+		assertThat(ImageIO.read(normalized.toFile()).getWidth()).isEqualTo(200);
+		assertThat(imageVariantGenerator.readOrientation(normalized)).isEqualTo(1);
+		assertThat(Files.readAllBytes(original)).isEqualTo(originalBytes);
+	}
+
+	@Test
+	@DisplayName("이미지가 아닌 파일은 IOException 을 던지고 변환본을 만들지 않는다")
+	void testGenerateNotImage() throws IOException {
+		//given
+		Path original = directory.resolve("231109162413_가짜.png");
+		Files.writeString(original, "not an image");
+
+		//when //then
+		assertThatThrownBy(() -> imageVariantGenerator.generate(original)).isInstanceOf(IOException.class);
+		assertThat(directory.toFile().list()).containsExactly("231109162413_가짜.png");
+	}
+
+	private byte[] jpeg(int width, int height) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpeg", outputStream);
+		return outputStream.toByteArray();
+	}
+
+	/**
+	 * SOI 바로 뒤에 Orientation 태그 하나만 있는 APP1(Exif, big endian) 세그먼트를 끼워 넣는다.
+	 */
+	private byte[] withOrientation(byte[] jpeg, int orientation) {
+		ByteBuffer tiff = ByteBuffer.allocate(26);
+		tiff.putShort((short)0x4D4D).putShort((short)42).putInt(8)
+			.putShort((short)1)
+			.putShort((short)0x0112).putShort((short)3).putInt(1).putShort((short)orientation).putShort((short)0)
+			.putInt(0);
+		byte[] exifHeader = {'E', 'x', 'i', 'f', 0, 0};
+		int segmentLength = 2 + exifHeader.length + tiff.capacity();
+
+		ByteBuffer result = ByteBuffer.allocate(jpeg.length + 2 + segmentLength);
+		result.put(jpeg, 0, 2)
+			.putShort((short)0xFFE1).putShort((short)segmentLength)
+			.put(exifHeader).put(tiff.array())
+			.put(jpeg, 2, jpeg.length - 2);
+		return result.array();
+	}
+}
@@ -0,0 +1,59 @@
+package kr.kernel360.anabada.global.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Base64;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("토큰 회원 클레임 단위 테스트")
+class TokenProviderTest {
+	private TokenProvider tokenProvider;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		tokenProvider = new TokenProvider(null);
+		ReflectionTestUtils.setField(tokenProvider, "secret",
+			Base64.getEncoder().encodeToString("anabada-token-provider-test-secret-key-for-hs512-signature-only!".getBytes()));
+		ReflectionTestUtils.setField(tokenProvider, "accessTokenValidityInSeconds", 600L);
+		tokenProvider.afterPropertiesSet();
+	}
+
+	@Test
+	@DisplayName("회원 클레임이 있는 토큰은 회원 아이디, 닉네임, 계정 상태를 가진 principal 로 복원된다")
+	void testMemberPrincipal() {
+		//given
+		String accessToken = tokenProvider.createAccessToken("claim@naver.com", "ROLE_USER",
+			Map.of("memberId", 7L, "nickname", "클레임회원", "accountStatus", true));
+
+		//when
+		Authentication authentication = tokenProvider.getAuthentication(accessToken);
+
+		//then
+		assertThat(authentication.getName()).isEqualTo("claim@naver.com");
+		assertThat(authentication.getPrincipal()).isInstanceOf(MemberPrincipal.class);
+		MemberPrincipal restored = (MemberPrincipal)authentication.getPrincipal();
+		assertThat(restored.getMemberId()).isEqualTo(7L);
+		assertThat(restored.getNickname()).isEqualTo("클레임회원");
+		assertThat(restored.isAccountStatus()).isTrue();
+	}
+
+	@Test
+	@DisplayName("회원 클레임이 없는 이전 토큰은 이메일만 가진 principal 로 복원된다")
+	void testLegacyToken() {
+		//given
+		String accessToken = tokenProvider.createAccessToken("legacy@naver.com", "ROLE_USER");
+
+		//when
+		Authentication authentication = tokenProvider.getAuthentication(accessToken);
+
+		//then
+		assertThat(authentication.getName()).isEqualTo("legacy@naver.com");
+		assertThat(authentication.getPrincipal()).isNotInstanceOf(MemberPrincipal.class);
+	}
+}
@@ -0,0 +1,165 @@
+package kr.kernel360.anabada.global.plan;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import kr.kernel360.anabada.domain.comment.repository.CommentRepository;
+import kr.kernel360.anabada.domain.faq.repository.FaqRepository;
+import kr.kernel360.anabada.domain.place.entity.Place;
+import kr.kernel360.anabada.domain.place.repository.PlaceRepository;
+import kr.kernel360.anabada.domain.trade.dto.FindTradeDto;
+import kr.kernel360.anabada.domain.trade.dto.TradeCursor;
+import kr.kernel360.anabada.domain.trade.dto.TradeSearchCondition;
+import kr.kernel360.anabada.domain.trade.repository.TradeRepository;
+import kr.kernel360.anabada.domain.tradeoffer.dto.FindAllTradeOfferRequest;
+import kr.kernel360.anabada.domain.tradeoffer.repository.TradeOfferRepository;
+import kr.kernel360.anabada.global.commons.domain.DeletedStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeStatus;
+import kr.kernel360.anabada.global.commons.domain.TradeType;
+import kr.kernel360.anabada.global.config.TestQueryDslConfig;
+
+/**
+ * RepositoryImpl 의 Querydsl 쿼리를 실제로 실행해 SQL 을 모은 뒤 EXPLAIN 으로 실행 계획을 확인한다.
+ * 조건 없이 전체를 집계하는 쿼리(countTradeByState, findTradeTitles 등)는 전체 스캔이 정상이므로 제외한다.
+ */
+@DisplayName("목록 쿼리 실행 계획 회귀 테스트")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+	+ "kr.kernel360.anabada.global.plan.SqlCaptureInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestQueryDslConfig.class)
+class QueryPlanTest {
+	@Autowired
+	private TradeRepository tradeRepository;
+	@Autowired
+	private TradeOfferRepository tradeOfferRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private FaqRepository faqRepository;
+	@Autowired
+	private PlaceRepository placeRepository;
+	@Autowired
+	private DataSource dataSource;
+
+	@BeforeEach
+	void setUp() {
+		SqlCaptureInspector.clear();
+	}
+
+	@Test
+	@DisplayName("지역 조건 교환 목록과 개수 쿼리는 인덱스를 사용한다")
+	void testFindTradesByPlace() throws SQLException {
+		Place place = placeRepository.getReferenceById(1L);
+
+		tradeRepository.findTrades(new TradeSearchCondition(), place, PageRequest.of(0, 10));
+
+		assertNoFullScan();
+	}
+
+	@Test
+	@DisplayName("지역 조건 교환 커서 조회는 인덱스를 사용한다")
+	void testFindTradesByCursor() throws SQLException {
+		Place place = placeRepository.getReferenceById(1L);
+		FindTradeDto lastTrade = new FindTradeDto(10L, TradeType.TRADE, TradeStatus.BEFORE_ACCEPT, DeletedStatus.FALSE,
+			"전자기기", "제목", "닉네임", LocalDateTime.now(), null);
+
+		tradeRepository.findTradesByCursor(new TradeSearchCondition(), place, TradeCursor.of(lastTrade), 10);
+
+		assertNoFullScan();
+	}
+
+	@Test
+	@DisplayName("교환 단건 조회(교환 요청 여부 서브쿼리 포함)는 인덱스를 사용한다")
+	void testFindTrade() throws SQLException {
+		tradeRepository.findTradeDetail(1L, "ad2d@naver.com");
+
+		assertNoFullScan();
+	}
+
+	@Test
+	@DisplayName("교환별 교환 요청 목록과 단건 조회는 인덱스를 사용한다")
+	void testFindTradeOffers() throws SQLException {
+		FindAllTradeOfferRequest findAllTradeOfferRequest = new FindAllTradeOfferRequest();
+		findAllTradeOfferRequest.setTradeId(1L);
+
+		tradeOfferRepository.findAll(findAllTradeOfferRequest, PageRequest.of(0, 10));
+		tradeOfferRepository.find(1L);
+
+		assertNoFullScan();
+	}
+
+	@Test
+	@DisplayName("교환별 댓글, FAQ 단건, 지역 조회는 인덱스를 사용한다")
+	void testFindByKeys() throws SQLException {
+		commentRepository.findCommentsByTradeOrderByIdDesc(tradeRepository.getReferenceById(1L));
+		faqRepository.findFaq(1L);
+		placeRepository.findByStateAndCityAndAddress1("서울특별시", "강남구", "역삼동");
+
+		assertNoFullScan();
+	}
+
+	private void assertNoFullScan() throws SQLException {
+		List<String> statements = SqlCaptureInspector.statements();
+		assertThat(statements).isNotEmpty();
+
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		try {
+			boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+			for (String sql : statements) {
+				List<String> fullScans = explain(connection, sql, mysql);
+				assertThat(fullScans)
+					.as("full scan in plan of: %s", sql)
+					.isEmpty();
+			}
+		} finally {
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+	}
+
+	private List<String> explain(Connection connection, String sql, boolean mysql) throws SQLException {
+		List<String> fullScans = new ArrayList<>();
+		try (Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery("EXPLAIN " + bindSampleParameters(sql))) {
+			while (resultSet.next()) {
+				if (mysql) {
+					if ("ALL".equalsIgnoreCase(resultSet.getString("type"))) {
+						fullScans.add(resultSet.getString("table"));
+					}
+				} else {
+					String plan = resultSet.getString(1);
+					if (plan.contains("tableScan")) {
+						fullScans.add(plan);
+					}
+				}
+			}
+		}
+		return fullScans;
+	}
+
+	private String bindSampleParameters(String sql) {
+		return sql
+			.replaceAll("(?i)limit\\s+\\?\\s*,\\s*\\?", "limit 1, 1")
+			.replaceAll("(?i)(limit|offset)\\s+\\?", "$1 1")
+			.replace("?", "'1'");
+	}
+}
@@ -0,0 +1,29 @@
+package kr.kernel360.anabada.global.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 모아 두는 StatementInspector
+ * hibernate.session_factory.statement_inspector 로 등록되어 Hibernate 가 직접 생성한다.
+ */
+public class SqlCaptureInspector implements StatementInspector {
+	private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+	@Override
+	public String inspect(String sql) {
+		statements.add(sql);
+		return sql;
+	}
+
+	public static void clear() {
+		statements.clear();
+	}
+
+	public static List<String> statements() {
+		return new ArrayList<>(statements);
+	}
+}
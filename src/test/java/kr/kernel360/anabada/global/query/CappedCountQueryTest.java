@@ -0,0 +1,63 @@
+package kr.kernel360.anabada.global.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("상한 개수 쿼리 단위 테스트")
+class CappedCountQueryTest {
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final AtomicReference<String> sql = new AtomicReference<>();
+	private final List<Object> arguments = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		given(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(Object[].class))).willAnswer(invocation -> {
+			sql.set(invocation.getArgument(0));
+			arguments.addAll(List.of((Object[])invocation.getRawArguments()[2]));
+			return 10_001L;
+		});
+	}
+
+	@Test
+	@DisplayName("아이디를 가져오지 않고 LIMIT 을 건 서브쿼리의 행 수만 센다")
+	void testCount() {
+		//when
+		long count = CappedCountQuery.from("trade_summary")
+			.eq("trade_type", "BARTER")
+			.eq("category_id", null)
+			.in("place_id", List.of(1L, 2L))
+			.contains("title", "50%_할인")
+			.count(jdbcTemplate, 10_001L);
+
+		//then
+		assertThat(count).isEqualTo(10_001L);
+		assertThat(sql.get()).isEqualTo("SELECT COUNT(*) FROM (SELECT 1 FROM trade_summary"
+			+ " WHERE trade_type = ? AND place_id IN (?, ?) AND title LIKE ? ESCAPE '!' LIMIT ?) t");
+		assertThat(arguments).containsExactly("BARTER", 1L, 2L, "%50!%!_할인%", 10_001L);
+	}
+
+	@Test
+	@DisplayName("빈 아이디 목록 조건은 아무 행도 세지 않는다")
+	void testCountWithEmptyIn() {
+		//when
+		CappedCountQuery.from("trade_summary")
+			.in("trade_id", List.of())
+			.in("member_id", null)
+			.count(jdbcTemplate, 10_001L);
+
+		//then
+		assertThat(sql.get()).isEqualTo("SELECT COUNT(*) FROM (SELECT 1 FROM trade_summary WHERE 1 = 0 LIMIT ?) t");
+		assertThat(arguments).containsExactly(10_001L);
+	}
+}
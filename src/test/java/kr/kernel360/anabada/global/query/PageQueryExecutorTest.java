@@ -0,0 +1,119 @@
+package kr.kernel360.anabada.global.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("목록/개수 쿼리 실행기 단위 테스트")
+class PageQueryExecutorTest {
+	private SimpleMeterRegistry meterRegistry;
+	private PageQueryExecutor pageQueryExecutor;
+	private AtomicInteger countCalls;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		pageQueryExecutor = new PageQueryExecutor(mock(PlatformTransactionManager.class), meterRegistry,
+			new SyncTaskExecutor());
+		ReflectionTestUtils.setField(pageQueryExecutor, "parallel", true);
+		countCalls = new AtomicInteger();
+	}
+
+	@Test
+	@DisplayName("페이지가 가득 차면 개수 쿼리 결과를 전체 개수로 사용한다")
+	void testPageUsesCount() {
+		//when
+		Page<Integer> page = pageQueryExecutor.page("test", PageRequest.of(0, 3), () -> List.of(1, 2, 3),
+			() -> {
+				countCalls.incrementAndGet();
+				return 10L;
+			});
+
+		//then
+		assertThat(page.getTotalElements()).isEqualTo(10L);
+		assertThat(countCalls.get()).isEqualTo(1);
+		assertThat(meterRegistry.find("anabada.page.query.saved").tag("query", "test").timer()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("마지막 페이지가 채워지지 않으면 개수 쿼리 결과를 쓰지 않고 목록으로 계산한다")
+	void testPageSkipsCount() {
+		//given
+		ReflectionTestUtils.setField(pageQueryExecutor, "parallel", false);
+
+		//when
+		Page<Integer> page = pageQueryExecutor.page("test", PageRequest.of(2, 3), () -> List.of(7, 8),
+			() -> {
+				countCalls.incrementAndGet();
+				return 100L;
+			});
+
+		//then
+		assertThat(page.getTotalElements()).isEqualTo(8L);
+		assertThat(countCalls.get()).isZero();
+		assertThat(meterRegistry.find("anabada.page.query.count.skipped").tag("query", "test").counter().count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("동시 실행 중에도 마지막 페이지가 채워지지 않으면 아직 시작하지 않은 개수 쿼리는 실행하지 않는다")
+	void testParallelPageSkipsCount() {
+		//given
+		List<Runnable> queued = new ArrayList<>();
+		pageQueryExecutor = new PageQueryExecutor(mock(PlatformTransactionManager.class), meterRegistry, queued::add);
+		ReflectionTestUtils.setField(pageQueryExecutor, "parallel", true);
+
+		//when
+		Page<Integer> page = pageQueryExecutor.page("test", PageRequest.of(2, 3), () -> List.of(7, 8),
+			() -> {
+				countCalls.incrementAndGet();
+				return 100L;
+			});
+		queued.forEach(Runnable::run);
+
+		//then
+		assertThat(page.getTotalElements()).isEqualTo(8L);
+		assertThat(queued).hasSize(1);
+		assertThat(countCalls.get()).isZero();
+		assertThat(meterRegistry.find("anabada.page.query.count.skipped").tag("query", "test").counter().count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("개수 쿼리가 시간 안에 시작되지 않으면 요청 스레드에서 직접 세고 대기 중인 작업은 실행하지 않는다")
+	void testParallelPageFallsBackOnTimeout() {
+		//given
+		List<Runnable> queued = new ArrayList<>();
+		pageQueryExecutor = new PageQueryExecutor(mock(PlatformTransactionManager.class), meterRegistry, queued::add);
+		ReflectionTestUtils.setField(pageQueryExecutor, "parallel", true);
+		ReflectionTestUtils.setField(pageQueryExecutor, "countTimeoutMillis", 10L);
+
+		//when
+		Page<Integer> page = pageQueryExecutor.page("test", PageRequest.of(0, 3), () -> List.of(1, 2, 3),
+			() -> {
+				countCalls.incrementAndGet();
+				return 10L;
+			});
+		queued.forEach(Runnable::run);
+
+		//then
+		assertThat(page.getTotalElements()).isEqualTo(10L);
+		assertThat(countCalls.get()).isEqualTo(1);
+		assertThat(meterRegistry.find("anabada.page.query.count.fallback").tag("query", "test").counter().count())
+			.isEqualTo(1.0);
+	}
+}
@@ -0,0 +1,53 @@
+package kr.kernel360.anabada.global.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("n-gram 색인 단위 테스트")
+class NgramIndexTest {
+	private NgramIndex ngramIndex;
+
+	@BeforeEach
+	void setUp() {
+		ngramIndex = new NgramIndex();
+		ngramIndex.put(3L, "[아이폰]드려요. [갤럭시]받아요.");
+		ngramIndex.put(1L, "아이패드 바꿔요");
+		ngramIndex.put(2L, "강아지 용품 드려요");
+	}
+
+	@Test
+	@DisplayName("검색어를 포함하는 문서 아이디를 오름차순으로 반환한다")
+	void testSearch() {
+		assertThat(ngramIndex.search("아이")).containsExactly(1L, 3L);
+		assertThat(ngramIndex.search("드려요")).containsExactly(2L, 3L);
+		assertThat(ngramIndex.search("갤럭시")).containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("n-gram 이 모두 있어도 실제로 포함하지 않으면 제외한다")
+	void testSearchVerifiesCandidates() {
+		ngramIndex.put(4L, "이폰 아이");
+
+		assertThat(ngramIndex.search("아이폰")).containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("n-gram 보다 짧은 검색어는 색인으로 답하지 않는다")
+	void testSearchShortQuery() {
+		assertThat(ngramIndex.search("아")).isNull();
+	}
+
+	@Test
+	@DisplayName("문서를 수정하거나 삭제하면 이전 n-gram 은 더 이상 매칭되지 않는다")
+	void testUpdateAndRemove() {
+		ngramIndex.put(1L, "자전거 팝니다");
+		ngramIndex.remove(2L);
+
+		assertThat(ngramIndex.search("아이")).containsExactly(3L);
+		assertThat(ngramIndex.search("드려요")).containsExactly(3L);
+		assertThat(ngramIndex.search("자전거")).containsExactly(1L);
+	}
+}
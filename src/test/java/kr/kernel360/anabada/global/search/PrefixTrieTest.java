@@ -0,0 +1,110 @@
+package kr.kernel360.anabada.global.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("자동완성 접두어 트라이 단위 테스트")
+class PrefixTrieTest {
+	private PrefixTrie prefixTrie;
+
+	@BeforeEach
+	void setUp() {
+		prefixTrie = new PrefixTrie();
+		prefixTrie.add("TRADE_TITLE", "[아이폰]드려요. [갤럭시]받아요.", 1L);
+		prefixTrie.add("TRADE_TITLE", "아이패드 바꿔요", 1L);
+		prefixTrie.add("CATEGORY", "전자기기", 100L);
+	}
+
+	@Test
+	@DisplayName("입력 중인 글자도 자모 단위로 접두어 매칭한다")
+	void testSearchPartialSyllable() {
+		assertThat(prefixTrie.search("아이포", 10))
+			.extracting(PrefixTrie.Entry::getText)
+			.containsExactly("[아이폰]드려요. [갤럭시]받아요.");
+		assertThat(prefixTrie.search("아잎", 10)).hasSize(2);
+		assertThat(prefixTrie.search("아이ㅍ", 10)).hasSize(2);
+		assertThat(prefixTrie.search("전ㅈ", 10))
+			.extracting(PrefixTrie.Entry::getText)
+			.containsExactly("전자기기");
+	}
+
+	@Test
+	@DisplayName("문장 중간의 단어 시작으로도 매칭한다")
+	void testSearchWordStart() {
+		assertThat(prefixTrie.search("갤럭", 10))
+			.extracting(PrefixTrie.Entry::getText)
+			.containsExactly("[아이폰]드려요. [갤럭시]받아요.");
+		assertThat(prefixTrie.search("이폰", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("가중치가 높은 항목이 먼저 나오고, 다시 추가하면 가중치가 올라간다")
+	void testSearchRanking() {
+		//given
+		prefixTrie.add("QUERY", "아이패드", 1L);
+		prefixTrie.add("QUERY", "아이패드", 1L);
+		prefixTrie.add("QUERY", "아이패드", 1L);
+
+		//when
+		PrefixTrie.Entry first = prefixTrie.search("아이", 10).get(0);
+
+		//then
+		assertThat(first.getText()).isEqualTo("아이패드");
+		assertThat(first.getWeight()).isEqualTo(3L);
+		assertThat(prefixTrie.search("아이", 1)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("지운 항목은 더 이상 나오지 않고, 가려졌던 다음 항목이 올라온다")
+	void testRemove() {
+		//when
+		prefixTrie.remove("TRADE_TITLE", "아이패드 바꿔요");
+
+		//then
+		assertThat(prefixTrie.search("아이", 10))
+			.extracting(PrefixTrie.Entry::getText)
+			.containsExactly("[아이폰]드려요. [갤럭시]받아요.");
+		assertThat(prefixTrie.size("TRADE_TITLE")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("항목 수가 상한을 넘으면 가중치가 낮은 항목부터 지워 절반만 남긴다")
+	void testPrune() {
+		//given
+		for (int i = 0; i < 5; i++) {
+			prefixTrie.add("QUERY", "검색어" + i, i + 1L);
+		}
+
+		//when
+		prefixTrie.prune("QUERY", 4);
+
+		//then
+		assertThat(prefixTrie.size("QUERY")).isEqualTo(2);
+		assertThat(prefixTrie.search("검색", 10))
+			.extracting(PrefixTrie.Entry::getText)
+			.containsExactly("검색어4", "검색어3");
+		assertThat(prefixTrie.search("전자", 10)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("여러 트라이의 결과를 가중치 순으로 합친다")
+	void testMerge() {
+		//given
+		PrefixTrie queryTrie = new PrefixTrie();
+		queryTrie.add("QUERY", "아이폰", 5L);
+
+		//when
+		List<PrefixTrie.Entry> merged = PrefixTrie.merge(
+			List.of(prefixTrie.search("아이", 10), queryTrie.search("아이", 10)), 2);
+
+		//then
+		assertThat(merged)
+			.extracting(PrefixTrie.Entry::getText)
+			.containsExactly("아이폰", "아이패드 바꿔요");
+	}
+}
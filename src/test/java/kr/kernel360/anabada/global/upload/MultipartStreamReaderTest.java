@@ -0,0 +1,130 @@
+package kr.kernel360.anabada.global.upload;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.kernel360.anabada.domain.trade.dto.CreateTradeRequest;
+import kr.kernel360.anabada.global.FileHandler;
+import kr.kernel360.anabada.global.error.code.FileErrorCode;
+import kr.kernel360.anabada.global.error.exception.BusinessException;
+
+@DisplayName("multipart 스트리밍 읽기 단위 mock 테스트")
+@ExtendWith(MockitoExtension.class)
+class MultipartStreamReaderTest {
+	private static final String BOUNDARY = "anabada-boundary";
+
+	@Mock
+	private FileHandler fileHandler;
+
+	private MultipartStreamReader multipartStreamReader;
+
+	@BeforeEach
+	void setUp() {
+		multipartStreamReader = new MultipartStreamReader(fileHandler);
+		ReflectionTestUtils.setField(multipartStreamReader, "maxRequestBytes", 1024L);
+	}
+
+	@Test
+	@DisplayName("폼 필드는 모으고 파일 파트는 읽는 스트림 그대로 FileHandler 에 넘긴다")
+	void testRead() throws IOException {
+		//given
+		AtomicReference<String> stored = new AtomicReference<>();
+		given(fileHandler.store(any(InputStream.class), eq("trade"))).willAnswer(invocation -> {
+			InputStream inputStream = invocation.getArgument(0);
+			stored.set(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+			return "/images/trade/ab/cd/abcd.png";
+		});
+		MockHttpServletRequest request = multipartRequest(
+			field("title", "아이폰 드려요") + field("categoryId", "3") + file("imageFile", "아이폰.png", "PNG-BYTES"));
+
+		//when
+		StreamedMultipart streamedMultipart = multipartStreamReader.read(request, "imageFile", "trade");
+		CreateTradeRequest createTradeRequest = streamedMultipart.bindTo(new CreateTradeRequest());
+
+		//then
+		assertThat(stored.get()).isEqualTo("PNG-BYTES");
+		assertThat(streamedMultipart.getImagePath()).isEqualTo("/images/trade/ab/cd/abcd.png");
+		assertThat(createTradeRequest.getTitle()).isEqualTo("아이폰 드려요");
+		assertThat(createTradeRequest.getCategoryId()).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("파일을 고르지 않은 파트와 다른 이름의 파일 파트는 저장하지 않는다")
+	void testReadWithoutFile() throws IOException {
+		//given
+		MockHttpServletRequest request = multipartRequest(
+			field("title", "제목") + file("imageFile", "", "") + file("other", "다른.png", "OTHER"));
+
+		//when
+		StreamedMultipart streamedMultipart = multipartStreamReader.read(request, "imageFile", "trade");
+
+		//then
+		assertThat(streamedMultipart.getImagePath()).isNull();
+		assertThat(streamedMultipart.getField("title")).isEqualTo("제목");
+		verify(fileHandler, never()).store(any(InputStream.class), anyString());
+	}
+
+	@Test
+	@DisplayName("요청 본문이 최대 크기를 넘으면 413 을 던진다")
+	void testReadTooLarge() {
+		//given
+		MockHttpServletRequest request = multipartRequest(file("imageFile", "큰.png", "x".repeat(2048)));
+
+		//when //then
+		assertThatThrownBy(() -> multipartStreamReader.read(request, "imageFile", "trade"))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(FileErrorCode.FILE_TOO_LARGE);
+	}
+
+	@Test
+	@DisplayName("multipart 가 아닌 요청은 400 을 던진다")
+	void testReadNotMultipart() {
+		//given
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/trades/stream");
+		request.setContentType("application/json");
+
+		//when //then
+		assertThatThrownBy(() -> multipartStreamReader.read(request, "imageFile", "trade"))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(FileErrorCode.INVALID_UPLOAD_REQUEST);
+	}
+
+	private MockHttpServletRequest multipartRequest(String parts) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/trades/stream");
+		request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+		request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		request.setContent((parts + "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+		return request;
+	}
+
+	private String field(String name, String value) {
+		return "--" + BOUNDARY + "\r\n"
+			+ "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+			+ value + "\r\n";
+	}
+
+	private String file(String name, String fileName, String content) {
+		return "--" + BOUNDARY + "\r\n"
+			+ "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"\r\n"
+			+ "Content-Type: application/octet-stream\r\n\r\n"
+			+ content + "\r\n";
+	}
+}